@@ -31,6 +31,7 @@ public enum ArangoDBConfigurations implements Supplier<String> {
     PROTOCOL("arangodb.protocol"),
     MAX_CONNECTIONS("arangodb.connections.max"),
     HOST_LIST("arangodb.acquireHostList"),
+    VALUE_CODEC("arangodb.value.codec"),
     FILE_CONFIGURATION("diana-arangodb.properties");
 
 
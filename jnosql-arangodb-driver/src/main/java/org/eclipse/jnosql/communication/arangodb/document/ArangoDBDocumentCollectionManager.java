@@ -16,6 +16,7 @@ package org.eclipse.jnosql.communication.arangodb.document;
 
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.reactive.DocumentPublisher;
 
 import java.util.Map;
 import java.util.stream.Stream;
@@ -24,7 +25,7 @@ import java.util.stream.Stream;
  * The ArangoDB implementation of {@link DocumentCollectionManager} it does not support to TTL methods:
  * <p>{@link DocumentCollectionManager#insert(DocumentEntity)}</p>
  */
-public interface ArangoDBDocumentCollectionManager extends DocumentCollectionManager {
+public interface ArangoDBDocumentCollectionManager extends DocumentCollectionManager, DocumentPublisher {
 
     /**
      * Executes ArangoDB query language, AQL.
@@ -17,24 +17,29 @@ package org.eclipse.jnosql.communication.arangodb.document;
 
 import com.arangodb.ArangoDB;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 final class ArangoDBDocumentCollectionManagerFactory implements DocumentCollectionManagerFactory {
 
 
     private final ArangoDB arangoDB;
 
-    ArangoDBDocumentCollectionManagerFactory(ArangoDB arangoDB) {
+    private final DriverMetrics metrics;
+
+    ArangoDBDocumentCollectionManagerFactory(ArangoDB arangoDB, DriverMetrics metrics) {
         this.arangoDB = arangoDB;
+        this.metrics = metrics;
     }
 
     @Override
     public ArangoDBDocumentCollectionManager get(String database) {
         ArangoDBUtil.checkDatabase(database, arangoDB);
-        return new DefaultArangoDBDocumentCollectionManager(database, arangoDB);
+        return new DefaultArangoDBDocumentCollectionManager(database, arangoDB, metrics);
     }
 
     @Override
     public void close() {
+        metrics.close();
         arangoDB.shutdown();
     }
 }
@@ -22,6 +22,7 @@ import jakarta.nosql.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.arangodb.ArangoDBConfiguration;
 import org.eclipse.jnosql.communication.arangodb.ArangoDBConfigurations;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Map;
 
@@ -52,7 +53,7 @@ public final class ArangoDBDocumentConfiguration extends ArangoDBConfiguration
         requireNonNull(settings, "settings is required");
 
         ArangoDB arangoDB = getArangoDB(settings);
-        return new ArangoDBDocumentCollectionManagerFactory(arangoDB);
+        return new ArangoDBDocumentCollectionManagerFactory(arangoDB, DriverMetrics.of(settings));
     }
 
 }
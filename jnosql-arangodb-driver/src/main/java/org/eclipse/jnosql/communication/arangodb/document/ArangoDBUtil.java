@@ -21,6 +21,7 @@ import com.arangodb.entity.CollectionEntity;
 import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.DocumentShape;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
@@ -33,7 +34,6 @@ import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
@@ -135,34 +135,23 @@ public final class ArangoDBUtil {
 
     private static Object convert(Value value) {
         Object val = ValueUtil.convert(value);
-
-        if (Document.class.isInstance(val)) {
-            Document document = Document.class.cast(val);
-            return singletonMap(document.getName(), convert(document.getValue()));
-        }
-        if (isSudDocument(val)) {
-            return getMap(val);
+        DocumentShape shape = DocumentShape.of(val);
+        switch (shape.getType()) {
+            case DOCUMENT:
+                Document document = shape.getDocument();
+                return singletonMap(document.getName(), convert(document.getValue()));
+            case SUBDOCUMENT:
+                return getMap(shape.getDocuments());
+            case SUBDOCUMENT_LIST:
+                return shape.getSubDocuments().stream()
+                        .map(ArangoDBUtil::getMap).collect(toList());
+            default:
+                return val;
         }
-        if (isSudDocumentList(val)) {
-            return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
-                    .map(ArangoDBUtil::getMap).collect(toList());
-        }
-        return val;
-    }
-
-    private static Object getMap(Object val) {
-        return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
-                .collect(toMap(KEY_DOCUMENT, VALUE_DOCUMENT));
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
     }
 
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
+    private static Object getMap(List<Document> documents) {
+        return documents.stream().collect(toMap(KEY_DOCUMENT, VALUE_DOCUMENT));
     }
 
     private static jakarta.nosql.document.Document cast(Object document) {
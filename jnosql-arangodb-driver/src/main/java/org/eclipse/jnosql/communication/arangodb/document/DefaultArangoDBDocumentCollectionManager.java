@@ -19,18 +19,26 @@ import com.arangodb.ArangoDB;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.nosql.ValueWriter;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+import org.eclipse.jnosql.communication.driver.reactive.Cursor;
+import org.eclipse.jnosql.communication.driver.reactive.CursorPublisher;
 import org.eclipse.jnosql.communication.writer.ValueWriterDecorator;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -46,36 +54,61 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     public static final String ID = "_id";
     public static final String REV = "_rev";
 
+    static final String DRIVER = "arangodb";
+
+    private static final int BATCH_SIZE = 1000;
+
     private final String database;
 
     private final ArangoDB arangoDB;
 
     private final ValueWriter writerField = ValueWriterDecorator.getInstance();
 
-    DefaultArangoDBDocumentCollectionManager(String database, ArangoDB arangoDB) {
+    private final DriverMetrics metrics;
+
+    DefaultArangoDBDocumentCollectionManager(String database, ArangoDB arangoDB, DriverMetrics metrics) {
         this.database = database;
         this.arangoDB = arangoDB;
+        this.metrics = metrics;
     }
 
     @Override
     public DocumentEntity insert(DocumentEntity entity) throws NullPointerException {
         String collectionName = entity.getName();
-        checkCollection(collectionName);
-        BaseDocument baseDocument = getBaseDocument(entity);
-        DocumentCreateEntity<BaseDocument> arandoDocument = arangoDB.db(database).collection(collectionName).insertDocument(baseDocument);
-        updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
-        return entity;
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            checkCollection(collectionName);
+            BaseDocument baseDocument = getBaseDocument(entity);
+            DocumentCreateEntity<BaseDocument> arandoDocument = arangoDB.db(database).collection(collectionName).insertDocument(baseDocument);
+            updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
+            failed = false;
+            return entity;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, collectionName, 1);
+            metrics.record(Operations.INSERT, collectionName, start, metrics.sizeOf(entity), failed);
+        }
     }
 
     @Override
     public DocumentEntity update(DocumentEntity entity) {
         String collectionName = entity.getName();
-        checkCollection(collectionName);
-        BaseDocument baseDocument = getBaseDocument(entity);
-        DocumentUpdateEntity<BaseDocument> arandoDocument = arangoDB.db(database)
-                .collection(collectionName).updateDocument(baseDocument.getKey(), baseDocument);
-        updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
-        return entity;
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            checkCollection(collectionName);
+            BaseDocument baseDocument = getBaseDocument(entity);
+            DocumentUpdateEntity<BaseDocument> arandoDocument = arangoDB.db(database)
+                    .collection(collectionName).updateDocument(baseDocument.getKey(), baseDocument);
+            updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
+            failed = false;
+            return entity;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.UPDATE, collectionName, 1);
+            metrics.record(Operations.UPDATE, collectionName, start, metrics.sizeOf(entity), failed);
+        }
     }
 
     @Override
@@ -94,28 +127,58 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
         }
 
         AQLQueryResult delete = QueryAQLConverter.delete(query);
-        arangoDB.db(database).query(delete.getQuery(), delete.getValues(),
-                null, BaseDocument.class);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            arangoDB.db(database).query(delete.getQuery(), delete.getValues(),
+                    null, BaseDocument.class);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, query.getDocumentCollection(), 0, delete::getQuery);
+            metrics.record(Operations.DELETE, query.getDocumentCollection(), start, 0L, failed);
+        }
     }
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-
-        AQLQueryResult result = QueryAQLConverter.select(query);
-        ArangoCursor<BaseDocument> documents = arangoDB.db(database).query(result.getQuery(),
-                result.getValues(), null, BaseDocument.class);
-
+        ArangoCursor<BaseDocument> documents = query(query, null);
         return StreamSupport.stream(documents.spliterator(), false)
                 .map(ArangoDBUtil::toEntity);
     }
 
+    /**
+     * Publishes the entities of the query from an ArangoDB cursor, that fetches the next batch of documents from
+     * the server only when the subscriber requests more entities than the current batch has.
+     */
+    @Override
+    public Flow.Publisher<DocumentEntity> publish(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return CursorPublisher.of(() -> {
+            ArangoCursor<BaseDocument> documents = query(query, new AqlQueryOptions().batchSize(BATCH_SIZE));
+            return Cursor.of(StreamSupport.stream(documents.spliterator(), false)
+                    .map(ArangoDBUtil::toEntity)
+                    .iterator(), () -> close(documents));
+        });
+    }
+
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "document collection is required");
         String aql = "RETURN LENGTH(" + documentCollection + ")";
-        ArangoCursor<Object> query = arangoDB.db(database).query(aql, emptyMap(), null, Object.class);
-        return StreamSupport.stream(query.spliterator(), false).findFirst().map(Long.class::cast).orElse(0L);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            ArangoCursor<Object> query = arangoDB.db(database).query(aql, emptyMap(), null, Object.class);
+            long count = StreamSupport.stream(query.spliterator(), false).findFirst().map(Long.class::cast).orElse(0L);
+            failed = false;
+            return count;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.COUNT, documentCollection, 0, () -> aql);
+            metrics.record(Operations.COUNT, documentCollection, start, 0L, failed);
+        }
     }
 
 
@@ -123,7 +186,7 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     public Stream<DocumentEntity> aql(String query, Map<String, Object> values) throws NullPointerException {
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
-        ArangoCursor<BaseDocument> result = arangoDB.db(database).query(query, values, null, BaseDocument.class);
+        ArangoCursor<BaseDocument> result = executeAql(query, values, BaseDocument.class);
         return StreamSupport.stream(result.spliterator(), false)
                 .map(ArangoDBUtil::toEntity);
 
@@ -134,7 +197,7 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
         requireNonNull(typeClass, "typeClass is required");
-        ArangoCursor<T> result = arangoDB.db(database).query(query, values, null, typeClass);
+        ArangoCursor<T> result = executeAql(query, values, typeClass);
         return StreamSupport.stream(result.spliterator(), false);
     }
 
@@ -142,7 +205,7 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     public <T> Stream<T> aql(String query, Class<T> typeClass) {
         requireNonNull(query, "query is required");
         requireNonNull(typeClass, "typeClass is required");
-        ArangoCursor<T> result = arangoDB.db(database).query(query, emptyMap(), null, typeClass);
+        ArangoCursor<T> result = executeAql(query, emptyMap(), typeClass);
         return StreamSupport.stream(result.spliterator(), false);
     }
 
@@ -153,6 +216,41 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     }
 
 
+    private <T> ArangoCursor<T> executeAql(String query, Map<String, Object> values, Class<T> typeClass) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        ArangoCursor<T> cursor = null;
+        try {
+            cursor = arangoDB.db(database).query(query, values, null, typeClass);
+            return cursor;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.QUERY, null, 0, () -> query);
+            metrics.record(Operations.QUERY, null, start, 0L, cursor == null);
+        }
+    }
+
+    private ArangoCursor<BaseDocument> query(DocumentQuery query, AqlQueryOptions options) {
+        AQLQueryResult result = QueryAQLConverter.select(query);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        ArangoCursor<BaseDocument> cursor = null;
+        try {
+            cursor = arangoDB.db(database).query(result.getQuery(), result.getValues(), options, BaseDocument.class);
+            return cursor;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.SELECT, query.getDocumentCollection(), 0, result::getQuery);
+            metrics.record(Operations.SELECT, query.getDocumentCollection(), start, 0L, cursor == null);
+        }
+    }
+
+    private static void close(ArangoCursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException exception) {
+            throw new ArangoDBException("Error to close the ArangoDB cursor", exception);
+        }
+    }
+
     private void checkCollection(String collectionName) {
         ArangoDBUtil.checkCollection(database, arangoDB, collectionName);
     }
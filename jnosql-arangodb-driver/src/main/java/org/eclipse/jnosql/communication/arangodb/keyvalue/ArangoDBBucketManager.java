@@ -20,11 +20,13 @@ import com.arangodb.entity.BaseDocument;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 
-import javax.json.bind.Jsonb;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -42,19 +44,26 @@ public class ArangoDBBucketManager implements BucketManager {
 
 
     private static final String VALUE = "_value";
-    private static final Function<BaseDocument, String> TO_JSON = e -> e.getAttribute(VALUE).toString();
-    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+    static final String DRIVER = "arangodb";
+    private static final Function<BaseDocument, String> TO_TEXT = e -> e.getAttribute(VALUE).toString();
 
     private final ArangoDB arangoDB;
 
     private final String bucketName;
     private final String namespace;
 
+    private final ValueCodec codec;
 
-    ArangoDBBucketManager(ArangoDB arangoDB, String bucketName, String namespace) {
+    private final DriverMetrics metrics;
+
+
+    ArangoDBBucketManager(ArangoDB arangoDB, String bucketName, String namespace, ValueCodec codec,
+                          DriverMetrics metrics) {
         this.arangoDB = arangoDB;
         this.bucketName = bucketName;
         this.namespace = namespace;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
     @Override
@@ -63,12 +72,22 @@ public class ArangoDBBucketManager implements BucketManager {
         Objects.requireNonNull(value, "value is required");
         BaseDocument baseDocument = new BaseDocument();
         baseDocument.setKey(key.toString());
-        baseDocument.addAttribute(VALUE, JSONB.toJson(value));
-        if (arangoDB.db(bucketName).collection(namespace).documentExists(key.toString())) {
-            arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+        String text = codec.encodeToText(value);
+        baseDocument.addAttribute(VALUE, text);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            if (arangoDB.db(bucketName).collection(namespace).documentExists(key.toString())) {
+                arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+            }
+            arangoDB.db(bucketName).collection(namespace)
+                    .insertDocument(baseDocument);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, bucketName, 1);
+            metrics.record(Operations.PUT, bucketName, start, text.length(), failed);
         }
-        arangoDB.db(bucketName).collection(namespace)
-                .insertDocument(baseDocument);
     }
 
     @Override
@@ -86,39 +105,77 @@ public class ArangoDBBucketManager implements BucketManager {
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         Objects.requireNonNull(key, "Key is required");
-        BaseDocument entity = arangoDB.db(bucketName).collection(namespace)
-                .getDocument(key.toString(), BaseDocument.class);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        BaseDocument entity = null;
+        try {
+            entity = arangoDB.db(bucketName).collection(namespace)
+                    .getDocument(key.toString(), BaseDocument.class);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, bucketName, entity == null ? 0 : 1);
+            metrics.record(Operations.GET, bucketName, start,
+                    metrics.sizeOf(entity == null ? null : entity.getAttribute(VALUE)), failed);
+        }
 
         return ofNullable(entity)
-                .map(TO_JSON)
-                .map(ValueJSON::of);
+                .map(TO_TEXT)
+                .map(codec::decodeText);
 
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return stream(keys.spliterator(), false)
-                .map(Object::toString)
-                .map(k -> arangoDB.db(bucketName).collection(namespace)
-                        .getDocument(k, BaseDocument.class))
-                .filter(Objects::nonNull)
-                .map(TO_JSON)
-                .map(ValueJSON::of)
-                .collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        List<Value> values = null;
+        try {
+            values = stream(keys.spliterator(), false)
+                    .map(Object::toString)
+                    .map(k -> arangoDB.db(bucketName).collection(namespace)
+                            .getDocument(k, BaseDocument.class))
+                    .filter(Objects::nonNull)
+                    .map(TO_TEXT)
+                    .map(codec::decodeText)
+                    .collect(toList());
+            return values;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, bucketName, values == null ? 0 : values.size());
+            metrics.record(Operations.GET, bucketName, start, metrics.sizeOf(values), values == null);
+        }
     }
 
     @Override
     public <K> void delete(K key) throws NullPointerException {
-        arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, bucketName, 1);
+            metrics.record(Operations.DELETE, bucketName, start, 0L, failed);
+        }
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
         Objects.requireNonNull(keys, "Keys is required");
 
-        arangoDB.db(bucketName).collection(namespace)
-                .deleteDocuments(stream(keys.spliterator(), false)
-                        .map(Object::toString).collect(toList()));
+        List<String> ids = stream(keys.spliterator(), false)
+                .map(Object::toString).collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            arangoDB.db(bucketName).collection(namespace).deleteDocuments(ids);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, bucketName, ids.size());
+            metrics.record(Operations.DELETE, bucketName, start, 0L, failed);
+        }
     }
 
     @Override
@@ -17,6 +17,8 @@ package org.eclipse.jnosql.communication.arangodb.keyvalue;
 import com.arangodb.ArangoDB;
 import jakarta.nosql.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.arangodb.document.ArangoDBUtil;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.List;
 import java.util.Map;
@@ -37,8 +39,14 @@ public class ArangoDBBucketManagerFactory implements BucketManagerFactory {
 
     private final ArangoDB arangoDB;
 
-    ArangoDBBucketManagerFactory(ArangoDB arangoDB) {
+    private final ValueCodec codec;
+
+    private final DriverMetrics metrics;
+
+    ArangoDBBucketManagerFactory(ArangoDB arangoDB, ValueCodec codec, DriverMetrics metrics) {
         this.arangoDB = arangoDB;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
     @Override
@@ -48,7 +56,7 @@ public class ArangoDBBucketManagerFactory implements BucketManagerFactory {
 
     public ArangoDBBucketManager getBucketManager(String bucketName, String namespace) {
         ArangoDBUtil.checkCollection(bucketName, arangoDB, namespace);
-        return new ArangoDBBucketManager(arangoDB, bucketName, namespace);
+        return new ArangoDBBucketManager(arangoDB, bucketName, namespace, codec, metrics);
     }
 
     @Override
@@ -73,6 +81,7 @@ public class ArangoDBBucketManagerFactory implements BucketManagerFactory {
 
     @Override
     public void close() {
+        metrics.close();
         arangoDB.shutdown();
     }
 
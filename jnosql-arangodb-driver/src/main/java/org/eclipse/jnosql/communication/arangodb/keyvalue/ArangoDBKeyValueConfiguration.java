@@ -22,6 +22,8 @@ import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.arangodb.ArangoDBConfiguration;
 import org.eclipse.jnosql.communication.arangodb.ArangoDBConfigurations;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Map;
 
@@ -45,6 +47,9 @@ public final class ArangoDBKeyValueConfiguration extends ArangoDBConfiguration
     @Override
     public ArangoDBBucketManagerFactory get(Settings settings) {
         ArangoDB arangoDB = getArangoDB(settings);
-        return new ArangoDBBucketManagerFactory(arangoDB);
+        ValueCodec codec = settings.get(ArangoDBConfigurations.VALUE_CODEC.get())
+                .map(Object::toString).map(ValueCodec::getInstance)
+                .orElseGet(ValueCodec::getInstance);
+        return new ArangoDBBucketManagerFactory(arangoDB, codec, DriverMetrics.of(settings));
     }
 }
@@ -32,6 +32,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
@@ -44,6 +46,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ArangoDBDocumentCollectionManagerTest {
@@ -120,6 +123,27 @@ public class ArangoDBDocumentCollectionManagerTest {
     }
 
 
+    @Test
+    public void shouldPublishPaginated() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 1010; index++) {
+            DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
+            entity.add(Document.of(KEY_NAME, String.valueOf(index)));
+            entity.add(Document.of("index", index));
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).orderBy("index").asc().skip(995).limit(10).build();
+        List<Integer> indexes = toList(entityManager.publish(query)).stream()
+                .map(e -> e.find("index").get().get(Integer.class))
+                .collect(Collectors.toList());
+        assertThat(indexes, contains(995, 996, 997, 998, 999, 1000, 1001, 1002, 1003, 1004));
+
+        query = select().from(COLLECTION_NAME).build();
+        assertEquals(1010, toList(entityManager.publish(query)).size());
+    }
+
     @Test
     public void shouldSaveSubDocument() {
         DocumentEntity entity = getEntity();
@@ -232,6 +256,33 @@ public class ArangoDBDocumentCollectionManagerTest {
         assertFalse(entities.isEmpty());
     }
 
+    private static <T> List<T> toList(Flow.Publisher<T> publisher) {
+        List<T> entities = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T entity) {
+                entities.add(entity);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertNull(error.get());
+        return entities;
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
@@ -22,9 +22,11 @@ import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManager;
 import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.driver.reactive.ColumnPublisher;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -34,8 +36,10 @@ import java.util.stream.Stream;
  * <p>{@link CassandraColumnFamilyManager#cql(String)}</p>
  * <p>{@link CassandraColumnFamilyManager#nativeQueryPrepare(String)}</p>
  * <p>{@link CassandraColumnFamilyManager#delete(ColumnDeleteQuery, ConsistencyLevel)}</p>
+ * <p>{@link CassandraColumnFamilyManager#publish(ColumnQuery)}</p>
+ * <p>{@link CassandraColumnFamilyManager#publish(ColumnQuery, ConsistencyLevel)}</p>
  */
-public interface CassandraColumnFamilyManager extends ColumnFamilyManager {
+public interface CassandraColumnFamilyManager extends ColumnFamilyManager, ColumnPublisher {
 
 
     /**
@@ -101,6 +105,16 @@ public interface CassandraColumnFamilyManager extends ColumnFamilyManager {
      */
     Stream<ColumnEntity> select(ColumnQuery query, ConsistencyLevel level) throws NullPointerException;
 
+    /**
+     * Publishes the entities of the query using a consistency level
+     *
+     * @param query the query
+     * @param level the consistency level
+     * @return the publisher of the entities
+     * @throws NullPointerException when either query or level are null
+     */
+    Flow.Publisher<ColumnEntity> publish(ColumnQuery query, ConsistencyLevel level) throws NullPointerException;
+
     /**
      * Executes CQL
      *
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.cassandra.column;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import jakarta.nosql.column.ColumnFamilyManagerFactory;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.List;
 import java.util.concurrent.Executor;
@@ -32,9 +33,13 @@ public class CassandraColumnFamilyManagerFactory implements ColumnFamilyManagerF
 
     private final Executor executor;
 
-    CassandraColumnFamilyManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries, Executor executor) {
+    private final DriverMetrics metrics;
+
+    CassandraColumnFamilyManagerFactory(final CqlSessionBuilder sessionBuilder, List<String> queries, Executor executor,
+                                        DriverMetrics metrics) {
         this.sessionBuilder = sessionBuilder;
         this.executor = executor;
+        this.metrics = metrics;
         load(queries);
     }
 
@@ -46,11 +51,12 @@ public class CassandraColumnFamilyManagerFactory implements ColumnFamilyManagerF
 
     @Override
     public CassandraColumnFamilyManager get(String database) {
-        return new DefaultCassandraColumnFamilyManager(sessionBuilder.build(), executor, database);
+        return new DefaultCassandraColumnFamilyManager(sessionBuilder.build(), executor, database, metrics);
     }
 
     @Override
     public void close() {
+        metrics.close();
     }
 
     @Override
@@ -20,6 +20,7 @@ import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import jakarta.nosql.Settings;
 import jakarta.nosql.column.ColumnConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -48,11 +49,13 @@ public final class CassandraConfiguration implements ColumnConfiguration {
     static final String CASSANDRA_FILE_CONFIGURATION = "diana-cassandra.properties";
 
 
-    private CassandraColumnFamilyManagerFactory getManagerFactory(Map<String, String> configurations) {
+    private CassandraColumnFamilyManagerFactory getManagerFactory(Map<String, String> configurations,
+                                                                  DriverMetrics metrics) {
         requireNonNull(configurations);
         CassandraProperties properties = CassandraProperties.of(configurations);
         ExecutorService executorService = properties.createExecutorService();
-        return new CassandraColumnFamilyManagerFactory(properties.createCluster(), properties.getQueries(), executorService);
+        return new CassandraColumnFamilyManagerFactory(properties.createCluster(), properties.getQueries(),
+                executorService, metrics);
     }
 
     public CassandraColumnFamilyManagerFactory getEntityManagerFactory(CqlSessionBuilder sessionBuilder) {
@@ -61,13 +64,14 @@ public final class CassandraConfiguration implements ColumnConfiguration {
         Map<String, String> configuration = ConfigurationReader.from(CASSANDRA_FILE_CONFIGURATION);
         CassandraProperties properties = CassandraProperties.of(configuration);
         ExecutorService executorService = properties.createExecutorService();
-        return new CassandraColumnFamilyManagerFactory(sessionBuilder, properties.getQueries(), executorService);
+        return new CassandraColumnFamilyManagerFactory(sessionBuilder, properties.getQueries(), executorService,
+                DriverMetrics.disabled());
     }
 
     @Override
     public CassandraColumnFamilyManagerFactory get() {
         Map<String, String> configuration = ConfigurationReader.from(CASSANDRA_FILE_CONFIGURATION);
-        return getManagerFactory(configuration);
+        return getManagerFactory(configuration, DriverMetrics.disabled());
     }
 
     @Override
@@ -75,7 +79,7 @@ public final class CassandraConfiguration implements ColumnConfiguration {
         requireNonNull(settings, "settings is required");
         Map<String, String> configurations = new HashMap<>();
         settings.forEach((key, value) -> configurations.put(key, value.toString()));
-        return getManagerFactory(configurations);
+        return getManagerFactory(configurations, DriverMetrics.of(settings));
     }
 
 }
@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.cassandra.column;
 import jakarta.nosql.Sort;
 import jakarta.nosql.column.ColumnCondition;
 import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -33,7 +34,7 @@ import java.util.function.Predicate;
  * @see CassandraQuery#of(ColumnQuery)
  * @see CassandraQuery#of(ColumnQuery, String)
  */
-public final class CassandraQuery implements ColumnQuery {
+public final class CassandraQuery implements ColumnQuery, StatefulQuery {
 
     private static final String EXHAUSTED = "EXHAUSTED";
     private static final Predicate<String> EQUALS = EXHAUSTED::equals;
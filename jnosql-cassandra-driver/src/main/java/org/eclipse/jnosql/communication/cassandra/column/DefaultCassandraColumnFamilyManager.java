@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
@@ -29,10 +30,15 @@ import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.reactive.Cursor;
+import org.eclipse.jnosql.communication.driver.reactive.CursorPublisher;
 
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -42,23 +48,35 @@ import static java.util.Objects.requireNonNull;
 
 class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManager {
 
+    /**
+     * The entity count of a read, it is unknown before the statement runs, thus the event takes the rows of the
+     * first page from the result
+     */
+    static final long UNKNOWN_COUNT = -1L;
+
+    static final String DRIVER = "cassandra";
+
     private final CqlSession session;
 
     private final Executor executor;
 
     private final String keyspace;
 
-    DefaultCassandraColumnFamilyManager(CqlSession session, Executor executor, String keyspace) {
+    private final DriverMetrics metrics;
+
+    DefaultCassandraColumnFamilyManager(CqlSession session, Executor executor, String keyspace,
+                                        DriverMetrics metrics) {
         this.session = session;
         this.executor = executor;
         this.keyspace = keyspace;
+        this.metrics = metrics;
     }
 
     @Override
     public ColumnEntity insert(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
         final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build());
+        executeTraced(DriverOperationEvent.INSERT, entity, insert.build());
         return entity;
     }
 
@@ -67,7 +85,7 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(entity, "entity is required");
         requireNonNull(duration, "duration is required");
         final Insert insert = QueryUtils.insert(entity, keyspace, session, duration);
-        session.execute(insert.build());
+        executeTraced(DriverOperationEvent.INSERT, entity, insert.build());
         return entity;
     }
 
@@ -105,7 +123,7 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(level, "level is required");
 
         final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build().setConsistencyLevel(level));
+        executeTraced(DriverOperationEvent.INSERT, entity, insert.build().setConsistencyLevel(level));
         return entity;
     }
 
@@ -116,7 +134,7 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(ttl, "ttl is required");
 
         final Insert insert = QueryUtils.insert(entity, keyspace, session, ttl);
-        session.execute(insert.build().setConsistencyLevel(level));
+        executeTraced(DriverOperationEvent.INSERT, entity, insert.build().setConsistencyLevel(level));
         return entity;
     }
 
@@ -151,10 +169,31 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         return executor.execute(keyspace, query, level, this);
     }
 
+    /**
+     * Publishes the rows of the query, the result set fetches the next page, of the page size of the driver
+     * configuration, only when the subscriber requests more rows than the current page has. A
+     * {@link CassandraQuery} publishes the page of its paging state, as the select does.
+     */
+    @Override
+    public Flow.Publisher<ColumnEntity> publish(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        QueryExecutor executor = QueryExecutor.of(query);
+        return CursorPublisher.of(() -> Cursor.of(executor.publish(keyspace, query, null, this)));
+    }
+
+    @Override
+    public Flow.Publisher<ColumnEntity> publish(ColumnQuery query, ConsistencyLevel level) {
+        requireNonNull(query, "query is required");
+        requireNonNull(level, "level is required");
+        QueryExecutor executor = QueryExecutor.of(query);
+        return CursorPublisher.of(() -> Cursor.of(executor.publish(keyspace, query, level, this)));
+    }
+
     @Override
     public long count(String columnFamily) {
         requireNonNull(columnFamily, "columnFamily is required");
-        final ResultSet execute = session.execute(QueryBuilder.selectFrom(keyspace, columnFamily).countAll().build());
+        final ResultSet execute = executeTraced(DriverOperationEvent.COUNT, columnFamily, 0,
+                QueryBuilder.selectFrom(keyspace, columnFamily).countAll().build());
         return execute.one().getLong(0);
     }
 
@@ -171,21 +210,22 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         final Delete delete = DeleteQueryConverter.delete(query, keyspace);
         final SimpleStatement build = delete.build();
         final SimpleStatement simpleStatement = build.setConsistencyLevel(level);
-        session.execute(simpleStatement);
+        executeTraced(DriverOperationEvent.DELETE, query.getColumnFamily(), 0, simpleStatement);
     }
 
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
         final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        session.execute(delete.build());
+        executeTraced(DriverOperationEvent.DELETE, query.getColumnFamily(), 0, delete.build());
     }
 
 
     @Override
     public Stream<ColumnEntity> cql(String query) {
         requireNonNull(query, "query is required");
-        final ResultSet resultSet = session.execute(query);
+        final ResultSet resultSet = executeTraced(DriverOperationEvent.QUERY, null, UNKNOWN_COUNT,
+                SimpleStatement.newInstance(query));
         return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
     }
 
@@ -199,14 +239,14 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
             final TypeCodec<Object> codec = CodecRegistry.DEFAULT.codecFor((Class<Object>) entry.getValue().getClass());
             statement = statement.set(entry.getKey(), entry.getValue(), codec);
         }
-        final ResultSet resultSet = session.execute(statement);
+        final ResultSet resultSet = executeTraced(DriverOperationEvent.QUERY, null, UNKNOWN_COUNT, statement);
         return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
     }
 
     @Override
     public Stream<ColumnEntity> execute(SimpleStatement statement) {
         requireNonNull(statement, "statement is required");
-        final ResultSet resultSet = session.execute(statement);
+        final ResultSet resultSet = executeTraced(DriverOperationEvent.QUERY, null, UNKNOWN_COUNT, statement);
         return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
     }
 
@@ -222,6 +262,54 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         return session;
     }
 
+    ResultSet executeTraced(String operation, String columnFamily, long entityCount, Statement<?> statement) {
+        return executeTraced(operation, columnFamily, entityCount, 0L, statement);
+    }
+
+    private ResultSet executeTraced(String operation, ColumnEntity entity, Statement<?> statement) {
+        return executeTraced(operation, entity.getName(), 1, metrics.sizeOf(entity), statement);
+    }
+
+    /**
+     * Executes the statement with its operation event and metrics, the payload size of a read, whose entity count
+     * is unknown, is the size of the response
+     */
+    private ResultSet executeTraced(String operation, String columnFamily, long entityCount, long payloadSize,
+                                    Statement<?> statement) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        ResultSet resultSet = null;
+        try {
+            resultSet = session.execute(statement);
+            return resultSet;
+        } finally {
+            long count = entityCount == UNKNOWN_COUNT ? rows(resultSet) : entityCount;
+            event.end(DRIVER, operation, columnFamily, count, () -> toCql(statement));
+            long size = entityCount == UNKNOWN_COUNT ? responseSize(resultSet) : payloadSize;
+            metrics.record(operation, columnFamily, start, size, resultSet == null);
+        }
+    }
+
+    private static long rows(ResultSet resultSet) {
+        return resultSet == null ? 0L : resultSet.getAvailableWithoutFetching();
+    }
+
+    private long responseSize(ResultSet resultSet) {
+        if (resultSet == null || !metrics.isEnabled()) {
+            return 0L;
+        }
+        return Math.max(0, resultSet.getExecutionInfo().getResponseSizeInBytes());
+    }
+
+    private static String toCql(Statement<?> statement) {
+        if (statement instanceof SimpleStatement) {
+            return ((SimpleStatement) statement).getQuery();
+        } else if (statement instanceof BoundStatement) {
+            return ((BoundStatement) statement).getPreparedStatement().getQuery();
+        }
+        return statement.toString();
+    }
+
 
     @Override
     public String toString() {
@@ -34,4 +34,7 @@ interface QueryExecutor {
     Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, ConsistencyLevel level,
                                  DefaultCassandraColumnFamilyManager manager);
 
+    Stream<ColumnEntity> publish(String keyspace, ColumnQuery query, ConsistencyLevel level,
+                                 DefaultCassandraColumnFamilyManager manager);
+
 }
\ No newline at end of file
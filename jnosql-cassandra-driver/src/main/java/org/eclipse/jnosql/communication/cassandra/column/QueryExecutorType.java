@@ -21,12 +21,14 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 enum QueryExecutorType implements QueryExecutor {
     PAGING_STATE {
@@ -54,7 +56,8 @@ enum QueryExecutorType implements QueryExecutor {
                 simpleStatement = simpleStatement.setPagingState(query.toPaginate().get());
             }
 
-            ResultSet resultSet = manager.getSession().execute(simpleStatement);
+            ResultSet resultSet = manager.executeTraced(DriverOperationEvent.SELECT, query.getColumnFamily(),
+                    DefaultCassandraColumnFamilyManager.UNKNOWN_COUNT, simpleStatement);
 
             final ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
             query.setPagingState(pagingState);
@@ -71,6 +74,16 @@ enum QueryExecutorType implements QueryExecutor {
             return entities.stream();
         }
 
+        /**
+         * Publishes the page of the paging state, as the select does, thus the query keeps the paging state of the
+         * next page
+         */
+        @Override
+        public Stream<ColumnEntity> publish(String keyspace, ColumnQuery query, ConsistencyLevel level,
+                                            DefaultCassandraColumnFamilyManager manager) {
+            return execute(keyspace, query, level, manager);
+        }
+
     },
     DEFAULT {
         @Override
@@ -92,11 +105,39 @@ enum QueryExecutorType implements QueryExecutor {
             if (Objects.nonNull(level)) {
                 select = select.setConsistencyLevel(level);
             }
-            ResultSet resultSet = manager.getSession().execute(select);
+            ResultSet resultSet = manager.executeTraced(DriverOperationEvent.SELECT, query.getColumnFamily(),
+                    DefaultCassandraColumnFamilyManager.UNKNOWN_COUNT, select);
             if (query.getLimit() > 0 && query.getSkip() > 0) {
                 return resultSet.all().stream().skip(query.getSkip()).limit(query.getLimit()).map(CassandraConverter::toDocumentEntity);
             }
             return resultSet.all().stream().map(CassandraConverter::toDocumentEntity);
         }
+
+        /**
+         * Reads the rows as they are requested, the result set fetches the next page only when the current one was
+         * read. The skip is applied on the rows read, since CQL has no offset.
+         */
+        @Override
+        public Stream<ColumnEntity> publish(String keyspace, ColumnQuery query, ConsistencyLevel level,
+                                            DefaultCassandraColumnFamilyManager manager) {
+            Select cassandraSelect = QueryUtils.select(query, keyspace);
+            if (query.getLimit() > 0 && query.getSkip() == 0) {
+                cassandraSelect = cassandraSelect.limit((int) query.getLimit());
+            }
+            SimpleStatement select = cassandraSelect.build();
+            if (Objects.nonNull(level)) {
+                select = select.setConsistencyLevel(level);
+            }
+            ResultSet resultSet = manager.executeTraced(DriverOperationEvent.SELECT, query.getColumnFamily(),
+                    DefaultCassandraColumnFamilyManager.UNKNOWN_COUNT, select);
+            Stream<Row> rows = StreamSupport.stream(resultSet.spliterator(), false);
+            if (query.getSkip() > 0) {
+                rows = rows.skip(query.getSkip());
+                if (query.getLimit() > 0) {
+                    rows = rows.limit(query.getLimit());
+                }
+            }
+            return rows.map(CassandraConverter::toDocumentEntity);
+        }
     }
 }
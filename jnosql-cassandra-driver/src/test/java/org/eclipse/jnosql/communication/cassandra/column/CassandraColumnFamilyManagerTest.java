@@ -42,6 +42,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static jakarta.nosql.column.ColumnDeleteQuery.delete;
 import static jakarta.nosql.column.ColumnQuery.select;
@@ -55,6 +57,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -506,6 +509,36 @@ public class CassandraColumnFamilyManagerTest {
         assertEquals(4, entities.size());
     }
 
+    @Test
+    public void shouldPublishPaginated() {
+        for (long index = 1; index <= 10; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+
+        ColumnQuery query = select().from(Constants.COLUMN_FAMILY).limit(4).skip(2).build();
+        assertEquals(4, toList(entityManager.publish(query)).size());
+        assertEquals(10, toList(entityManager.publish(select().from(Constants.COLUMN_FAMILY).build())).size());
+    }
+
+    @Test
+    public void shouldPublishWithPagingState() {
+        for (long index = 1; index <= 10; index++) {
+            ColumnEntity columnFamily = getColumnFamily();
+            columnFamily.add("id", index);
+            entityManager.insert(columnFamily);
+        }
+
+        CassandraQuery query = CassandraQuery.of(select().from(Constants.COLUMN_FAMILY).build());
+        assertThrows(NullPointerException.class, () -> entityManager.publish(query, null));
+
+        List<ColumnEntity> entities = toList(entityManager.publish(query, CONSISTENCY_LEVEL));
+        assertEquals(10, entities.size());
+        assertTrue(query.getPagingState().isPresent());
+        assertTrue(toList(entityManager.publish(query, CONSISTENCY_LEVEL)).isEmpty());
+    }
+
     @Test
     public void shouldCreateUDTWithSet() {
         ColumnEntity entity = createEntityWithIterableSet();
@@ -547,6 +580,33 @@ public class CassandraColumnFamilyManagerTest {
         return entity;
     }
 
+    private static <T> List<T> toList(Flow.Publisher<T> publisher) {
+        List<T> entities = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T entity) {
+                entities.add(entity);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertNull(error.get());
+        return entities;
+    }
+
     private ColumnEntity getColumnFamily() {
         Map<String, Object> fields = new HashMap<>();
         fields.put("name", "Cassandra");
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.arangodb.document;
+
+import com.arangodb.entity.BaseDocument;
+import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.benchmark.EntityShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ArangoDBUtil#getBaseDocument(DocumentEntity)} to every {@link EntityShape}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArangoDBUtilBenchmark {
+
+    @Param({"FLAT", "NESTED", "SUBDOCUMENT_LIST"})
+    private EntityShape shape;
+
+    private DocumentEntity entity;
+
+    @Setup
+    public void setUp() {
+        this.entity = shape.create();
+    }
+
+    @Benchmark
+    public BaseDocument getBaseDocument() {
+        return ArangoDBUtil.getBaseDocument(entity);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinition;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.cql.DefaultRow;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import jakarta.nosql.column.ColumnEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CassandraConverter#toDocumentEntity(Row)} with a driver {@link DefaultRow}, so the values are
+ * decoded from the wire format the same way as a row from a result set. There are two shapes: FLAT, only scalar
+ * columns, and COLLECTIONS, the scalar columns plus a list and a set columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CassandraConverterBenchmark {
+
+    private static final String KEYSPACE = "newKeySpace";
+
+    private static final String TABLE = "person";
+
+    private static final ProtocolVersion VERSION = ProtocolVersion.DEFAULT;
+
+    @Param({"FLAT", "COLLECTIONS"})
+    private String shape;
+
+    private Row row;
+
+    @Setup
+    public void setUp() {
+        List<ColumnDefinition> definitions = new ArrayList<>();
+        List<ByteBuffer> data = new ArrayList<>();
+        add(definitions, data, "id", ProtocolConstants.DataType.BIGINT,
+                TypeCodecs.BIGINT, 1_595_011_611_000L);
+        add(definitions, data, "name", ProtocolConstants.DataType.VARCHAR, TypeCodecs.TEXT, "Ada Lovelace");
+        add(definitions, data, "email", ProtocolConstants.DataType.VARCHAR, TypeCodecs.TEXT, "ada@lovelace.com");
+        add(definitions, data, "age", ProtocolConstants.DataType.INT, TypeCodecs.INT, 36);
+        add(definitions, data, "salary", ProtocolConstants.DataType.DOUBLE, TypeCodecs.DOUBLE, 12_450.75D);
+        add(definitions, data, "active", ProtocolConstants.DataType.BOOLEAN, TypeCodecs.BOOLEAN, true);
+        add(definitions, data, "department", ProtocolConstants.DataType.VARCHAR, TypeCodecs.TEXT, "Engineering");
+        add(definitions, data, "role", ProtocolConstants.DataType.VARCHAR, TypeCodecs.TEXT, "Analyst");
+
+        if ("COLLECTIONS".equals(shape)) {
+            RawType text = RawType.PRIMITIVES.get(ProtocolConstants.DataType.VARCHAR);
+            definitions.add(definition("tags", definitions.size(), new RawType.RawList(text)));
+            data.add(TypeCodecs.listOf(TypeCodecs.TEXT)
+                    .encode(Arrays.asList("math", "poetry", "engines", "computing"), VERSION));
+            definitions.add(definition("phones", definitions.size(), new RawType.RawSet(text)));
+            data.add(TypeCodecs.setOf(TypeCodecs.TEXT)
+                    .encode(new HashSet<>(Arrays.asList("1231231", "3213213", "5675675")), VERSION));
+        }
+        this.row = new DefaultRow(DefaultColumnDefinitions.valueOf(definitions), data, AttachmentPoint.NONE);
+    }
+
+    @Benchmark
+    public ColumnEntity toDocumentEntity() {
+        return CassandraConverter.toDocumentEntity(row);
+    }
+
+    private static <T> void add(List<ColumnDefinition> definitions, List<ByteBuffer> data, String name,
+                                int protocolCode, TypeCodec<T> codec, T value) {
+        definitions.add(definition(name, definitions.size(), RawType.PRIMITIVES.get(protocolCode)));
+        data.add(codec.encode(value, VERSION));
+    }
+
+    private static ColumnDefinition definition(String name, int index, RawType type) {
+        return new DefaultColumnDefinition(new ColumnSpec(KEYSPACE, TABLE, name, index, type),
+                AttachmentPoint.NONE);
+    }
+}
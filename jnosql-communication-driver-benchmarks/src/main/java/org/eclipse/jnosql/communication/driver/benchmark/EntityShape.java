@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.benchmark;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link DocumentEntity} shapes used as input on the converter benchmarks:
+ * <p>{@link EntityShape#FLAT}: only scalar fields and a plain list</p>
+ * <p>{@link EntityShape#NESTED}: the flat fields plus a subdocument that also has a subdocument</p>
+ * <p>{@link EntityShape#SUBDOCUMENT_LIST}: the flat fields plus a list of subdocuments</p>
+ */
+public enum EntityShape {
+
+    FLAT {
+        @Override
+        public DocumentEntity create() {
+            return DocumentEntity.of(COLLECTION, flat());
+        }
+    },
+    NESTED {
+        @Override
+        public DocumentEntity create() {
+            List<Document> documents = flat();
+            List<Document> country = Arrays.asList(Document.of("code", "BR"),
+                    Document.of("name", "Brazil"));
+            documents.add(Document.of("address", Arrays.asList(
+                    Document.of("street", "Rua Vergueiro"),
+                    Document.of("number", 3185),
+                    Document.of("city", "Sao Paulo"),
+                    Document.of("zipCode", "04101-300"),
+                    Document.of("latitude", -23.5874),
+                    Document.of("longitude", -46.6339),
+                    Document.of("country", country))));
+            return DocumentEntity.of(COLLECTION, documents);
+        }
+    },
+    SUBDOCUMENT_LIST {
+        @Override
+        public DocumentEntity create() {
+            List<Document> documents = flat();
+            List<List<Document>> contacts = new ArrayList<>();
+            for (int index = 0; index < CONTACTS; index++) {
+                contacts.add(Arrays.asList(Document.of("name", "Ada " + index),
+                        Document.of("type", index % 2 == 0 ? "EMAIL" : "MOBILE"),
+                        Document.of("information", "ada" + index + "@lovelace.com"),
+                        Document.of("priority", index)));
+            }
+            documents.add(Document.of("contacts", contacts));
+            return DocumentEntity.of(COLLECTION, documents);
+        }
+    };
+
+    /**
+     * The collection name of the created entities
+     */
+    public static final String COLLECTION = "person";
+
+    private static final int CONTACTS = 10;
+
+    /**
+     * Creates a new {@link DocumentEntity} instance with this shape
+     *
+     * @return a new {@link DocumentEntity} instance
+     */
+    public abstract DocumentEntity create();
+
+    private static List<Document> flat() {
+        List<Document> documents = new ArrayList<>();
+        documents.add(Document.of("_id", "5f1a8e1b9d3c2a0017e8b4c1"));
+        documents.add(Document.of("name", "Ada Lovelace"));
+        documents.add(Document.of("email", "ada@lovelace.com"));
+        documents.add(Document.of("age", 36));
+        documents.add(Document.of("salary", 12_450.75D));
+        documents.add(Document.of("createdAt", 1_595_011_611_000L));
+        documents.add(Document.of("active", true));
+        documents.add(Document.of("department", "Engineering"));
+        documents.add(Document.of("role", "Analyst"));
+        documents.add(Document.of("tags", Arrays.asList("math", "poetry", "engines", "computing")));
+        return documents;
+    }
+}
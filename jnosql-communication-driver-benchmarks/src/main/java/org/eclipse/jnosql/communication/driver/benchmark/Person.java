@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The POJO used as value on the key-value benchmarks, it has scalars, a plain list and a list of objects.
+ */
+public class Person {
+
+    private String name;
+
+    private String email;
+
+    private int age;
+
+    private double salary;
+
+    private long createdAt;
+
+    private boolean active;
+
+    private List<String> tags;
+
+    private List<Contact> contacts;
+
+    public Person() {
+    }
+
+    /**
+     * Creates a person with the given number of contacts
+     *
+     * @param contacts the number of contacts
+     * @return a new Person instance
+     */
+    public static Person of(int contacts) {
+        Person person = new Person();
+        person.name = "Ada Lovelace";
+        person.email = "ada@lovelace.com";
+        person.age = 36;
+        person.salary = 12_450.75D;
+        person.createdAt = 1_595_011_611_000L;
+        person.active = true;
+        person.tags = Arrays.asList("math", "poetry", "engines", "computing");
+        person.contacts = new ArrayList<>(contacts);
+        for (int index = 0; index < contacts; index++) {
+            person.contacts.add(new Contact("Ada " + index, "ada" + index + "@lovelace.com", index));
+        }
+        return person;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Contact> getContacts() {
+        return contacts;
+    }
+
+    public static class Contact {
+
+        private String name;
+
+        private String information;
+
+        private int priority;
+
+        public Contact() {
+        }
+
+        Contact(String name, String information, int priority) {
+            this.name = name;
+            this.information = information;
+            this.priority = priority;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.benchmark;
+
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ValueJSON} write, {@link ValueJSON#of(Object)}, and read, {@link Value#get(Class)},
+ * with a small and a large {@link Person}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueJSONBenchmark {
+
+    @Param({"1", "200"})
+    private int contacts;
+
+    private Person person;
+
+    private Value value;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        this.person = Person.of(contacts);
+        this.value = ValueJSON.of(person);
+        this.json = value.get().toString();
+    }
+
+    @Benchmark
+    public Value of() {
+        return ValueJSON.of(person);
+    }
+
+    @Benchmark
+    public Person get() {
+        return value.get(Person.class);
+    }
+
+    @Benchmark
+    public Person ofJsonAndGet() {
+        return ValueJSON.of(json).get(Person.class);
+    }
+}
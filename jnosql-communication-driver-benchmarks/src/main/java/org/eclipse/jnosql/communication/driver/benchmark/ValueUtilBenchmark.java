@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.benchmark;
+
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.ValueUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ValueUtil#convert(Value)} and {@link ValueUtil#convertToList(Value)} with a scalar,
+ * a list of scalars and a list of {@link Value}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueUtilBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private Value scalar;
+
+    private Value list;
+
+    private Value values;
+
+    @Setup
+    public void setUp() {
+        List<Object> elements = new ArrayList<>(size);
+        List<Value> wrapped = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            elements.add("element-" + index);
+            wrapped.add(Value.of(index));
+        }
+        this.scalar = Value.of("Ada Lovelace");
+        this.list = Value.of(elements);
+        this.values = Value.of(wrapped);
+    }
+
+    @Benchmark
+    public Object convertScalar() {
+        return ValueUtil.convert(scalar);
+    }
+
+    @Benchmark
+    public Object convertList() {
+        return ValueUtil.convert(list);
+    }
+
+    @Benchmark
+    public Object convertValues() {
+        return ValueUtil.convert(values);
+    }
+
+    @Benchmark
+    public List<Object> convertToListScalar() {
+        return ValueUtil.convertToList(scalar);
+    }
+
+    @Benchmark
+    public List<Object> convertToList() {
+        return ValueUtil.convertToList(list);
+    }
+}
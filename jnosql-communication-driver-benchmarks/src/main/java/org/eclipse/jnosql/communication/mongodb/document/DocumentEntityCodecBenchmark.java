@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.jnosql.communication.driver.benchmark.EntityShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link DocumentEntityCodec} encode to BSON and decode from BSON to every {@link EntityShape}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentEntityCodecBenchmark {
+
+    @Param({"FLAT", "NESTED", "SUBDOCUMENT_LIST"})
+    private EntityShape shape;
+
+    private DocumentEntityCodec codec;
+
+    private DocumentEntity entity;
+
+    private byte[] bson;
+
+    @Setup
+    public void setUp() {
+        this.codec = new DocumentEntityCodec("benchmark", MongoClientSettings.getDefaultCodecRegistry());
+        this.entity = shape.create();
+        this.bson = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public DocumentEntity decode() {
+        return codec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build());
+    }
+}
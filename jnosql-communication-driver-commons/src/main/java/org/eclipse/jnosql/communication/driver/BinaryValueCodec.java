@@ -0,0 +1,300 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compact {@link ValueCodec} where each value starts with a tag byte. The integer types and the lengths are
+ * written as variable-length zigzag numbers, the floating types as IEEE 754 bits and the texts as UTF-8.
+ * It supports the primitive wrappers, {@link String}, byte[], {@link Iterable} and {@link Map};
+ * when the value or any of its elements is another type, the whole value is written as JSON, so it is still
+ * read with {@link Value#get(Class)} to any type that JSON-B reads.
+ */
+enum BinaryValueCodec implements ValueCodec {
+
+    INSTANCE;
+
+    static final String NAME = "binary";
+
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INTEGER = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte CHARACTER = 9;
+    private static final byte STRING = 10;
+    private static final byte BYTES = 11;
+    private static final byte LIST = 12;
+    private static final byte MAP = 13;
+    private static final byte JSON = 14;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        Objects.requireNonNull(value, "value is required");
+        ByteArrayOutputStream output = new ByteArrayOutputStream(64);
+        if (isSupported(value)) {
+            write(output, value);
+        } else {
+            output.write(JSON);
+            byte[] json = JsonbValueCodec.INSTANCE.encode(value);
+            output.write(json, 0, json.length);
+        }
+        return output.toByteArray();
+    }
+
+    @Override
+    public Value decode(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        if (value.length == 0) {
+            throw new IllegalArgumentException("The binary value is empty");
+        }
+        if (value[0] == JSON) {
+            return ValueJSON.ofBytes(Arrays.copyOfRange(value, 1, value.length));
+        }
+        Input input = new Input(value);
+        Object decoded = input.read();
+        if (input.position != value.length) {
+            throw new IllegalArgumentException("The binary value has " + (value.length - input.position)
+                    + " bytes after the end of the value");
+        }
+        return Value.of(decoded);
+    }
+
+    private static boolean isSupported(Object value) {
+        if (value == null || value instanceof Boolean || value instanceof Byte || value instanceof Short
+                || value instanceof Integer || value instanceof Long || value instanceof Float
+                || value instanceof Double || value instanceof Character || value instanceof String
+                || value instanceof byte[]) {
+            return true;
+        }
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                if (!isSupported(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!isSupported(entry.getKey()) || !isSupported(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void write(ByteArrayOutputStream output, Object value) {
+        if (value == null) {
+            output.write(NULL);
+        } else if (value instanceof Boolean) {
+            output.write((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Byte) {
+            output.write(BYTE);
+            output.write((Byte) value);
+        } else if (value instanceof Short) {
+            output.write(SHORT);
+            writeVarLong(output, (Short) value);
+        } else if (value instanceof Integer) {
+            output.write(INTEGER);
+            writeVarLong(output, (Integer) value);
+        } else if (value instanceof Long) {
+            output.write(LONG);
+            writeVarLong(output, (Long) value);
+        } else if (value instanceof Float) {
+            output.write(FLOAT);
+            writeFixed(output, Float.floatToIntBits((Float) value), Integer.BYTES);
+        } else if (value instanceof Double) {
+            output.write(DOUBLE);
+            writeFixed(output, Double.doubleToLongBits((Double) value), Long.BYTES);
+        } else if (value instanceof Character) {
+            output.write(CHARACTER);
+            writeVarLong(output, (Character) value);
+        } else if (value instanceof String) {
+            output.write(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            output.write(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (value instanceof Iterable) {
+            List<Object> elements = new ArrayList<>();
+            ((Iterable<?>) value).forEach(elements::add);
+            output.write(LIST);
+            writeVarLong(output, elements.size());
+            elements.forEach(e -> write(output, e));
+        } else {
+            Map<?, ?> map = (Map<?, ?>) value;
+            output.write(MAP);
+            writeVarLong(output, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                write(output, entry.getKey());
+                write(output, entry.getValue());
+            }
+        }
+    }
+
+    private static void writeBytes(ByteArrayOutputStream output, byte[] bytes) {
+        writeVarLong(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream output, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            output.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        output.write((int) zigzag);
+    }
+
+    private static void writeFixed(ByteArrayOutputStream output, long value, int size) {
+        for (int shift = (size - 1) * Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            output.write((int) (value >>> shift));
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        private Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private Object read() {
+            byte tag = next();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case BYTE:
+                    return next();
+                case SHORT:
+                    return (short) readVarLong();
+                case INTEGER:
+                    return (int) readVarLong();
+                case LONG:
+                    return readVarLong();
+                case FLOAT:
+                    return Float.intBitsToFloat((int) readFixed(Integer.BYTES));
+                case DOUBLE:
+                    return Double.longBitsToDouble(readFixed(Long.BYTES));
+                case CHARACTER:
+                    return (char) readVarLong();
+                case STRING:
+                    return new String(readBytes(), StandardCharsets.UTF_8);
+                case BYTES:
+                    return readBytes();
+                case LIST:
+                    return readList();
+                case MAP:
+                    return readMap();
+                default:
+                    throw new IllegalArgumentException("The binary value has an unknown tag: " + tag
+                            + " at the position " + (position - 1));
+            }
+        }
+
+        private List<Object> readList() {
+            int size = readLength();
+            List<Object> list = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                list.add(read());
+            }
+            return list;
+        }
+
+        private Map<Object, Object> readMap() {
+            int size = readLength();
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (int index = 0; index < size; index++) {
+                Object key = read();
+                map.put(key, read());
+            }
+            return map;
+        }
+
+        private byte[] readBytes() {
+            int length = readLength();
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("The binary value is truncated");
+            }
+            byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return value;
+        }
+
+        private int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("The binary value has an invalid length: " + length);
+            }
+            return (int) length;
+        }
+
+        private long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte current = next();
+                zigzag |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IllegalArgumentException("The binary value has a malformed number");
+        }
+
+        private long readFixed(int size) {
+            long value = 0;
+            for (int index = 0; index < size; index++) {
+                value = (value << Byte.SIZE) | (next() & 0xFF);
+            }
+            return value;
+        }
+
+        private byte next() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("The binary value is truncated");
+            }
+            return bytes[position++];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+
+/**
+ * A {@link ValueCodec} that applies {@link ValueCompression} on the bytes of another codec.
+ * The compressed values are bytes, so when the codec writes text its text form cannot be compressed and the text
+ * methods throw {@link UnsupportedOperationException} instead of writing the values uncompressed.
+ */
+final class CompressedValueCodec implements ValueCodec {
+
+    private final ValueCodec codec;
+
+    private final ValueCompression compression;
+
+    CompressedValueCodec(ValueCodec codec, ValueCompression compression) {
+        this.codec = codec;
+        this.compression = compression;
+    }
+
+    @Override
+    public String getName() {
+        return codec.getName() + '+' + compression.getCompressor().getName();
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return compression.compress(codec.encode(value));
+    }
+
+    @Override
+    public Value decode(byte[] value) {
+        return codec.decode(ValueCompression.decompress(value));
+    }
+
+    @Override
+    public String encodeToText(Object value) {
+        requireBinary();
+        return ValueCodec.super.encodeToText(value);
+    }
+
+    @Override
+    public Value decodeText(String value) {
+        requireBinary();
+        return ValueCodec.super.decodeText(value);
+    }
+
+    private void requireBinary() {
+        if (codec.isText()) {
+            throw new UnsupportedOperationException("The text of the codec " + codec.getName()
+                    + " cannot be compressed, either store the values as bytes or remove the compression");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompressedValueCodec{" +
+                "codec=" + codec.getName() +
+                ", compression=" + compression +
+                '}';
+    }
+}
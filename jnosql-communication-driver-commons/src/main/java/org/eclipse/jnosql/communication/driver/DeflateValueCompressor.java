@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The {@link ValueCompressor} with the JDK {@link Deflater} and {@link Inflater}. It uses the best speed level,
+ * since the values are compressed on the request path.
+ */
+enum DeflateValueCompressor implements ValueCompressor {
+
+    INSTANCE;
+
+    static final String NAME = "deflate";
+
+    private static final byte ID = 1;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, value.length / 4));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int size = deflater.deflate(buffer);
+                output.write(buffer, 0, size);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(value);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(value.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int size = inflater.inflate(buffer);
+                if (size == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("The compressed value is truncated");
+                }
+                output.write(buffer, 0, size);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException exception) {
+            throw new IllegalArgumentException("The value is not a valid deflate value", exception);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.document.Document;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Classifies a value already converted by {@link ValueUtil#convert(jakarta.nosql.Value)} on the shapes whose the
+ * document drivers handle, {@link Type}. The {@link Iterable} is traversed once and its elements are kept,
+ * so the driver converts the value from the cached elements instead of streaming the Iterable again.
+ * <p>An empty Iterable is a {@link Type#SUBDOCUMENT}, the same as "all elements are Document".</p>
+ */
+public final class DocumentShape {
+
+    private static final DocumentShape SCALAR = new DocumentShape(Type.SCALAR, null,
+            Collections.emptyList(), Collections.emptyList());
+
+    private final Type type;
+
+    private final Document document;
+
+    private final List<Object> elements;
+
+    private final List<List<Document>> subDocuments;
+
+    private DocumentShape(Type type, Document document, List<Object> elements, List<List<Document>> subDocuments) {
+        this.type = type;
+        this.document = document;
+        this.elements = elements;
+        this.subDocuments = subDocuments;
+    }
+
+    /**
+     * The shape type
+     *
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the value as {@link Document} when the type is {@link Type#DOCUMENT}
+     *
+     * @return the document
+     * @throws IllegalStateException when the type is not {@link Type#DOCUMENT}
+     */
+    public Document getDocument() {
+        check(Type.DOCUMENT);
+        return document;
+    }
+
+    /**
+     * Returns the subdocument fields when the type is {@link Type#SUBDOCUMENT}
+     *
+     * @return the subdocument fields
+     * @throws IllegalStateException when the type is not {@link Type#SUBDOCUMENT}
+     */
+    @SuppressWarnings("unchecked")
+    public List<Document> getDocuments() {
+        check(Type.SUBDOCUMENT);
+        return (List<Document>) (List<?>) elements;
+    }
+
+    /**
+     * Returns the fields of each subdocument when the type is {@link Type#SUBDOCUMENT_LIST}
+     *
+     * @return the subdocuments
+     * @throws IllegalStateException when the type is not {@link Type#SUBDOCUMENT_LIST}
+     */
+    public List<List<Document>> getSubDocuments() {
+        check(Type.SUBDOCUMENT_LIST);
+        return subDocuments;
+    }
+
+    /**
+     * Returns the elements of the {@link Iterable} on the traversal order, it returns an empty list when the value
+     * is either a {@link Type#SCALAR} or a {@link Type#DOCUMENT}
+     *
+     * @return the elements
+     */
+    public List<Object> getElements() {
+        return elements;
+    }
+
+    private void check(Type expected) {
+        if (type != expected) {
+            throw new IllegalStateException("The shape is " + type + " instead of " + expected);
+        }
+    }
+
+    /**
+     * Classifies the value in a single traversal
+     *
+     * @param value the value converted by {@link ValueUtil}
+     * @return the {@link DocumentShape} of the value
+     */
+    public static DocumentShape of(Object value) {
+        if (value instanceof Document) {
+            return new DocumentShape(Type.DOCUMENT, (Document) value, Collections.emptyList(),
+                    Collections.emptyList());
+        }
+        if (!(value instanceof Iterable)) {
+            return SCALAR;
+        }
+        List<Object> elements = newList(value);
+        List<List<Document>> subDocuments = new ArrayList<>();
+        boolean isDocuments = true;
+        boolean isSubDocuments = true;
+        for (Object element : (Iterable<?>) value) {
+            elements.add(element);
+            if (isDocuments && !(element instanceof Document)) {
+                isDocuments = false;
+            }
+            if (isSubDocuments) {
+                List<Document> documents = toDocuments(element);
+                if (documents == null) {
+                    isSubDocuments = false;
+                } else {
+                    subDocuments.add(documents);
+                }
+            }
+        }
+        if (isDocuments) {
+            return new DocumentShape(Type.SUBDOCUMENT, null, elements, Collections.emptyList());
+        }
+        if (isSubDocuments) {
+            return new DocumentShape(Type.SUBDOCUMENT_LIST, null, elements, subDocuments);
+        }
+        return new DocumentShape(Type.LIST, null, elements, Collections.emptyList());
+    }
+
+    private static List<Document> toDocuments(Object element) {
+        if (!(element instanceof Iterable)) {
+            return null;
+        }
+        List<Document> documents = new ArrayList<>();
+        for (Object document : (Iterable<?>) element) {
+            if (!(document instanceof Document)) {
+                return null;
+            }
+            documents.add((Document) document);
+        }
+        return documents;
+    }
+
+    private static List<Object> newList(Object value) {
+        if (value instanceof Collection) {
+            return new ArrayList<>(((Collection<?>) value).size());
+        }
+        return new ArrayList<>();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DocumentShape that = (DocumentShape) o;
+        return type == that.type &&
+                Objects.equals(document, that.document) &&
+                Objects.equals(elements, that.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, document, elements);
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentShape{" +
+                "type=" + type +
+                ", document=" + document +
+                ", elements=" + elements +
+                '}';
+    }
+
+    /**
+     * The shapes of a converted value
+     */
+    public enum Type {
+        /**
+         * Neither a {@link Document} nor an {@link Iterable}
+         */
+        SCALAR,
+        /**
+         * A single {@link Document}
+         */
+        DOCUMENT,
+        /**
+         * An {@link Iterable} whose elements are all {@link Document}
+         */
+        SUBDOCUMENT,
+        /**
+         * An {@link Iterable} whose elements are all Iterable of {@link Document}
+         */
+        SUBDOCUMENT_LIST,
+        /**
+         * Any other {@link Iterable}
+         */
+        LIST
+    }
+}
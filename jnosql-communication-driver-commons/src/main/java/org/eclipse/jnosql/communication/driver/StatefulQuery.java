@@ -0,0 +1,24 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+/**
+ * A marker of the driver specializations of a query that carry state between their calls, e.g. a paging state
+ * that a select moves to the next page. Two such queries with the same condition may read different results and
+ * a select changes the query, thus the decorators that share or repeat the reads, such as the query result cache,
+ * the coalescing and the hedging, run them as they are against the database.
+ */
+public interface StatefulQuery {
+}
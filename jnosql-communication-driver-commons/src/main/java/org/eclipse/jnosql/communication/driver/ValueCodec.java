@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+
+import java.util.Base64;
+
+/**
+ * Defines how the key-value drivers write a value to the database and read it back as {@link Value}.
+ * There are two codecs out of the box:
+ * <p>json: the default one, it writes the value as JSON text using the {@link JsonbSupplier}</p>
+ * <p>binary: a compact tagged binary format to primitives, String, byte[], lists and maps, any other type
+ * is written as JSON</p>
+ * <p>A new codec is registered with {@link java.util.ServiceLoader} and then selected by its name.</p>
+ */
+public interface ValueCodec {
+
+    /**
+     * The name used to select the codec on the drivers configuration
+     *
+     * @return the codec name
+     */
+    String getName();
+
+    /**
+     * Writes the value
+     *
+     * @param value the value
+     * @return the encoded value
+     * @throws NullPointerException when value is null
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Reads a value written by {@link ValueCodec#encode(Object)}
+     *
+     * @param value the encoded value
+     * @return the {@link Value} instance
+     * @throws NullPointerException when value is null
+     */
+    Value decode(byte[] value);
+
+    /**
+     * Checks if {@link ValueCodec#encode(Object)} returns UTF-8 text, so the databases that only store text
+     * keep it as it is instead of an encoded text.
+     *
+     * @return true when the codec writes text
+     */
+    default boolean isText() {
+        return false;
+    }
+
+    /**
+     * Writes the value as text to the databases whose store only text, the default implementation
+     * uses Base64 on the encoded value.
+     *
+     * @param value the value
+     * @return the encoded value as text
+     * @throws NullPointerException when value is null
+     */
+    default String encodeToText(Object value) {
+        return Base64.getEncoder().encodeToString(encode(value));
+    }
+
+    /**
+     * Reads a value written by {@link ValueCodec#encodeToText(Object)}
+     *
+     * @param value the encoded text
+     * @return the {@link Value} instance
+     * @throws NullPointerException when value is null
+     */
+    default Value decodeText(String value) {
+        return decode(Base64.getDecoder().decode(value));
+    }
+
+    /**
+     * It returns the first {@link ValueCodec} from {@link java.util.ServiceLoader} otherwise,
+     * it will return the JSON codec.
+     *
+     * @return {@link ValueCodec} instance
+     */
+    static ValueCodec getInstance() {
+        return ValueCodecServiceLoader.getInstance();
+    }
+
+    /**
+     * Returns the {@link ValueCodec} from its name, it looks up the codecs from {@link java.util.ServiceLoader}
+     * first and then the ones out of the box.
+     *
+     * @param name the codec name, it is case insensitive
+     * @return {@link ValueCodec} instance
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when there is no codec with this name
+     */
+    static ValueCodec getInstance(String name) {
+        return ValueCodecServiceLoader.getInstance(name);
+    }
+}
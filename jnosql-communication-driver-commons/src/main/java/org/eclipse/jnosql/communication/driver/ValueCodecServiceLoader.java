@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+final class ValueCodecServiceLoader {
+
+    private static final List<ValueCodec> LOADERS;
+
+    static final Optional<ValueCodec> INSTANCE;
+
+    static {
+        ServiceLoader<ValueCodec> serviceLoader = ServiceLoader.load(ValueCodec.class);
+        LOADERS = StreamSupport.stream(serviceLoader.spliterator(), false).collect(toList());
+        INSTANCE = LOADERS.stream().findFirst();
+    }
+
+    private ValueCodecServiceLoader() {
+    }
+
+    static ValueCodec getInstance() {
+        return INSTANCE.orElse(JsonbValueCodec.INSTANCE);
+    }
+
+    static ValueCodec getInstance(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return Stream.concat(LOADERS.stream(), Stream.of(JsonbValueCodec.INSTANCE, BinaryValueCodec.INSTANCE))
+                .filter(c -> c.getName().equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("There is not a ValueCodec with the name: " + name));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The compression stage to the key-value values. A value is compressed only when it has at least the threshold
+ * bytes and the compressed one is smaller, otherwise it is kept as it is.
+ * A compressed value starts with the header byte 0xC1, that is never the first byte of UTF-8 text nor of
+ * the binary {@link ValueCodec}, followed by the {@link ValueCompressor#getId()}. Thus, a compressed value
+ * and an uncompressed one, e.g. written before the compression was enabled, live together and both are read
+ * with {@link ValueCompression#decompress(byte[])}.
+ */
+public final class ValueCompression {
+
+    /**
+     * The default threshold in bytes
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    static final byte HEADER = (byte) 0xC1;
+
+    private static final int HEADER_SIZE = 2;
+
+    private final ValueCompressor compressor;
+
+    private final int threshold;
+
+    private ValueCompression(ValueCompressor compressor, int threshold) {
+        this.compressor = compressor;
+        this.threshold = threshold;
+    }
+
+    /**
+     * The compressor
+     *
+     * @return the compressor
+     */
+    public ValueCompressor getCompressor() {
+        return compressor;
+    }
+
+    /**
+     * The minimum size in bytes of a value to be compressed
+     *
+     * @return the threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Compresses the value when it reaches the threshold and the compression makes it smaller
+     *
+     * @param value the value
+     * @return either the compressed value with the header or the value itself
+     * @throws NullPointerException when value is null
+     */
+    public byte[] compress(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        if (value.length < threshold) {
+            return value;
+        }
+        byte[] compressed = compressor.compress(value);
+        if (compressed.length + HEADER_SIZE >= value.length) {
+            return value;
+        }
+        byte[] result = new byte[compressed.length + HEADER_SIZE];
+        result[0] = HEADER;
+        result[1] = compressor.getId();
+        System.arraycopy(compressed, 0, result, HEADER_SIZE, compressed.length);
+        return result;
+    }
+
+    /**
+     * Returns a {@link ValueCodec} that compresses the values written by the codec. When the codec writes text,
+     * e.g. JSON, the values are compressed on {@link ValueCodec#encode(Object)} only, and the text methods
+     * {@link ValueCodec#encodeToText(Object)} and {@link ValueCodec#decodeText(String)} throw
+     * {@link UnsupportedOperationException}, since the text form cannot be compressed.
+     *
+     * @param codec the codec
+     * @return the codec with compression
+     * @throws NullPointerException when codec is null
+     */
+    public ValueCodec wrap(ValueCodec codec) {
+        Objects.requireNonNull(codec, "codec is required");
+        return new CompressedValueCodec(codec, this);
+    }
+
+    /**
+     * Checks if the value starts with the compression header
+     *
+     * @param value the value
+     * @return true when the value is compressed
+     * @throws NullPointerException when value is null
+     */
+    public static boolean isCompressed(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        return value.length >= HEADER_SIZE && value[0] == HEADER;
+    }
+
+    /**
+     * Decompresses the value with the {@link ValueCompressor} from its header, when the value is not compressed
+     * it returns the value itself.
+     *
+     * @param value the value
+     * @return the decompressed value
+     * @throws NullPointerException     when value is null
+     * @throws IllegalArgumentException when there is no compressor to the header
+     */
+    public static byte[] decompress(byte[] value) {
+        if (!isCompressed(value)) {
+            return value;
+        }
+        ValueCompressor compressor = ValueCompressor.getInstance(value[1]);
+        return compressor.decompress(Arrays.copyOfRange(value, HEADER_SIZE, value.length));
+    }
+
+    /**
+     * Creates a {@link ValueCompression}
+     *
+     * @param compressor the compressor
+     * @param threshold  the minimum size in bytes of a value to be compressed
+     * @return a new {@link ValueCompression} instance
+     * @throws NullPointerException     when compressor is null
+     * @throws IllegalArgumentException when threshold is negative
+     */
+    public static ValueCompression of(ValueCompressor compressor, int threshold) {
+        Objects.requireNonNull(compressor, "compressor is required");
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The threshold cannot be negative: " + threshold);
+        }
+        return new ValueCompression(compressor, threshold);
+    }
+
+    /**
+     * Creates a {@link ValueCompression} from the compressor name
+     *
+     * @param name      the compressor name
+     * @param threshold the minimum size in bytes of a value to be compressed
+     * @return a new {@link ValueCompression} instance
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when there is no compressor with this name or threshold is negative
+     * @see ValueCompressor#getInstance(String)
+     */
+    public static ValueCompression of(String name, int threshold) {
+        return of(ValueCompressor.getInstance(name), threshold);
+    }
+
+    @Override
+    public String toString() {
+        return "ValueCompression{" +
+                "compressor=" + compressor.getName() +
+                ", threshold=" + threshold +
+                '}';
+    }
+}
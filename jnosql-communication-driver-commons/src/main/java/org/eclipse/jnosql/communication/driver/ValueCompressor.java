@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+/**
+ * The algorithm used by {@link ValueCompression}. The deflate one, from the JDK, is out of the box and
+ * a faster one is registered with {@link java.util.ServiceLoader}.
+ * The {@link ValueCompressor#getId()} is written on each compressed value, so it must be unique and never
+ * change once there are values written with it.
+ */
+public interface ValueCompressor {
+
+    /**
+     * The name used to select the compressor on the drivers configuration
+     *
+     * @return the compressor name
+     */
+    String getName();
+
+    /**
+     * The identifier written on the compressed values, the id 1 is used by deflate
+     *
+     * @return the compressor id
+     */
+    byte getId();
+
+    /**
+     * Compresses the value
+     *
+     * @param value the value
+     * @return the compressed value
+     * @throws NullPointerException when value is null
+     */
+    byte[] compress(byte[] value);
+
+    /**
+     * Decompresses a value written by {@link ValueCompressor#compress(byte[])}
+     *
+     * @param value the compressed value
+     * @return the value
+     * @throws NullPointerException     when value is null
+     * @throws IllegalArgumentException when the value is not a valid compressed value
+     */
+    byte[] decompress(byte[] value);
+
+    /**
+     * Returns the {@link ValueCompressor} from its name, it looks up the compressors from
+     * {@link java.util.ServiceLoader} first and then the ones out of the box.
+     *
+     * @param name the compressor name, it is case insensitive
+     * @return {@link ValueCompressor} instance
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when there is no compressor with this name
+     */
+    static ValueCompressor getInstance(String name) {
+        return ValueCompressorServiceLoader.getInstance(name);
+    }
+
+    /**
+     * Returns the {@link ValueCompressor} from its id
+     *
+     * @param id the compressor id
+     * @return {@link ValueCompressor} instance
+     * @throws IllegalArgumentException when there is no compressor with this id
+     */
+    static ValueCompressor getInstance(byte id) {
+        return ValueCompressorServiceLoader.getInstance(id);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+final class ValueCompressorServiceLoader {
+
+    private static final List<ValueCompressor> COMPRESSORS;
+
+    static {
+        ServiceLoader<ValueCompressor> serviceLoader = ServiceLoader.load(ValueCompressor.class);
+        COMPRESSORS = Stream.concat(StreamSupport.stream(serviceLoader.spliterator(), false),
+                Stream.of(DeflateValueCompressor.INSTANCE)).collect(toList());
+    }
+
+    private ValueCompressorServiceLoader() {
+    }
+
+    static ValueCompressor getInstance(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return COMPRESSORS.stream()
+                .filter(c -> c.getName().equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("There is not a ValueCompressor with the name: "
+                        + name));
+    }
+
+    static ValueCompressor getInstance(byte id) {
+        for (ValueCompressor compressor : COMPRESSORS) {
+            if (compressor.getId() == id) {
+                return compressor;
+            }
+        }
+        throw new IllegalArgumentException("There is not a ValueCompressor with the id: " + id);
+    }
+}
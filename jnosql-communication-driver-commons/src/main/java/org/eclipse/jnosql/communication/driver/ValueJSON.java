@@ -18,44 +18,123 @@ import jakarta.nosql.TypeSupplier;
 import jakarta.nosql.Value;
 
 import javax.json.bind.Jsonb;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 
 /**
  * A {@link Value} implementation that storage all the information as a {@link String} with JSON format.
+ * It also might keep the JSON as UTF-8 bytes, {@link ValueJSON#ofBytes(byte[])}, that are parsed straight
+ * from the bytes and the String is only created when {@link ValueJSON#get()} is called.
+ * The last decoded instance is memoized when its type is immutable, e.g. String, a boxed primitive or an enum,
+ * so reading the same value with the same type does not parse the JSON again. Any other type, e.g. a Map, a List
+ * or an entity, is parsed on each call, thus a caller never sees the changes another caller made on its instance.
  */
 public class ValueJSON implements Value {
 
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
-    private final String json;
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, LocalDate.class, LocalDateTime.class, LocalTime.class,
+            Instant.class, ZonedDateTime.class, OffsetDateTime.class, Duration.class));
+
+    private final byte[] bytes;
+
+    private volatile String json;
+
+    private volatile Decoded decoded;
 
     ValueJSON(String json) {
         this.json = json;
+        this.bytes = null;
+    }
+
+    private ValueJSON(byte[] bytes) {
+        this.bytes = bytes;
     }
 
 
     @Override
     public Object get() {
-        return json;
+        String value = json;
+        if (value == null) {
+            value = new String(bytes, StandardCharsets.UTF_8);
+            json = value;
+        }
+        return value;
     }
 
     @Override
     public <T> T get(Class<T> clazz) throws NullPointerException, UnsupportedOperationException {
         Objects.requireNonNull(clazz, "clazz is required");
-        return JSONB.fromJson(json, clazz);
+        return decode(clazz);
     }
 
     @Override
     public <T> T get(TypeSupplier<T> typeSupplier) throws NullPointerException, UnsupportedOperationException {
         Objects.requireNonNull(typeSupplier, "typeSupplier is required");
-        return JSONB.fromJson(json, typeSupplier.get());
+        return decode(typeSupplier.get());
     }
 
     @Override
     public boolean isInstanceOf(Class<?> typeClass) {
         Objects.requireNonNull(typeClass, "typeClass is requried");
-        return typeClass.isInstance(json);
+        return typeClass.isAssignableFrom(String.class);
+    }
+
+    /**
+     * Returns the JSON as UTF-8 bytes
+     *
+     * @return the JSON bytes
+     */
+    public byte[] toBytes() {
+        if (bytes != null) {
+            return bytes.clone();
+        }
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T decode(Type type) {
+        Decoded last = decoded;
+        if (last != null && last.type.equals(type)) {
+            return (T) last.instance;
+        }
+        T instance;
+        if (bytes == null) {
+            instance = JSONB.fromJson(json, type);
+        } else {
+            instance = JSONB.fromJson(new ByteArrayInputStream(bytes), type);
+        }
+        if (isImmutable(type)) {
+            decoded = new Decoded(type, instance);
+        }
+        return instance;
+    }
+
+    private static boolean isImmutable(Type type) {
+        if (!(type instanceof Class)) {
+            return false;
+        }
+        Class<?> clazz = (Class<?>) type;
+        return IMMUTABLE_TYPES.contains(clazz) || clazz.isEnum();
     }
 
     /**
@@ -81,4 +160,49 @@ public class ValueJSON implements Value {
         Objects.requireNonNull(json, "json is required");
         return new ValueJSON(JSONB.toJson(json));
     }
+
+    /**
+     * Returns a new instance of {@link Value} from a JSON encoded as UTF-8 bytes.
+     * The array is not copied, so it must not be changed after this call.
+     *
+     * @param json the JSON bytes
+     * @return the new Value instance
+     * @throws NullPointerException when json is null
+     */
+    public static ValueJSON ofBytes(byte[] json) throws NullPointerException {
+        Objects.requireNonNull(json, "json is required");
+        return new ValueJSON(json);
+    }
+
+    /**
+     * Returns a new instance of {@link Value} from the remaining bytes of a JSON encoded as UTF-8.
+     * The buffer position is not changed.
+     *
+     * @param json the JSON buffer
+     * @return the new Value instance
+     * @throws NullPointerException when json is null
+     */
+    public static ValueJSON ofBytes(ByteBuffer json) throws NullPointerException {
+        Objects.requireNonNull(json, "json is required");
+        ByteBuffer buffer = json.duplicate();
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return new ValueJSON(buffer.array());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new ValueJSON(bytes);
+    }
+
+    private static final class Decoded {
+
+        private final Type type;
+
+        private final Object instance;
+
+        private Decoded(Type type, Object instance) {
+            this.type = type;
+            this.instance = instance;
+        }
+    }
 }
@@ -19,10 +19,12 @@ import jakarta.nosql.Value;
 import jakarta.nosql.ValueWriter;
 import org.eclipse.jnosql.communication.writer.ValueWriterDecorator;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.ServiceLoader;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -33,11 +35,16 @@ import static java.util.stream.Collectors.toList;
 public final class ValueUtil {
 
     private static final ValueWriter VALUE_WRITER = ValueWriterDecorator.getInstance();
-    private static final Function CONVERT = o -> {
-        if (o instanceof Value) {
-            return convert(Value.class.cast(o));
+
+    private static final List<ValueWriter> WRITERS = StreamSupport
+            .stream(ServiceLoader.load(ValueWriter.class).spliterator(), false)
+            .collect(toList());
+
+    private static final ClassValue<ConversionPlan> PLANS = new ClassValue<ConversionPlan>() {
+        @Override
+        protected ConversionPlan computeValue(Class<?> type) {
+            return ConversionPlan.of(type);
         }
-        return getObject(o);
     };
 
     private ValueUtil() {
@@ -52,10 +59,11 @@ public final class ValueUtil {
     public static Object convert(Value value) {
         Objects.requireNonNull(value, "value is required");
         Object val = value.get();
-        if(val instanceof Iterable) {
+        ConversionPlan plan = PLANS.get(val.getClass());
+        if (plan.iterable) {
             return getObjects(val);
         }
-        return getObject(val);
+        return plan.write(val);
     }
 
 
@@ -68,22 +76,78 @@ public final class ValueUtil {
     public static List<Object> convertToList(Value value) {
         Objects.requireNonNull(value, "value is required");
         Object val = value.get();
-        if(val instanceof Iterable) {
+        ConversionPlan plan = PLANS.get(val.getClass());
+        if (plan.iterable) {
             return getObjects(val);
-
         }
-        return Collections.singletonList(getObject(val));
+        return Collections.singletonList(plan.write(val));
     }
 
     private static List<Object> getObjects(Object val) {
-        return (List<Object>) StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
-                .map(CONVERT).collect(toList());
+        List<Object> objects;
+        if (val instanceof Collection) {
+            objects = new ArrayList<>(((Collection<?>) val).size());
+        } else {
+            objects = new ArrayList<>();
+        }
+        for (Object element : (Iterable<?>) val) {
+            objects.add(getObject(element));
+        }
+        return objects;
     }
 
     private static Object getObject(Object val) {
-        if (VALUE_WRITER.test(val.getClass())) {
-            return VALUE_WRITER.write(val);
+        ConversionPlan plan = PLANS.get(val.getClass());
+        if (plan.value) {
+            return convert((Value) val);
+        }
+        return plan.write(val);
+    }
+
+    /**
+     * The conversion of a class computed once: a {@link Value} is converted again, an {@link Iterable} has its
+     * elements converted, otherwise it is either written by the {@link ValueWriter} that supports the class or
+     * returned as it is.
+     * The writer is resolved when a single writer supports the class, otherwise the {@link ValueWriterDecorator}
+     * keeps choosing it.
+     */
+    private static final class ConversionPlan {
+
+        private final boolean value;
+
+        private final boolean iterable;
+
+        private final ValueWriter writer;
+
+        private ConversionPlan(boolean value, boolean iterable, ValueWriter writer) {
+            this.value = value;
+            this.iterable = iterable;
+            this.writer = writer;
+        }
+
+        Object write(Object val) {
+            if (writer == null) {
+                return val;
+            }
+            return writer.write(val);
+        }
+
+        static ConversionPlan of(Class<?> type) {
+            return new ConversionPlan(Value.class.isAssignableFrom(type),
+                    Iterable.class.isAssignableFrom(type), writer(type));
+        }
+
+        private static ValueWriter writer(Class<?> type) {
+            if (!VALUE_WRITER.test(type)) {
+                return null;
+            }
+            List<ValueWriter> writers = WRITERS.stream()
+                    .filter(w -> w.test(type))
+                    .collect(toList());
+            if (writers.size() == 1) {
+                return writers.get(0);
+            }
+            return VALUE_WRITER;
         }
-        return val;
     }
 }
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The non-blocking counterpart of {@link BucketManager}: each operation returns a {@link CompletionStage} that
+ * completes with its result or with the exception the database threw.
+ * {@link #of(BucketManager)} adapts any blocking manager, a driver with an async client may implement this
+ * interface on top of it instead.
+ */
+public interface AsyncBucketManager extends AutoCloseable {
+
+    /**
+     * Async {@link BucketManager#put(Object, Object)}
+     *
+     * @param key   the key
+     * @param value the value
+     * @param <K>   the key type
+     * @param <V>   the value type
+     * @return the stage of the put
+     */
+    <K, V> CompletionStage<Void> put(K key, V value);
+
+    /**
+     * Async {@link BucketManager#put(KeyValueEntity)}
+     *
+     * @param entity the entity
+     * @return the stage of the put
+     */
+    CompletionStage<Void> put(KeyValueEntity entity);
+
+    /**
+     * Async {@link BucketManager#put(KeyValueEntity, Duration)}
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @return the stage of the put
+     */
+    CompletionStage<Void> put(KeyValueEntity entity, Duration ttl);
+
+    /**
+     * Async {@link BucketManager#put(Iterable)}
+     *
+     * @param entities the entities
+     * @return the stage of the put
+     */
+    CompletionStage<Void> put(Iterable<KeyValueEntity> entities);
+
+    /**
+     * Async {@link BucketManager#put(Iterable, Duration)}
+     *
+     * @param entities the entities
+     * @param ttl      the time to live
+     * @return the stage of the put
+     */
+    CompletionStage<Void> put(Iterable<KeyValueEntity> entities, Duration ttl);
+
+    /**
+     * Async {@link BucketManager#get(Object)}
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the stage of the value
+     */
+    <K> CompletionStage<Optional<Value>> get(K key);
+
+    /**
+     * Async {@link BucketManager#get(Iterable)}
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the stage of the values
+     */
+    <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys);
+
+    /**
+     * Async {@link BucketManager#delete(Object)}
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the stage of the delete
+     */
+    <K> CompletionStage<Void> delete(K key);
+
+    /**
+     * Async {@link BucketManager#delete(Iterable)}
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the stage of the delete
+     */
+    <K> CompletionStage<Void> delete(Iterable<K> keys);
+
+    /**
+     * Closes the manager, the operations that did not complete yet may fail
+     */
+    @Override
+    void close();
+
+    /**
+     * Adapts a blocking manager: the operations run on virtual threads, or on daemon threads before Java 21,
+     * with at most 256 of them running at the same time
+     *
+     * @param manager the manager
+     * @return a new {@link AsyncBucketManager} instance
+     * @throws NullPointerException when manager is null
+     */
+    static AsyncBucketManager of(BucketManager manager) {
+        return of(manager, LimitedExecutor.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Adapts a blocking manager: the operations run on virtual threads, or on daemon threads before Java 21,
+     * and the ones beyond the max concurrency wait in a queue without blocking the caller
+     *
+     * @param manager        the manager
+     * @param maxConcurrency the maximum number of operations running at the same time
+     * @return a new {@link AsyncBucketManager} instance
+     * @throws NullPointerException     when manager is null
+     * @throws IllegalArgumentException when maxConcurrency is not positive
+     */
+    static AsyncBucketManager of(BucketManager manager, int maxConcurrency) {
+        Objects.requireNonNull(manager, "manager is required");
+        LimitedExecutor executor = new LimitedExecutor(LimitedExecutor.getDefaultExecutor(),
+                LimitedExecutor.requirePositive(maxConcurrency));
+        return new BlockingAsyncBucketManager(manager, executor);
+    }
+}
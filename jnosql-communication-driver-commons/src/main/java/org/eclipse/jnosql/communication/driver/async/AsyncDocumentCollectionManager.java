@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+/**
+ * The non-blocking counterpart of {@link DocumentCollectionManager}: each operation returns a
+ * {@link CompletionStage} that completes with its result or with the exception the database threw.
+ * {@link #of(DocumentCollectionManager)} adapts any blocking manager, a driver with an async client may implement this
+ * interface on top of it instead.
+ */
+public interface AsyncDocumentCollectionManager extends AutoCloseable {
+
+    /**
+     * Async {@link DocumentCollectionManager#insert(DocumentEntity)}
+     *
+     * @param entity the entity
+     * @return the stage of the inserted entity
+     */
+    CompletionStage<DocumentEntity> insert(DocumentEntity entity);
+
+    /**
+     * Async {@link DocumentCollectionManager#insert(DocumentEntity, Duration)}
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @return the stage of the inserted entity
+     */
+    CompletionStage<DocumentEntity> insert(DocumentEntity entity, Duration ttl);
+
+    /**
+     * Async {@link DocumentCollectionManager#insert(Iterable)}
+     *
+     * @param entities the entities
+     * @return the stage of the inserted entities
+     */
+    CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities);
+
+    /**
+     * Async {@link DocumentCollectionManager#insert(Iterable, Duration)}
+     *
+     * @param entities the entities
+     * @param ttl      the time to live
+     * @return the stage of the inserted entities
+     */
+    CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities, Duration ttl);
+
+    /**
+     * Async {@link DocumentCollectionManager#update(DocumentEntity)}
+     *
+     * @param entity the entity
+     * @return the stage of the updated entity
+     */
+    CompletionStage<DocumentEntity> update(DocumentEntity entity);
+
+    /**
+     * Async {@link DocumentCollectionManager#update(Iterable)}
+     *
+     * @param entities the entities
+     * @return the stage of the updated entities
+     */
+    CompletionStage<Iterable<DocumentEntity>> update(Iterable<DocumentEntity> entities);
+
+    /**
+     * Async {@link DocumentCollectionManager#delete(DocumentDeleteQuery)}
+     *
+     * @param query the query
+     * @return the stage of the delete
+     */
+    CompletionStage<Void> delete(DocumentDeleteQuery query);
+
+    /**
+     * Async {@link DocumentCollectionManager#select(DocumentQuery)}, the stage completes once the entities were
+     * read, thus the stream does not block
+     *
+     * @param query the query
+     * @return the stage of the entities
+     */
+    CompletionStage<Stream<DocumentEntity>> select(DocumentQuery query);
+
+    /**
+     * Async {@link DocumentCollectionManager#count(String)}
+     *
+     * @param documentCollection the collection
+     * @return the stage of the number of entities
+     */
+    CompletionStage<Long> count(String documentCollection);
+
+    /**
+     * Closes the manager, the operations that did not complete yet may fail
+     */
+    @Override
+    void close();
+
+    /**
+     * Adapts a blocking manager: the operations run on virtual threads, or on daemon threads before Java 21,
+     * with at most 256 of them running at the same time
+     *
+     * @param manager the manager
+     * @return a new {@link AsyncDocumentCollectionManager} instance
+     * @throws NullPointerException when manager is null
+     */
+    static AsyncDocumentCollectionManager of(DocumentCollectionManager manager) {
+        return of(manager, LimitedExecutor.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Adapts a blocking manager: the operations run on virtual threads, or on daemon threads before Java 21,
+     * and the ones beyond the max concurrency wait in a queue without blocking the caller
+     *
+     * @param manager        the manager
+     * @param maxConcurrency the maximum number of operations running at the same time
+     * @return a new {@link AsyncDocumentCollectionManager} instance
+     * @throws NullPointerException     when manager is null
+     * @throws IllegalArgumentException when maxConcurrency is not positive
+     */
+    static AsyncDocumentCollectionManager of(DocumentCollectionManager manager, int maxConcurrency) {
+        Objects.requireNonNull(manager, "manager is required");
+        LimitedExecutor executor = new LimitedExecutor(LimitedExecutor.getDefaultExecutor(),
+                LimitedExecutor.requirePositive(maxConcurrency));
+        return new BlockingAsyncDocumentCollectionManager(manager, executor);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The {@link AsyncBucketManager} that runs a blocking {@link BucketManager} on the {@link LimitedExecutor}
+ */
+final class BlockingAsyncBucketManager implements AsyncBucketManager {
+
+    private final BucketManager manager;
+
+    private final LimitedExecutor executor;
+
+    BlockingAsyncBucketManager(BucketManager manager, LimitedExecutor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public <K, V> CompletionStage<Void> put(K key, V value) {
+        return execute(() -> manager.put(key, value));
+    }
+
+    @Override
+    public CompletionStage<Void> put(KeyValueEntity entity) {
+        return execute(() -> manager.put(entity));
+    }
+
+    @Override
+    public CompletionStage<Void> put(KeyValueEntity entity, Duration ttl) {
+        return execute(() -> manager.put(entity, ttl));
+    }
+
+    @Override
+    public CompletionStage<Void> put(Iterable<KeyValueEntity> entities) {
+        return execute(() -> manager.put(entities));
+    }
+
+    @Override
+    public CompletionStage<Void> put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        return execute(() -> manager.put(entities, ttl));
+    }
+
+    @Override
+    public <K> CompletionStage<Optional<Value>> get(K key) {
+        return executor.submit(() -> manager.get(key));
+    }
+
+    @Override
+    public <K> CompletionStage<Iterable<Value>> get(Iterable<K> keys) {
+        return executor.submit(() -> manager.get(keys));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(K key) {
+        return execute(() -> manager.delete(key));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> delete(Iterable<K> keys) {
+        return execute(() -> manager.delete(keys));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    private CompletionStage<Void> execute(Runnable operation) {
+        return executor.submit(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingAsyncBucketManager{" +
+                "manager=" + manager +
+                ", executor=" + executor +
+                '}';
+    }
+}
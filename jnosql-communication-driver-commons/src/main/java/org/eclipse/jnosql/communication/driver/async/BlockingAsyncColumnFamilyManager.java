@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@link AsyncColumnFamilyManager} that runs a blocking {@link ColumnFamilyManager} on the {@link LimitedExecutor}.
+ * The select reads the entities on the executor thread, thus the stream of the stage does not touch the database.
+ */
+final class BlockingAsyncColumnFamilyManager implements AsyncColumnFamilyManager {
+
+    private final ColumnFamilyManager manager;
+
+    private final LimitedExecutor executor;
+
+    BlockingAsyncColumnFamilyManager(ColumnFamilyManager manager, LimitedExecutor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> insert(ColumnEntity entity) {
+        return executor.submit(() -> manager.insert(entity));
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> insert(ColumnEntity entity, Duration ttl) {
+        return executor.submit(() -> manager.insert(entity, ttl));
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> insert(Iterable<ColumnEntity> entities) {
+        return executor.submit(() -> manager.insert(entities));
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        return executor.submit(() -> manager.insert(entities, ttl));
+    }
+
+    @Override
+    public CompletionStage<ColumnEntity> update(ColumnEntity entity) {
+        return executor.submit(() -> manager.update(entity));
+    }
+
+    @Override
+    public CompletionStage<Iterable<ColumnEntity>> update(Iterable<ColumnEntity> entities) {
+        return executor.submit(() -> manager.update(entities));
+    }
+
+    @Override
+    public CompletionStage<Void> delete(ColumnDeleteQuery query) {
+        return executor.submit(() -> {
+            manager.delete(query);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Stream<ColumnEntity>> select(ColumnQuery query) {
+        return executor.submit(() -> {
+            try (Stream<ColumnEntity> entities = manager.select(query)) {
+                List<ColumnEntity> values = entities.collect(Collectors.toList());
+                return values.stream();
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<Long> count(String columnFamily) {
+        return executor.submit(() -> manager.count(columnFamily));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingAsyncColumnFamilyManager{" +
+                "manager=" + manager +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@link AsyncDocumentCollectionManager} that runs a blocking {@link DocumentCollectionManager} on the
+ * {@link LimitedExecutor}.
+ * The select reads the entities on the executor thread, thus the stream of the stage does not touch the database.
+ */
+final class BlockingAsyncDocumentCollectionManager implements AsyncDocumentCollectionManager {
+
+    private final DocumentCollectionManager manager;
+
+    private final LimitedExecutor executor;
+
+    BlockingAsyncDocumentCollectionManager(DocumentCollectionManager manager, LimitedExecutor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<DocumentEntity> insert(DocumentEntity entity) {
+        return executor.submit(() -> manager.insert(entity));
+    }
+
+    @Override
+    public CompletionStage<DocumentEntity> insert(DocumentEntity entity, Duration ttl) {
+        return executor.submit(() -> manager.insert(entity, ttl));
+    }
+
+    @Override
+    public CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities) {
+        return executor.submit(() -> manager.insert(entities));
+    }
+
+    @Override
+    public CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        return executor.submit(() -> manager.insert(entities, ttl));
+    }
+
+    @Override
+    public CompletionStage<DocumentEntity> update(DocumentEntity entity) {
+        return executor.submit(() -> manager.update(entity));
+    }
+
+    @Override
+    public CompletionStage<Iterable<DocumentEntity>> update(Iterable<DocumentEntity> entities) {
+        return executor.submit(() -> manager.update(entities));
+    }
+
+    @Override
+    public CompletionStage<Void> delete(DocumentDeleteQuery query) {
+        return executor.submit(() -> {
+            manager.delete(query);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Stream<DocumentEntity>> select(DocumentQuery query) {
+        return executor.submit(() -> {
+            try (Stream<DocumentEntity> entities = manager.select(query)) {
+                List<DocumentEntity> values = entities.collect(Collectors.toList());
+                return values.stream();
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<Long> count(String documentCollection) {
+        return executor.submit(() -> manager.count(documentCollection));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingAsyncDocumentCollectionManager{" +
+                "manager=" + manager +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.CommunicationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read on the executor of the policy and, when it did not complete after the delay of its
+ * {@link LatencyTracker}, runs it once more if the token budget allows it. The first successful result wins and
+ * the other read is cancelled without an interruption, since an interruption can close the connection of a driver
+ * in the middle of its I/O, thus a read already running goes to the end and its result is dropped. A failed read
+ * waits for the other one, if any. The two reads and the read that lost run on the manager at the same time as
+ * the next calls, thus the manager must be safe to be called from several threads at once.
+ */
+final class Hedger {
+
+    private static final long TOKEN = 1000L;
+
+    private final HedgingPolicy policy;
+
+    private final Map<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+
+    private final AtomicLong tokens;
+
+    private final long deposit;
+
+    private final long capacity;
+
+    private final LongAdder hedges = new LongAdder();
+
+    private final LongAdder wins = new LongAdder();
+
+    Hedger(HedgingPolicy policy) {
+        this.policy = policy;
+        this.deposit = Math.round(policy.getBudget() * TOKEN);
+        this.capacity = policy.getBurst() * TOKEN;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    /**
+     * Runs the read, the latencies are tracked per operation, e.g. the collection name
+     */
+    <T> T execute(String operation, Supplier<T> call) {
+        LatencyTracker tracker = trackers.computeIfAbsent(operation, key -> new LatencyTracker(policy));
+        deposit();
+        CompletionService<T> completion = new ExecutorCompletionService<>(policy.getExecutor());
+        List<Future<T>> attempts = new ArrayList<>(2);
+        attempts.add(completion.submit(attempt(call, tracker)));
+        try {
+            Future<T> done = completion.poll(tracker.getDelay(), TimeUnit.NANOSECONDS);
+            if (done == null && tryAcquire()) {
+                hedges.increment();
+                attempts.add(completion.submit(attempt(call, tracker)));
+            }
+            for (int remaining = attempts.size(); ; remaining--) {
+                if (done == null) {
+                    done = completion.take();
+                }
+                try {
+                    T result = done.get();
+                    if (done != attempts.get(0)) {
+                        wins.increment();
+                    }
+                    return result;
+                } catch (ExecutionException exception) {
+                    if (remaining == 1) {
+                        throw unwrap(exception);
+                    }
+                    done = null;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for the read", exception);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(false));
+        }
+    }
+
+    long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    long getWinCount() {
+        return wins.sum();
+    }
+
+    private void deposit() {
+        long current = tokens.get();
+        while (current < capacity && !tokens.compareAndSet(current, Math.min(capacity, current + deposit))) {
+            current = tokens.get();
+        }
+    }
+
+    private boolean tryAcquire() {
+        long current = tokens.get();
+        while (current >= TOKEN) {
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+            current = tokens.get();
+        }
+        return false;
+    }
+
+    private static <T> Callable<T> attempt(Supplier<T> call, LatencyTracker tracker) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = call.get();
+            tracker.record(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    private static RuntimeException unwrap(ExecutionException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new CommunicationException("The read failed", cause);
+    }
+
+    @Override
+    public String toString() {
+        return "Hedger{" +
+                "policy=" + policy +
+                ", hedges=" + hedges.sum() +
+                ", wins=" + wins.sum() +
+                '}';
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link BucketManager} that hedges the reads to cut the tail latency, e.g. when a replica is slow: a
+ * {@link #get(Object)} that did not complete after the recent latency at the percentile of the
+ * {@link HedgingPolicy} is sent once more and the first result wins. The reads run on the executor of the policy,
+ * the writes are never hedged and run on the caller thread. The hedges are limited by the token budget of the
+ * policy, thus a slow database gets at most that ratio of extra reads.
+ * The manager must be safe to be called from several threads at once, since the hedge runs while the first read
+ * still runs, and the read that lost goes to its end; a manager on a single connection, e.g. the Redis one, is not.
+ * <pre>{@code
+ * BucketManager manager = HedgingBucketManager.of(factory.getBucketManager("heroes"));
+ * }</pre>
+ */
+public final class HedgingBucketManager implements BucketManager {
+
+    private static final String GET = "get";
+
+    private static final String GET_ALL = "getAll";
+
+    private final BucketManager manager;
+
+    private final Hedger hedger;
+
+    private HedgingBucketManager(BucketManager manager, Hedger hedger) {
+        this.manager = manager;
+        this.hedger = hedger;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        manager.put(key, value);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        manager.put(entity);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        manager.put(entity, ttl);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        manager.put(entities);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        manager.put(entities, ttl);
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return hedger.execute(GET, () -> manager.get(key));
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        return hedger.execute(GET_ALL, () -> {
+            List<Value> values = new ArrayList<>();
+            manager.get(keys).forEach(values::add);
+            return values;
+        });
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        manager.delete(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        manager.delete(keys);
+    }
+
+    /**
+     * @return the number of reads sent once more
+     */
+    public long getHedgeCount() {
+        return hedger.getHedgeCount();
+    }
+
+    /**
+     * @return the number of hedges that completed before the first read
+     */
+    public long getHedgeWinCount() {
+        return hedger.getWinCount();
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Creates a {@link HedgingBucketManager} with the default policy
+     *
+     * @param manager the manager
+     * @return a new {@link HedgingBucketManager} instance
+     * @throws NullPointerException when manager is null
+     * @see HedgingPolicy#getDefault()
+     */
+    public static HedgingBucketManager of(BucketManager manager) {
+        return of(manager, HedgingPolicy.getDefault());
+    }
+
+    /**
+     * Creates a {@link HedgingBucketManager}
+     *
+     * @param manager the manager
+     * @param policy  the hedging policy
+     * @return a new {@link HedgingBucketManager} instance
+     * @throws NullPointerException when either manager or policy is null
+     */
+    public static HedgingBucketManager of(BucketManager manager, HedgingPolicy policy) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(policy, "policy is required");
+        return new HedgingBucketManager(manager, new Hedger(policy));
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingBucketManager{" +
+                "manager=" + manager +
+                ", hedger=" + hedger +
+                '}';
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentCollectionManager} that hedges the queries to cut the tail latency, e.g. when a replica is slow: a
+ * {@link #select(DocumentQuery)} that did not complete after the recent latency of its collection at the percentile of
+ * the {@link HedgingPolicy} is sent once more and the first result wins. The query reads the entities on the
+ * executor of the policy, thus the select of this manager is not lazy. The writes and the counts are never hedged
+ * and run on the caller thread. The hedges are limited by the token budget of the policy, thus a slow database
+ * gets at most that ratio of extra queries.
+ * The manager must be safe to be called from several threads at once, since the hedge runs while the first query
+ * still runs, and the query that lost goes to its end. A {@link StatefulQuery}, e.g. one that keeps its
+ * paging state, is never hedged: it runs once on the caller thread and its select stays lazy.
+ * <pre>{@code
+ * DocumentCollectionManager manager = HedgingDocumentCollectionManager.of(factory.get("heroes"));
+ * }</pre>
+ */
+public final class HedgingDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final DocumentCollectionManager manager;
+
+    private final Hedger hedger;
+
+    private HedgingDocumentCollectionManager(DocumentCollectionManager manager, Hedger hedger) {
+        this.manager = manager;
+        this.hedger = hedger;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        return manager.insert(entity);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        return manager.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        return manager.insert(entities);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        return manager.insert(entities, ttl);
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        return manager.update(entity);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        return manager.update(entities);
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        manager.delete(query);
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (query instanceof StatefulQuery) {
+            return manager.select(query);
+        }
+        List<DocumentEntity> entities = hedger.execute(query.getDocumentCollection(), () -> {
+            try (Stream<DocumentEntity> stream = manager.select(query)) {
+                return stream.collect(Collectors.toList());
+            }
+        });
+        return entities.stream();
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        return manager.count(documentCollection);
+    }
+
+    /**
+     * @return the number of queries sent once more
+     */
+    public long getHedgeCount() {
+        return hedger.getHedgeCount();
+    }
+
+    /**
+     * @return the number of hedges that completed before the first query
+     */
+    public long getHedgeWinCount() {
+        return hedger.getWinCount();
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Creates a {@link HedgingDocumentCollectionManager} with the default policy
+     *
+     * @param manager the manager
+     * @return a new {@link HedgingDocumentCollectionManager} instance
+     * @throws NullPointerException when manager is null
+     * @see HedgingPolicy#getDefault()
+     */
+    public static HedgingDocumentCollectionManager of(DocumentCollectionManager manager) {
+        return of(manager, HedgingPolicy.getDefault());
+    }
+
+    /**
+     * Creates a {@link HedgingDocumentCollectionManager}
+     *
+     * @param manager the manager
+     * @param policy  the hedging policy
+     * @return a new {@link HedgingDocumentCollectionManager} instance
+     * @throws NullPointerException when either manager or policy is null
+     */
+    public static HedgingDocumentCollectionManager of(DocumentCollectionManager manager, HedgingPolicy policy) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(policy, "policy is required");
+        return new HedgingDocumentCollectionManager(manager, new Hedger(policy));
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingDocumentCollectionManager{" +
+                "manager=" + manager +
+                ", hedger=" + hedger +
+                '}';
+    }
+}
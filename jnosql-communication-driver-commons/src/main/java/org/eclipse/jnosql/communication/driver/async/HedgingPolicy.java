@@ -0,0 +1,270 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * The settings of the hedged reads. A read that did not complete after the delay, the latency at the percentile
+ * of the recent reads bounded by the minimum and maximum delays, is sent once more and the first result wins.
+ * The hedges are limited by a token budget: each read earns the budget ratio of a token, up to the burst, and
+ * each hedge spends a whole token, thus the hedges add at most this ratio of extra load to the database.
+ * <pre>{@code
+ * HedgingPolicy policy = HedgingPolicy.builder()
+ *         .withPercentile(95)
+ *         .withBudget(0.05)
+ *         .build();
+ * }</pre>
+ */
+public final class HedgingPolicy {
+
+    private static final HedgingPolicy DEFAULT = builder().build();
+
+    private final double percentile;
+
+    private final long minimumDelay;
+
+    private final long maximumDelay;
+
+    private final double budget;
+
+    private final int burst;
+
+    private final int window;
+
+    private final Executor executor;
+
+    private HedgingPolicy(Builder builder) {
+        this.percentile = builder.percentile;
+        this.minimumDelay = builder.minimumDelay.toNanos();
+        this.maximumDelay = builder.maximumDelay.toNanos();
+        this.budget = builder.budget;
+        this.burst = builder.burst;
+        this.window = builder.window;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * @return the percentile of the recent latencies used as the hedge delay
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * @return the lower bound of the hedge delay
+     */
+    public Duration getMinimumDelay() {
+        return Duration.ofNanos(minimumDelay);
+    }
+
+    /**
+     * @return the upper bound of the hedge delay, also the delay while there are not enough latencies
+     */
+    public Duration getMaximumDelay() {
+        return Duration.ofNanos(maximumDelay);
+    }
+
+    /**
+     * @return the ratio of hedges to reads
+     */
+    public double getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the maximum number of hedges saved up to be sent in a row
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * @return the number of latencies of a window, the delay is computed from the last full window
+     */
+    public int getWindow() {
+        return window;
+    }
+
+    long getMinimumDelayNanos() {
+        return minimumDelay;
+    }
+
+    long getMaximumDelayNanos() {
+        return maximumDelay;
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The default policy: the p95 delay between 1 millisecond and 1 second, 10 percent of extra load and a
+     * burst of 10 hedges.
+     *
+     * @return the default policy
+     */
+    public static HedgingPolicy getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a {@link Builder}
+     *
+     * @return a new {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingPolicy{" +
+                "percentile=" + percentile +
+                ", minimumDelay=" + getMinimumDelay() +
+                ", maximumDelay=" + getMaximumDelay() +
+                ", budget=" + budget +
+                ", burst=" + burst +
+                ", window=" + window +
+                '}';
+    }
+
+    /**
+     * The builder to {@link HedgingPolicy}
+     */
+    public static final class Builder {
+
+        private double percentile = 95D;
+
+        private Duration minimumDelay = Duration.ofMillis(1);
+
+        private Duration maximumDelay = Duration.ofSeconds(1);
+
+        private double budget = 0.1D;
+
+        private int burst = 10;
+
+        private int window = 1000;
+
+        private Executor executor = LimitedExecutor.getDefaultExecutor();
+
+        private Builder() {
+        }
+
+        /**
+         * Defines the percentile of the recent latencies after which a read is hedged
+         *
+         * @param percentile the percentile, e.g. 99 to the p99
+         * @return this builder
+         * @throws IllegalArgumentException when percentile is not greater than 0 and lower than 100
+         */
+        public Builder withPercentile(double percentile) {
+            if (percentile <= 0D || percentile >= 100D) {
+                throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Defines the bounds of the hedge delay, the same value to both makes the delay fixed
+         *
+         * @param minimumDelay the lower bound
+         * @param maximumDelay the upper bound, also the delay while there are not enough latencies
+         * @return this builder
+         * @throws NullPointerException     when either minimumDelay or maximumDelay is null
+         * @throws IllegalArgumentException when minimumDelay is negative or greater than maximumDelay
+         */
+        public Builder withDelay(Duration minimumDelay, Duration maximumDelay) {
+            Objects.requireNonNull(minimumDelay, "minimumDelay is required");
+            Objects.requireNonNull(maximumDelay, "maximumDelay is required");
+            if (minimumDelay.isNegative() || minimumDelay.compareTo(maximumDelay) > 0) {
+                throw new IllegalArgumentException("The delay must be between zero and the maximum delay: "
+                        + minimumDelay + " " + maximumDelay);
+            }
+            this.minimumDelay = minimumDelay;
+            this.maximumDelay = maximumDelay;
+            return this;
+        }
+
+        /**
+         * Defines the token budget of the hedges
+         *
+         * @param budget the ratio of hedges to reads, e.g. 0.05 to at most 5 percent of extra reads
+         * @return this builder
+         * @throws IllegalArgumentException when budget is not between 0 and 1
+         */
+        public Builder withBudget(double budget) {
+            if (budget < 0D || budget > 1D) {
+                throw new IllegalArgumentException("The budget must be between 0 and 1: " + budget);
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Defines the maximum number of hedges saved up, thus sent in a row when the database slows down
+         *
+         * @param burst the number of hedges
+         * @return this builder
+         * @throws IllegalArgumentException when burst is negative
+         */
+        public Builder withBurst(int burst) {
+            if (burst < 0) {
+                throw new IllegalArgumentException("The burst cannot be negative: " + burst);
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Defines the number of latencies of a window, the delay follows the latency of the last full window
+         *
+         * @param window the number of latencies
+         * @return this builder
+         * @throws IllegalArgumentException when window is not positive
+         */
+        public Builder withWindow(int window) {
+            if (window <= 0) {
+                throw new IllegalArgumentException("The window must be positive: " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Defines the executor of the reads, by default a virtual thread per read when the JVM has them
+         *
+         * @param executor the executor
+         * @return this builder
+         * @throws NullPointerException when executor is null
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor is required");
+            return this;
+        }
+
+        /**
+         * Creates the policy
+         *
+         * @return a new {@link HedgingPolicy} instance
+         */
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import org.eclipse.jnosql.communication.driver.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the latency of a read at the percentile of the policy. The latencies go to a histogram that is
+ * replaced once it has a full window, so the delay follows the recent latency instead of all the past ones.
+ * Before the first full window the delay is the maximum one, then it is updated every few latencies until the
+ * window is full.
+ */
+final class LatencyTracker {
+
+    private static final int WARM_UP = 64;
+
+    private final HedgingPolicy policy;
+
+    private final AtomicLong samples = new AtomicLong();
+
+    private volatile LatencyHistogram histogram = new LatencyHistogram();
+
+    private volatile long delay;
+
+    LatencyTracker(HedgingPolicy policy) {
+        this.policy = policy;
+        this.delay = policy.getMaximumDelayNanos();
+    }
+
+    void record(long nanos) {
+        LatencyHistogram current = histogram;
+        current.record(nanos);
+        long count = samples.incrementAndGet();
+        if (count % policy.getWindow() == 0) {
+            histogram = new LatencyHistogram();
+            delay = delayOf(current);
+        } else if (count < policy.getWindow() && count % WARM_UP == 0) {
+            delay = delayOf(current);
+        }
+    }
+
+    /**
+     * @return the time in nanoseconds to wait before hedging
+     */
+    long getDelay() {
+        return delay;
+    }
+
+    private long delayOf(LatencyHistogram histogram) {
+        long value = histogram.getValueAtPercentile(policy.getPercentile());
+        return Math.min(policy.getMaximumDelayNanos(), Math.max(policy.getMinimumDelayNanos(), value));
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyTracker{" +
+                "samples=" + samples.get() +
+                ", delay=" + delay +
+                '}';
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the blocking calls of a manager on other threads, with at most the limit running at the same time; the
+ * calls beyond the limit wait in a lock-free queue, never blocking the caller.
+ * The threads come from a shared executor: a virtual thread per call when the JVM has them, Java 21 or later,
+ * otherwise a cached pool of daemon threads.
+ */
+final class LimitedExecutor {
+
+    static final int DEFAULT_MAX_CONCURRENCY = 256;
+
+    private static final Logger LOGGER = Logger.getLogger(LimitedExecutor.class.getName());
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private final Executor executor;
+
+    private final int maxConcurrency;
+
+    private final Queue<Task<?>> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    LimitedExecutor(Executor executor, int maxConcurrency) {
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Runs the call, the stage completes with its result or with the exception it throws, or with the
+     * {@link RejectedExecutionException} when the executor does not take the call
+     */
+    <T> CompletionStage<T> submit(Supplier<T> call) {
+        Task<T> task = new Task<>(call);
+        pending.add(task);
+        drain();
+        return task.future;
+    }
+
+    int getRunning() {
+        return running.get();
+    }
+
+    int getPending() {
+        return pending.size();
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Task<?> task = pending.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(() -> run(task));
+            } catch (RejectedExecutionException exception) {
+                running.decrementAndGet();
+                task.future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private void run(Task<?> task) {
+        try {
+            task.run();
+        } finally {
+            running.decrementAndGet();
+            drain();
+        }
+    }
+
+    static Executor getDefaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "There are no virtual threads, the async managers use platform threads",
+                    exception);
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "jnosql-async-" + THREADS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    static int requirePositive(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The max concurrency must be positive: " + maxConcurrency);
+        }
+        return maxConcurrency;
+    }
+
+    private static final class Task<T> implements Runnable {
+
+        private final Supplier<T> call;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Task(Supplier<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            try {
+                future.complete(call.get());
+            } catch (Throwable exception) {
+                future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LimitedExecutor{" +
+                "maxConcurrency=" + maxConcurrency +
+                ", running=" + running.get() +
+                '}';
+    }
+}
@@ -17,6 +17,9 @@ package org.eclipse.jnosql.communication.driver.attachment;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
 
 /**
  * Default representation of {@link EntityAttachment} for in-memory data.
@@ -56,6 +59,16 @@ public class ByteArrayEntityAttachment implements EntityAttachment {
         return new ByteArrayInputStream(data);
     }
     
+    @Override
+    public long transferTo(WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(target, "target cannot be null");
+        ByteBuffer buffer = ByteBuffer.wrap(data).asReadOnlyBuffer();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        return data.length;
+    }
+    
     @Override
     public long getLength() {
         return data.length;
@@ -17,8 +17,14 @@ package org.eclipse.jnosql.communication.driver.attachment;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents a binary attachment attached to a JNoSQL entity.
@@ -46,6 +52,51 @@ public interface EntityAttachment {
      * @return the size of the content in bytes
      */
     long getLength();
+
+    /**
+     * @return a {@link ReadableByteChannel} representing the data of the attachment
+     * @throws IOException if there is an I/O problem retrieving the attachment content
+     * @since 1.0.0
+     */
+    default ReadableByteChannel getChannel() throws IOException {
+        return Channels.newChannel(getData());
+    }
+
+    /**
+     * Writes the whole data of the attachment to the channel. The implementations backed by a file
+     * transfer it without copying the data through the heap.
+     *
+     * @param target the channel that receives the data
+     * @return the number of bytes written
+     * @throws IOException if there is an I/O problem retrieving or writing the attachment content
+     * @throws NullPointerException when target is null
+     * @since 1.0.0
+     */
+    default long transferTo(WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(target, "target cannot be null");
+        long total = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        try (ReadableByteChannel channel = getChannel()) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    total += target.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return a read-only {@link MappedByteBuffer} of the data when the attachment is a file on disk,
+     * otherwise empty
+     * @throws IOException if there is an I/O problem mapping the attachment content
+     * @since 1.0.0
+     */
+    default Optional<MappedByteBuffer> getMappedData() throws IOException {
+        return Optional.empty();
+    }
     
     /**
      * @return an ETag value for the current version of the content
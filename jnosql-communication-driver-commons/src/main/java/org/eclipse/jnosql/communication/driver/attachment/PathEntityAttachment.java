@@ -18,21 +18,35 @@ import jakarta.nosql.CommunicationException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Default representation of {@link EntityAttachment} for a filesystem {@link Path}.
+ * The size and the last modification date are read once, in a single attributes snapshot, when the
+ * attachment is created.
  * 
  * @since 0.0.9
  */
 public class PathEntityAttachment implements EntityAttachment {
     private final Path path;
+
+    private final BasicFileAttributes attributes;
+
+    private volatile String contentType;
     
     public PathEntityAttachment(Path path) {
         Objects.requireNonNull(path, "path cannot be null");
-        if(!Files.isRegularFile(path) || !Files.isReadable(path)) {
+        this.attributes = readAttributes(path);
+        if(!attributes.isRegularFile() || !Files.isReadable(path)) {
             throw new IllegalArgumentException("Path is not a readable file: " + path);
         }
         
@@ -46,20 +60,21 @@ public class PathEntityAttachment implements EntityAttachment {
 
     @Override
     public long getLastModified() {
-        try {
-            return Files.getLastModifiedTime(path).toMillis();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return attributes.lastModifiedTime().toMillis();
     }
 
     @Override
     public String getContentType() {
-        try {
-            return Files.probeContentType(path);
-        } catch(IOException e) {
-            throw new CommunicationException("There is an error to load the content type", e);
+        String type = contentType;
+        if (type == null) {
+            try {
+                type = Files.probeContentType(path);
+            } catch(IOException e) {
+                throw new CommunicationException("There is an error to load the content type", e);
+            }
+            contentType = type;
         }
+        return type;
     }
 
     @Override
@@ -67,12 +82,45 @@ public class PathEntityAttachment implements EntityAttachment {
         return Files.newInputStream(path);
     }
 
+    @Override
+    public ReadableByteChannel getChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(target, "target cannot be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, target);
+                if (transferred <= 0 && position >= channel.size()) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position;
+        }
+    }
+
+    @Override
+    public Optional<MappedByteBuffer> getMappedData() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return Optional.of(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
     @Override
     public long getLength() {
+        return attributes.size();
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
         try {
-            return Files.size(path);
+            return Files.readAttributes(path, BasicFileAttributes.class);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new IllegalArgumentException("Path is not a readable file: " + path, e);
         }
     }
 
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link BucketManager} that coalesces the concurrent reads of the same key: while a {@link #get(Object)} is
+ * in flight, the other callers of that key wait for it and share its result instead of going to the database,
+ * e.g. when a popular key expires. Nothing is cached, and a write detaches the read in flight of its key.
+ * <pre>{@code
+ * BucketManager manager = CoalescingBucketManager.of(factory.getBucketManager("heroes"));
+ * }</pre>
+ */
+public final class CoalescingBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final SingleFlight<Object, Optional<Value>> flights;
+
+    private CoalescingBucketManager(BucketManager manager, int concurrency) {
+        this.manager = manager;
+        this.flights = new SingleFlight<>(concurrency);
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        try {
+            manager.put(key, value);
+        } finally {
+            flights.forget(key);
+        }
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            manager.put(entity);
+        } finally {
+            flights.forget(entity.getKey());
+        }
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            manager.put(entity, ttl);
+        } finally {
+            flights.forget(entity.getKey());
+        }
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = Iterables.toList(entities);
+        try {
+            manager.put(values);
+        } finally {
+            values.forEach(entity -> flights.forget(entity.getKey()));
+        }
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = Iterables.toList(entities);
+        try {
+            manager.put(values, ttl);
+        } finally {
+            values.forEach(entity -> flights.forget(entity.getKey()));
+        }
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return flights.execute(key, () -> manager.get(key), UnaryOperator.identity());
+    }
+
+    /**
+     * The batch reads are not coalesced, they go to the database as they are.
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        return manager.get(keys);
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        try {
+            manager.delete(key);
+        } finally {
+            flights.forget(key);
+        }
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = Iterables.toList(keys);
+        try {
+            manager.delete(values);
+        } finally {
+            values.forEach(flights::forget);
+        }
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * @return the number of reads that shared the result of another read in flight
+     */
+    public long getCoalescedCount() {
+        return flights.getCoalescedCount();
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingBucketManager{" +
+                "manager=" + manager +
+                ", flights=" + flights +
+                '}';
+    }
+
+    /**
+     * Creates a {@link CoalescingBucketManager} with four stripes per processor
+     *
+     * @param manager the manager
+     * @return a new {@link CoalescingBucketManager} instance
+     * @throws NullPointerException when manager is null
+     */
+    public static CoalescingBucketManager of(BucketManager manager) {
+        return of(manager, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates a {@link CoalescingBucketManager}
+     *
+     * @param manager     the manager
+     * @param concurrency the expected number of concurrent callers, it defines the number of stripes
+     * @return a new {@link CoalescingBucketManager} instance
+     * @throws NullPointerException     when manager is null
+     * @throws IllegalArgumentException when concurrency is not positive
+     */
+    public static CoalescingBucketManager of(BucketManager manager, int concurrency) {
+        Objects.requireNonNull(manager, "manager is required");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The concurrency must be positive: " + concurrency);
+        }
+        return new CoalescingBucketManager(manager, concurrency);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentCollectionManager} that coalesces the concurrent identical reads: while a
+ * {@link #select(DocumentQuery)} is in flight, the other callers of an equivalent query wait for it and share its
+ * result instead of going to the database. Two queries are equivalent when they have the same collection,
+ * condition, sorts, skip, limit and projection, regardless of the order of the conditions of an AND or an OR.
+ * The shared result is read as a list, so the select of this manager is not lazy, and each caller gets its own
+ * copy of the entities. The counts of a collection are coalesced in the same way. The selects of a
+ * {@link StatefulQuery}, e.g. one with a paging state, go to the database as they are.
+ * Nothing is cached, and a write detaches the reads in flight of its collection.
+ * <pre>{@code
+ * DocumentCollectionManager manager = CoalescingDocumentCollectionManager.of(factory.get("heroes"));
+ * }</pre>
+ */
+public final class CoalescingDocumentCollectionManager implements DocumentCollectionManager {
+
+    private static final UnaryOperator<List<DocumentEntity>> COPY = entities -> entities.stream()
+            .map(DocumentEntity::copy)
+            .collect(Collectors.toList());
+
+    private final DocumentCollectionManager manager;
+
+    private final SingleFlight<QueryKey, List<DocumentEntity>> selects;
+
+    private final SingleFlight<String, Long> counts;
+
+    private CoalescingDocumentCollectionManager(DocumentCollectionManager manager, int concurrency) {
+        this.manager = manager;
+        this.selects = new SingleFlight<>(concurrency);
+        this.counts = new SingleFlight<>(concurrency);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity);
+        } finally {
+            forget(entity.getName());
+        }
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity, ttl);
+        } finally {
+            forget(entity.getName());
+        }
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = Iterables.toList(entities);
+        try {
+            return manager.insert(values);
+        } finally {
+            forget(values);
+        }
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = Iterables.toList(entities);
+        try {
+            return manager.insert(values, ttl);
+        } finally {
+            forget(values);
+        }
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.update(entity);
+        } finally {
+            forget(entity.getName());
+        }
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = Iterables.toList(entities);
+        try {
+            return manager.update(values);
+        } finally {
+            forget(values);
+        }
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        try {
+            manager.delete(query);
+        } finally {
+            forget(query.getDocumentCollection());
+        }
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (query instanceof StatefulQuery) {
+            return manager.select(query);
+        }
+        List<DocumentEntity> entities = selects.execute(QueryKey.of(query), () -> read(query), COPY);
+        return entities.stream();
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return counts.execute(documentCollection, () -> manager.count(documentCollection), UnaryOperator.identity());
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * @return the number of reads that shared the result of another read in flight
+     */
+    public long getCoalescedCount() {
+        return selects.getCoalescedCount() + counts.getCoalescedCount();
+    }
+
+    private List<DocumentEntity> read(DocumentQuery query) {
+        try (Stream<DocumentEntity> entities = manager.select(query)) {
+            return entities.collect(Collectors.toList());
+        }
+    }
+
+    private void forget(String collection) {
+        selects.forgetIf(key -> Objects.equals(collection, key.getCollection()));
+        counts.forget(collection);
+    }
+
+    private void forget(List<DocumentEntity> entities) {
+        Set<String> collections = new HashSet<>();
+        entities.forEach(entity -> collections.add(entity.getName()));
+        collections.forEach(this::forget);
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingDocumentCollectionManager{" +
+                "manager=" + manager +
+                ", selects=" + selects +
+                ", counts=" + counts +
+                '}';
+    }
+
+    /**
+     * Creates a {@link CoalescingDocumentCollectionManager} with four stripes per processor
+     *
+     * @param manager the manager
+     * @return a new {@link CoalescingDocumentCollectionManager} instance
+     * @throws NullPointerException when manager is null
+     */
+    public static CoalescingDocumentCollectionManager of(DocumentCollectionManager manager) {
+        return of(manager, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates a {@link CoalescingDocumentCollectionManager}
+     *
+     * @param manager     the manager
+     * @param concurrency the expected number of concurrent callers, it defines the number of stripes
+     * @return a new {@link CoalescingDocumentCollectionManager} instance
+     * @throws NullPointerException     when manager is null
+     * @throws IllegalArgumentException when concurrency is not positive
+     */
+    public static CoalescingDocumentCollectionManager of(DocumentCollectionManager manager, int concurrency) {
+        Objects.requireNonNull(manager, "manager is required");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The concurrency must be positive: " + concurrency);
+        }
+        return new CoalescingDocumentCollectionManager(manager, concurrency);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+/**
+ * A count-min sketch with 4-bit counters that estimates how often a key was seen, the TinyLFU admission filter.
+ * Each long keeps sixteen counters, a key uses four of them, one per depth, in the same group of four.
+ * When the number of increments reaches ten times the table length the counters are halved, so the frequency
+ * of keys that are no longer read fades away. This class is not thread safe.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+            0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final int MAXIMUM_LENGTH = 1 << 24;
+
+    private static final int SAMPLE_FACTOR = 10;
+
+    private long[] table;
+
+    private int mask;
+
+    private int sampleSize;
+
+    private int additions;
+
+    FrequencySketch() {
+        resize(64);
+    }
+
+    /**
+     * Grows the table, if needed, to keep the error rate low to that number of entries, the counters restart
+     */
+    void ensureCapacity(long entries) {
+        int length = (int) Math.min(MAXIMUM_LENGTH, Math.max(64, entries));
+        if (length > table.length) {
+            resize(length);
+        }
+    }
+
+    int frequency(int hash) {
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int depth = 0; depth < 4; depth++) {
+            int index = indexOf(hash, depth);
+            int count = (int) ((table[index] >>> ((start + depth) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(int hash) {
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int depth = 0; depth < 4; depth++) {
+            added |= incrementAt(indexOf(hash, depth), start + depth);
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long counterMask = 0xfL << offset;
+        if ((table[index] & counterMask) != counterMask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int index = 0; index < table.length; index++) {
+            table[index] = (table[index] >>> 1) & RESET_MASK;
+        }
+        additions = additions >>> 1;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long value = (hash + SEEDS[depth]) * SEEDS[depth];
+        value += value >>> 32;
+        return ((int) value) & mask;
+    }
+
+    private void resize(int length) {
+        int size = Integer.highestOneBit(length - 1) << 1;
+        this.table = new long[size];
+        this.mask = size - 1;
+        this.sampleSize = SAMPLE_FACTOR * size;
+        this.additions = 0;
+    }
+
+    /**
+     * Spreads the hash code, so keys with close hash codes use distant counters
+     */
+    static int spread(int hashCode) {
+        int hash = ((hashCode >>> 16) ^ hashCode) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The iterables that the decorators of this package read more than once, e.g. to write and then invalidate
+ */
+final class Iterables {
+
+    private Iterables() {
+    }
+
+    static <T> List<T> toList(Iterable<T> values) {
+        if (values instanceof List) {
+            return (List<T>) values;
+        }
+        List<T> list = new ArrayList<>();
+        values.forEach(list::add);
+        return list;
+    }
+}
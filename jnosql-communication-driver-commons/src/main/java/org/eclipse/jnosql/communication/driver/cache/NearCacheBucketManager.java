@@ -0,0 +1,393 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A read-through near cache on top of any {@link BucketManager}: the reads are served from a bounded local cache
+ * with the W-TinyLFU admission and only the misses go to the database.
+ * The writes and the deletes go to the database and then invalidate the local entry, the local entry is never
+ * updated by a write, thus a failed write does not leave a value that the database does not have.
+ * The local entries are not shared among the instances, so a write from another instance is seen once the local
+ * entry expires; the expiration is the upper bound of the staleness and it does not follow the TTL of the
+ * {@link BucketManager#put(KeyValueEntity, Duration)}.
+ * <pre>{@code
+ * BucketManager manager = NearCacheBucketManager.builder(factory.getBucketManager("heroes"))
+ *         .withMaximumSize(10_000)
+ *         .withExpireAfterWrite(Duration.ofMinutes(5))
+ *         .withRefreshAfterWrite(Duration.ofMinutes(1))
+ *         .build();
+ * }</pre>
+ */
+public final class NearCacheBucketManager implements BucketManager {
+
+    private static final Logger LOGGER = Logger.getLogger(NearCacheBucketManager.class.getName());
+
+    private final BucketManager manager;
+
+    private final TinyLfuCache<Object, Value> cache;
+
+    private final long refreshNanos;
+
+    private final Executor executor;
+
+    private NearCacheBucketManager(BucketManager manager, TinyLfuCache<Object, Value> cache, long refreshNanos,
+                                   Executor executor) {
+        this.manager = manager;
+        this.cache = cache;
+        this.refreshNanos = refreshNanos;
+        this.executor = executor;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        try {
+            manager.put(key, value);
+        } finally {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            manager.put(entity);
+        } finally {
+            cache.invalidate(entity.getKey());
+        }
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            manager.put(entity, ttl);
+        } finally {
+            cache.invalidate(entity.getKey());
+        }
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = Iterables.toList(entities);
+        try {
+            manager.put(values);
+        } finally {
+            values.forEach(entity -> cache.invalidate(entity.getKey()));
+        }
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = Iterables.toList(entities);
+        try {
+            manager.put(values, ttl);
+        } finally {
+            values.forEach(entity -> cache.invalidate(entity.getKey()));
+        }
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        TinyLfuCache.Node<Object, Value> node = cache.get(key);
+        if (node != null) {
+            refreshIfNeeded(key, node);
+            return Optional.of(node.getValue());
+        }
+        return load(key);
+    }
+
+    /**
+     * Returns the values in the order of the keys, the local ones from the cache and the missed ones from the
+     * database. A {@link BucketManager#get(Iterable)} returns the values without their keys and in no given order,
+     * so each missed key is read with {@link BucketManager#get(Object)} and cached like a single read.
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        for (K key : keys) {
+            get(key).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        try {
+            manager.delete(key);
+        } finally {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = Iterables.toList(keys);
+        try {
+            manager.delete(values);
+        } finally {
+            values.forEach(cache::invalidate);
+        }
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        manager.close();
+    }
+
+    /**
+     * Removes all the local entries
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the number of local entries
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of reads served by the local cache
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return the number of reads that went to the database
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return the number of local entries removed to keep the cache under its limit
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    private <K> Optional<Value> load(K key) {
+        long stamp = cache.stamp(key);
+        Optional<Value> value = manager.get(key);
+        value.ifPresent(v -> cache.put(key, v, stamp));
+        return value;
+    }
+
+    private <K> void refreshIfNeeded(K key, TinyLfuCache.Node<Object, Value> node) {
+        if (refreshNanos <= 0 || cache.now() - node.getWriteTime() < refreshNanos || !node.startRefresh()) {
+            return;
+        }
+        long stamp = cache.stamp(key);
+        try {
+            executor.execute(() -> reload(key, stamp, node));
+        } catch (RejectedExecutionException exception) {
+            node.endRefresh();
+        }
+    }
+
+    private <K> void reload(K key, long stamp, TinyLfuCache.Node<Object, Value> node) {
+        try {
+            Optional<Value> value = manager.get(key);
+            if (value.isPresent()) {
+                cache.put(key, value.get(), stamp);
+            } else {
+                cache.invalidate(key);
+            }
+        } catch (RuntimeException exception) {
+            node.endRefresh();
+            LOGGER.log(Level.WARNING, "Error to refresh the key " + key, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheBucketManager{" +
+                "manager=" + manager +
+                ", cache=" + cache +
+                '}';
+    }
+
+    /**
+     * Creates a {@link Builder} to the near cache of this manager
+     *
+     * @param manager the manager
+     * @return a new {@link Builder} instance
+     * @throws NullPointerException when manager is null
+     */
+    public static Builder builder(BucketManager manager) {
+        return new Builder(Objects.requireNonNull(manager, "manager is required"));
+    }
+
+    /**
+     * The builder of {@link NearCacheBucketManager}, either the maximum size or the maximum weight is required.
+     */
+    public static final class Builder {
+
+        private final BucketManager manager;
+
+        private long maximum = -1L;
+
+        private ToLongFunction<? super Value> weigher = value -> 1L;
+
+        private Duration expireAfterWrite = Duration.ZERO;
+
+        private Duration refreshAfterWrite = Duration.ZERO;
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(BucketManager manager) {
+            this.manager = manager;
+        }
+
+        /**
+         * Limits the number of local entries
+         *
+         * @param maximumSize the maximum number of entries
+         * @return this builder
+         * @throws IllegalArgumentException when maximumSize is not positive
+         */
+        public Builder withMaximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+            }
+            this.maximum = maximumSize;
+            this.weigher = value -> 1L;
+            return this;
+        }
+
+        /**
+         * Limits the sum of the weights of the local entries, e.g. their size in bytes
+         *
+         * @param maximumWeight the maximum weight
+         * @param weigher       the weight of a value
+         * @return this builder
+         * @throws NullPointerException     when weigher is null
+         * @throws IllegalArgumentException when maximumWeight is not positive
+         */
+        public Builder withMaximumWeight(long maximumWeight, ToLongFunction<? super Value> weigher) {
+            Objects.requireNonNull(weigher, "weigher is required");
+            if (maximumWeight <= 0) {
+                throw new IllegalArgumentException("The maximum weight must be positive: " + maximumWeight);
+            }
+            this.maximum = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Removes a local entry once this time passed since it was loaded
+         *
+         * @param expireAfterWrite the time to live of the local entries
+         * @return this builder
+         * @throws NullPointerException     when expireAfterWrite is null
+         * @throws IllegalArgumentException when expireAfterWrite is negative
+         */
+        public Builder withExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = requireNotNegative(expireAfterWrite, "expireAfterWrite");
+            return this;
+        }
+
+        /**
+         * Reloads a local entry in background on the first read after this time passed since it was loaded;
+         * the read that triggers the reload still returns the current value.
+         *
+         * @param refreshAfterWrite the time to refresh the local entries
+         * @return this builder
+         * @throws NullPointerException     when refreshAfterWrite is null
+         * @throws IllegalArgumentException when refreshAfterWrite is negative
+         */
+        public Builder withRefreshAfterWrite(Duration refreshAfterWrite) {
+            this.refreshAfterWrite = requireNotNegative(refreshAfterWrite, "refreshAfterWrite");
+            return this;
+        }
+
+        /**
+         * The executor of the refreshes, the default is the {@link ForkJoinPool#commonPool()}
+         *
+         * @param executor the executor
+         * @return this builder
+         * @throws NullPointerException when executor is null
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor is required");
+            return this;
+        }
+
+        Builder withTicker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "ticker is required");
+            return this;
+        }
+
+        /**
+         * Creates the near cache
+         *
+         * @return a new {@link NearCacheBucketManager} instance
+         * @throws IllegalStateException when there is neither maximum size nor maximum weight, or when the refresh
+         *                               time is not lower than the expiration
+         */
+        public NearCacheBucketManager build() {
+            if (maximum <= 0) {
+                throw new IllegalStateException("Either the maximum size or the maximum weight is required");
+            }
+            long expireNanos = expireAfterWrite.toNanos();
+            long refreshNanos = refreshAfterWrite.toNanos();
+            if (expireNanos > 0 && refreshNanos >= expireNanos) {
+                throw new IllegalStateException("The refresh time must be lower than the expiration, refresh: "
+                        + refreshAfterWrite + " expiration: " + expireAfterWrite);
+            }
+            TinyLfuCache<Object, Value> cache = new TinyLfuCache<>(maximum, weigher, expireNanos, ticker);
+            return new NearCacheBucketManager(manager, cache, refreshNanos, executor);
+        }
+
+        private static Duration requireNotNegative(Duration duration, String name) {
+            Objects.requireNonNull(duration, name + " is required");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("The " + name + " cannot be negative: " + duration);
+            }
+            return duration;
+        }
+    }
+}
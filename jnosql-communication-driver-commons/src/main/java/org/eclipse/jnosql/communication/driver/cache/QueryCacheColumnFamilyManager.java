@@ -0,0 +1,326 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ColumnFamilyManager} that caches the results of the queries, for column families that are read much more
+ * than they are written, e.g. reference data. The queries are matched by their normalized form: the column family, the
+ * condition, the sorts, the skip, the limit and the projection, regardless of the order of the conditions of an AND or
+ * an OR. The results are read as lists, thus the select of this manager is not lazy, and each caller gets its own copy
+ * of the entities. Each column family has its own budget, either a number of entities or a weight, e.g. their size in
+ * bytes. An insert, an update or a delete through this manager removes all the results of its column family; the writes
+ * from other instances or applications are seen once the results expire, thus set an expiration when there are any. The
+ * counts and the selects of a {@link StatefulQuery}, e.g. one with a paging state, are not cached.
+ * <pre>{@code
+ * ColumnFamilyManager manager = QueryCacheColumnFamilyManager.builder(factory.get("heroes"))
+ *         .withMaximumSize(50_000)
+ *         .withExpireAfterWrite(Duration.ofMinutes(10))
+ *         .build();
+ * }</pre>
+ */
+public final class QueryCacheColumnFamilyManager implements ColumnFamilyManager {
+
+    private final ColumnFamilyManager manager;
+
+    private final QueryResultCache<ColumnEntity> cache;
+
+    private QueryCacheColumnFamilyManager(ColumnFamilyManager manager, QueryResultCache<ColumnEntity> cache) {
+        this.manager = manager;
+        this.cache = cache;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity);
+        } finally {
+            cache.invalidate(entity.getName());
+        }
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity, ttl);
+        } finally {
+            cache.invalidate(entity.getName());
+        }
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> values = Iterables.toList(entities);
+        try {
+            return manager.insert(values);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> values = Iterables.toList(entities);
+        try {
+            return manager.insert(values, ttl);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.update(entity);
+        } finally {
+            cache.invalidate(entity.getName());
+        }
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> values = Iterables.toList(entities);
+        try {
+            return manager.update(values);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        try {
+            manager.delete(query);
+        } finally {
+            cache.invalidate(query.getColumnFamily());
+        }
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (query instanceof StatefulQuery) {
+            return manager.select(query);
+        }
+        QueryKey key = QueryKey.of(query);
+        List<ColumnEntity> cached = cache.get(key);
+        if (cached != null) {
+            return cached.stream();
+        }
+        long stamp = cache.stamp(key.getCollection());
+        List<ColumnEntity> entities;
+        try (Stream<ColumnEntity> stream = manager.select(query)) {
+            entities = stream.collect(Collectors.toList());
+        }
+        cache.put(key, entities, stamp);
+        return entities.stream();
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        return manager.count(columnFamily);
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        manager.close();
+    }
+
+    /**
+     * Removes the cached results of the column family, e.g. after a write that did not go through this manager
+     *
+     * @param columnFamily the column family
+     * @throws NullPointerException when columnFamily is null
+     */
+    public void invalidate(String columnFamily) {
+        cache.invalidate(Objects.requireNonNull(columnFamily, "columnFamily is required"));
+    }
+
+    /**
+     * Removes all the cached results
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the number of cached results
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of selects served by the cache
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return the number of selects that went to the database
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return the number of results removed to keep the column families under their budget
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    private void invalidate(List<ColumnEntity> entities) {
+        Set<String> names = new HashSet<>();
+        entities.forEach(entity -> names.add(entity.getName()));
+        names.forEach(cache::invalidate);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCacheColumnFamilyManager{" +
+                "manager=" + manager +
+                ", cache=" + cache +
+                '}';
+    }
+
+    /**
+     * Creates a {@link Builder} to the query cache of this manager
+     *
+     * @param manager the manager
+     * @return a new {@link Builder} instance
+     * @throws NullPointerException when manager is null
+     */
+    public static Builder builder(ColumnFamilyManager manager) {
+        return new Builder(Objects.requireNonNull(manager, "manager is required"));
+    }
+
+    /**
+     * The builder of {@link QueryCacheColumnFamilyManager}, either the maximum size or the maximum weight is required.
+     */
+    public static final class Builder {
+
+        private final ColumnFamilyManager manager;
+
+        private long maximum = -1L;
+
+        private ToLongFunction<? super ColumnEntity> weigher = entity -> 1L;
+
+        private Duration expireAfterWrite = Duration.ZERO;
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(ColumnFamilyManager manager) {
+            this.manager = manager;
+        }
+
+        /**
+         * Limits the number of cached entities of each column family, the entities of all its results
+         *
+         * @param maximumSize the maximum number of entities per column family
+         * @return this builder
+         * @throws IllegalArgumentException when maximumSize is not positive
+         */
+        public Builder withMaximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+            }
+            this.maximum = maximumSize;
+            this.weigher = entity -> 1L;
+            return this;
+        }
+
+        /**
+         * Limits the sum of the weights of the cached entities of each column family, e.g. their size in bytes
+         *
+         * @param maximumWeight the maximum weight per column family
+         * @param weigher       the weight of an entity
+         * @return this builder
+         * @throws NullPointerException     when weigher is null
+         * @throws IllegalArgumentException when maximumWeight is not positive
+         */
+        public Builder withMaximumWeight(long maximumWeight, ToLongFunction<? super ColumnEntity> weigher) {
+            Objects.requireNonNull(weigher, "weigher is required");
+            if (maximumWeight <= 0) {
+                throw new IllegalArgumentException("The maximum weight must be positive: " + maximumWeight);
+            }
+            this.maximum = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Removes a cached result once this time passed since it was read, the upper bound of the staleness to
+         * the writes that do not go through this manager
+         *
+         * @param expireAfterWrite the time to live of the results
+         * @return this builder
+         * @throws NullPointerException     when expireAfterWrite is null
+         * @throws IllegalArgumentException when expireAfterWrite is negative
+         */
+        public Builder withExpireAfterWrite(Duration expireAfterWrite) {
+            Objects.requireNonNull(expireAfterWrite, "expireAfterWrite is required");
+            if (expireAfterWrite.isNegative()) {
+                throw new IllegalArgumentException("The expireAfterWrite cannot be negative: " + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        Builder withTicker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "ticker is required");
+            return this;
+        }
+
+        /**
+         * Creates the query cache
+         *
+         * @return a new {@link QueryCacheColumnFamilyManager} instance
+         * @throws IllegalStateException when there is neither maximum size nor maximum weight
+         */
+        public QueryCacheColumnFamilyManager build() {
+            if (maximum <= 0) {
+                throw new IllegalStateException("Either the maximum size or the maximum weight is required");
+            }
+            QueryResultCache<ColumnEntity> cache = new QueryResultCache<>(maximum, weigher, expireAfterWrite.toNanos(),
+                    ticker, ColumnEntity::copy);
+            return new QueryCacheColumnFamilyManager(manager, cache);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentCollectionManager} that caches the results of the queries, for collections that are read much more
+ * than they are written, e.g. reference data. The queries are matched by their normalized form: the collection, the
+ * condition, the sorts, the skip, the limit and the projection, regardless of the order of the conditions of an AND or
+ * an OR. The results are read as lists, thus the select of this manager is not lazy, and each caller gets its own copy
+ * of the entities. Each collection has its own budget, either a number of entities or a weight, e.g. their size in
+ * bytes. An insert, an update or a delete through this manager removes all the results of its collection; the writes
+ * from other instances or applications are seen once the results expire, thus set an expiration when there are any. The
+ * counts and the selects of a {@link StatefulQuery}, e.g. one with a paging state, are not cached.
+ * <pre>{@code
+ * DocumentCollectionManager manager = QueryCacheDocumentCollectionManager.builder(factory.get("heroes"))
+ *         .withMaximumSize(50_000)
+ *         .withExpireAfterWrite(Duration.ofMinutes(10))
+ *         .build();
+ * }</pre>
+ */
+public final class QueryCacheDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final DocumentCollectionManager manager;
+
+    private final QueryResultCache<DocumentEntity> cache;
+
+    private QueryCacheDocumentCollectionManager(DocumentCollectionManager manager,
+                                                QueryResultCache<DocumentEntity> cache) {
+        this.manager = manager;
+        this.cache = cache;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity);
+        } finally {
+            cache.invalidate(entity.getName());
+        }
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.insert(entity, ttl);
+        } finally {
+            cache.invalidate(entity.getName());
+        }
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = Iterables.toList(entities);
+        try {
+            return manager.insert(values);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = Iterables.toList(entities);
+        try {
+            return manager.insert(values, ttl);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return manager.update(entity);
+        } finally {
+            cache.invalidate(entity.getName());
+        }
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = Iterables.toList(entities);
+        try {
+            return manager.update(values);
+        } finally {
+            invalidate(values);
+        }
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        try {
+            manager.delete(query);
+        } finally {
+            cache.invalidate(query.getDocumentCollection());
+        }
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (query instanceof StatefulQuery) {
+            return manager.select(query);
+        }
+        QueryKey key = QueryKey.of(query);
+        List<DocumentEntity> cached = cache.get(key);
+        if (cached != null) {
+            return cached.stream();
+        }
+        long stamp = cache.stamp(key.getCollection());
+        List<DocumentEntity> entities;
+        try (Stream<DocumentEntity> stream = manager.select(query)) {
+            entities = stream.collect(Collectors.toList());
+        }
+        cache.put(key, entities, stamp);
+        return entities.stream();
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        return manager.count(documentCollection);
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        manager.close();
+    }
+
+    /**
+     * Removes the cached results of the collection, e.g. after a write that did not go through this manager
+     *
+     * @param documentCollection the collection
+     * @throws NullPointerException when documentCollection is null
+     */
+    public void invalidate(String documentCollection) {
+        cache.invalidate(Objects.requireNonNull(documentCollection, "documentCollection is required"));
+    }
+
+    /**
+     * Removes all the cached results
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the number of cached results
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of selects served by the cache
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return the number of selects that went to the database
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return the number of results removed to keep the collections under their budget
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    private void invalidate(List<DocumentEntity> entities) {
+        Set<String> names = new HashSet<>();
+        entities.forEach(entity -> names.add(entity.getName()));
+        names.forEach(cache::invalidate);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCacheDocumentCollectionManager{" +
+                "manager=" + manager +
+                ", cache=" + cache +
+                '}';
+    }
+
+    /**
+     * Creates a {@link Builder} to the query cache of this manager
+     *
+     * @param manager the manager
+     * @return a new {@link Builder} instance
+     * @throws NullPointerException when manager is null
+     */
+    public static Builder builder(DocumentCollectionManager manager) {
+        return new Builder(Objects.requireNonNull(manager, "manager is required"));
+    }
+
+    /**
+     * The builder of {@link QueryCacheDocumentCollectionManager}, either the maximum size or the maximum weight is
+     * required.
+     */
+    public static final class Builder {
+
+        private final DocumentCollectionManager manager;
+
+        private long maximum = -1L;
+
+        private ToLongFunction<? super DocumentEntity> weigher = entity -> 1L;
+
+        private Duration expireAfterWrite = Duration.ZERO;
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(DocumentCollectionManager manager) {
+            this.manager = manager;
+        }
+
+        /**
+         * Limits the number of cached entities of each collection, the entities of all its results
+         *
+         * @param maximumSize the maximum number of entities per collection
+         * @return this builder
+         * @throws IllegalArgumentException when maximumSize is not positive
+         */
+        public Builder withMaximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+            }
+            this.maximum = maximumSize;
+            this.weigher = entity -> 1L;
+            return this;
+        }
+
+        /**
+         * Limits the sum of the weights of the cached entities of each collection, e.g. their size in bytes
+         *
+         * @param maximumWeight the maximum weight per collection
+         * @param weigher       the weight of an entity
+         * @return this builder
+         * @throws NullPointerException     when weigher is null
+         * @throws IllegalArgumentException when maximumWeight is not positive
+         */
+        public Builder withMaximumWeight(long maximumWeight, ToLongFunction<? super DocumentEntity> weigher) {
+            Objects.requireNonNull(weigher, "weigher is required");
+            if (maximumWeight <= 0) {
+                throw new IllegalArgumentException("The maximum weight must be positive: " + maximumWeight);
+            }
+            this.maximum = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Removes a cached result once this time passed since it was read, the upper bound of the staleness to
+         * the writes that do not go through this manager
+         *
+         * @param expireAfterWrite the time to live of the results
+         * @return this builder
+         * @throws NullPointerException     when expireAfterWrite is null
+         * @throws IllegalArgumentException when expireAfterWrite is negative
+         */
+        public Builder withExpireAfterWrite(Duration expireAfterWrite) {
+            Objects.requireNonNull(expireAfterWrite, "expireAfterWrite is required");
+            if (expireAfterWrite.isNegative()) {
+                throw new IllegalArgumentException("The expireAfterWrite cannot be negative: " + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        Builder withTicker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "ticker is required");
+            return this;
+        }
+
+        /**
+         * Creates the query cache
+         *
+         * @return a new {@link QueryCacheDocumentCollectionManager} instance
+         * @throws IllegalStateException when there is neither maximum size nor maximum weight
+         */
+        public QueryCacheDocumentCollectionManager build() {
+            if (maximum <= 0) {
+                throw new IllegalStateException("Either the maximum size or the maximum weight is required");
+            }
+            QueryResultCache<DocumentEntity> cache = new QueryResultCache<>(maximum, weigher,
+                    expireAfterWrite.toNanos(), ticker, DocumentEntity::copy);
+            return new QueryCacheDocumentCollectionManager(manager, cache);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.Sort;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The normalized identity of a query: two queries with the same key return the same result. The key has the collection
+ * or the column family, the condition, the sorts, the skip, the limit and the projection, where the order of the
+ * conditions of an AND or an OR and the order of the projected fields do not matter, and arrays are compared by their
+ * elements.
+ */
+final class QueryKey {
+
+    private static final TypeReference<List<DocumentCondition>> DOCUMENT_CONDITIONS =
+            new TypeReference<List<DocumentCondition>>() {
+            };
+
+    private static final TypeReference<List<ColumnCondition>> COLUMN_CONDITIONS =
+            new TypeReference<List<ColumnCondition>>() {
+            };
+
+    private final String collection;
+
+    private final Object condition;
+
+    private final List<Object> sorts;
+
+    private final long skip;
+
+    private final long limit;
+
+    private final Set<String> projection;
+
+    private final int hashCode;
+
+    private QueryKey(String collection, Object condition, List<Object> sorts, long skip, long limit,
+                     Set<String> projection) {
+        this.collection = collection;
+        this.condition = condition;
+        this.sorts = sorts;
+        this.skip = skip;
+        this.limit = limit;
+        this.projection = projection;
+        this.hashCode = Objects.hash(collection, condition, sorts, skip, limit, projection);
+    }
+
+    String getCollection() {
+        return collection;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryKey that = (QueryKey) o;
+        return hashCode == that.hashCode
+                && skip == that.skip
+                && limit == that.limit
+                && Objects.equals(collection, that.collection)
+                && Objects.equals(condition, that.condition)
+                && Objects.equals(sorts, that.sorts)
+                && Objects.equals(projection, that.projection);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryKey{" +
+                "collection='" + collection + '\'' +
+                ", condition=" + condition +
+                ", sorts=" + sorts +
+                ", skip=" + skip +
+                ", limit=" + limit +
+                ", projection=" + projection +
+                '}';
+    }
+
+    static QueryKey of(DocumentQuery query) {
+        Object condition = query.getCondition().map(QueryKey::normalize).orElse(null);
+        return new QueryKey(query.getDocumentCollection(), condition, normalize(query.getSorts()), query.getSkip(),
+                query.getLimit(), new HashSet<>(query.getDocuments()));
+    }
+
+    static QueryKey of(ColumnQuery query) {
+        Object condition = query.getCondition().map(QueryKey::normalize).orElse(null);
+        return new QueryKey(query.getColumnFamily(), condition, normalize(query.getSorts()), query.getSkip(),
+                query.getLimit(), new HashSet<>(query.getColumns()));
+    }
+
+    private static Object normalize(DocumentCondition condition) {
+        Condition type = condition.getCondition();
+        switch (type) {
+            case AND:
+            case OR:
+                Set<Object> conditions = new HashSet<>();
+                condition.getDocument().get(DOCUMENT_CONDITIONS).forEach(c -> conditions.add(normalize(c)));
+                return Arrays.asList(type, conditions);
+            case NOT:
+                return Arrays.asList(type, normalize(condition.getDocument().get(DocumentCondition.class)));
+            default:
+                return Arrays.asList(type, condition.getDocument().getName(),
+                        normalizeValue(condition.getDocument().get()));
+        }
+    }
+
+    private static Object normalize(ColumnCondition condition) {
+        Condition type = condition.getCondition();
+        switch (type) {
+            case AND:
+            case OR:
+                Set<Object> conditions = new HashSet<>();
+                condition.getColumn().get(COLUMN_CONDITIONS).forEach(c -> conditions.add(normalize(c)));
+                return Arrays.asList(type, conditions);
+            case NOT:
+                return Arrays.asList(type, normalize(condition.getColumn().get(ColumnCondition.class)));
+            default:
+                return Arrays.asList(type, condition.getColumn().getName(),
+                        normalizeValue(condition.getColumn().get()));
+        }
+    }
+
+    private static List<Object> normalize(List<Sort> sorts) {
+        return sorts.stream()
+                .map(sort -> Arrays.<Object>asList(sort.getName(), sort.getType()))
+                .collect(toList());
+    }
+
+    private static Object normalizeValue(Object value) {
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> values = new ArrayList<>(length);
+            for (int index = 0; index < length; index++) {
+                values.add(normalizeValue(Array.get(value, index)));
+            }
+            return values;
+        }
+        if (value instanceof Iterable && !(value instanceof List)) {
+            List<Object> values = new ArrayList<>();
+            ((Iterable<?>) value).forEach(v -> values.add(normalizeValue(v)));
+            return values;
+        }
+        return value;
+    }
+}
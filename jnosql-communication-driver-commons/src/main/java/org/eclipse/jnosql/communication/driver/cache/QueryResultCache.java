@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * The materialized results of the queries, grouped by collection. Each collection has its own budget, the sum of
+ * the weights of the entities of its results, and it removes the least recently used results to keep under it.
+ * The cached lists are never handed out, the callers get copies of the entities.
+ * A collection has a generation that every invalidation increments: a result read before an invalidation is
+ * not cached after it, thus a select that races with a write never caches the data before the write.
+ *
+ * @param <E> the entity type
+ */
+final class QueryResultCache<E> {
+
+    private final Map<String, Segment<E>> segments = new ConcurrentHashMap<>();
+
+    private final long maximumWeight;
+
+    private final ToLongFunction<? super E> weigher;
+
+    private final long expireNanos;
+
+    private final LongSupplier ticker;
+
+    private final UnaryOperator<E> copy;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    QueryResultCache(long maximumWeight, ToLongFunction<? super E> weigher, long expireNanos, LongSupplier ticker,
+                     UnaryOperator<E> copy) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.expireNanos = expireNanos;
+        this.ticker = ticker;
+        this.copy = copy;
+    }
+
+    /**
+     * @return copies of the cached result, or null when it is not cached or it is expired
+     */
+    List<E> get(QueryKey key) {
+        Segment<E> segment = segments.get(key.getCollection());
+        List<E> entities = segment == null ? null : segment.get(key, ticker.getAsLong(), expireNanos);
+        if (entities == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        List<E> copies = new ArrayList<>(entities.size());
+        entities.forEach(entity -> copies.add(copy.apply(entity)));
+        return copies;
+    }
+
+    /**
+     * @return the generation of the collection, to give back on {@link #put(QueryKey, List, long)}
+     */
+    long stamp(String collection) {
+        return segmentOf(collection).generation;
+    }
+
+    /**
+     * Caches copies of the result unless the collection was invalidated since the stamp or the result is heavier
+     * than the budget
+     */
+    void put(QueryKey key, List<E> entities, long stamp) {
+        long weight = 0L;
+        List<E> copies = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            weight += weigher.applyAsLong(entity);
+            copies.add(copy.apply(entity));
+        }
+        if (weight > maximumWeight) {
+            return;
+        }
+        evictions.add(segmentOf(key.getCollection()).put(key, new Entry<>(copies, weight, ticker.getAsLong()),
+                stamp, maximumWeight));
+    }
+
+    void invalidate(String collection) {
+        segmentOf(collection).clear();
+    }
+
+    void invalidateAll() {
+        segments.values().forEach(Segment::clear);
+    }
+
+    long size() {
+        return segments.values().stream().mapToLong(Segment::size).sum();
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment<E> segmentOf(String collection) {
+        return segments.computeIfAbsent(collection, c -> new Segment<>());
+    }
+
+    @Override
+    public String toString() {
+        return "QueryResultCache{" +
+                "collections=" + segments.size() +
+                ", maximumWeight=" + maximumWeight +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                '}';
+    }
+
+    private static final class Entry<E> {
+
+        private final List<E> entities;
+
+        private final long weight;
+
+        private final long writeTime;
+
+        private Entry(List<E> entities, long weight, long writeTime) {
+            this.entities = entities;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+    }
+
+    private static final class Segment<E> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final LinkedHashMap<QueryKey, Entry<E>> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+        private volatile long generation;
+
+        private long weight;
+
+        private List<E> get(QueryKey key, long now, long expireNanos) {
+            lock.lock();
+            try {
+                Entry<E> entry = entries.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                if (expireNanos > 0 && now - entry.writeTime >= expireNanos) {
+                    entries.remove(key);
+                    weight -= entry.weight;
+                    return null;
+                }
+                return entry.entities;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long put(QueryKey key, Entry<E> entry, long stamp, long maximumWeight) {
+            lock.lock();
+            try {
+                if (generation != stamp) {
+                    return 0L;
+                }
+                Entry<E> previous = entries.put(key, entry);
+                weight += entry.weight - (previous == null ? 0L : previous.weight);
+                long evicted = 0L;
+                Iterator<Entry<E>> iterator = entries.values().iterator();
+                while (weight > maximumWeight && iterator.hasNext()) {
+                    Entry<E> eldest = iterator.next();
+                    if (eldest == entry) {
+                        continue;
+                    }
+                    iterator.remove();
+                    weight -= eldest.weight;
+                    evicted++;
+                }
+                return evicted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                generation++;
+                entries.clear();
+                weight = 0L;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shares one call among the concurrent callers of the same key: the first caller runs it, the callers that arrive
+ * while it runs wait for its result instead of running it again. Nothing is kept once the call finishes.
+ * The calls in flight are kept in stripes of {@link ConcurrentHashMap}, picked by the key hash, so callers of
+ * different keys rarely touch the same map.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>>[] stripes;
+
+    private final int mask;
+
+    private final LongAdder coalesced = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    SingleFlight(int concurrency) {
+        int size = Integer.highestOneBit(Math.max(2, concurrency) - 1) << 1;
+        this.stripes = new Map[size];
+        for (int index = 0; index < size; index++) {
+            stripes[index] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Runs the call, or waits for the one in flight of the same key
+     *
+     * @param key   the key
+     * @param call  the call
+     * @param share what each caller, the one that ran the call included, gets from the shared result, e.g. a copy
+     *              of mutable results, thus no caller changes the result that another one reads
+     * @return the result
+     */
+    V execute(K key, Supplier<V> call, UnaryOperator<V> share) {
+        Map<K, CompletableFuture<V>> stripe = stripeOf(key);
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = stripe.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return share.apply(await(running));
+        }
+        try {
+            V value = call.get();
+            flight.complete(value);
+            return share.apply(value);
+        } catch (RuntimeException | Error exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            stripe.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches the call in flight of the key, e.g. after a write, thus the next caller runs a new call and a read
+     * that starts after a write never gets a result read before it
+     */
+    void forget(K key) {
+        stripeOf(key).remove(key);
+    }
+
+    /**
+     * Detaches the calls in flight whose keys match the predicate
+     */
+    void forgetIf(Predicate<? super K> predicate) {
+        for (Map<K, CompletableFuture<V>> stripe : stripes) {
+            stripe.keySet().removeIf(predicate);
+        }
+    }
+
+    /**
+     * @return the number of callers that waited for a call in flight instead of running it
+     */
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private Map<K, CompletableFuture<V>> stripeOf(K key) {
+        return stripes[FrequencySketch.spread(key.hashCode()) & mask];
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight{" +
+                "stripes=" + stripes.length +
+                ", coalesced=" + coalesced.sum() +
+                '}';
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link BucketManager} of two tiers: the first one, L1, is an in-process data grid, e.g. an embedded Hazelcast
+ * or Infinispan bucket, and the second one, L2, is the remote database, e.g. Redis or DynamoDB. The reads go to
+ * L1 first and a miss is loaded from L2 and put into L1. The writes and the deletes go to L2 first, then L1 is
+ * either written or invalidated, see {@link TieredWritePolicy}; when L2 fails, the key is removed from L1.
+ * Unlike {@link NearCacheBucketManager}, this manager keeps no local state: the eviction is the one configured on
+ * the L1 grid, plus the expiration of this builder, and since the puts and removes of a clustered grid reach all
+ * its members, a write on a node invalidates the entry of every node. The values written to L2 by other
+ * applications are seen once the L1 entry expires.
+ * A fill from L2 and a write-through carry a stamp taken before they reach L2, and every write of this instance
+ * changes the stamp of its key, thus a value read or written before a concurrent write never overrides that write
+ * on L1, the late one is either skipped or turned into an invalidation.
+ * L1 holds the values as they are read from L2, {@link Value#get()}, or as the value type of the builder, e.g.
+ * when L2 returns JSON text and L1 holds objects. A failure of L1 is logged and the read goes to L2.
+ * <pre>{@code
+ * BucketManager manager = TieredBucketManager.builder(hazelcast.getBucketManager("heroes"),
+ *         redis.getBucketManager("heroes"))
+ *         .withWritePolicy(TieredWritePolicy.WRITE_AROUND)
+ *         .withExpireAfterWrite(Duration.ofMinutes(5))
+ *         .withValueType(Hero.class)
+ *         .build();
+ * }</pre>
+ */
+public final class TieredBucketManager implements BucketManager {
+
+    private static final Logger LOGGER = Logger.getLogger(TieredBucketManager.class.getName());
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final BucketManager first;
+
+    private final BucketManager second;
+
+    private final TieredWritePolicy writePolicy;
+
+    private final Duration expireAfterWrite;
+
+    private final Class<?> valueType;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final Object[] locks = new Object[STAMP_STRIPES];
+
+    private TieredBucketManager(Builder builder) {
+        for (int index = 0; index < STAMP_STRIPES; index++) {
+            locks[index] = new Object();
+        }
+        this.first = builder.first;
+        this.second = builder.second;
+        this.writePolicy = builder.writePolicy;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.valueType = builder.valueType;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        KeyValueEntity entity = KeyValueEntity.of(key, value);
+        write(Collections.singletonList(entity), Duration.ZERO, () -> second.put(key, value));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        write(Collections.singletonList(entity), Duration.ZERO, () -> second.put(entity));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        write(Collections.singletonList(entity), ttl, () -> second.put(entity, ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = Iterables.toList(entities);
+        write(values, Duration.ZERO, () -> second.put(values));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<KeyValueEntity> values = Iterables.toList(entities);
+        write(values, ttl, () -> second.put(values, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        Optional<Value> value = read(key);
+        if (value.isPresent()) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        return load(key);
+    }
+
+    /**
+     * Returns the L1 values and forwards only the missed keys to L2. The {@link BucketManager} returns the values
+     * without their keys, so the values of a batch of misses are not put into L1; a single miss is read with
+     * {@link BucketManager#get(Object)} and put into L1.
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        List<K> missed = new ArrayList<>();
+        for (K key : keys) {
+            Optional<Value> value = read(key);
+            if (value.isPresent()) {
+                hits.increment();
+                values.add(value.get());
+            } else {
+                misses.increment();
+                missed.add(key);
+            }
+        }
+        if (missed.size() == 1) {
+            load(missed.get(0)).ifPresent(values::add);
+        } else if (!missed.isEmpty()) {
+            second.get(missed).forEach(values::add);
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        try {
+            second.delete(key);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = Iterables.toList(keys);
+        try {
+            second.delete(values);
+        } finally {
+            values.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * @return the number of reads served by L1
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of reads that went to L2
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void close() {
+        try {
+            first.close();
+        } finally {
+            second.close();
+        }
+    }
+
+    /**
+     * Writes to L2, then either writes or invalidates the entities on L1. The entities are grouped by stripe, so
+     * the entities of a batch that share a stripe are checked against one stamp instead of against each other.
+     */
+    private void write(List<KeyValueEntity> entities, Duration ttl, Runnable call) {
+        Map<Integer, List<KeyValueEntity>> stripes = new LinkedHashMap<>();
+        for (KeyValueEntity entity : entities) {
+            stripes.computeIfAbsent(stripe(entity.getKey()), stripe -> new ArrayList<>()).add(entity);
+        }
+        long[] taken = new long[STAMP_STRIPES];
+        stripes.keySet().forEach(stripe -> taken[stripe] = stamps.get(stripe));
+        boolean written = false;
+        try {
+            call.run();
+            written = true;
+        } finally {
+            for (Map.Entry<Integer, List<KeyValueEntity>> entry : stripes.entrySet()) {
+                if (written && writePolicy == TieredWritePolicy.WRITE_THROUGH) {
+                    writeThrough(entry.getKey(), entry.getValue(), ttl, taken[entry.getKey()]);
+                } else {
+                    entry.getValue().forEach(entity -> invalidate(entity.getKey()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts the written values of a stripe into L1 unless another write of the stripe ran since the stamp was taken,
+     * then the order of the writes on L2 is unknown and the keys are removed instead
+     */
+    private void writeThrough(int stripe, List<KeyValueEntity> entities, Duration ttl, long stamp) {
+        synchronized (locks[stripe]) {
+            if (stamps.compareAndSet(stripe, stamp, stamp + 1)) {
+                entities.forEach(entity -> cache(entity.getKey(), entity.getValue(), ttl));
+            } else {
+                entities.forEach(entity -> invalidate(entity.getKey()));
+            }
+        }
+    }
+
+    private <K> Optional<Value> read(K key) {
+        try {
+            return first.get(key);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "Error to read the key " + key + " from the first tier", exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the key from L2 and puts it into L1 unless a write of the key ran since the stamp was taken
+     */
+    private <K> Optional<Value> load(K key) {
+        int stripe = stripe(key);
+        long stamp = stamps.get(stripe);
+        Optional<Value> value = second.get(key);
+        if (value.isPresent()) {
+            Object loaded = valueType == null ? value.get().get() : value.get().get(valueType);
+            synchronized (locks[stripe]) {
+                if (stamps.get(stripe) == stamp) {
+                    cache(key, loaded, Duration.ZERO);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Puts the value into L1 with the lowest expiration, removing the key when it fails
+     */
+    private void cache(Object key, Object value, Duration ttl) {
+        try {
+            Duration expiration = lowest(ttl, expireAfterWrite);
+            if (expiration.isZero()) {
+                first.put(key, value);
+            } else {
+                first.put(KeyValueEntity.of(key, value), expiration);
+            }
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "Error to write the key " + key + " to the first tier", exception);
+            invalidate(key);
+        }
+    }
+
+    private void invalidate(Object key) {
+        int stripe = stripe(key);
+        synchronized (locks[stripe]) {
+            stamps.incrementAndGet(stripe);
+            try {
+                first.delete(key);
+            } catch (RuntimeException exception) {
+                LOGGER.log(Level.WARNING, "Error to remove the key " + key + " from the first tier, it might be stale",
+                        exception);
+            }
+        }
+    }
+
+    private static int stripe(Object key) {
+        return FrequencySketch.spread(key.hashCode()) & (STAMP_STRIPES - 1);
+    }
+
+    private static Duration lowest(Duration ttl, Duration expireAfterWrite) {
+        if (ttl.isZero()) {
+            return expireAfterWrite;
+        }
+        if (expireAfterWrite.isZero()) {
+            return ttl;
+        }
+        return ttl.compareTo(expireAfterWrite) < 0 ? ttl : expireAfterWrite;
+    }
+
+    /**
+     * Creates a {@link Builder}
+     *
+     * @param first  the first tier, L1, e.g. an embedded data grid
+     * @param second the second tier, L2, e.g. a remote database
+     * @return a new {@link Builder} instance
+     * @throws NullPointerException when either first or second is null
+     */
+    public static Builder builder(BucketManager first, BucketManager second) {
+        Objects.requireNonNull(first, "first is required");
+        Objects.requireNonNull(second, "second is required");
+        return new Builder(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return "TieredBucketManager{" +
+                "first=" + first +
+                ", second=" + second +
+                ", writePolicy=" + writePolicy +
+                ", expireAfterWrite=" + expireAfterWrite +
+                '}';
+    }
+
+    /**
+     * The builder to {@link TieredBucketManager}
+     */
+    public static final class Builder {
+
+        private final BucketManager first;
+
+        private final BucketManager second;
+
+        private TieredWritePolicy writePolicy = TieredWritePolicy.WRITE_THROUGH;
+
+        private Duration expireAfterWrite = Duration.ZERO;
+
+        private Class<?> valueType;
+
+        private Builder(BucketManager first, BucketManager second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        /**
+         * Defines how L1 is handled on a write, by default {@link TieredWritePolicy#WRITE_THROUGH}
+         *
+         * @param writePolicy the write policy
+         * @return this builder
+         * @throws NullPointerException when writePolicy is null
+         */
+        public Builder withWritePolicy(TieredWritePolicy writePolicy) {
+            this.writePolicy = Objects.requireNonNull(writePolicy, "writePolicy is required");
+            return this;
+        }
+
+        /**
+         * Defines the time to live of the L1 entries, the grid removes them once it passed; by default they live
+         * until the grid evicts them or the key is written. A put with a lower TTL keeps its own.
+         *
+         * @param expireAfterWrite the time to live of the L1 entries
+         * @return this builder
+         * @throws NullPointerException     when expireAfterWrite is null
+         * @throws IllegalArgumentException when expireAfterWrite is negative
+         */
+        public Builder withExpireAfterWrite(Duration expireAfterWrite) {
+            Objects.requireNonNull(expireAfterWrite, "expireAfterWrite is required");
+            if (expireAfterWrite.isNegative()) {
+                throw new IllegalArgumentException("The expireAfterWrite cannot be negative: " + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Defines the type the L2 values are converted to before they are put into L1
+         *
+         * @param valueType the value type
+         * @return this builder
+         * @throws NullPointerException when valueType is null
+         */
+        public Builder withValueType(Class<?> valueType) {
+            this.valueType = Objects.requireNonNull(valueType, "valueType is required");
+            return this;
+        }
+
+        /**
+         * Creates the tiered manager
+         *
+         * @return a new {@link TieredBucketManager} instance
+         */
+        public TieredBucketManager build() {
+            return new TieredBucketManager(this);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+/**
+ * How a {@link TieredBucketManager} handles the first tier on a write, the second tier is always written first.
+ */
+public enum TieredWritePolicy {
+
+    /**
+     * Writes the value to the first tier as well, thus the next read is a hit; for keys that are read soon after
+     * they are written
+     */
+    WRITE_THROUGH,
+
+    /**
+     * Removes the key from the first tier, thus the next read loads it from the second tier; for keys that are
+     * written more than they are read
+     */
+    WRITE_AROUND
+}
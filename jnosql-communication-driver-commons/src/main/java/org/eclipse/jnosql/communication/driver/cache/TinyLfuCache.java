@@ -0,0 +1,391 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded local cache with the W-TinyLFU policy: a small LRU window, 1% of the maximum, admits the new entries,
+ * then a candidate that leaves the window only enters the main segmented LRU when the {@link FrequencySketch}
+ * says it is read more often than the victim it would evict. Thus, a scan of keys read once does not flush the hot
+ * keys away.
+ * The reads are lock-free on a {@link ConcurrentHashMap}; the policy is kept under a lock that the reads only try,
+ * skipping the bookkeeping of an access when the lock is busy.
+ * A fill carries the stamp taken before the value was loaded, and an invalidation changes the stamp, so a value
+ * loaded before a write never overrides the invalidation of that write.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class TinyLfuCache<K, V> {
+
+    private static final int STAMP_STRIPES = 256;
+
+    private static final int WINDOW = 0;
+
+    private static final int PROBATION = 1;
+
+    private static final int PROTECTED = 2;
+
+    private final ConcurrentHashMap<Object, Node<K, V>> data = new ConcurrentHashMap<>();
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final FrequencySketch sketch = new FrequencySketch();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final ToLongFunction<? super V> weigher;
+
+    private final long maximum;
+
+    private final long windowMaximum;
+
+    private final long protectedMaximum;
+
+    private final long expireNanos;
+
+    private final LongSupplier ticker;
+
+    private final Node<K, V>[] heads;
+
+    private final long[] weights = new long[3];
+
+    TinyLfuCache(long maximum, ToLongFunction<? super V> weigher, long expireNanos, LongSupplier ticker) {
+        this.maximum = maximum;
+        this.weigher = weigher;
+        this.expireNanos = expireNanos;
+        this.ticker = ticker;
+        this.windowMaximum = Math.max(1L, maximum / 100);
+        this.protectedMaximum = (long) ((maximum - windowMaximum) * 0.8D);
+        this.heads = newHeads();
+    }
+
+    /**
+     * Returns the live node and records the access, null when there is no entry or it is expired
+     */
+    Node<K, V> get(Object key) {
+        Node<K, V> node = data.get(key);
+        long now = ticker.getAsLong();
+        if (node != null && isExpired(node, now)) {
+            remove(node);
+            node = null;
+        }
+        if (node == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(FrequencySketch.spread(key.hashCode()));
+                if (node != null && node.queue >= 0) {
+                    onAccess(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node;
+    }
+
+    /**
+     * The stamp to take before loading a value of this key
+     */
+    long stamp(Object key) {
+        return stamps.get(stripe(key));
+    }
+
+    /**
+     * Adds the value unless the key was invalidated after the stamp was taken or it weighs more than the maximum
+     */
+    boolean put(K key, V value, long stamp) {
+        long weight = weigher.applyAsLong(value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("The weight cannot be negative: " + weight);
+        }
+        if (weight > maximum) {
+            return false;
+        }
+        Node<K, V> node = new Node<>(key, value, weight, ticker.getAsLong());
+        lock.lock();
+        try {
+            if (stamps.get(stripe(key)) != stamp) {
+                return false;
+            }
+            Node<K, V> previous = data.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            sketch.ensureCapacity(data.size());
+            link(node, WINDOW);
+            evict();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidate(Object key) {
+        lock.lock();
+        try {
+            stamps.incrementAndGet(stripe(key));
+            Node<K, V> node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        lock.lock();
+        try {
+            for (int index = 0; index < STAMP_STRIPES; index++) {
+                stamps.incrementAndGet(index);
+            }
+            for (Node<K, V> node : data.values()) {
+                unlink(node);
+            }
+            data.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long size() {
+        return data.size();
+    }
+
+    long weightedSize() {
+        lock.lock();
+        try {
+            return weights[WINDOW] + weights[PROBATION] + weights[PROTECTED];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    long now() {
+        return ticker.getAsLong();
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return expireNanos > 0 && now - node.writeTime >= expireNanos;
+    }
+
+    private void remove(Node<K, V> node) {
+        lock.lock();
+        try {
+            if (data.remove(node.key, node)) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == PROBATION) {
+            unlink(node);
+            link(node, PROTECTED);
+            while (weights[PROTECTED] > protectedMaximum) {
+                Node<K, V> demoted = heads[PROTECTED].next;
+                unlink(demoted);
+                link(demoted, PROBATION);
+            }
+        } else {
+            int queue = node.queue;
+            unlink(node);
+            link(node, queue);
+        }
+    }
+
+    private void evict() {
+        long mainMaximum = maximum - windowMaximum;
+        while (weights[WINDOW] > windowMaximum) {
+            Node<K, V> candidate = heads[WINDOW].next;
+            unlink(candidate);
+            if (!admit(candidate, mainMaximum)) {
+                data.remove(candidate.key, candidate);
+                evictions.increment();
+                continue;
+            }
+            link(candidate, PROBATION);
+        }
+        while (total() > maximum) {
+            Node<K, V> victim = first(PROBATION, PROTECTED, WINDOW);
+            unlink(victim);
+            data.remove(victim.key, victim);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Makes room in the main segment to the candidate when its frequency is higher than the victims' one
+     */
+    private boolean admit(Node<K, V> candidate, long mainMaximum) {
+        if (candidate.weight > mainMaximum) {
+            return false;
+        }
+        int frequency = sketch.frequency(FrequencySketch.spread(candidate.key.hashCode()));
+        while (weights[PROBATION] + weights[PROTECTED] + candidate.weight > mainMaximum) {
+            Node<K, V> victim = first(PROBATION, PROTECTED);
+            if (frequency <= sketch.frequency(FrequencySketch.spread(victim.key.hashCode()))) {
+                return false;
+            }
+            unlink(victim);
+            data.remove(victim.key, victim);
+            evictions.increment();
+        }
+        return true;
+    }
+
+    private Node<K, V> first(int... queues) {
+        for (int queue : queues) {
+            if (heads[queue].next != heads[queue]) {
+                return heads[queue].next;
+            }
+        }
+        throw new IllegalStateException("There is no entry to evict");
+    }
+
+    private long total() {
+        return weights[WINDOW] + weights[PROBATION] + weights[PROTECTED];
+    }
+
+    private void link(Node<K, V> node, int queue) {
+        Node<K, V> head = heads[queue];
+        node.queue = queue;
+        node.next = head;
+        node.previous = head.previous;
+        head.previous.next = node;
+        head.previous = node;
+        weights[queue] += node.weight;
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.queue < 0) {
+            return;
+        }
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        node.next = null;
+        node.previous = null;
+        weights[node.queue] -= node.weight;
+        node.queue = -1;
+    }
+
+    private static int stripe(Object key) {
+        return FrequencySketch.spread(key.hashCode()) & (STAMP_STRIPES - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] newHeads() {
+        Node<K, V>[] heads = new Node[3];
+        for (int queue = 0; queue < heads.length; queue++) {
+            Node<K, V> head = new Node<>(null, null, 0L, 0L);
+            head.next = head;
+            head.previous = head;
+            heads[queue] = head;
+        }
+        return heads;
+    }
+
+    @Override
+    public String toString() {
+        return "TinyLfuCache{" +
+                "size=" + data.size() +
+                ", maximum=" + maximum +
+                '}';
+    }
+
+    /**
+     * A cache entry, the links and the queue are guarded by the cache lock
+     */
+    static final class Node<K, V> {
+
+        private final K key;
+
+        private final V value;
+
+        private final long weight;
+
+        private final long writeTime;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private int queue = -1;
+
+        private Node<K, V> previous;
+
+        private Node<K, V> next;
+
+        Node(K key, V value, long weight, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+        }
+
+        K getKey() {
+            return key;
+        }
+
+        V getValue() {
+            return value;
+        }
+
+        long getWriteTime() {
+            return writeTime;
+        }
+
+        /**
+         * Marks the node as being refreshed, it returns false when another thread already did it
+         */
+        boolean startRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+
+        void endRefresh() {
+            refreshing.set(false);
+        }
+    }
+}
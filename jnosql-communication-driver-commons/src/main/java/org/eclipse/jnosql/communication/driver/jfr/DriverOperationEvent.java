@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * The Java Flight Recorder event of a driver operation, its duration is the time of the operation.
+ * The event is disabled-cheap: when the recording does not take it, {@link DriverOperationEvent#end} neither
+ * sets the fields nor calls the native query supplier.
+ * <pre>{@code
+ * DriverOperationEvent event = DriverOperationEvent.start();
+ * try {
+ *     ...
+ * } finally {
+ *     event.end("arangodb", DriverOperationEvent.SELECT, collection, 0, () -> aql);
+ * }
+ * }</pre>
+ */
+@Name("org.eclipse.jnosql.DriverOperation")
+@Label("Driver Operation")
+@Description("An operation of a JNoSQL driver")
+@Category({"JNoSQL", "Driver"})
+@StackTrace(false)
+public final class DriverOperationEvent extends Event {
+
+    public static final String INSERT = "insert";
+
+    public static final String UPDATE = "update";
+
+    public static final String DELETE = "delete";
+
+    public static final String SELECT = "select";
+
+    public static final String COUNT = "count";
+
+    public static final String QUERY = "query";
+
+    public static final String PUT = "put";
+
+    public static final String GET = "get";
+
+    @Label("Driver")
+    private String driver;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Name")
+    @Description("The collection, column family or bucket")
+    private String name;
+
+    @Label("Entity Count")
+    @Description("The number of entities written or read, zero when it is unknown e.g. a lazy stream")
+    private long entityCount;
+
+    @Label("Native Query")
+    private String nativeQuery;
+
+    /**
+     * Creates and begins an event
+     *
+     * @return the event
+     */
+    public static DriverOperationEvent start() {
+        DriverOperationEvent event = new DriverOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it when the recording takes it
+     *
+     * @param driver      the driver name
+     * @param operation   the operation
+     * @param name        the collection, column family or bucket
+     * @param entityCount the number of entities written or read
+     */
+    public void end(String driver, String operation, String name, long entityCount) {
+        end(driver, operation, name, entityCount, null);
+    }
+
+    /**
+     * Ends the event and commits it when the recording takes it
+     *
+     * @param driver      the driver name
+     * @param operation   the operation
+     * @param name        the collection, column family or bucket
+     * @param entityCount the number of entities written or read
+     * @param nativeQuery the native query, called only when the event is committed, it might be null
+     */
+    public void end(String driver, String operation, String name, long entityCount,
+                    Supplier<String> nativeQuery) {
+        end();
+        if (shouldCommit()) {
+            this.driver = driver;
+            this.operation = operation;
+            this.name = name;
+            this.entityCount = entityCount;
+            this.nativeQuery = nativeQuery == null ? null : nativeQuery.get();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.limit;
+
+import jakarta.nosql.CommunicationException;
+import org.eclipse.jnosql.communication.driver.metrics.MetricsSink;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Limits the calls in flight to a database with a limit that follows its latency, in the TCP Vegas style: the
+ * limit grows while the latency of a call stays close to the long-term one and shrinks as the latency rises,
+ * thus a degraded database gets fewer calls instead of thousands of waiting threads.
+ * Each completed call updates the limit with the gradient between the long-term latency, a moving average, and
+ * its own one: {@code limit = limit * gradient + sqrt(limit)}, where the gradient is bounded between 0.5 and 1
+ * and the square root is the room to grow, then the new limit is smoothed and bounded by the minimum and
+ * maximum limits. The limit does not change while less than half of it is in use, since the latency then
+ * says nothing about it. A call beyond the limit waits for the maximum wait, zero by default, then it is
+ * rejected with {@link LimitExceededException}. Each new limit is published to the {@link MetricsSink} as the
+ * {@code limit} gauge of the limiter name.
+ * A limiter is shared by all the managers of the same database, e.g. with {@link LimitedBucketManager}.
+ * <pre>{@code
+ * AdaptiveLimiter limiter = AdaptiveLimiter.builder("redis")
+ *         .withLimit(20, 1, 200)
+ *         .withMaximumWait(Duration.ofMillis(50))
+ *         .build();
+ * BucketManager manager = LimitedBucketManager.of(factory.getBucketManager("heroes"), limiter);
+ * }</pre>
+ */
+public final class AdaptiveLimiter {
+
+    /**
+     * The name of the gauge published to the {@link MetricsSink}
+     */
+    public static final String LIMIT_GAUGE = "limit";
+
+    private static final double MIN_GRADIENT = 0.5D;
+
+    private static final double RECOVERY = 0.95D;
+
+    private final String name;
+
+    private final int minimumLimit;
+
+    private final int maximumLimit;
+
+    private final double tolerance;
+
+    private final double smoothing;
+
+    private final int window;
+
+    private final long maximumWait;
+
+    private final MetricsSink sink;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+
+    private double estimatedLimit;
+
+    private double longLatency;
+
+    private AdaptiveLimiter(Builder builder) {
+        this.name = builder.name;
+        this.minimumLimit = builder.minimumLimit;
+        this.maximumLimit = builder.maximumLimit;
+        this.tolerance = builder.tolerance;
+        this.smoothing = builder.smoothing;
+        this.window = builder.window;
+        this.maximumWait = builder.maximumWait.toNanos();
+        this.sink = builder.sink;
+        this.limit = builder.initialLimit;
+        this.estimatedLimit = builder.initialLimit;
+        sink.gauge(name, LIMIT_GAUGE, limit);
+    }
+
+    /**
+     * Runs the call within the limit and samples its latency, the exceptions are sampled as well
+     *
+     * @param call the call
+     * @param <T>  the result type
+     * @return the result of the call
+     * @throws NullPointerException   when call is null
+     * @throws LimitExceededException when the limit is still reached after the maximum wait
+     */
+    public <T> T call(Supplier<T> call) {
+        Objects.requireNonNull(call, "call is required");
+        int started = acquire();
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            long latency = System.nanoTime() - start;
+            release();
+            onSample(latency, started);
+        }
+    }
+
+    /**
+     * Runs the call within the limit and samples its latency, the exceptions are sampled as well
+     *
+     * @param call the call
+     * @throws NullPointerException   when call is null
+     * @throws LimitExceededException when the limit is still reached after the maximum wait
+     */
+    public void run(Runnable call) {
+        Objects.requireNonNull(call, "call is required");
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return the limiter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the current limit of calls in flight
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of calls in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of rejected calls
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private int acquire() {
+        int started = tryAcquire();
+        if (started > 0) {
+            return started;
+        }
+        if (maximumWait > 0L) {
+            started = await();
+            if (started > 0) {
+                return started;
+            }
+        }
+        rejected.increment();
+        throw new LimitExceededException("The " + name + " limiter reached its limit of " + limit
+                + " calls in flight", limit);
+    }
+
+    private int await() {
+        long remaining = maximumWait;
+        waiting.incrementAndGet();
+        lock.lock();
+        try {
+            int started = tryAcquire();
+            while (started < 0 && remaining > 0L) {
+                remaining = available.awaitNanos(remaining);
+                started = tryAcquire();
+            }
+            return started;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for the " + name + " limiter", exception);
+        } finally {
+            lock.unlock();
+            waiting.decrementAndGet();
+        }
+    }
+
+    private int tryAcquire() {
+        int current = inFlight.get();
+        while (current < limit) {
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+            current = inFlight.get();
+        }
+        return -1;
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        signal(false);
+    }
+
+    private void signal(boolean all) {
+        if (waiting.get() == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (all) {
+                available.signalAll();
+            } else {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the limit with the latency of a call and the calls in flight when it started
+     */
+    void onSample(long latency, int started) {
+        int previous;
+        int current;
+        synchronized (this) {
+            double sample = Math.max(1L, latency);
+            longLatency = longLatency == 0D ? sample : longLatency + (sample - longLatency) / window;
+            if (longLatency / sample > 2D) {
+                longLatency *= RECOVERY;
+            }
+            previous = limit;
+            if (started < previous / 2) {
+                return;
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1D, tolerance * longLatency / sample));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            newLimit = estimatedLimit * (1D - smoothing) + newLimit * smoothing;
+            estimatedLimit = Math.max(minimumLimit, Math.min(maximumLimit, newLimit));
+            current = (int) estimatedLimit;
+            limit = current;
+        }
+        if (current != previous) {
+            sink.gauge(name, LIMIT_GAUGE, current);
+            if (current > previous) {
+                signal(true);
+            }
+        }
+    }
+
+    /**
+     * Creates a {@link Builder}
+     *
+     * @param name the limiter name, used on the published gauge
+     * @return a new {@link Builder} instance
+     * @throws NullPointerException when name is null
+     */
+    public static Builder builder(String name) {
+        return new Builder(Objects.requireNonNull(name, "name is required"));
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveLimiter{" +
+                "name='" + name + '\'' +
+                ", limit=" + limit +
+                ", inFlight=" + inFlight.get() +
+                '}';
+    }
+
+    /**
+     * The builder to {@link AdaptiveLimiter}
+     */
+    public static final class Builder {
+
+        private final String name;
+
+        private int initialLimit = 20;
+
+        private int minimumLimit = 1;
+
+        private int maximumLimit = 1000;
+
+        private double tolerance = 1.5D;
+
+        private double smoothing = 0.2D;
+
+        private int window = 600;
+
+        private Duration maximumWait = Duration.ZERO;
+
+        private MetricsSink sink = MetricsSink.getInstance();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Defines the limits, the same value to all of them makes the limit fixed
+         *
+         * @param initialLimit the limit until there are latencies
+         * @param minimumLimit the lower bound
+         * @param maximumLimit the upper bound
+         * @return this builder
+         * @throws IllegalArgumentException when the minimum limit is not positive or the initial limit is not
+         *                                  between the minimum and the maximum limits
+         */
+        public Builder withLimit(int initialLimit, int minimumLimit, int maximumLimit) {
+            if (minimumLimit <= 0 || initialLimit < minimumLimit || initialLimit > maximumLimit) {
+                throw new IllegalArgumentException("The limits must be 0 < minimum <= initial <= maximum: "
+                        + minimumLimit + " " + initialLimit + " " + maximumLimit);
+            }
+            this.initialLimit = initialLimit;
+            this.minimumLimit = minimumLimit;
+            this.maximumLimit = maximumLimit;
+            return this;
+        }
+
+        /**
+         * Defines how much a latency can exceed the long-term one before the limit shrinks
+         *
+         * @param tolerance the ratio, e.g. 1.5 keeps the limit while the latency is below 1.5 times the long-term one
+         * @return this builder
+         * @throws IllegalArgumentException when tolerance is lower than 1
+         */
+        public Builder withTolerance(double tolerance) {
+            if (tolerance < 1D) {
+                throw new IllegalArgumentException("The tolerance must be at least 1: " + tolerance);
+            }
+            this.tolerance = tolerance;
+            return this;
+        }
+
+        /**
+         * Defines how fast the limit moves to a new value
+         *
+         * @param smoothing the weight of a new value, from 0 exclusive to 1
+         * @return this builder
+         * @throws IllegalArgumentException when smoothing is not greater than 0 and at most 1
+         */
+        public Builder withSmoothing(double smoothing) {
+            if (smoothing <= 0D || smoothing > 1D) {
+                throw new IllegalArgumentException("The smoothing must be greater than 0 and at most 1: "
+                        + smoothing);
+            }
+            this.smoothing = smoothing;
+            return this;
+        }
+
+        /**
+         * Defines the number of latencies of the moving average of the long-term latency
+         *
+         * @param window the number of latencies
+         * @return this builder
+         * @throws IllegalArgumentException when window is not positive
+         */
+        public Builder withWindow(int window) {
+            if (window <= 0) {
+                throw new IllegalArgumentException("The window must be positive: " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Defines how long a call beyond the limit waits for another one to complete, zero rejects it at once
+         *
+         * @param maximumWait the maximum wait
+         * @return this builder
+         * @throws NullPointerException     when maximumWait is null
+         * @throws IllegalArgumentException when maximumWait is negative
+         */
+        public Builder withMaximumWait(Duration maximumWait) {
+            Objects.requireNonNull(maximumWait, "maximumWait is required");
+            if (maximumWait.isNegative()) {
+                throw new IllegalArgumentException("The maximumWait cannot be negative: " + maximumWait);
+            }
+            this.maximumWait = maximumWait;
+            return this;
+        }
+
+        /**
+         * Defines the sink of the limit gauge, by default {@link MetricsSink#getInstance()}
+         *
+         * @param sink the sink
+         * @return this builder
+         * @throws NullPointerException when sink is null
+         */
+        public Builder withSink(MetricsSink sink) {
+            this.sink = Objects.requireNonNull(sink, "sink is required");
+            return this;
+        }
+
+        /**
+         * Creates the limiter
+         *
+         * @return a new {@link AdaptiveLimiter} instance
+         */
+        public AdaptiveLimiter build() {
+            return new AdaptiveLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.limit;
+
+import jakarta.nosql.CommunicationException;
+
+/**
+ * The exception when an {@link AdaptiveLimiter} rejects a call, since the calls in flight reached its limit
+ * and no call completed within the maximum wait.
+ */
+public class LimitExceededException extends CommunicationException {
+
+    private final int limit;
+
+    public LimitExceededException(String message, int limit) {
+        super(message);
+        this.limit = limit;
+    }
+
+    /**
+     * @return the limit when the call was rejected
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.limit;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link BucketManager} whose operations run within an {@link AdaptiveLimiter}, thus an operation beyond the
+ * limit of calls in flight waits or fails with {@link LimitExceededException} instead of reaching the database.
+ * The {@link #get(Iterable)} reads the values within the limit.
+ * <pre>{@code
+ * BucketManager manager = LimitedBucketManager.of(factory.getBucketManager("heroes"), limiter);
+ * }</pre>
+ */
+public final class LimitedBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final AdaptiveLimiter limiter;
+
+    private LimitedBucketManager(BucketManager manager, AdaptiveLimiter limiter) {
+        this.manager = manager;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        limiter.run(() -> manager.put(key, value));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        limiter.run(() -> manager.put(entity));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        limiter.run(() -> manager.put(entity, ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        limiter.run(() -> manager.put(entities));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        limiter.run(() -> manager.put(entities, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        return limiter.call(() -> manager.get(key));
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        return limiter.call(() -> {
+            List<Value> values = new ArrayList<>();
+            manager.get(keys).forEach(values::add);
+            return values;
+        });
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        limiter.run(() -> manager.delete(key));
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        limiter.run(() -> manager.delete(keys));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Creates a {@link LimitedBucketManager}
+     *
+     * @param manager the manager
+     * @param limiter the limiter, usually shared by the managers of the same database
+     * @return a new {@link LimitedBucketManager} instance
+     * @throws NullPointerException when either manager or limiter is null
+     */
+    public static LimitedBucketManager of(BucketManager manager, AdaptiveLimiter limiter) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        return new LimitedBucketManager(manager, limiter);
+    }
+
+    @Override
+    public String toString() {
+        return "LimitedBucketManager{" +
+                "manager=" + manager +
+                ", limiter=" + limiter +
+                '}';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.limit;
+
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ColumnFamilyManager} whose operations run within an {@link AdaptiveLimiter}, thus an operation beyond
+ * the limit of calls in flight waits or fails with {@link LimitExceededException} instead of reaching the database.
+ * The {@link #select(ColumnQuery)} reads the entities within the limit, thus the select of this manager is not lazy.
+ * <pre>{@code
+ * ColumnFamilyManager manager = LimitedColumnFamilyManager.of(factory.get("heroes"), limiter);
+ * }</pre>
+ */
+public final class LimitedColumnFamilyManager implements ColumnFamilyManager {
+
+    private final ColumnFamilyManager manager;
+
+    private final AdaptiveLimiter limiter;
+
+    private LimitedColumnFamilyManager(ColumnFamilyManager manager, AdaptiveLimiter limiter) {
+        this.manager = manager;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        return limiter.call(() -> manager.insert(entity));
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        return limiter.call(() -> manager.insert(entity, ttl));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        return limiter.call(() -> manager.insert(entities));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        return limiter.call(() -> manager.insert(entities, ttl));
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        return limiter.call(() -> manager.update(entity));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        return limiter.call(() -> manager.update(entities));
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        limiter.run(() -> manager.delete(query));
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        List<ColumnEntity> entities = limiter.call(() -> manager.select(query).collect(Collectors.toList()));
+        return entities.stream();
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        return limiter.call(() -> manager.count(columnFamily));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Creates a {@link LimitedColumnFamilyManager}
+     *
+     * @param manager the manager
+     * @param limiter the limiter, usually shared by the managers of the same database
+     * @return a new {@link LimitedColumnFamilyManager} instance
+     * @throws NullPointerException when either manager or limiter is null
+     */
+    public static LimitedColumnFamilyManager of(ColumnFamilyManager manager, AdaptiveLimiter limiter) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        return new LimitedColumnFamilyManager(manager, limiter);
+    }
+
+    @Override
+    public String toString() {
+        return "LimitedColumnFamilyManager{" +
+                "manager=" + manager +
+                ", limiter=" + limiter +
+                '}';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.limit;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentCollectionManager} whose operations run within an {@link AdaptiveLimiter}, thus an operation beyond
+ * the limit of calls in flight waits or fails with {@link LimitExceededException} instead of reaching the database.
+ * The {@link #select(DocumentQuery)} reads the entities within the limit, thus the select of this manager is not lazy.
+ * <pre>{@code
+ * DocumentCollectionManager manager = LimitedDocumentCollectionManager.of(factory.get("heroes"), limiter);
+ * }</pre>
+ */
+public final class LimitedDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final DocumentCollectionManager manager;
+
+    private final AdaptiveLimiter limiter;
+
+    private LimitedDocumentCollectionManager(DocumentCollectionManager manager, AdaptiveLimiter limiter) {
+        this.manager = manager;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        return limiter.call(() -> manager.insert(entity));
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        return limiter.call(() -> manager.insert(entity, ttl));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        return limiter.call(() -> manager.insert(entities));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        return limiter.call(() -> manager.insert(entities, ttl));
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        return limiter.call(() -> manager.update(entity));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        return limiter.call(() -> manager.update(entities));
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        limiter.run(() -> manager.delete(query));
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        List<DocumentEntity> entities = limiter.call(() -> manager.select(query).collect(Collectors.toList()));
+        return entities.stream();
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        return limiter.call(() -> manager.count(documentCollection));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    /**
+     * Creates a {@link LimitedDocumentCollectionManager}
+     *
+     * @param manager the manager
+     * @param limiter the limiter, usually shared by the managers of the same database
+     * @return a new {@link LimitedDocumentCollectionManager} instance
+     * @throws NullPointerException when either manager or limiter is null
+     */
+    public static LimitedDocumentCollectionManager of(DocumentCollectionManager manager, AdaptiveLimiter limiter) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        return new LimitedDocumentCollectionManager(manager, limiter);
+    }
+
+    @Override
+    public String toString() {
+        return "LimitedDocumentCollectionManager{" +
+                "manager=" + manager +
+                ", limiter=" + limiter +
+                '}';
+    }
+}
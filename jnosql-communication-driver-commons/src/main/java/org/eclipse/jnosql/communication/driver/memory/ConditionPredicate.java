@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles a {@link DocumentCondition} tree to a {@link Predicate} of the records, a condition matches a record
+ * when any value of its field does, e.g. an element of a list field.
+ */
+final class ConditionPredicate {
+
+    static final TypeReference<List<DocumentCondition>> CONDITIONS = new TypeReference<List<DocumentCondition>>() {
+    };
+
+    private ConditionPredicate() {
+    }
+
+    static Predicate<Record> of(DocumentCondition condition) {
+        Document document = condition.getDocument();
+        Condition type = condition.getCondition();
+        switch (type) {
+            case EQUALS:
+                return equal(document);
+            case GREATER_THAN:
+                return range(document, result -> result > 0);
+            case GREATER_EQUALS_THAN:
+                return range(document, result -> result >= 0);
+            case LESSER_THAN:
+                return range(document, result -> result < 0);
+            case LESSER_EQUALS_THAN:
+                return range(document, result -> result <= 0);
+            case IN:
+                return in(document);
+            case BETWEEN:
+                return between(document);
+            case LIKE:
+                return like(document);
+            case NOT:
+                return of(document.get(DocumentCondition.class)).negate();
+            case AND:
+                return document.get(CONDITIONS).stream()
+                        .map(ConditionPredicate::of)
+                        .reduce(Predicate::and)
+                        .orElse(record -> true);
+            case OR:
+                return document.get(CONDITIONS).stream()
+                        .map(ConditionPredicate::of)
+                        .reduce(Predicate::or)
+                        .orElse(record -> false);
+            default:
+                throw new UnsupportedOperationException("The in-memory engine does not support the condition: "
+                        + type);
+        }
+    }
+
+    /**
+     * Converts a SQL LIKE pattern, with the % and _ wildcards, to a regular expression
+     */
+    static Pattern like(String value) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char character : value.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static Predicate<Record> equal(Document document) {
+        String field = document.getName();
+        Object raw = document.get();
+        if (raw instanceof Iterable) {
+            List<Object> values = Values.normalizeAll(raw);
+            return record -> record.values(field).equals(values);
+        }
+        Object value = Values.normalize(raw);
+        return record -> record.values(field).stream().anyMatch(current -> Objects.equals(current, value));
+    }
+
+    private static Predicate<Record> range(Document document, IntPredicate result) {
+        String field = document.getName();
+        Object value = Values.normalize(document.get());
+        return record -> record.values(field).stream()
+                .anyMatch(current -> Values.isComparable(current, value)
+                        && result.test(Values.compare(current, value)));
+    }
+
+    private static Predicate<Record> in(Document document) {
+        String field = document.getName();
+        Set<Object> values = new HashSet<>(Values.normalizeAll(document.get()));
+        return record -> record.values(field).stream().anyMatch(values::contains);
+    }
+
+    private static Predicate<Record> between(Document document) {
+        String field = document.getName();
+        List<Object> values = Values.normalizeAll(document.get());
+        if (values.size() != 2) {
+            throw new IllegalArgumentException("The between condition requires two values: " + values);
+        }
+        Object from = values.get(0);
+        Object to = values.get(1);
+        return record -> record.values(field).stream()
+                .anyMatch(current -> Values.isComparable(current, from) && Values.isComparable(current, to)
+                        && Values.compare(current, from) >= 0 && Values.compare(current, to) <= 0);
+    }
+
+    private static Predicate<Record> like(Document document) {
+        String field = document.getName();
+        Pattern pattern = like(String.valueOf(Values.normalize(document.get())));
+        return record -> record.values(field).stream()
+                .anyMatch(current -> current instanceof String && pattern.matcher((String) current).matches());
+    }
+}
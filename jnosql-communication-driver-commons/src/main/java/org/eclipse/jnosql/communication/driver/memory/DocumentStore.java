@@ -0,0 +1,376 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * The records of a document collection by their id and the secondary indexes of its fields.
+ * The writes of an id are serialized by a lock stripe, thus the writers of different ids do not wait for each other,
+ * and the reads have no lock at all. A new index is registered while all the stripes are held, so every write after
+ * it maintains the index, then it is filled with the records that were there before.
+ */
+final class DocumentStore {
+
+    private static final Comparator<Record> SEQUENCE = Comparator.comparingLong(Record::getSequence);
+
+    private final String idName;
+
+    private final boolean automaticIndexes;
+
+    private final LongSupplier ticker;
+
+    private final ConcurrentMap<Object, Record> records = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final ReentrantLock[] locks;
+
+    private final ConcurrentMap<String, Index> hashIndexes = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Index> sortedIndexes = new ConcurrentHashMap<>();
+
+    private final List<Index> indexes = new CopyOnWriteArrayList<>();
+
+    DocumentStore(String idName, boolean automaticIndexes, int concurrency, LongSupplier ticker) {
+        this.idName = idName;
+        this.automaticIndexes = automaticIndexes;
+        this.ticker = ticker;
+        this.locks = new ReentrantLock[concurrency];
+        for (int index = 0; index < concurrency; index++) {
+            locks[index] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Inserts or replaces the entity with the id
+     *
+     * @param id        the normalized id
+     * @param entity    the entity, that is not changed anymore
+     * @param expiresAt the tick when it expires or {@link Long#MAX_VALUE}
+     */
+    void put(Object id, DocumentEntity entity, long expiresAt) {
+        ReentrantLock lock = lockOf(id);
+        lock.lock();
+        try {
+            Record previous = records.get(id);
+            long order = previous == null ? sequence.incrementAndGet() : previous.getSequence();
+            Record record = new Record(order, id, entity, expiresAt);
+            for (Index index : indexes) {
+                index.add(record);
+            }
+            records.put(id, record);
+            if (previous != null) {
+                for (Index index : indexes) {
+                    removeStale(index, previous, record);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds the records that match the condition, in the insertion order
+     *
+     * @param condition the condition or null to all the records
+     * @return the records
+     */
+    List<Record> find(DocumentCondition condition) {
+        long now = ticker.getAsLong();
+        List<Record> result = new ArrayList<>();
+        if (condition == null) {
+            for (Record record : records.values()) {
+                if (isAlive(record, now)) {
+                    result.add(record);
+                }
+            }
+        } else {
+            Predicate<Record> predicate = ConditionPredicate.of(condition);
+            Set<Object> candidates = candidates(condition);
+            Iterable<Record> source = candidates == null ? records.values() : lookup(candidates);
+            for (Record record : source) {
+                if (isAlive(record, now) && predicate.test(record)) {
+                    result.add(record);
+                }
+            }
+        }
+        result.sort(SEQUENCE);
+        return result;
+    }
+
+    /**
+     * Removes the records that match the condition
+     *
+     * @param condition the condition or null to all the records
+     */
+    void delete(DocumentCondition condition) {
+        Predicate<Record> predicate = condition == null ? record -> true : ConditionPredicate.of(condition);
+        for (Record record : find(condition)) {
+            remove(record.getId(), predicate);
+        }
+    }
+
+    long count() {
+        long now = ticker.getAsLong();
+        return records.values().stream().filter(record -> isAlive(record, now)).count();
+    }
+
+    /**
+     * Creates the index when the field does not have it yet
+     */
+    Index createIndex(String field, IndexType type) {
+        ConcurrentMap<String, Index> indexesOfType = type == IndexType.HASH ? hashIndexes : sortedIndexes;
+        Index index = indexesOfType.get(field);
+        if (index != null) {
+            return index;
+        }
+        Index created = Index.of(field, type);
+        lockAll();
+        try {
+            index = indexesOfType.putIfAbsent(field, created);
+            if (index != null) {
+                return index;
+            }
+            indexes.add(created);
+        } finally {
+            unlockAll();
+        }
+        for (Object id : records.keySet()) {
+            ReentrantLock lock = lockOf(id);
+            lock.lock();
+            try {
+                Record record = records.get(id);
+                if (record != null) {
+                    created.add(record);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        created.setReady();
+        return created;
+    }
+
+    /**
+     * @return the ids that might match the condition or null when the whole collection must be scanned
+     */
+    private Set<Object> candidates(DocumentCondition condition) {
+        Document document = condition.getDocument();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                return equal(document.getName(), document.get());
+            case IN:
+                return in(document.getName(), document.get());
+            case GREATER_THAN:
+                return range(document.getName(), document.get(), false, null, false);
+            case GREATER_EQUALS_THAN:
+                return range(document.getName(), document.get(), true, null, false);
+            case LESSER_THAN:
+                return range(document.getName(), null, false, document.get(), false);
+            case LESSER_EQUALS_THAN:
+                return range(document.getName(), null, false, document.get(), true);
+            case BETWEEN:
+                List<Object> values = Values.normalizeAll(document.get());
+                if (values.size() != 2) {
+                    return null;
+                }
+                return range(document.getName(), values.get(0), true, values.get(1), true);
+            case AND:
+                return and(document.get(ConditionPredicate.CONDITIONS));
+            case OR:
+                return or(document.get(ConditionPredicate.CONDITIONS));
+            default:
+                return null;
+        }
+    }
+
+    private Set<Object> equal(String field, Object raw) {
+        if (raw instanceof Iterable) {
+            return null;
+        }
+        Object value = Values.normalize(raw);
+        if (value == null) {
+            return null;
+        }
+        if (idName.equals(field)) {
+            Set<Object> ids = new HashSet<>();
+            ids.add(value);
+            return ids;
+        }
+        return index(field, IndexType.HASH).map(index -> index.equal(value)).orElse(null);
+    }
+
+    private Set<Object> in(String field, Object raw) {
+        List<Object> values = Values.normalizeAll(raw);
+        if (values.contains(null)) {
+            return null;
+        }
+        if (idName.equals(field)) {
+            return new HashSet<>(values);
+        }
+        return index(field, IndexType.HASH).map(index -> {
+            Set<Object> ids = new HashSet<>();
+            values.forEach(value -> ids.addAll(index.equal(value)));
+            return ids;
+        }).orElse(null);
+    }
+
+    private Set<Object> range(String field, Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        Object lower = Values.normalize(from);
+        Object upper = Values.normalize(to);
+        if (lower != null && upper != null && !Values.isComparable(lower, upper)) {
+            return null;
+        }
+        return index(field, IndexType.SORTED)
+                .map(index -> index.range(lower, fromInclusive, upper, toInclusive))
+                .orElse(null);
+    }
+
+    private Set<Object> and(List<DocumentCondition> conditions) {
+        Set<Object> result = null;
+        for (DocumentCondition condition : conditions) {
+            Set<Object> ids = candidates(condition);
+            if (ids == null) {
+                continue;
+            }
+            if (result == null || ids.size() < result.size()) {
+                if (result != null) {
+                    ids.retainAll(result);
+                }
+                result = ids;
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private Set<Object> or(List<DocumentCondition> conditions) {
+        Set<Object> result = new HashSet<>();
+        for (DocumentCondition condition : conditions) {
+            Set<Object> ids = candidates(condition);
+            if (ids == null) {
+                return null;
+            }
+            result.addAll(ids);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a ready index of the field, a sorted index answers the equality as well. When there is no index and
+     * the automatic indexes are enabled, it creates the index.
+     */
+    private Optional<Index> index(String field, IndexType type) {
+        Index index = type == IndexType.HASH ? hashIndexes.get(field) : null;
+        if (index == null) {
+            index = sortedIndexes.get(field);
+        }
+        if (index == null && automaticIndexes) {
+            index = createIndex(field, type);
+        }
+        return Optional.ofNullable(index).filter(Index::isReady);
+    }
+
+    private List<Record> lookup(Set<Object> ids) {
+        List<Record> result = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            Record record = records.get(id);
+            if (record != null) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    private boolean isAlive(Record record, long now) {
+        if (record.isExpired(now)) {
+            remove(record.getId(), current -> current == record);
+            return false;
+        }
+        return true;
+    }
+
+    private void remove(Object id, Predicate<Record> predicate) {
+        ReentrantLock lock = lockOf(id);
+        lock.lock();
+        try {
+            Record record = records.get(id);
+            if (record != null && predicate.test(record)) {
+                records.remove(id);
+                for (Index index : indexes) {
+                    index.remove(record);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void removeStale(Index index, Record previous, Record record) {
+        List<Object> current = record.values(index.getField());
+        for (Object value : previous.values(index.getField())) {
+            if (value != null && !current.contains(value)) {
+                index.remove(value, previous.getId());
+            }
+        }
+    }
+
+    private ReentrantLock lockOf(Object id) {
+        int hash = id.hashCode();
+        hash ^= hash >>> 16;
+        return locks[hash & (locks.length - 1)];
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentStore{" +
+                "size=" + records.size() +
+                ", indexes=" + indexes +
+                '}';
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * An in-memory {@link BucketManager}, the key-value counterpart of {@link InMemoryDocumentCollectionManager}.
+ * The keys are compared as the document ids are, thus 10 and 10L are the same key, and an entry with a TTL is
+ * removed on the first read after it expires.
+ */
+public final class InMemoryBucketManager implements BucketManager {
+
+    private final ConcurrentMap<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongSupplier ticker;
+
+    private InMemoryBucketManager(LongSupplier ticker) {
+        this.ticker = ticker;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        entries.put(Values.normalize(key), new Entry(value, Long.MAX_VALUE));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(entity.getKey(), entity.getValue());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(entity, expiresAt(ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        long expiresAt = expiresAt(ttl);
+        entities.forEach(entity -> put(Objects.requireNonNull(entity, "entity is required"), expiresAt));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        Object id = Values.normalize(key);
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(ticker.getAsLong())) {
+            entries.remove(id, entry);
+            return Optional.empty();
+        }
+        return Optional.of(Value.of(entry.value));
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        for (K key : keys) {
+            get(key).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        entries.remove(Values.normalize(key));
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        keys.forEach(this::delete);
+    }
+
+    /**
+     * Removes all the entries
+     */
+    @Override
+    public void close() {
+        entries.clear();
+    }
+
+    private void put(KeyValueEntity entity, long expiresAt) {
+        Object key = Objects.requireNonNull(entity.getKey(), "key is required");
+        Object value = Objects.requireNonNull(entity.getValue(), "value is required");
+        entries.put(Values.normalize(key), new Entry(value, expiresAt));
+    }
+
+    private long expiresAt(Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl cannot be negative: " + ttl);
+        }
+        return ticker.getAsLong() + ttl.toNanos();
+    }
+
+    /**
+     * Creates an {@link InMemoryBucketManager}
+     *
+     * @return a new {@link InMemoryBucketManager} instance
+     */
+    public static InMemoryBucketManager of() {
+        return new InMemoryBucketManager(System::nanoTime);
+    }
+
+    static InMemoryBucketManager of(LongSupplier ticker) {
+        return new InMemoryBucketManager(Objects.requireNonNull(ticker, "ticker is required"));
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryBucketManager{" +
+                "size=" + entries.size() +
+                '}';
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory {@link DocumentCollectionManager}, the reference engine to test the code above the drivers without
+ * a database. It evaluates the whole {@link DocumentCondition} tree, the sorts, skip, limit and the projection of the
+ * top-level documents.
+ * The equals, in and range conditions use the secondary indexes of their fields, that are created on demand by the
+ * first query that needs them, or ahead with {@link #createIndex(String, String, IndexType)}; the other conditions,
+ * e.g. like and not, scan the collection. The writes are serialized by id in lock stripes and the reads do not lock.
+ * An entity is identified by the id field, "_id" by default: an insert without it generates a random UUID
+ * and an insert with an existing id replaces the entity.
+ */
+public final class InMemoryDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final ConcurrentMap<String, DocumentStore> stores = new ConcurrentHashMap<>();
+
+    private final String idName;
+
+    private final boolean automaticIndexes;
+
+    private final int concurrency;
+
+    private final LongSupplier ticker;
+
+    private InMemoryDocumentCollectionManager(Builder builder) {
+        this.idName = builder.idName;
+        this.automaticIndexes = builder.automaticIndexes;
+        this.concurrency = builder.concurrency;
+        this.ticker = builder.ticker;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return put(entity, Long.MAX_VALUE);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        return put(entity, expiresAt(ttl));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> result = new ArrayList<>();
+        entities.forEach(entity -> result.add(insert(entity)));
+        return result;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        long expiresAt = expiresAt(ttl);
+        List<DocumentEntity> result = new ArrayList<>();
+        entities.forEach(entity -> result.add(put(Objects.requireNonNull(entity, "entity is required"), expiresAt)));
+        return result;
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        if (!entity.find(idName).isPresent()) {
+            throw new IllegalArgumentException("To update an entity it must have the id field: " + idName);
+        }
+        return put(entity, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> result = new ArrayList<>();
+        entities.forEach(entity -> result.add(update(entity)));
+        return result;
+    }
+
+    /**
+     * Removes the entities that match the condition, the documents of the query are ignored since the entities
+     * are always removed as a whole.
+     *
+     * @param query the query
+     * @throws NullPointerException when query is null
+     */
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        DocumentStore store = stores.get(query.getDocumentCollection());
+        if (store != null) {
+            store.delete(query.getCondition().orElse(null));
+        }
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        DocumentStore store = stores.get(query.getDocumentCollection());
+        if (store == null) {
+            return Stream.empty();
+        }
+        List<Record> records = store.find(query.getCondition().orElse(null));
+        comparator(query.getSorts()).ifPresent(records::sort);
+        Stream<Record> stream = records.stream();
+        if (query.getSkip() > 0) {
+            stream = stream.skip(query.getSkip());
+        }
+        if (query.getLimit() > 0) {
+            stream = stream.limit(query.getLimit());
+        }
+        Set<String> documents = new HashSet<>(query.getDocuments());
+        return stream.map(record -> project(record.getEntity(), documents))
+                .collect(Collectors.toList())
+                .stream();
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        DocumentStore store = stores.get(documentCollection);
+        return store == null ? 0L : store.count();
+    }
+
+    /**
+     * Creates a secondary index of a field, a dotted name reaches the fields of the sub-documents. It does nothing
+     * when the field already has an index of this type.
+     *
+     * @param documentCollection the document collection
+     * @param field              the field
+     * @param type               the index type
+     * @throws NullPointerException when there is a null parameter
+     */
+    public void createIndex(String documentCollection, String field, IndexType type) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        Objects.requireNonNull(field, "field is required");
+        Objects.requireNonNull(type, "type is required");
+        storeOf(documentCollection).createIndex(field, type);
+    }
+
+    /**
+     * Removes all the document collections
+     */
+    @Override
+    public void close() {
+        stores.clear();
+    }
+
+    private DocumentEntity put(DocumentEntity entity, long expiresAt) {
+        DocumentEntity copy = entity.copy();
+        Optional<Document> id = copy.find(idName);
+        Object value;
+        if (id.isPresent() && id.get().get() != null) {
+            value = Values.normalize(id.get().get());
+        } else {
+            value = UUID.randomUUID().toString();
+            copy.add(Document.of(idName, value));
+        }
+        storeOf(copy.getName()).put(value, copy, expiresAt);
+        return copy.copy();
+    }
+
+    private DocumentStore storeOf(String documentCollection) {
+        return stores.computeIfAbsent(documentCollection,
+                name -> new DocumentStore(idName, automaticIndexes, concurrency, ticker));
+    }
+
+    private long expiresAt(Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl cannot be negative: " + ttl);
+        }
+        return ticker.getAsLong() + ttl.toNanos();
+    }
+
+    private static Optional<Comparator<Record>> comparator(List<Sort> sorts) {
+        Comparator<Record> comparator = null;
+        for (Sort sort : sorts) {
+            String name = sort.getName();
+            Comparator<Record> current = Comparator.comparing(record -> first(record.values(name)), Values.ORDER);
+            if (SortType.DESC.equals(sort.getType())) {
+                current = current.reversed();
+            }
+            comparator = comparator == null ? current : comparator.thenComparing(current);
+        }
+        return Optional.ofNullable(comparator);
+    }
+
+    private static Object first(List<Object> values) {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static DocumentEntity project(DocumentEntity entity, Set<String> documents) {
+        if (documents.isEmpty()) {
+            return entity.copy();
+        }
+        List<Document> projection = entity.getDocuments().stream()
+                .filter(document -> documents.contains(document.getName()))
+                .collect(Collectors.toList());
+        return DocumentEntity.of(entity.getName(), projection);
+    }
+
+    /**
+     * Creates an {@link InMemoryDocumentCollectionManager} with the default settings
+     *
+     * @return a new {@link InMemoryDocumentCollectionManager} instance
+     */
+    public static InMemoryDocumentCollectionManager of() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a {@link Builder}
+     *
+     * @return a new {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryDocumentCollectionManager{" +
+                "idName='" + idName + '\'' +
+                ", automaticIndexes=" + automaticIndexes +
+                ", collections=" + stores.keySet() +
+                '}';
+    }
+
+    /**
+     * The builder of {@link InMemoryDocumentCollectionManager}
+     */
+    public static final class Builder {
+
+        private String idName = "_id";
+
+        private boolean automaticIndexes = true;
+
+        private int concurrency = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Defines the name of the id field, by default "_id"
+         *
+         * @param idName the id name
+         * @return this builder
+         * @throws NullPointerException when idName is null
+         */
+        public Builder withIdName(String idName) {
+            this.idName = Objects.requireNonNull(idName, "idName is required");
+            return this;
+        }
+
+        /**
+         * Defines if the queries create the indexes they need, by default true. Without them only the indexes from
+         * {@link InMemoryDocumentCollectionManager#createIndex(String, String, IndexType)} are used.
+         *
+         * @param automaticIndexes the automatic indexes
+         * @return this builder
+         */
+        public Builder withAutomaticIndexes(boolean automaticIndexes) {
+            this.automaticIndexes = automaticIndexes;
+            return this;
+        }
+
+        /**
+         * Defines the number of lock stripes of each collection, rounded up to a power of two; by default four
+         * times the number of processors.
+         *
+         * @param concurrency the number of stripes
+         * @return this builder
+         * @throws IllegalArgumentException when concurrency is not positive or higher than 65536
+         */
+        public Builder withConcurrency(int concurrency) {
+            if (concurrency <= 0 || concurrency > 1 << 16) {
+                throw new IllegalArgumentException("The concurrency must be between 1 and 65536: " + concurrency);
+            }
+            this.concurrency = concurrency == 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+            return this;
+        }
+
+        Builder withTicker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker, "ticker is required");
+            return this;
+        }
+
+        /**
+         * Creates the manager
+         *
+         * @return a new {@link InMemoryDocumentCollectionManager} instance
+         */
+        public InMemoryDocumentCollectionManager build() {
+            return new InMemoryDocumentCollectionManager(this);
+        }
+    }
+}
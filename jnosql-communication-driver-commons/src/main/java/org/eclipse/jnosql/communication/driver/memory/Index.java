@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A secondary index from the normalized values of a field to the ids of the records that have them; the null
+ * values are not indexed. An index might return the id of a record that no longer has the value, e.g. while
+ * it is updated, thus the records it returns are always tested against the condition.
+ */
+abstract class Index {
+
+    private final String field;
+
+    private volatile boolean ready;
+
+    Index(String field) {
+        this.field = field;
+    }
+
+    String getField() {
+        return field;
+    }
+
+    /**
+     * @return true once the index has the records that were there when it was created
+     */
+    boolean isReady() {
+        return ready;
+    }
+
+    void setReady() {
+        this.ready = true;
+    }
+
+    abstract IndexType getType();
+
+    void add(Record record) {
+        for (Object value : record.values(field)) {
+            if (value != null) {
+                add(value, record.getId());
+            }
+        }
+    }
+
+    void remove(Record record) {
+        for (Object value : record.values(field)) {
+            if (value != null) {
+                remove(value, record.getId());
+            }
+        }
+    }
+
+    abstract void add(Object value, Object id);
+
+    abstract void remove(Object value, Object id);
+
+    /**
+     * @return the ids of the records with the value
+     */
+    abstract Set<Object> equal(Object value);
+
+    /**
+     * Returns the ids of the records with a value in the range, a null bound is open
+     *
+     * @return the ids or null when the index is not sorted
+     */
+    abstract Set<Object> range(Object from, boolean fromInclusive, Object to, boolean toInclusive);
+
+    static Index of(String field, IndexType type) {
+        return type == IndexType.HASH ? new HashIndex(field) : new SortedIndex(field);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "field='" + field + '\'' +
+                ", ready=" + ready +
+                '}';
+    }
+
+    private static final class HashIndex extends Index {
+
+        private final ConcurrentMap<Object, Set<Object>> ids = new ConcurrentHashMap<>();
+
+        private HashIndex(String field) {
+            super(field);
+        }
+
+        @Override
+        IndexType getType() {
+            return IndexType.HASH;
+        }
+
+        @Override
+        void add(Object value, Object id) {
+            ids.compute(value, (key, values) -> {
+                Set<Object> current = values == null ? ConcurrentHashMap.newKeySet() : values;
+                current.add(id);
+                return current;
+            });
+        }
+
+        @Override
+        void remove(Object value, Object id) {
+            ids.computeIfPresent(value, (key, values) -> {
+                values.remove(id);
+                return values.isEmpty() ? null : values;
+            });
+        }
+
+        @Override
+        Set<Object> equal(Object value) {
+            Set<Object> values = ids.get(value);
+            return values == null ? Collections.emptySet() : new HashSet<>(values);
+        }
+
+        @Override
+        Set<Object> range(Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+            return null;
+        }
+    }
+
+    /**
+     * The sorted index keeps the empty sets of its values, since the compute of a skip list is not atomic, thus a
+     * set is never removed while another id is added to it
+     */
+    private static final class SortedIndex extends Index {
+
+        private final ConcurrentNavigableMap<Object, Set<Object>> ids = new ConcurrentSkipListMap<>(Values.ORDER);
+
+        private SortedIndex(String field) {
+            super(field);
+        }
+
+        @Override
+        IndexType getType() {
+            return IndexType.SORTED;
+        }
+
+        @Override
+        void add(Object value, Object id) {
+            ids.computeIfAbsent(value, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        @Override
+        void remove(Object value, Object id) {
+            Set<Object> values = ids.get(value);
+            if (values != null) {
+                values.remove(id);
+            }
+        }
+
+        @Override
+        Set<Object> equal(Object value) {
+            Set<Object> values = ids.get(value);
+            return values == null ? Collections.emptySet() : new HashSet<>(values);
+        }
+
+        @Override
+        Set<Object> range(Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+            NavigableMap<Object, Set<Object>> range;
+            if (from == null && to == null) {
+                range = ids;
+            } else if (from == null) {
+                range = ids.headMap(to, toInclusive);
+            } else if (to == null) {
+                range = ids.tailMap(from, fromInclusive);
+            } else if (Values.compare(from, to) > 0) {
+                return Collections.emptySet();
+            } else {
+                range = ids.subMap(from, fromInclusive, to, toInclusive);
+            }
+            Set<Object> result = new HashSet<>();
+            for (Map.Entry<Object, Set<Object>> entry : range.entrySet()) {
+                result.addAll(entry.getValue());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+/**
+ * The kind of secondary index of a field
+ */
+public enum IndexType {
+
+    /**
+     * A hash index, for the equals and in conditions
+     */
+    HASH,
+
+    /**
+     * A sorted index, for the range conditions as well as the equals and in ones
+     */
+    SORTED
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A version of a stored entity, a write replaces the record instead of changing it, thus the values of its
+ * fields are computed once and kept while the record lives.
+ */
+final class Record {
+
+    private final long sequence;
+
+    private final Object id;
+
+    private final DocumentEntity entity;
+
+    private final long expiresAt;
+
+    private final Map<String, List<Object>> values = new ConcurrentHashMap<>();
+
+    Record(long sequence, Object id, DocumentEntity entity, long expiresAt) {
+        this.sequence = sequence;
+        this.id = id;
+        this.entity = entity;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @return the insertion order, kept by the updates
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    Object getId() {
+        return id;
+    }
+
+    DocumentEntity getEntity() {
+        return entity;
+    }
+
+    boolean isExpired(long now) {
+        return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+    }
+
+    /**
+     * @return the normalized values of the field
+     * @see Values#of(DocumentEntity, String)
+     */
+    List<Object> values(String field) {
+        return values.computeIfAbsent(field, name -> Values.of(entity, name));
+    }
+
+    @Override
+    public String toString() {
+        return "Record{" +
+                "sequence=" + sequence +
+                ", id=" + id +
+                ", entity=" + entity +
+                '}';
+    }
+}
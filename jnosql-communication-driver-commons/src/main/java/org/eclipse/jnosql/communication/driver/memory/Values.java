@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.ValueUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * The values as the in-memory engine compares them: the values go through {@link ValueUtil} as the drivers write
+ * them, e.g. an enum becomes its name, and the numbers become a {@link BigDecimal} without trailing zeros, thus
+ * 10, 10L and 10.0 are the same value. The values of different kinds are not equal and they are ordered by their
+ * kind, the nulls first.
+ */
+final class Values {
+
+    static final Comparator<Object> ORDER = Values::compare;
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\.");
+
+    private Values() {
+    }
+
+    /**
+     * Returns the normalized values of the field, a dotted name reaches the fields of the sub-documents. A list is
+     * flattened, thus a condition matches when any of its elements does. A missing field has no value, a null
+     * field has a null value.
+     */
+    static List<Object> of(DocumentEntity entity, String field) {
+        String[] path = SEPARATOR.split(field);
+        Optional<Document> document = entity.find(path[0]);
+        if (!document.isPresent()) {
+            return Collections.emptyList();
+        }
+        List<Object> values = new ArrayList<>(1);
+        collect(document.get().get(), path, 1, values);
+        return values;
+    }
+
+    /**
+     * Normalizes a value of a condition or a field
+     */
+    static Object normalize(Object value) {
+        Object current = value;
+        if (current instanceof Value) {
+            current = ((Value) current).get();
+        }
+        if (current == null || current instanceof String) {
+            return current;
+        }
+        if (!(current instanceof Number)) {
+            current = ValueUtil.convert(Value.of(current));
+        }
+        if (current instanceof Number) {
+            return number((Number) current);
+        }
+        if (current instanceof CharSequence) {
+            return current.toString();
+        }
+        return current;
+    }
+
+    /**
+     * Normalizes the values of an IN or a BETWEEN condition
+     */
+    static List<Object> normalizeAll(Object value) {
+        Object current = value instanceof Value ? ((Value) value).get() : value;
+        List<Object> values = new ArrayList<>();
+        if (current instanceof Iterable) {
+            for (Object element : (Iterable<?>) current) {
+                values.add(normalize(element));
+            }
+        } else {
+            values.add(normalize(current));
+        }
+        return values;
+    }
+
+    /**
+     * Checks if both values are of the same kind, thus they can be ordered in a range
+     */
+    static boolean isComparable(Object value, Object other) {
+        if (value == null || other == null) {
+            return false;
+        }
+        return value.getClass().equals(other.getClass()) && value instanceof Comparable;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(Object value, Object other) {
+        if (value == other) {
+            return 0;
+        }
+        if (value == null) {
+            return -1;
+        }
+        if (other == null) {
+            return 1;
+        }
+        if (isComparable(value, other)) {
+            return ((Comparable) value).compareTo(other);
+        }
+        int kind = value.getClass().getName().compareTo(other.getClass().getName());
+        return kind != 0 ? kind : value.toString().compareTo(other.toString());
+    }
+
+    private static void collect(Object value, String[] path, int index, List<Object> values) {
+        Object current = value instanceof Value ? ((Value) value).get() : value;
+        if (index == path.length) {
+            if (current instanceof Iterable && !isSubDocument(current)) {
+                ((Iterable<?>) current).forEach(element -> values.add(normalize(element)));
+            } else {
+                values.add(normalize(current));
+            }
+        } else if (current instanceof Document) {
+            Document document = (Document) current;
+            if (document.getName().equals(path[index])) {
+                collect(document.get(), path, index + 1, values);
+            }
+        } else if (current instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) current;
+            if (map.containsKey(path[index])) {
+                collect(map.get(path[index]), path, index + 1, values);
+            }
+        } else if (current instanceof Iterable) {
+            for (Object element : (Iterable<?>) current) {
+                collect(element, path, index, values);
+            }
+        }
+    }
+
+    private static boolean isSubDocument(Object value) {
+        for (Object element : (Iterable<?>) value) {
+            return element instanceof Document;
+        }
+        return false;
+    }
+
+    private static Object number(Number number) {
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).stripTrailingZeros();
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return value;
+            }
+        }
+        return new BigDecimal(number.toString()).stripTrailingZeros();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.Settings;
+
+import java.util.Objects;
+
+/**
+ * The metrics of the operations of a manager factory, each driver configuration creates one from its settings,
+ * see {@link MetricsConfigurations#ENABLED}, and its factory closes it. The managers record every operation with its
+ * outcome and payload size:
+ * <pre>{@code
+ * long start = metrics.start();
+ * boolean failed = true;
+ * try {
+ *     ...
+ *     failed = false;
+ * } finally {
+ *     metrics.record(Operations.PUT, bucket, start, bytes.length, failed);
+ * }
+ * }</pre>
+ * It is disabled-cheap: a disabled instance neither reads the clock nor estimates the payload.
+ */
+public final class DriverMetrics implements AutoCloseable {
+
+    private static final DriverMetrics DISABLED = new DriverMetrics(null);
+
+    private final MetricsSink sink;
+
+    private volatile boolean enabled;
+
+    private DriverMetrics(MetricsSink sink) {
+        this.sink = sink;
+        this.enabled = sink != null;
+    }
+
+    /**
+     * Creates the metrics on the {@link MetricsSink#getInstance()} when the settings enable the instrumentation,
+     * otherwise returns the disabled instance
+     *
+     * @param settings the settings
+     * @return the metrics
+     * @throws NullPointerException when settings is null
+     * @see MetricsConfigurations#ENABLED
+     */
+    public static DriverMetrics of(Settings settings) {
+        return Instrumentation.isEnabled(settings) ? of(MetricsSink.getInstance()) : DISABLED;
+    }
+
+    /**
+     * Creates the metrics on the sink
+     *
+     * @param sink the sink
+     * @return the metrics
+     * @throws NullPointerException when sink is null
+     */
+    public static DriverMetrics of(MetricsSink sink) {
+        Objects.requireNonNull(sink, "sink is required");
+        return new DriverMetrics(sink);
+    }
+
+    /**
+     * Returns the metrics that record nothing
+     *
+     * @return the disabled metrics
+     */
+    public static DriverMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Checks if the metrics record the operations
+     *
+     * @return true when they are enabled and not closed
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes the start of an operation
+     *
+     * @return the {@link System#nanoTime()} when enabled, otherwise zero
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Estimates the payload size of a value when enabled, see {@link Instrumentation}
+     *
+     * @param value the entity, entities or value
+     * @return the estimated size in bytes, zero when disabled
+     */
+    public long sizeOf(Object value) {
+        return enabled ? PayloadSize.of(value) : 0L;
+    }
+
+    /**
+     * Records the operation when enabled, otherwise does nothing
+     *
+     * @param operation   the operation, see {@link Operations}
+     * @param name        the collection, column family or bucket, it might be null
+     * @param start       the value of {@link DriverMetrics#start()}
+     * @param payloadSize the payload size in bytes
+     * @param failed      true when the operation failed
+     */
+    public void record(String operation, String name, long start, long payloadSize, boolean failed) {
+        if (enabled) {
+            String recordName = name == null ? OperationRecorder.UNKNOWN_NAME : name;
+            sink.record(recordName, operation, System.nanoTime() - start, payloadSize, failed);
+        }
+    }
+
+    /**
+     * Stops recording, the factory calls it when it is closed
+     */
+    @Override
+    public void close() {
+        enabled = false;
+    }
+}
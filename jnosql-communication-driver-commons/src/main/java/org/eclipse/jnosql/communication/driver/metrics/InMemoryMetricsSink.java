@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link MetricsSink} that aggregates the operations in memory, per name and operation, and returns
+ * {@link OperationSnapshot} on demand. The recording does not lock, the snapshots are taken while the
+ * operations keep being recorded.
+ */
+public final class InMemoryMetricsSink implements MetricsSink {
+
+    private static final Comparator<OperationSnapshot> ORDER = Comparator.comparing(OperationSnapshot::getName)
+            .thenComparing(OperationSnapshot::getOperation);
+
+    private final ConcurrentMap<String, ConcurrentMap<String, OperationMetrics>> metrics = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Long>> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String name, String operation, long latencyNanos, long payloadSize, boolean failed) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(operation, "operation is required");
+        ConcurrentMap<String, OperationMetrics> operations = metrics.get(name);
+        if (operations == null) {
+            operations = metrics.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        }
+        OperationMetrics operationMetrics = operations.get(operation);
+        if (operationMetrics == null) {
+            operationMetrics = operations.computeIfAbsent(operation, k -> new OperationMetrics());
+        }
+        operationMetrics.record(latencyNanos, payloadSize, failed);
+    }
+
+    @Override
+    public void gauge(String name, String gauge, long value) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(gauge, "gauge is required");
+        gauges.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).put(gauge, value);
+    }
+
+    /**
+     * @return the snapshots of all the recorded operations ordered by name and operation
+     */
+    public List<OperationSnapshot> getSnapshots() {
+        List<OperationSnapshot> snapshots = new ArrayList<>();
+        for (Map.Entry<String, ConcurrentMap<String, OperationMetrics>> entry : metrics.entrySet()) {
+            entry.getValue().forEach((operation, value) -> snapshots.add(value.toSnapshot(entry.getKey(), operation)));
+        }
+        snapshots.sort(ORDER);
+        return snapshots;
+    }
+
+    /**
+     * Returns the snapshot of an operation
+     *
+     * @param name      the collection, column family or bucket name
+     * @param operation the operation
+     * @return the snapshot or {@link Optional#empty()} when the operation was not recorded
+     * @throws NullPointerException when either name or operation is null
+     */
+    public Optional<OperationSnapshot> getSnapshot(String name, String operation) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(operation, "operation is required");
+        return Optional.ofNullable(metrics.get(name))
+                .map(operations -> operations.get(operation))
+                .map(value -> value.toSnapshot(name, operation));
+    }
+
+    /**
+     * Returns the last published value of a gauge
+     *
+     * @param name  the name
+     * @param gauge the gauge
+     * @return the value or {@link OptionalLong#empty()} when the gauge was not published
+     * @throws NullPointerException when either name or gauge is null
+     */
+    public OptionalLong getGauge(String name, String gauge) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(gauge, "gauge is required");
+        Long value = Optional.ofNullable(gauges.get(name)).map(values -> values.get(gauge)).orElse(null);
+        return value == null ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+
+    /**
+     * Removes all the recorded operations and gauges
+     */
+    public void clear() {
+        metrics.clear();
+        gauges.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryMetricsSink{" +
+                "names=" + metrics.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnFamilyManagerFactory;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentCollectionManagerFactory;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.BucketManagerFactory;
+
+import java.util.Objects;
+
+/**
+ * The decorator factory that wraps managers and manager factories to record, per operation and per collection,
+ * column family or bucket, the number of calls, the errors, the latency and the payload size on a
+ * {@link MetricsSink}.
+ * The decorators implement only the Jakarta NoSQL interfaces, so a driver specific operation is not reachable
+ * from an instrumented manager.
+ * <pre>{@code
+ * InMemoryMetricsSink sink = new InMemoryMetricsSink();
+ * DocumentCollectionManager manager = Instrumentation.of(factory, sink).get("database");
+ * ...
+ * sink.getSnapshot("heroes", Operations.SELECT).map(OperationSnapshot::getP99);
+ * }</pre>
+ */
+public final class Instrumentation {
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Wraps a {@link DocumentCollectionManager}
+     *
+     * @param manager the manager
+     * @param sink    the sink
+     * @return the instrumented manager
+     * @throws NullPointerException when either manager or sink is null
+     */
+    public static DocumentCollectionManager of(DocumentCollectionManager manager, MetricsSink sink) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new InstrumentedDocumentCollectionManager(manager, recorder(sink));
+    }
+
+    /**
+     * Wraps a {@link ColumnFamilyManager}
+     *
+     * @param manager the manager
+     * @param sink    the sink
+     * @return the instrumented manager
+     * @throws NullPointerException when either manager or sink is null
+     */
+    public static ColumnFamilyManager of(ColumnFamilyManager manager, MetricsSink sink) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new InstrumentedColumnFamilyManager(manager, recorder(sink));
+    }
+
+    /**
+     * Wraps a {@link BucketManager}
+     *
+     * @param manager    the manager
+     * @param bucketName the bucket name used on the records
+     * @param sink       the sink
+     * @return the instrumented manager
+     * @throws NullPointerException when either manager, bucketName or sink is null
+     */
+    public static BucketManager of(BucketManager manager, String bucketName, MetricsSink sink) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return new InstrumentedBucketManager(manager, bucketName, recorder(sink));
+    }
+
+    /**
+     * Wraps a {@link DocumentCollectionManagerFactory}, thus all the managers it creates are instrumented
+     *
+     * @param factory the factory
+     * @param sink    the sink
+     * @return the instrumented factory
+     * @throws NullPointerException when either factory or sink is null
+     */
+    public static DocumentCollectionManagerFactory of(DocumentCollectionManagerFactory factory, MetricsSink sink) {
+        Objects.requireNonNull(factory, "factory is required");
+        return new InstrumentedDocumentCollectionManagerFactory(factory, recorder(sink));
+    }
+
+    /**
+     * Wraps a {@link ColumnFamilyManagerFactory}, thus all the managers it creates are instrumented
+     *
+     * @param factory the factory
+     * @param sink    the sink
+     * @return the instrumented factory
+     * @throws NullPointerException when either factory or sink is null
+     */
+    public static ColumnFamilyManagerFactory of(ColumnFamilyManagerFactory factory, MetricsSink sink) {
+        Objects.requireNonNull(factory, "factory is required");
+        return new InstrumentedColumnFamilyManagerFactory(factory, recorder(sink));
+    }
+
+    /**
+     * Wraps a {@link BucketManagerFactory}, thus all the bucket managers it creates are instrumented
+     *
+     * @param factory the factory
+     * @param sink    the sink
+     * @return the instrumented factory
+     * @throws NullPointerException when either factory or sink is null
+     */
+    public static BucketManagerFactory of(BucketManagerFactory factory, MetricsSink sink) {
+        Objects.requireNonNull(factory, "factory is required");
+        return new InstrumentedBucketManagerFactory(factory, recorder(sink));
+    }
+
+    /**
+     * Wraps the factory with the {@link MetricsSink#getInstance()} when the settings enable the instrumentation,
+     * otherwise returns the factory itself
+     *
+     * @param factory  the factory
+     * @param settings the settings
+     * @return the factory
+     * @throws NullPointerException when either factory or settings is null
+     * @see MetricsConfigurations#ENABLED
+     */
+    public static DocumentCollectionManagerFactory of(DocumentCollectionManagerFactory factory, Settings settings) {
+        Objects.requireNonNull(factory, "factory is required");
+        return isEnabled(settings) ? of(factory, MetricsSink.getInstance()) : factory;
+    }
+
+    /**
+     * Wraps the factory with the {@link MetricsSink#getInstance()} when the settings enable the instrumentation,
+     * otherwise returns the factory itself
+     *
+     * @param factory  the factory
+     * @param settings the settings
+     * @return the factory
+     * @throws NullPointerException when either factory or settings is null
+     * @see MetricsConfigurations#ENABLED
+     */
+    public static ColumnFamilyManagerFactory of(ColumnFamilyManagerFactory factory, Settings settings) {
+        Objects.requireNonNull(factory, "factory is required");
+        return isEnabled(settings) ? of(factory, MetricsSink.getInstance()) : factory;
+    }
+
+    /**
+     * Wraps the factory with the {@link MetricsSink#getInstance()} when the settings enable the instrumentation,
+     * otherwise returns the factory itself
+     *
+     * @param factory  the factory
+     * @param settings the settings
+     * @return the factory
+     * @throws NullPointerException when either factory or settings is null
+     * @see MetricsConfigurations#ENABLED
+     */
+    public static BucketManagerFactory of(BucketManagerFactory factory, Settings settings) {
+        Objects.requireNonNull(factory, "factory is required");
+        return isEnabled(settings) ? of(factory, MetricsSink.getInstance()) : factory;
+    }
+
+    /**
+     * Checks if the settings enable the instrumentation
+     *
+     * @param settings the settings
+     * @return true when {@link MetricsConfigurations#ENABLED} is true
+     * @throws NullPointerException when settings is null
+     */
+    public static boolean isEnabled(Settings settings) {
+        Objects.requireNonNull(settings, "settings is required");
+        return settings.get(MetricsConfigurations.ENABLED.get())
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+
+    private static OperationRecorder recorder(MetricsSink sink) {
+        Objects.requireNonNull(sink, "sink is required");
+        return new OperationRecorder(sink);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.eclipse.jnosql.communication.driver.metrics.OperationRecorder.toList;
+
+/**
+ * The {@link BucketManager} decorator that records the operations of a bucket.
+ */
+final class InstrumentedBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final String bucketName;
+
+    private final OperationRecorder recorder;
+
+    InstrumentedBucketManager(BucketManager manager, String bucketName, OperationRecorder recorder) {
+        this.manager = manager;
+        this.bucketName = bucketName;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        recorder.run(bucketName, Operations.PUT, PayloadSize.of(key) + PayloadSize.of(value),
+                () -> manager.put(key, value));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        recorder.run(bucketName, Operations.PUT, PayloadSize.of(entity), () -> manager.put(entity));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        recorder.run(bucketName, Operations.PUT, PayloadSize.of(entity), () -> manager.put(entity, ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = toList(entities);
+        recorder.run(bucketName, Operations.PUT, PayloadSize.of(values), () -> manager.put(values));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = toList(entities);
+        recorder.run(bucketName, Operations.PUT, PayloadSize.of(values), () -> manager.put(values, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        return recorder.call(bucketName, Operations.GET, () -> manager.get(key),
+                value -> value.map(PayloadSize::of).orElse(0L));
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = toList(keys);
+        return recorder.call(bucketName, Operations.GET, () -> toList(manager.get(values)), PayloadSize::of);
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        recorder.run(bucketName, Operations.DELETE, 0L, () -> manager.delete(key));
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = toList(keys);
+        recorder.run(bucketName, Operations.DELETE, 0L, () -> manager.delete(values));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedBucketManager{" +
+                "manager=" + manager +
+                ", bucketName='" + bucketName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.BucketManagerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+
+final class InstrumentedBucketManagerFactory implements BucketManagerFactory {
+
+    private final BucketManagerFactory factory;
+
+    private final OperationRecorder recorder;
+
+    InstrumentedBucketManagerFactory(BucketManagerFactory factory, OperationRecorder recorder) {
+        this.factory = factory;
+        this.recorder = recorder;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends BucketManager> T getBucketManager(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        BucketManager manager = factory.getBucketManager(bucketName);
+        return (T) new InstrumentedBucketManager(manager, bucketName, recorder);
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        return factory.getMap(bucketName, keyValue, valueValue);
+    }
+
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
+        return factory.getQueue(bucketName, clazz);
+    }
+
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
+        return factory.getSet(bucketName, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> clazz) {
+        return factory.getList(bucketName, clazz);
+    }
+
+    @Override
+    public void close() {
+        factory.close();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedBucketManagerFactory{" +
+                "factory=" + factory +
+                '}';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.communication.driver.metrics.OperationRecorder.nameOf;
+import static org.eclipse.jnosql.communication.driver.metrics.OperationRecorder.toList;
+
+/**
+ * The {@link ColumnFamilyManager} decorator that records the operations per column family.
+ * The select records when the stream is exhausted or closed, thus it covers reading the columns.
+ */
+final class InstrumentedColumnFamilyManager implements ColumnFamilyManager {
+
+    private final ColumnFamilyManager manager;
+
+    private final OperationRecorder recorder;
+
+    InstrumentedColumnFamilyManager(ColumnFamilyManager manager, OperationRecorder recorder) {
+        this.manager = manager;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return recorder.call(entity.getName(), Operations.INSERT, PayloadSize.of(entity),
+                () -> manager.insert(entity));
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        return recorder.call(entity.getName(), Operations.INSERT, PayloadSize.of(entity),
+                () -> manager.insert(entity, ttl));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> values = toList(entities);
+        return recorder.call(nameOf(values, ColumnEntity::getName), Operations.INSERT, PayloadSize.of(values),
+                () -> manager.insert(values));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> values = toList(entities);
+        return recorder.call(nameOf(values, ColumnEntity::getName), Operations.INSERT, PayloadSize.of(values),
+                () -> manager.insert(values, ttl));
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return recorder.call(entity.getName(), Operations.UPDATE, PayloadSize.of(entity),
+                () -> manager.update(entity));
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> values = toList(entities);
+        return recorder.call(nameOf(values, ColumnEntity::getName), Operations.UPDATE, PayloadSize.of(values),
+                () -> manager.update(values));
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        recorder.run(query.getColumnFamily(), Operations.DELETE, 0L, () -> manager.delete(query));
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return recorder.stream(query.getColumnFamily(), Operations.SELECT, () -> manager.select(query));
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return recorder.call(columnFamily, Operations.COUNT, 0L, () -> manager.count(columnFamily));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedColumnFamilyManager{" +
+                "manager=" + manager +
+                '}';
+    }
+}
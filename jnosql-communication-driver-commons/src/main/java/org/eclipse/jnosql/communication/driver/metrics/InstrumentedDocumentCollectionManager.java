@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.eclipse.jnosql.communication.driver.metrics.OperationRecorder.nameOf;
+import static org.eclipse.jnosql.communication.driver.metrics.OperationRecorder.toList;
+
+/**
+ * The {@link DocumentCollectionManager} decorator that records the operations per document collection.
+ * The select records when the stream is exhausted or closed, thus it covers reading the documents.
+ */
+final class InstrumentedDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final DocumentCollectionManager manager;
+
+    private final OperationRecorder recorder;
+
+    InstrumentedDocumentCollectionManager(DocumentCollectionManager manager, OperationRecorder recorder) {
+        this.manager = manager;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return recorder.call(entity.getName(), Operations.INSERT, PayloadSize.of(entity),
+                () -> manager.insert(entity));
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        return recorder.call(entity.getName(), Operations.INSERT, PayloadSize.of(entity),
+                () -> manager.insert(entity, ttl));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = toList(entities);
+        return recorder.call(nameOf(values, DocumentEntity::getName), Operations.INSERT, PayloadSize.of(values),
+                () -> manager.insert(values));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = toList(entities);
+        return recorder.call(nameOf(values, DocumentEntity::getName), Operations.INSERT, PayloadSize.of(values),
+                () -> manager.insert(values, ttl));
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return recorder.call(entity.getName(), Operations.UPDATE, PayloadSize.of(entity),
+                () -> manager.update(entity));
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> values = toList(entities);
+        return recorder.call(nameOf(values, DocumentEntity::getName), Operations.UPDATE, PayloadSize.of(values),
+                () -> manager.update(values));
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        recorder.run(query.getDocumentCollection(), Operations.DELETE, 0L, () -> manager.delete(query));
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return recorder.stream(query.getDocumentCollection(), Operations.SELECT, () -> manager.select(query));
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return recorder.call(documentCollection, Operations.COUNT, 0L, () -> manager.count(documentCollection));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedDocumentCollectionManager{" +
+                "manager=" + manager +
+                '}';
+    }
+}
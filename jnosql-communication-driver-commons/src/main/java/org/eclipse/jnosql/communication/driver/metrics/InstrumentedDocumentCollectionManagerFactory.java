@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentCollectionManagerFactory;
+
+import java.util.Objects;
+
+final class InstrumentedDocumentCollectionManagerFactory implements DocumentCollectionManagerFactory {
+
+    private final DocumentCollectionManagerFactory factory;
+
+    private final OperationRecorder recorder;
+
+    InstrumentedDocumentCollectionManagerFactory(DocumentCollectionManagerFactory factory, OperationRecorder recorder) {
+        this.factory = factory;
+        this.recorder = recorder;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends DocumentCollectionManager> T get(String database) {
+        Objects.requireNonNull(database, "database is required");
+        DocumentCollectionManager manager = factory.get(database);
+        return (T) new InstrumentedDocumentCollectionManager(manager, recorder);
+    }
+
+    @Override
+    public void close() {
+        factory.close();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedDocumentCollectionManagerFactory{" +
+                "factory=" + factory +
+                '}';
+    }
+}
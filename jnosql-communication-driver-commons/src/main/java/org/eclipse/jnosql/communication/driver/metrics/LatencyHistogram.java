@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram with log-bucketed values, in the HDR histogram style. The values from 0 to 63 are exact,
+ * then each power of two is split into 32 buckets, so any recorded value is read back with an error lower
+ * than 1/32 of it. The histogram has a fixed size, whatever the number of recorded values.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS << 1;
+
+    private static final int FIRST_MAGNITUDE = SUB_BUCKET_BITS + 1;
+
+    private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - FIRST_MAGNITUDE) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder total = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value, the negative ones are recorded as zero
+     *
+     * @param value the value
+     */
+    public void record(long value) {
+        long current = Math.max(0L, value);
+        counts.incrementAndGet(indexOf(current));
+        total.add(current);
+        long previous = max.get();
+        while (current > previous && !max.compareAndSet(previous, current)) {
+            previous = max.get();
+        }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        long count = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            count += counts.get(index);
+        }
+        return count;
+    }
+
+    /**
+     * @return the highest recorded value
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the recorded values, zero when there is no value
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0D : total.doubleValue() / count;
+    }
+
+    /**
+     * Returns the value at the percentile, e.g. 99.9 to the p999
+     *
+     * @param percentile the percentile from 0 to 100
+     * @return the highest value equivalent to the bucket at the percentile, zero when there is no value
+     * @throws IllegalArgumentException when percentile is not between 0 and 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0D || percentile > 100D) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+        }
+        long[] values = new long[BUCKETS];
+        long count = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            values[index] = counts.get(index);
+            count += values[index];
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100D * count));
+        long accumulated = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            accumulated += values[index];
+            if (accumulated >= target) {
+                return Math.min(highestValueOf(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Removes all the recorded values
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            counts.set(index, 0L);
+        }
+        total.reset();
+        max.set(0L);
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (magnitude - FIRST_MAGNITUDE) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int bucket = index - LINEAR_BUCKETS;
+        int shift = bucket / SUB_BUCKETS + FIRST_MAGNITUDE - SUB_BUCKET_BITS;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + getCount() +
+                ", max=" + getMax() +
+                '}';
+    }
+}
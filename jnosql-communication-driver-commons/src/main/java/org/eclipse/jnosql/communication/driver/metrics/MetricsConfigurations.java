@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * The settings to the {@link Instrumentation}
+ */
+public enum MetricsConfigurations implements Supplier<String> {
+
+    /**
+     * Enables the instrumentation when true, the default value is false, the driver configurations also create
+     * their {@link DriverMetrics} from it
+     */
+    ENABLED("jnosql.metrics.enabled");
+
+    private final String configuration;
+
+    MetricsConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+/**
+ * The destination of the operations measured by {@link Instrumentation}. A sink is called on the request path,
+ * so it must be thread-safe and cheap, e.g. it aggregates in memory and publishes asynchronously.
+ * The {@link InMemoryMetricsSink} is out of the box, another one is registered with {@link java.util.ServiceLoader}.
+ */
+public interface MetricsSink {
+
+    /**
+     * Records an operation
+     *
+     * @param name         the collection, column family or bucket name
+     * @param operation    the operation, e.g. insert, select, put
+     * @param latencyNanos the elapsed time in nanoseconds
+     * @param payloadSize  the estimated size in bytes of the data written or read
+     * @param failed       true when the operation threw an exception
+     */
+    void record(String name, String operation, long latencyNanos, long payloadSize, boolean failed);
+
+    /**
+     * Publishes the current value of a gauge, e.g. the concurrency limit of a limiter. The default implementation
+     * ignores it.
+     *
+     * @param name  the collection, column family, bucket or limiter name
+     * @param gauge the gauge, e.g. limit
+     * @param value the current value
+     */
+    default void gauge(String name, String gauge, long value) {
+    }
+
+    /**
+     * Returns the first {@link MetricsSink} from {@link java.util.ServiceLoader}, otherwise the shared
+     * {@link InMemoryMetricsSink}
+     *
+     * @return the {@link MetricsSink} instance
+     */
+    static MetricsSink getInstance() {
+        return MetricsSinkServiceLoader.getInstance();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.ServiceLoader;
+import java.util.stream.StreamSupport;
+
+final class MetricsSinkServiceLoader {
+
+    private static final MetricsSink INSTANCE;
+
+    static {
+        ServiceLoader<MetricsSink> serviceLoader = ServiceLoader.load(MetricsSink.class);
+        INSTANCE = StreamSupport.stream(serviceLoader.spliterator(), false)
+                .findFirst()
+                .orElseGet(InMemoryMetricsSink::new);
+    }
+
+    private MetricsSinkServiceLoader() {
+    }
+
+    static MetricsSink getInstance() {
+        return INSTANCE;
+    }
+}
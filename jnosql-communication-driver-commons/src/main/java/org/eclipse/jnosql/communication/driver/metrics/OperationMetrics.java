@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+final class OperationMetrics {
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder payloadSize = new LongAdder();
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    void record(long latencyNanos, long payloadSize, boolean failed) {
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+        this.payloadSize.add(payloadSize);
+        histogram.record(latencyNanos);
+    }
+
+    OperationSnapshot toSnapshot(String name, String operation) {
+        return new OperationSnapshot(name, operation, count.sum(), errors.sum(), payloadSize.sum(), histogram);
+    }
+}
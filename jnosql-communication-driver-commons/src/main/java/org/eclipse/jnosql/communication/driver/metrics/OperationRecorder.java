@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Measures the calls of the instrumented managers and sends them to the {@link MetricsSink}.
+ */
+final class OperationRecorder {
+
+    /**
+     * The name used when an operation has no entity to take the name from
+     */
+    static final String UNKNOWN_NAME = "*";
+
+    private final MetricsSink sink;
+
+    OperationRecorder(MetricsSink sink) {
+        this.sink = sink;
+    }
+
+    <T> T call(String name, String operation, long payloadSize, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            sink.record(name, operation, System.nanoTime() - start, payloadSize, false);
+            return result;
+        } catch (RuntimeException exception) {
+            sink.record(name, operation, System.nanoTime() - start, payloadSize, true);
+            throw exception;
+        }
+    }
+
+    <T> T call(String name, String operation, Supplier<T> call, ToLongFunction<? super T> payloadSize) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException exception) {
+            sink.record(name, operation, System.nanoTime() - start, 0L, true);
+            throw exception;
+        }
+        long elapsed = System.nanoTime() - start;
+        sink.record(name, operation, elapsed, payloadSize.applyAsLong(result), false);
+        return result;
+    }
+
+    /**
+     * Records the stream when it is either exhausted or closed, the first one, thus the latency covers the reading
+     * of the entities instead of the creation of a lazy stream
+     */
+    <T> Stream<T> stream(String name, String operation, Supplier<Stream<T>> call) {
+        long start = System.nanoTime();
+        Stream<T> stream;
+        try {
+            stream = call.get();
+        } catch (RuntimeException exception) {
+            sink.record(name, operation, System.nanoTime() - start, 0L, true);
+            throw exception;
+        }
+        AtomicBoolean recorded = new AtomicBoolean();
+        Runnable record = () -> {
+            if (recorded.compareAndSet(false, true)) {
+                sink.record(name, operation, System.nanoTime() - start, 0L, false);
+            }
+        };
+        Spliterator<T> spliterator = new RecordingSpliterator<>(stream.spliterator(), record);
+        return StreamSupport.stream(spliterator, stream.isParallel())
+                .onClose(stream::close)
+                .onClose(record);
+    }
+
+    /**
+     * Copies the iterable, since it is read to take the name and the payload size before the delegate reads it
+     */
+    static <T> List<T> toList(Iterable<T> values) {
+        if (values instanceof List) {
+            return (List<T>) values;
+        }
+        List<T> list = new ArrayList<>();
+        values.forEach(list::add);
+        return list;
+    }
+
+    static <T> String nameOf(List<T> entities, Function<T, String> name) {
+        return entities.isEmpty() ? UNKNOWN_NAME : name.apply(entities.get(0));
+    }
+
+    void run(String name, String operation, long payloadSize, Runnable call) {
+        call(name, operation, payloadSize, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static final class RecordingSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<T> spliterator;
+
+        private final Runnable record;
+
+        private RecordingSpliterator(Spliterator<T> spliterator, Runnable record) {
+            this.spliterator = spliterator;
+            this.record = record;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (spliterator.tryAdvance(action)) {
+                return true;
+            }
+            record.run();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            spliterator.forEachRemaining(action);
+            record.run();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return spliterator.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return spliterator.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+}
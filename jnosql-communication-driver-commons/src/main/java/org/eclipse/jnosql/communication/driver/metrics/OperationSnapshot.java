@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The immutable view of an operation on a collection, column family or bucket, the latencies are in nanoseconds.
+ */
+public final class OperationSnapshot {
+
+    private final String name;
+
+    private final String operation;
+
+    private final long count;
+
+    private final long errors;
+
+    private final long payloadSize;
+
+    private final double mean;
+
+    private final long p50;
+
+    private final long p90;
+
+    private final long p99;
+
+    private final long p999;
+
+    private final long max;
+
+    OperationSnapshot(String name, String operation, long count, long errors, long payloadSize,
+                      LatencyHistogram histogram) {
+        this.name = name;
+        this.operation = operation;
+        this.count = count;
+        this.errors = errors;
+        this.payloadSize = payloadSize;
+        this.mean = histogram.getMean();
+        this.p50 = histogram.getValueAtPercentile(50D);
+        this.p90 = histogram.getValueAtPercentile(90D);
+        this.p99 = histogram.getValueAtPercentile(99D);
+        this.p999 = histogram.getValueAtPercentile(99.9D);
+        this.max = histogram.getMax();
+    }
+
+    /**
+     * @return the collection, column family or bucket name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the number of calls, including the failed ones
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of failed calls
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return the estimated size in bytes of all the data written or read
+     */
+    public long getPayloadSize() {
+        return payloadSize;
+    }
+
+    /**
+     * @return the mean latency
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return the median latency
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * @return the 90th percentile latency
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * @return the 99th percentile latency
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * @return the 99.9th percentile latency
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * @return the highest latency
+     */
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationSnapshot{" +
+                "name='" + name + '\'' +
+                ", operation='" + operation + '\'' +
+                ", count=" + count +
+                ", errors=" + errors +
+                ", payloadSize=" + payloadSize +
+                ", p50=" + TimeUnit.NANOSECONDS.toMicros(p50) + "us" +
+                ", p99=" + TimeUnit.NANOSECONDS.toMicros(p99) + "us" +
+                ", p999=" + TimeUnit.NANOSECONDS.toMicros(p999) + "us" +
+                ", max=" + TimeUnit.NANOSECONDS.toMicros(max) + "us" +
+                '}';
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+/**
+ * The operation names recorded by {@link Instrumentation} and {@link DriverMetrics}
+ */
+public final class Operations {
+
+    public static final String INSERT = "insert";
+
+    public static final String UPDATE = "update";
+
+    public static final String DELETE = "delete";
+
+    public static final String SELECT = "select";
+
+    public static final String COUNT = "count";
+
+    public static final String QUERY = "query";
+
+    public static final String PUT = "put";
+
+    public static final String GET = "get";
+
+    private Operations() {
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Estimates the size in bytes of the data that goes through a manager without serializing it, thus the
+ * drivers with different formats are comparable. Text counts one byte per char and the numbers eight bytes.
+ */
+final class PayloadSize {
+
+    private static final int MAX_DEPTH = 32;
+
+    private static final long NUMBER_SIZE = 8L;
+
+    private static final long UNKNOWN_SIZE = 16L;
+
+    private PayloadSize() {
+    }
+
+    static long of(Object value) {
+        return of(value, 0);
+    }
+
+    private static long of(Object value, int depth) {
+        if (value == null || depth > MAX_DEPTH) {
+            return 0L;
+        }
+        int next = depth + 1;
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return NUMBER_SIZE;
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).remaining();
+        } else if (value instanceof Value) {
+            return of(((Value) value).get(), next);
+        } else if (value instanceof DocumentEntity) {
+            return of(((DocumentEntity) value).getDocuments(), next);
+        } else if (value instanceof Document) {
+            Document document = (Document) value;
+            return document.getName().length() + of(document.get(), next);
+        } else if (value instanceof ColumnEntity) {
+            return of(((ColumnEntity) value).getColumns(), next);
+        } else if (value instanceof Column) {
+            Column column = (Column) value;
+            return column.getName().length() + of(column.get(), next);
+        } else if (value instanceof KeyValueEntity) {
+            KeyValueEntity entity = (KeyValueEntity) value;
+            return of(entity.getKey(), next) + of(entity.getValue(), next);
+        } else if (value instanceof Iterable) {
+            long size = 0L;
+            for (Object element : (Iterable<?>) value) {
+                size += of(element, next);
+            }
+            return size;
+        } else if (value instanceof Map) {
+            long size = 0L;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += of(entry.getKey(), next) + of(entry.getValue(), next);
+            }
+            return size;
+        } else if (value instanceof Object[]) {
+            long size = 0L;
+            for (Object element : (Object[]) value) {
+                size += of(element, next);
+            }
+            return size;
+        }
+        return UNKNOWN_SIZE;
+    }
+}
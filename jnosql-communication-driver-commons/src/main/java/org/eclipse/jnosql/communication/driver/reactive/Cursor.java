@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A forward-only read of the entities of a query that fetches them from the database as they are read, e.g. a
+ * database cursor or the pages of a query. It is read by one thread at a time, and it is closed once either the
+ * entities are read or the reader gives up.
+ *
+ * @param <T> the entity type
+ */
+public interface Cursor<T> extends AutoCloseable {
+
+    /**
+     * Checks if there is another entity, it may fetch the next page from the database
+     *
+     * @return true when there is another entity
+     */
+    boolean hasNext();
+
+    /**
+     * Reads the next entity
+     *
+     * @return the next entity
+     * @throws java.util.NoSuchElementException when there is no other entity
+     */
+    T next();
+
+    /**
+     * Releases the database resources of the cursor
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a cursor on an iterator that fetches lazily, e.g. the iterator of a database cursor
+     *
+     * @param iterator the iterator
+     * @param onClose  the action that releases the database resources
+     * @param <T>      the entity type
+     * @return a new {@link Cursor} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    static <T> Cursor<T> of(Iterator<? extends T> iterator, Runnable onClose) {
+        Objects.requireNonNull(iterator, "iterator is required");
+        Objects.requireNonNull(onClose, "onClose is required");
+        return new IteratorCursor<>(iterator, onClose);
+    }
+
+    /**
+     * Creates a cursor on a lazy stream, the stream is closed with the cursor
+     *
+     * @param stream the stream
+     * @param <T>    the entity type
+     * @return a new {@link Cursor} instance
+     * @throws NullPointerException when stream is null
+     */
+    static <T> Cursor<T> of(Stream<? extends T> stream) {
+        Objects.requireNonNull(stream, "stream is required");
+        return new IteratorCursor<>(stream.iterator(), stream::close);
+    }
+
+    /**
+     * Creates a cursor on the pages of a query: the first page is fetched on the first read and each next page
+     * only once the previous one is read, thus only one page is in memory at a time
+     *
+     * @param first the fetch of the first page
+     * @param next  the fetch of the page of a paging state
+     * @param <T>   the entity type
+     * @param <S>   the paging state type, e.g. a bookmark or a cursor mark
+     * @return a new {@link Cursor} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    static <T, S> Cursor<T> paged(Supplier<Page<T, S>> first, Function<S, Page<T, S>> next) {
+        Objects.requireNonNull(first, "first is required");
+        Objects.requireNonNull(next, "next is required");
+        return new PagedCursor<>(first, next);
+    }
+}
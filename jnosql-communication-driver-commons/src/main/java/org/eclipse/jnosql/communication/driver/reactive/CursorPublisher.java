@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A cold {@link Flow.Publisher} on a {@link Cursor}: each subscription opens its own cursor on the first request
+ * and reads only as many entities as the subscriber requested, thus the next page is fetched only when the
+ * subscriber asks for more and the memory does not grow with the size of the result.
+ * The reads of a subscription never overlap: they run on the thread that requests, or on the executor, and a
+ * request from inside {@link Flow.Subscriber#onNext(Object)} is served by the loop already running.
+ * The cursor is closed on the completion, on an error and on the cancellation.
+ *
+ * @param <T> the entity type
+ */
+public final class CursorPublisher<T> implements Flow.Publisher<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(CursorPublisher.class.getName());
+
+    private final Supplier<? extends Cursor<T>> opener;
+
+    private final Executor executor;
+
+    private CursorPublisher(Supplier<? extends Cursor<T>> opener, Executor executor) {
+        this.opener = opener;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        CursorSubscription<T> subscription = new CursorSubscription<>(subscriber, opener, executor);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Creates a publisher that reads on the thread that requests the entities
+     *
+     * @param opener the query that opens a cursor to each subscription
+     * @param <T>    the entity type
+     * @return a new {@link CursorPublisher} instance
+     * @throws NullPointerException when opener is null
+     */
+    public static <T> CursorPublisher<T> of(Supplier<? extends Cursor<T>> opener) {
+        return of(opener, Runnable::run);
+    }
+
+    /**
+     * Creates a publisher that reads on the executor, thus the request does not block
+     *
+     * @param opener   the query that opens a cursor to each subscription
+     * @param executor the executor of the reads
+     * @param <T>      the entity type
+     * @return a new {@link CursorPublisher} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static <T> CursorPublisher<T> of(Supplier<? extends Cursor<T>> opener, Executor executor) {
+        Objects.requireNonNull(opener, "opener is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new CursorPublisher<>(opener, executor);
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPublisher{" +
+                "opener=" + opener +
+                '}';
+    }
+
+    private static final class CursorSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Supplier<? extends Cursor<T>> opener;
+
+        private final Executor executor;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger work = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable failure;
+
+        private boolean done;
+
+        private Cursor<T> cursor;
+
+        private CursorSubscription(Flow.Subscriber<? super T> subscriber, Supplier<? extends Cursor<T>> opener,
+                                   Executor executor) {
+            this.subscriber = subscriber;
+            this.opener = opener;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("The request must be positive: " + n);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (work.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException exception) {
+                    cancelled = true;
+                    work.set(0);
+                    subscriber.onError(exception);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            try {
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+                if (failure != null) {
+                    finish();
+                    subscriber.onError(failure);
+                    return;
+                }
+                long requested = demand.get();
+                if (requested == 0) {
+                    return;
+                }
+                if (cursor == null) {
+                    cursor = opener.get();
+                }
+                long emitted = 0;
+                while (emitted != requested && !cancelled && failure == null) {
+                    if (!cursor.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(cursor.next());
+                    emitted++;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+            } catch (Throwable exception) {
+                finish();
+                subscriber.onError(exception);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (cursor != null) {
+                try {
+                    cursor.close();
+                } catch (RuntimeException exception) {
+                    LOGGER.log(Level.WARNING, "Error to close the cursor", exception);
+                }
+                cursor = null;
+            }
+        }
+    }
+}
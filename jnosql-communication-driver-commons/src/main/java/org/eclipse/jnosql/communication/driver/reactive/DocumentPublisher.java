@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.concurrent.Flow;
+
+/**
+ * The select of a document database as a {@link Flow.Publisher}, for the results that do not fit in memory, e.g.
+ * an export of a whole collection. The database is read only as the subscriber requests the entities: either
+ * with its cursor or page by page.
+ */
+public interface DocumentPublisher {
+
+    /**
+     * Publishes the entities of the query, each subscription runs the query
+     *
+     * @param query the query
+     * @return the publisher of the entities
+     * @throws NullPointerException when query is null
+     */
+    Flow.Publisher<DocumentEntity> publish(DocumentQuery query);
+}
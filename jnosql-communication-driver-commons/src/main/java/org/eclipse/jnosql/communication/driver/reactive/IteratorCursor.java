@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.Iterator;
+
+/**
+ * The {@link Cursor} on a lazy iterator
+ */
+final class IteratorCursor<T> implements Cursor<T> {
+
+    private final Iterator<? extends T> iterator;
+
+    private final Runnable onClose;
+
+    IteratorCursor(Iterator<? extends T> iterator, Runnable onClose) {
+        this.iterator = iterator;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return iterator.next();
+    }
+
+    @Override
+    public void close() {
+        onClose.run();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A page of the entities of a query and the paging state to fetch the next one
+ *
+ * @param <T> the entity type
+ * @param <S> the paging state type
+ */
+public final class Page<T, S> {
+
+    private final List<T> entities;
+
+    private final S next;
+
+    private Page(List<T> entities, S next) {
+        this.entities = entities;
+        this.next = next;
+    }
+
+    /**
+     * @return the entities of the page
+     */
+    public List<T> getEntities() {
+        return entities;
+    }
+
+    /**
+     * @return the paging state of the next page, empty when this is the last one
+     */
+    public Optional<S> getNext() {
+        return Optional.ofNullable(next);
+    }
+
+    /**
+     * Creates a page
+     *
+     * @param entities the entities
+     * @param next     the paging state of the next page, null when this is the last one
+     * @param <T>      the entity type
+     * @param <S>      the paging state type
+     * @return a new {@link Page} instance
+     * @throws NullPointerException when entities is null
+     */
+    public static <T, S> Page<T, S> of(List<T> entities, S next) {
+        Objects.requireNonNull(entities, "entities is required");
+        return new Page<>(entities, next);
+    }
+
+    /**
+     * Creates the last page
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @param <S>      the paging state type
+     * @return a new {@link Page} instance
+     * @throws NullPointerException when entities is null
+     */
+    public static <T, S> Page<T, S> last(List<T> entities) {
+        return of(entities, null);
+    }
+
+    /**
+     * @param <T> the entity type
+     * @param <S> the paging state type
+     * @return an empty last page
+     */
+    public static <T, S> Page<T, S> empty() {
+        return new Page<>(Collections.emptyList(), null);
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" +
+                "entities=" + entities.size() +
+                ", next=" + next +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The {@link Cursor} on the pages of a query, it holds one page at a time. A page without entities that has a
+ * next paging state is skipped, some databases return them, e.g. when a filter discards a whole page.
+ */
+final class PagedCursor<T, S> implements Cursor<T> {
+
+    private final Supplier<Page<T, S>> first;
+
+    private final Function<S, Page<T, S>> next;
+
+    private Page<T, S> page;
+
+    private Iterator<T> entities;
+
+    PagedCursor(Supplier<Page<T, S>> first, Function<S, Page<T, S>> next) {
+        this.first = first;
+        this.next = next;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (page == null) {
+            load(first.get());
+        }
+        while (!entities.hasNext()) {
+            if (!page.getNext().isPresent()) {
+                return false;
+            }
+            load(next.apply(page.getNext().get()));
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no other entity");
+        }
+        return entities.next();
+    }
+
+    @Override
+    public void close() {
+        page = Page.empty();
+        entities = page.getEntities().iterator();
+    }
+
+    private void load(Page<T, S> page) {
+        this.page = page;
+        this.entities = page.getEntities().iterator();
+    }
+}
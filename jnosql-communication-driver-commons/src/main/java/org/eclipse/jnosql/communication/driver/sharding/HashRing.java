@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An immutable consistent-hash ring: each shard owns its virtual nodes, points of the ring from the hash of the
+ * shard name and the node number, and a key goes to the owner of the first node at or after its own hash.
+ * Since a new shard only takes over the keys before its nodes, it moves about 1/N of the keys. The hashes are
+ * computed from the text of the names and keys, thus they do not change across JVMs.
+ */
+final class HashRing<T> {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] points;
+
+    private final T[] owners;
+
+    private HashRing(long[] points, T[] owners) {
+        this.points = points;
+        this.owners = owners;
+    }
+
+    /**
+     * Returns the owner of the key
+     */
+    T get(Object key) {
+        long hash = hash(String.valueOf(key));
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    int size() {
+        return points.length;
+    }
+
+    /**
+     * Returns a ring with the same nodes whose owners are mapped, without hashing them again
+     */
+    @SuppressWarnings("unchecked")
+    <R> HashRing<R> map(Function<? super T, ? extends R> mapper) {
+        Map<T, R> mapped = new IdentityHashMap<>();
+        R[] values = (R[]) new Object[owners.length];
+        for (int index = 0; index < owners.length; index++) {
+            values[index] = mapped.computeIfAbsent(owners[index], mapper);
+        }
+        return new HashRing<>(points, values);
+    }
+
+    /**
+     * Creates the ring with the virtual nodes of each shard, the shards are iterated in the map order
+     */
+    @SuppressWarnings("unchecked")
+    static <T> HashRing<T> of(Map<String, T> shards, int virtualNodes) {
+        int size = shards.size() * virtualNodes;
+        Node<T>[] nodes = new Node[size];
+        int index = 0;
+        for (Map.Entry<String, T> shard : shards.entrySet()) {
+            for (int node = 0; node < virtualNodes; node++) {
+                nodes[index++] = new Node<>(hash(shard.getKey() + '#' + node), shard.getKey(), shard.getValue());
+            }
+        }
+        Arrays.sort(nodes, Comparator.<Node<T>>comparingLong(node -> node.point).thenComparing(node -> node.name));
+        long[] points = new long[size];
+        T[] owners = (T[]) new Object[size];
+        for (int position = 0; position < size; position++) {
+            points[position] = nodes[position].point;
+            owners[position] = nodes[position].owner;
+        }
+        return new HashRing<>(points, owners);
+    }
+
+    /**
+     * The 64-bit FNV-1a hash of the UTF-8 bytes, followed by the MurmurHash3 finalizer to spread the bits
+     */
+    static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte current : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= current & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "HashRing{" +
+                "nodes=" + points.length +
+                '}';
+    }
+
+    private static final class Node<T> {
+
+        private final long point;
+
+        private final String name;
+
+        private final T owner;
+
+        private Node(long point, String name, T owner) {
+            this.point = point;
+            this.name = name;
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.sharding;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The {@link BucketManager} of a {@link ShardedBucketManagerFactory}: an operation on a key goes to the manager of
+ * its shard and an operation on many keys is split per shard, the shards run in parallel.
+ * The values of {@link #get(Iterable)} are grouped by shard and are not in the order of the keys: a bulk get returns
+ * only the found values and without their keys, thus they cannot be put back in the order of the keys.
+ */
+final class ShardedBucketManager implements BucketManager {
+
+    private final HashRing<BucketManager> ring;
+
+    private final Collection<BucketManager> managers;
+
+    private final Executor executor;
+
+    ShardedBucketManager(HashRing<BucketManager> ring, Collection<BucketManager> managers, Executor executor) {
+        this.ring = ring;
+        this.managers = managers;
+        this.executor = executor;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        ring.get(key).put(key, value);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        ring.get(entity.getKey()).put(entity);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        ring.get(entity.getKey()).put(entity, ttl);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        parallel(split(entities, KeyValueEntity::getKey), (manager, values) -> {
+            manager.put(values);
+            return null;
+        });
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        parallel(split(entities, KeyValueEntity::getKey), (manager, values) -> {
+            manager.put(values, ttl);
+            return null;
+        });
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return ring.get(key).get(key);
+    }
+
+    /**
+     * Returns the found values grouped by shard, in no given order
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        parallel(split(keys, key -> key), BucketManager::get).forEach(result -> result.forEach(values::add));
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        ring.get(key).delete(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        parallel(split(keys, key -> key), (manager, values) -> {
+            manager.delete(values);
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        RuntimeException error = null;
+        for (BucketManager manager : managers) {
+            try {
+                manager.close();
+            } catch (RuntimeException exception) {
+                if (error == null) {
+                    error = exception;
+                } else {
+                    error.addSuppressed(exception);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private <T> Map<BucketManager, List<T>> split(Iterable<T> values, Function<? super T, ?> key) {
+        Map<BucketManager, List<T>> shards = new LinkedHashMap<>();
+        for (T value : values) {
+            shards.computeIfAbsent(ring.get(key.apply(value)), manager -> new ArrayList<>()).add(value);
+        }
+        return shards;
+    }
+
+    /**
+     * Runs the call of each shard, the last one on the caller thread, and waits for all of them
+     */
+    private <T, R> List<R> parallel(Map<BucketManager, List<T>> shards, BiFunction<BucketManager, List<T>, R> call) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(shards.size());
+        Iterator<Map.Entry<BucketManager, List<T>>> iterator = shards.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<BucketManager, List<T>> shard = iterator.next();
+            if (iterator.hasNext()) {
+                futures.add(CompletableFuture.supplyAsync(() -> call.apply(shard.getKey(), shard.getValue()),
+                        executor));
+            } else {
+                futures.add(completed(() -> call.apply(shard.getKey(), shard.getValue())));
+            }
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        RuntimeException error = null;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException exception) {
+                RuntimeException cause = exception.getCause() instanceof RuntimeException ?
+                        (RuntimeException) exception.getCause() : exception;
+                if (error == null) {
+                    error = cause;
+                } else if (error != cause) {
+                    error.addSuppressed(cause);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return results;
+    }
+
+    private static <R> CompletableFuture<R> completed(Supplier<R> call) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            future.complete(call.get());
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedBucketManager{" +
+                "shards=" + managers.size() +
+                '}';
+    }
+}
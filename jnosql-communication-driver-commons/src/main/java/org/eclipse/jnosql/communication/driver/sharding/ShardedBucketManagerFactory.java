@@ -0,0 +1,387 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.sharding;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.BucketManagerFactory;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link BucketManagerFactory} that spreads the keys over several factories, the shards, e.g. several Redis
+ * pools, with a consistent-hash ring of virtual nodes. A key always goes to the same shard, the one returned by
+ * {@link #getShardName(Object)}, and an operation on many keys is split per shard, the shards run in parallel.
+ * The hash is computed from the text of the key, {@link String#valueOf(Object)}, thus the keys need a stable
+ * {@link Object#toString()}. The map, queue, set and list structures live in the shard of their bucket name.
+ * A new shard, {@link #withShard(String, BucketManagerFactory)}, takes over about 1/N of the keys;
+ * {@link #migrate(ShardedBucketManagerFactory, String, Iterable, Class)} moves them from the previous shards.
+ * <pre>{@code
+ * ShardedBucketManagerFactory factory = ShardedBucketManagerFactory.builder()
+ *         .withShard("redis-1", first)
+ *         .withShard("redis-2", second)
+ *         .build();
+ * BucketManager manager = factory.getBucketManager("heroes");
+ * }</pre>
+ */
+public final class ShardedBucketManagerFactory implements BucketManagerFactory {
+
+    /**
+     * The default number of virtual nodes of each shard
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    /**
+     * The number of values a migration writes and deletes in one call per pair of shards
+     */
+    public static final int MIGRATION_BATCH_SIZE = 500;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "jnosql-shard-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, BucketManagerFactory> shards;
+
+    private final int virtualNodes;
+
+    private final Executor executor;
+
+    private final HashRing<String> ring;
+
+    private ShardedBucketManagerFactory(Map<String, BucketManagerFactory> shards, int virtualNodes,
+                                        Executor executor) {
+        this.shards = Collections.unmodifiableMap(shards);
+        this.virtualNodes = virtualNodes;
+        this.executor = executor;
+        Map<String, String> names = new LinkedHashMap<>();
+        shards.keySet().forEach(name -> names.put(name, name));
+        this.ring = HashRing.of(names, virtualNodes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends BucketManager> T getBucketManager(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Map<String, BucketManager> managers = new HashMap<>();
+        try {
+            shards.forEach((name, factory) -> managers.put(name, factory.getBucketManager(bucketName)));
+        } catch (RuntimeException exception) {
+            managers.values().forEach(BucketManager::close);
+            throw exception;
+        }
+        return (T) new ShardedBucketManager(ring.map(managers::get), new ArrayList<>(managers.values()), executor);
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        return shardOf(bucketName).getMap(bucketName, keyValue, valueValue);
+    }
+
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
+        return shardOf(bucketName).getQueue(bucketName, clazz);
+    }
+
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
+        return shardOf(bucketName).getSet(bucketName, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> clazz) {
+        return shardOf(bucketName).getList(bucketName, clazz);
+    }
+
+    /**
+     * Returns the name of the shard of the key
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the shard name
+     * @throws NullPointerException when key is null
+     */
+    public <K> String getShardName(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return ring.get(key);
+    }
+
+    /**
+     * @return the shard names in the order they were added
+     */
+    public Set<String> getShardNames() {
+        return shards.keySet();
+    }
+
+    /**
+     * Creates a factory with one more shard, this factory keeps working with its own shards
+     *
+     * @param name    the shard name, part of the hash of its virtual nodes
+     * @param factory the shard factory
+     * @return a new {@link ShardedBucketManagerFactory} instance
+     * @throws NullPointerException     when either name or factory is null
+     * @throws IllegalArgumentException when there is already a shard with this name
+     */
+    public ShardedBucketManagerFactory withShard(String name, BucketManagerFactory factory) {
+        Map<String, BucketManagerFactory> values = new LinkedHashMap<>(shards);
+        put(values, name, factory);
+        return new ShardedBucketManagerFactory(values, virtualNodes, executor);
+    }
+
+    /**
+     * Moves the keys whose shard in this factory is not the one in the previous factory, e.g. after
+     * {@link #withShard(String, BucketManagerFactory)}: each value is read from its previous shard as the type,
+     * then the values are written to their new shard and deleted from the previous one in batches of
+     * {@link #MIGRATION_BATCH_SIZE} per pair of shards. The values are read one by one, since a batch read of a
+     * {@link BucketManager} does not return the keys of its values. A {@link BucketManager} cannot read the TTL
+     * of a value either, thus the moved values lose it; see
+     * {@link #migrate(ShardedBucketManagerFactory, String, Iterable, Class, Duration)} to give them one.
+     * The keys are given by the caller, since a {@link BucketManager} cannot list them.
+     *
+     * @param previous   the factory the values are in
+     * @param bucketName the bucket name
+     * @param keys       the keys to check
+     * @param type       the type the values are read as and written back
+     * @param <K>        the key type
+     * @return the number of moved values
+     * @throws NullPointerException when either previous, bucketName, keys or type is null
+     */
+    public <K> long migrate(ShardedBucketManagerFactory previous, String bucketName, Iterable<K> keys,
+                            Class<?> type) {
+        return migrateKeys(previous, bucketName, keys, type, null);
+    }
+
+    /**
+     * Moves the keys as {@link #migrate(ShardedBucketManagerFactory, String, Iterable, Class)} and writes the
+     * moved values with the TTL, e.g. the TTL of the bucket, since the TTL of each value cannot be read
+     *
+     * @param previous   the factory the values are in
+     * @param bucketName the bucket name
+     * @param keys       the keys to check
+     * @param type       the type the values are read as and written back
+     * @param ttl        the TTL of the moved values
+     * @param <K>        the key type
+     * @return the number of moved values
+     * @throws NullPointerException when either previous, bucketName, keys, type or ttl is null
+     */
+    public <K> long migrate(ShardedBucketManagerFactory previous, String bucketName, Iterable<K> keys,
+                            Class<?> type, Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        return migrateKeys(previous, bucketName, keys, type, ttl);
+    }
+
+    private <K> long migrateKeys(ShardedBucketManagerFactory previous, String bucketName, Iterable<K> keys,
+                                 Class<?> type, Duration ttl) {
+        Objects.requireNonNull(previous, "previous is required");
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        Objects.requireNonNull(keys, "keys is required");
+        Objects.requireNonNull(type, "type is required");
+        Map<String, BucketManager> sources = new HashMap<>();
+        Map<String, BucketManager> targets = new HashMap<>();
+        Map<String, Map<String, List<KeyValueEntity>>> moves = new HashMap<>();
+        long moved = 0;
+        try {
+            for (K key : keys) {
+                String from = previous.getShardName(key);
+                String to = getShardName(key);
+                if (from.equals(to)) {
+                    continue;
+                }
+                BucketManager source = sources.computeIfAbsent(from,
+                        name -> previous.shards.get(name).getBucketManager(bucketName));
+                Optional<Value> value = source.get(key);
+                if (value.isPresent()) {
+                    List<KeyValueEntity> batch = moves.computeIfAbsent(from, name -> new HashMap<>())
+                            .computeIfAbsent(to, name -> new ArrayList<>());
+                    batch.add(KeyValueEntity.of(key, value.get().get(type)));
+                    if (batch.size() >= MIGRATION_BATCH_SIZE) {
+                        moved += move(source, target(targets, to, bucketName), batch, ttl);
+                    }
+                }
+            }
+            for (Map.Entry<String, Map<String, List<KeyValueEntity>>> from : moves.entrySet()) {
+                for (Map.Entry<String, List<KeyValueEntity>> to : from.getValue().entrySet()) {
+                    moved += move(sources.get(from.getKey()), target(targets, to.getKey(), bucketName),
+                            to.getValue(), ttl);
+                }
+            }
+            return moved;
+        } finally {
+            sources.values().forEach(BucketManager::close);
+            targets.values().forEach(BucketManager::close);
+        }
+    }
+
+    @Override
+    public void close() {
+        RuntimeException error = null;
+        for (BucketManagerFactory factory : shards.values()) {
+            try {
+                factory.close();
+            } catch (RuntimeException exception) {
+                if (error == null) {
+                    error = exception;
+                } else {
+                    error.addSuppressed(exception);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private BucketManager target(Map<String, BucketManager> targets, String name, String bucketName) {
+        return targets.computeIfAbsent(name, shard -> shards.get(shard).getBucketManager(bucketName));
+    }
+
+    /**
+     * Writes the batch to the target and then deletes it from the source, thus a failure never loses a value
+     */
+    private static int move(BucketManager source, BucketManager target, List<KeyValueEntity> batch,
+                            Duration ttl) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        if (ttl == null) {
+            target.put(batch);
+        } else {
+            target.put(batch, ttl);
+        }
+        List<Object> keys = new ArrayList<>(batch.size());
+        batch.forEach(entity -> keys.add(entity.getKey()));
+        source.delete(keys);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private BucketManagerFactory shardOf(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return shards.get(ring.get(bucketName));
+    }
+
+    private static void put(Map<String, BucketManagerFactory> shards, String name, BucketManagerFactory factory) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(factory, "factory is required");
+        if (shards.putIfAbsent(name, factory) != null) {
+            throw new IllegalArgumentException("There is already a shard with the name: " + name);
+        }
+    }
+
+    /**
+     * Creates a {@link Builder}
+     *
+     * @return a new {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedBucketManagerFactory{" +
+                "shards=" + shards.keySet() +
+                ", virtualNodes=" + virtualNodes +
+                '}';
+    }
+
+    /**
+     * The builder to {@link ShardedBucketManagerFactory}
+     */
+    public static final class Builder {
+
+        private final Map<String, BucketManagerFactory> shards = new LinkedHashMap<>();
+
+        private int virtualNodes = DEFAULT_VIRTUAL_NODES;
+
+        private Executor executor = DEFAULT_EXECUTOR;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a shard
+         *
+         * @param name    the shard name, part of the hash of its virtual nodes, thus it must not change
+         * @param factory the shard factory
+         * @return this builder
+         * @throws NullPointerException     when either name or factory is null
+         * @throws IllegalArgumentException when there is already a shard with this name
+         */
+        public Builder withShard(String name, BucketManagerFactory factory) {
+            put(shards, name, factory);
+            return this;
+        }
+
+        /**
+         * Defines the number of virtual nodes of each shard, more nodes spread the keys more evenly
+         *
+         * @param virtualNodes the number of virtual nodes
+         * @return this builder
+         * @throws IllegalArgumentException when virtualNodes is not positive
+         */
+        public Builder withVirtualNodes(int virtualNodes) {
+            if (virtualNodes <= 0) {
+                throw new IllegalArgumentException("The virtual nodes must be positive: " + virtualNodes);
+            }
+            this.virtualNodes = virtualNodes;
+            return this;
+        }
+
+        /**
+         * Defines the executor of the shards of an operation on many keys, by default a cached pool of
+         * daemon threads
+         *
+         * @param executor the executor
+         * @return this builder
+         * @throws NullPointerException when executor is null
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor is required");
+            return this;
+        }
+
+        /**
+         * Creates the factory
+         *
+         * @return a new {@link ShardedBucketManagerFactory} instance
+         * @throws IllegalStateException when there is no shard
+         */
+        public ShardedBucketManagerFactory build() {
+            if (shards.isEmpty()) {
+                throw new IllegalStateException("At least one shard is required");
+            }
+            return new ShardedBucketManagerFactory(new LinkedHashMap<>(shards), virtualNodes, executor);
+        }
+    }
+}
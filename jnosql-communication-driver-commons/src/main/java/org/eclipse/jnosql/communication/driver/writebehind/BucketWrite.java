@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import java.time.Duration;
+
+/**
+ * A pending write of a bucket, either a put, with an optional TTL, or a delete
+ */
+final class BucketWrite {
+
+    private final Object key;
+
+    private final Object value;
+
+    private final Duration ttl;
+
+    private BucketWrite(Object key, Object value, Duration ttl) {
+        this.key = key;
+        this.value = value;
+        this.ttl = ttl;
+    }
+
+    Object getKey() {
+        return key;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    boolean isDelete() {
+        return value == null;
+    }
+
+    static BucketWrite put(Object key, Object value, Duration ttl) {
+        return new BucketWrite(key, value, ttl);
+    }
+
+    static BucketWrite delete(Object key) {
+        return new BucketWrite(key, null, null);
+    }
+
+    /**
+     * The last write to a key wins
+     */
+    static BucketWrite coalesce(BucketWrite previous, BucketWrite next) {
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "BucketWrite{" +
+                "key=" + key +
+                ", delete=" + isDelete() +
+                ", ttl=" + ttl +
+                '}';
+    }
+}
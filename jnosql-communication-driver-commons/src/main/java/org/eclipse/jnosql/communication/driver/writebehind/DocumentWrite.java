@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.document.DocumentEntity;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A pending write of a document collection, either an insert, with an optional TTL, or an update
+ */
+final class DocumentWrite {
+
+    private final DocumentEntity entity;
+
+    private final Duration ttl;
+
+    private final boolean update;
+
+    private DocumentWrite(DocumentEntity entity, Duration ttl, boolean update) {
+        this.entity = entity;
+        this.ttl = ttl;
+        this.update = update;
+    }
+
+    DocumentEntity getEntity() {
+        return entity;
+    }
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    boolean isUpdate() {
+        return update;
+    }
+
+    static DocumentWrite insert(DocumentEntity entity, Duration ttl) {
+        return new DocumentWrite(entity, ttl, false);
+    }
+
+    static DocumentWrite update(DocumentEntity entity) {
+        return new DocumentWrite(entity, null, true);
+    }
+
+    /**
+     * The last write wins, but an update of a pending insert is still an insert, since the database does not have
+     * the entity yet
+     */
+    static DocumentWrite coalesce(DocumentWrite previous, DocumentWrite next) {
+        if (!previous.update && next.update) {
+            return insert(next.entity, previous.ttl);
+        }
+        return next;
+    }
+
+    /**
+     * The key that identifies an entity on the buffer: the collection and the id, or the entity itself when it
+     * has no id, thus it is never coalesced
+     */
+    static Object keyOf(DocumentEntity entity, String id) {
+        return entity.find(id)
+                .<Object>map(document -> new Key(entity.getName(), document.get()))
+                .orElseGet(Object::new);
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentWrite{" +
+                "entity=" + entity.getName() +
+                ", ttl=" + ttl +
+                ", update=" + update +
+                '}';
+    }
+
+    private static final class Key {
+
+        private final String collection;
+
+        private final Object id;
+
+        private Key(String collection, Object id) {
+            this.collection = collection;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(collection, key.collection) && Objects.equals(id, key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(collection, id);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.keyvalue.BucketManager;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The write-behind settings and the factory of the write-behind managers. A write-behind manager returns as soon
+ * as the write is buffered; the buffered writes of many threads are coalesced by key or id and written through
+ * the {@code Iterable} overloads of the wrapped manager, so a driver with a bulk path uses it.
+ * <pre>{@code
+ * WriteBehind writeBehind = WriteBehind.builder()
+ *         .withBatchSize(500)
+ *         .withFlushInterval(Duration.ofMillis(50))
+ *         .build();
+ * WriteBehindBucketManager manager = writeBehind.wrap(factory.getBucketManager("telemetry"));
+ * }</pre>
+ */
+public final class WriteBehind {
+
+    /**
+     * The default maximum number of pending writes
+     */
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    /**
+     * The default number of writes in a batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * The default time between two flushes
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+
+    /**
+     * The default id document name
+     */
+    public static final String DEFAULT_ID = "_id";
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private WriteBehind(int capacity, int batchSize, Duration flushInterval) {
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * @return the maximum number of pending writes, a write to a new key waits when it is reached
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of writes in a batch
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the time between two flushes
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Wraps a {@link BucketManager}, the writes to the same key are coalesced
+     *
+     * @param manager the manager
+     * @return the write-behind manager
+     * @throws NullPointerException when manager is null
+     */
+    public WriteBehindBucketManager wrap(BucketManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new WriteBehindBucketManager(manager, this);
+    }
+
+    /**
+     * Wraps a {@link DocumentCollectionManager} with the {@link #DEFAULT_ID} as the id document
+     *
+     * @param manager the manager
+     * @return the write-behind manager
+     * @throws NullPointerException when manager is null
+     */
+    public WriteBehindDocumentCollectionManager wrap(DocumentCollectionManager manager) {
+        return wrap(manager, DEFAULT_ID);
+    }
+
+    /**
+     * Wraps a {@link DocumentCollectionManager}, the writes to the same collection and id are coalesced.
+     * The entities without the id document are written as they are.
+     *
+     * @param manager the manager
+     * @param id      the name of the id document, e.g. "_id" or "_key"
+     * @return the write-behind manager
+     * @throws NullPointerException when either manager or id is null
+     */
+    public WriteBehindDocumentCollectionManager wrap(DocumentCollectionManager manager, String id) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(id, "id is required");
+        return new WriteBehindDocumentCollectionManager(manager, id, this);
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehind{" +
+                "capacity=" + capacity +
+                ", batchSize=" + batchSize +
+                ", flushInterval=" + flushInterval +
+                '}';
+    }
+
+    /**
+     * Creates a {@link Builder} with the default settings
+     *
+     * @return a new {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The builder of {@link WriteBehind}
+     */
+    public static final class Builder {
+
+        private int capacity = DEFAULT_CAPACITY;
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+        private Builder() {
+        }
+
+        /**
+         * @param capacity the maximum number of pending writes
+         * @return this builder
+         * @throws IllegalArgumentException when capacity is not positive
+         */
+        public Builder withCapacity(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * @param batchSize the number of writes in a batch
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is not positive
+         */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param flushInterval the time between two flushes
+         * @return this builder
+         * @throws NullPointerException     when flushInterval is null
+         * @throws IllegalArgumentException when flushInterval is not positive
+         */
+        public Builder withFlushInterval(Duration flushInterval) {
+            Objects.requireNonNull(flushInterval, "flushInterval is required");
+            if (flushInterval.isZero() || flushInterval.isNegative()) {
+                throw new IllegalArgumentException("The flush interval must be positive: " + flushInterval);
+            }
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * @return a new {@link WriteBehind} instance
+         * @throws IllegalStateException when the batch size is greater than the capacity
+         */
+        public WriteBehind build() {
+            if (batchSize > capacity) {
+                throw new IllegalStateException("The batch size " + batchSize
+                        + " cannot be greater than the capacity " + capacity);
+            }
+            return new WriteBehind(capacity, batchSize, flushInterval);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The write-behind {@link BucketManager}: the puts and the deletes are buffered, the repeated writes to a key are
+ * coalesced and the batches are written with {@link BucketManager#put(Iterable)},
+ * {@link BucketManager#put(Iterable, Duration)} and {@link BucketManager#delete(Iterable)}.
+ * The reads of this instance see the buffered writes; a buffered value is returned as {@link Value#of(Object)} of
+ * the written object, not as the driver reads it back, e.g. without its codec, until the write is flushed.
+ * The errors of the writes are thrown by {@link #flush()} and
+ * {@link #close()}, instead of by the put or the delete.
+ *
+ * @see WriteBehind#wrap(BucketManager)
+ */
+public final class WriteBehindBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final WriteBehindBuffer<Object, BucketWrite> buffer;
+
+    WriteBehindBucketManager(BucketManager manager, WriteBehind writeBehind) {
+        this.manager = manager;
+        this.buffer = new WriteBehindBuffer<>(writeBehind, BucketWrite::coalesce, this::write);
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        buffer.add(key, BucketWrite.put(key, value, null));
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        put(entity.getKey(), entity.getValue());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        buffer.add(entity.getKey(), BucketWrite.put(entity.getKey(), entity.getValue(), ttl));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        entities.forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        entities.forEach(entity -> put(entity, ttl));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        BucketWrite write = buffer.get(key);
+        if (write != null) {
+            return write.isDelete() ? Optional.empty() : Optional.of(Value.of(write.getValue()));
+        }
+        return manager.get(key);
+    }
+
+    /**
+     * Returns the values in the order of the keys, the buffered ones from the buffer and the others from the
+     * database. A {@link BucketManager#get(Iterable)} returns the values without their keys and in no given order,
+     * so the keys without a buffered write are read with {@link BucketManager#get(Object)}.
+     */
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<Value> values = new ArrayList<>();
+        for (K key : keys) {
+            get(key).ifPresent(values::add);
+        }
+        return values;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        buffer.add(key, BucketWrite.delete(key));
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        keys.forEach(this::delete);
+    }
+
+    /**
+     * Writes all the buffered writes and waits for them
+     *
+     * @throws jakarta.nosql.CommunicationException when a batch failed since the last flush
+     */
+    public void flush() {
+        buffer.flush();
+    }
+
+    /**
+     * @return the number of buffered keys
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * @return the number of writes lost by failed batches
+     */
+    public long getFailedCount() {
+        return buffer.getFailures();
+    }
+
+    /**
+     * Writes the buffered writes and closes the wrapped manager
+     */
+    @Override
+    public void close() {
+        try {
+            buffer.close();
+        } finally {
+            manager.close();
+        }
+    }
+
+    private void write(List<BucketWrite> writes) {
+        List<Object> deletes = new ArrayList<>();
+        List<KeyValueEntity> puts = new ArrayList<>();
+        Map<Duration, List<KeyValueEntity>> expiring = new LinkedHashMap<>();
+        for (BucketWrite write : writes) {
+            if (write.isDelete()) {
+                deletes.add(write.getKey());
+            } else if (write.getTtl() == null) {
+                puts.add(KeyValueEntity.of(write.getKey(), write.getValue()));
+            } else {
+                expiring.computeIfAbsent(write.getTtl(), ttl -> new ArrayList<>())
+                        .add(KeyValueEntity.of(write.getKey(), write.getValue()));
+            }
+        }
+        if (!deletes.isEmpty()) {
+            manager.delete(deletes);
+        }
+        if (!puts.isEmpty()) {
+            manager.put(puts);
+        }
+        expiring.forEach((ttl, entities) -> manager.put(entities, ttl));
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindBucketManager{" +
+                "manager=" + manager +
+                ", buffer=" + buffer +
+                '}';
+    }
+}
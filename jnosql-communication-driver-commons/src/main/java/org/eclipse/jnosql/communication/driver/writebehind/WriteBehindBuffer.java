@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.CommunicationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The buffer behind the write-behind managers. The writes are kept in a {@link ConcurrentHashMap} by key, where a
+ * write to a key that is already pending is coalesced with it, and the keys wait their turn in a lock-free FIFO
+ * queue. A background thread writes them in batches when the batch size is reached or the flush interval passes.
+ * The buffer is bounded: a write to a new key waits for room when the capacity is reached.
+ * A write leaves the pending map only when it is moved to the in-flight one, and it leaves the in-flight one once
+ * the batch is written, thus {@link #get(Object)} sees it until the database has it.
+ * A failed batch is logged and dropped, the failure is thrown by the next {@link #flush()}.
+ * The writes hold the read side of a lock that {@link #close()} takes to mark the buffer closed, so a write either
+ * fails or is pending before the last drain.
+ *
+ * @param <K> the key type
+ * @param <W> the write type
+ */
+final class WriteBehindBuffer<K, W> {
+
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindBuffer.class.getName());
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final ConcurrentHashMap<K, W> pending = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<K, W> inFlight = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<K> order = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final Semaphore permits;
+
+    private final int batchSize;
+
+    private final BinaryOperator<W> coalescer;
+
+    private final Consumer<List<W>> writer;
+
+    private final ScheduledExecutorService scheduler;
+
+    private boolean closed;
+
+    WriteBehindBuffer(WriteBehind writeBehind, BinaryOperator<W> coalescer, Consumer<List<W>> writer) {
+        this.permits = new Semaphore(writeBehind.getCapacity());
+        this.batchSize = writeBehind.getBatchSize();
+        this.coalescer = coalescer;
+        this.writer = writer;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-write-behind-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = writeBehind.getFlushInterval().toNanos();
+        this.scheduler.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    void add(K key, W write) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The write-behind manager is closed");
+            }
+            enqueue(key, write);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private void enqueue(K key, W write) {
+        acquire();
+        boolean[] created = new boolean[1];
+        pending.compute(key, (k, previous) -> {
+            if (previous == null) {
+                created[0] = true;
+                return write;
+            }
+            return coalescer.apply(previous, write);
+        });
+        if (created[0]) {
+            order.add(key);
+        } else {
+            permits.release();
+        }
+        if (pending.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushScheduled.set(false);
+                    drain();
+                });
+            } catch (RejectedExecutionException exception) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the write of the key that the database may not have yet, null when there is none
+     */
+    W get(K key) {
+        W write = pending.get(key);
+        return write == null ? inFlight.get(key) : write;
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Writes all the pending writes on the caller thread, waiting for a batch in progress, and throws the failure
+     * of any batch since the last flush
+     */
+    void flush() {
+        drain();
+        RuntimeException exception = failure.getAndSet(null);
+        if (exception != null) {
+            throw new CommunicationException("A write-behind batch failed", exception);
+        }
+    }
+
+    void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        scheduler.shutdown();
+        flush();
+    }
+
+    private void acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for room in the write-behind buffer",
+                    exception);
+        }
+    }
+
+    /**
+     * Drains the keys that are pending when it starts, so a steady stream of writes does not keep it running
+     */
+    void drain() {
+        flushLock.lock();
+        try {
+            int remaining = pending.size();
+            List<K> keys = new ArrayList<>(Math.min(batchSize, remaining));
+            List<W> batch = new ArrayList<>(Math.min(batchSize, remaining));
+            K key;
+            while (remaining-- > 0 && (key = order.poll()) != null) {
+                pending.computeIfPresent(key, (k, write) -> {
+                    inFlight.put(k, write);
+                    keys.add(k);
+                    batch.add(write);
+                    return null;
+                });
+                permits.release();
+                if (batch.size() >= batchSize) {
+                    write(keys, batch);
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(keys, batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<K> keys, List<W> batch) {
+        try {
+            writer.accept(new ArrayList<>(batch));
+        } catch (RuntimeException exception) {
+            failures.add(batch.size());
+            failure.compareAndSet(null, exception);
+            LOGGER.log(Level.SEVERE, "Error to write a write-behind batch of " + batch.size() + " writes", exception);
+        } finally {
+            for (int index = 0; index < keys.size(); index++) {
+                inFlight.remove(keys.get(index), batch.get(index));
+            }
+            keys.clear();
+            batch.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindBuffer{" +
+                "pending=" + pending.size() +
+                ", batchSize=" + batchSize +
+                '}';
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The write-behind {@link DocumentCollectionManager}: the inserts and the updates are buffered, the repeated writes
+ * to the same collection and id are coalesced and the batches are written with
+ * {@link DocumentCollectionManager#insert(Iterable)}, {@link DocumentCollectionManager#insert(Iterable, Duration)}
+ * and {@link DocumentCollectionManager#update(Iterable)}.
+ * The inserts return the entity as it was given, so the fields that the database generates, e.g. an id, are not
+ * there. The select, the count and the delete write the buffered writes before they run, thus they see them.
+ * The errors of the writes are thrown by {@link #flush()} and {@link #close()}.
+ *
+ * @see WriteBehind#wrap(DocumentCollectionManager, String)
+ */
+public final class WriteBehindDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final DocumentCollectionManager manager;
+
+    private final String id;
+
+    private final WriteBehindBuffer<Object, DocumentWrite> buffer;
+
+    WriteBehindDocumentCollectionManager(DocumentCollectionManager manager, String id, WriteBehind writeBehind) {
+        this.manager = manager;
+        this.id = id;
+        this.buffer = new WriteBehindBuffer<>(writeBehind, DocumentWrite::coalesce, this::write);
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        buffer.add(DocumentWrite.keyOf(entity, id), DocumentWrite.insert(entity, null));
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        buffer.add(DocumentWrite.keyOf(entity, id), DocumentWrite.insert(entity, ttl));
+        return entity;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<DocumentEntity> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity, ttl)));
+        return inserted;
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        buffer.add(DocumentWrite.keyOf(entity, id), DocumentWrite.update(entity));
+        return entity;
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<DocumentEntity> updated = new ArrayList<>();
+        entities.forEach(entity -> updated.add(update(entity)));
+        return updated;
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        buffer.drain();
+        manager.delete(query);
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        buffer.drain();
+        return manager.select(query);
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        buffer.drain();
+        return manager.count(documentCollection);
+    }
+
+    /**
+     * Writes all the buffered writes and waits for them
+     *
+     * @throws jakarta.nosql.CommunicationException when a batch failed since the last flush
+     */
+    public void flush() {
+        buffer.flush();
+    }
+
+    /**
+     * @return the number of buffered entities
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * @return the number of writes lost by failed batches
+     */
+    public long getFailedCount() {
+        return buffer.getFailures();
+    }
+
+    /**
+     * Writes the buffered writes and closes the wrapped manager
+     */
+    @Override
+    public void close() {
+        try {
+            buffer.close();
+        } finally {
+            manager.close();
+        }
+    }
+
+    private void write(List<DocumentWrite> writes) {
+        List<DocumentEntity> inserts = new ArrayList<>();
+        List<DocumentEntity> updates = new ArrayList<>();
+        Map<Duration, List<DocumentEntity>> expiring = new LinkedHashMap<>();
+        for (DocumentWrite write : writes) {
+            if (write.isUpdate()) {
+                updates.add(write.getEntity());
+            } else if (write.getTtl() == null) {
+                inserts.add(write.getEntity());
+            } else {
+                expiring.computeIfAbsent(write.getTtl(), ttl -> new ArrayList<>()).add(write.getEntity());
+            }
+        }
+        if (!inserts.isEmpty()) {
+            manager.insert(inserts);
+        }
+        expiring.forEach((ttl, entities) -> manager.insert(entities, ttl));
+        if (!updates.isEmpty()) {
+            manager.update(updates);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindDocumentCollectionManager{" +
+                "manager=" + manager +
+                ", buffer=" + buffer +
+                '}';
+    }
+}
@@ -21,11 +21,18 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Contains tests to handle attachment representations.
@@ -76,6 +83,29 @@ public class AttachmentTest {
         checkAttachment(att, name, contentType, mod);
     }
     
+    @Test
+    public void testPathAttachmentMappedData() throws IOException {
+        Path tempFile = Files.createTempFile("jnosql-test", ".txt");
+        try {
+            Files.write(tempFile, testData);
+
+            EntityAttachment att = EntityAttachment.of(tempFile);
+            Optional<MappedByteBuffer> mapped = att.getMappedData();
+            assertTrue(mapped.isPresent());
+            byte[] data = new byte[mapped.get().remaining()];
+            mapped.get().get(data);
+            assertArrayEquals(testData, data);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    public void testMemoryAttachmentMappedData() throws IOException {
+        EntityAttachment att = EntityAttachment.of("testfile.txt", System.currentTimeMillis(), contentType, testData);
+        assertFalse(att.getMappedData().isPresent());
+    }
+    
     private void checkAttachment(EntityAttachment att, String name, String contentType, long lastModified) throws IOException {
         assertEquals(name, att.getName());
         assertEquals(contentType, att.getContentType());
@@ -88,6 +118,18 @@ public class AttachmentTest {
         }
         
         assertArrayEquals(testData, data.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(testData.length);
+        try(ReadableByteChannel channel = att.getChannel()) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // reads until the buffer is full
+            }
+        }
+        assertArrayEquals(testData, buffer.array());
+
+        ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+        assertEquals(testData.length, att.transferTo(Channels.newChannel(transferred)));
+        assertArrayEquals(testData, transferred.toByteArray());
     }
     
      public static long copyStream(InputStream is, OutputStream os, int bufferSize) throws IOException {
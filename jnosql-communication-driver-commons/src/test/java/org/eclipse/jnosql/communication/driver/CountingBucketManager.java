@@ -0,0 +1,286 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.memory.InMemoryBucketManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The database of the tests of the decorators: an {@link InMemoryBucketManager} that counts the calls that reach it.
+ * The reads can be blocked, scripted or failed and the writes failed, to drive the decorator from the test.
+ * The close keeps the entries, so a test can check them after the code under test closes the manager.
+ */
+public class CountingBucketManager implements BucketManager {
+
+    private final InMemoryBucketManager values = InMemoryBucketManager.of();
+
+    private final AtomicInteger gets = new AtomicInteger();
+
+    private final AtomicInteger batchGets = new AtomicInteger();
+
+    private final AtomicInteger puts = new AtomicInteger();
+
+    private final AtomicInteger batchPuts = new AtomicInteger();
+
+    private final AtomicInteger expiringPuts = new AtomicInteger();
+
+    private final AtomicInteger deletes = new AtomicInteger();
+
+    private final AtomicInteger batchDeletes = new AtomicInteger();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+    private final List<Object> lastBatch = new ArrayList<>();
+
+    private final Queue<Supplier<?>> reads = new ConcurrentLinkedQueue<>();
+
+    private volatile Duration lastTtl;
+
+    private volatile CountDownLatch latch = new CountDownLatch(0);
+
+    private volatile RuntimeException readError;
+
+    private volatile RuntimeException writeError;
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        checkWrite();
+        puts.incrementAndGet();
+        values.put(key, value);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        put(entity.getKey(), entity.getValue());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        checkWrite();
+        puts.incrementAndGet();
+        expiringPuts.incrementAndGet();
+        lastTtl = ttl;
+        values.put(entity, ttl);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        checkWrite();
+        batchPuts.incrementAndGet();
+        batch(entities).forEach(this::put);
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        checkWrite();
+        batchPuts.incrementAndGet();
+        batch(entities).forEach(entity -> put(entity, ttl));
+    }
+
+    /**
+     * Counts the read, waits while the manager is blocked, then runs the next scripted read if there is one,
+     * otherwise it reads the stored value.
+     */
+    @Override
+    public <K> Optional<Value> get(K key) {
+        gets.incrementAndGet();
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+        if (readError != null) {
+            throw readError;
+        }
+        Supplier<?> read = reads.poll();
+        if (read == null) {
+            return values.get(key);
+        }
+        Object value = read.get();
+        if (value == null) {
+            throw new IllegalStateException("The read failed");
+        }
+        return Optional.of(Value.of(value));
+    }
+
+    @Override
+    public synchronized <K> Iterable<Value> get(Iterable<K> keys) {
+        batchGets.incrementAndGet();
+        lastBatch.clear();
+        List<Value> result = new ArrayList<>();
+        for (K key : keys) {
+            lastBatch.add(key);
+            values.get(key).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        checkWrite();
+        deletes.incrementAndGet();
+        values.delete(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        checkWrite();
+        batchDeletes.incrementAndGet();
+        keys.forEach(this::delete);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Makes the next reads wait until {@link #release()}
+     */
+    public void block() {
+        latch = new CountDownLatch(1);
+    }
+
+    public void release() {
+        latch.countDown();
+    }
+
+    /**
+     * The reads throw the error, a null error makes them succeed again
+     *
+     * @param error the error
+     */
+    public void failReads(RuntimeException error) {
+        this.readError = error;
+    }
+
+    /**
+     * The writes throw the error, a null error makes them succeed again
+     *
+     * @param error the error
+     */
+    public void failWrites(RuntimeException error) {
+        this.writeError = error;
+    }
+
+    /**
+     * Queues the result of a next single read, a null result makes that read fail
+     *
+     * @param read the read
+     */
+    public void next(Supplier<?> read) {
+        reads.add(read);
+    }
+
+    public void awaitGets(int expected) throws InterruptedException {
+        await(gets::get, expected, "the reads did not reach the database");
+    }
+
+    public void awaitRunning(int expected) throws InterruptedException {
+        await(running::get, expected, "the operations did not start");
+    }
+
+    public int getGets() {
+        return gets.get();
+    }
+
+    public int getBatchGets() {
+        return batchGets.get();
+    }
+
+    public int getPuts() {
+        return puts.get();
+    }
+
+    public int getBatchPuts() {
+        return batchPuts.get();
+    }
+
+    public int getExpiringPuts() {
+        return expiringPuts.get();
+    }
+
+    public int getDeletes() {
+        return deletes.get();
+    }
+
+    public int getBatchDeletes() {
+        return batchDeletes.get();
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public int getMaxRunning() {
+        return maxRunning.get();
+    }
+
+    public List<Integer> getBatches() {
+        return new ArrayList<>(batches);
+    }
+
+    public synchronized List<Object> getLastBatch() {
+        return new ArrayList<>(lastBatch);
+    }
+
+    public Duration getLastTtl() {
+        return lastTtl;
+    }
+
+    private void checkWrite() {
+        if (writeError != null) {
+            throw writeError;
+        }
+    }
+
+    private List<KeyValueEntity> batch(Iterable<KeyValueEntity> entities) {
+        List<KeyValueEntity> batch = new ArrayList<>();
+        entities.forEach(batch::add);
+        batches.add(batch.size());
+        return batch;
+    }
+
+    private static void await(IntSupplier counter, int expected, String message) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.getAsInt() < expected) {
+            assertTrue(System.nanoTime() < deadline, message);
+            Thread.sleep(1L);
+        }
+    }
+}
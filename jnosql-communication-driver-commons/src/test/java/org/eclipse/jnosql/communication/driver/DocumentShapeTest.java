@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.document.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DocumentShapeTest {
+
+    @Test
+    public void shouldReturnScalar() {
+        DocumentShape shape = DocumentShape.of(10);
+        assertEquals(DocumentShape.Type.SCALAR, shape.getType());
+        assertEquals(Collections.emptyList(), shape.getElements());
+        assertThrows(IllegalStateException.class, shape::getDocuments);
+    }
+
+    @Test
+    public void shouldReturnDocument() {
+        Document document = Document.of("mobile", "1231231");
+        DocumentShape shape = DocumentShape.of(document);
+        assertEquals(DocumentShape.Type.DOCUMENT, shape.getType());
+        assertEquals(document, shape.getDocument());
+    }
+
+    @Test
+    public void shouldReturnSubDocument() {
+        List<Document> documents = asList(Document.of("mobile", "1231231"), Document.of("phone", "3213213"));
+        DocumentShape shape = DocumentShape.of(documents);
+        assertEquals(DocumentShape.Type.SUBDOCUMENT, shape.getType());
+        assertEquals(documents, shape.getDocuments());
+    }
+
+    @Test
+    public void shouldReturnSubDocumentWhenIterableIsEmpty() {
+        DocumentShape shape = DocumentShape.of(Collections.emptyList());
+        assertEquals(DocumentShape.Type.SUBDOCUMENT, shape.getType());
+        assertEquals(Collections.emptyList(), shape.getDocuments());
+    }
+
+    @Test
+    public void shouldReturnSubDocumentList() {
+        List<Document> ada = asList(Document.of("name", "Ada"), Document.of("type", "EMAIL"));
+        List<Document> otavio = asList(Document.of("name", "Otavio"), Document.of("type", "MOBILE"));
+        DocumentShape shape = DocumentShape.of(asList(ada, otavio));
+        assertEquals(DocumentShape.Type.SUBDOCUMENT_LIST, shape.getType());
+        assertEquals(asList(ada, otavio), shape.getSubDocuments());
+    }
+
+    @Test
+    public void shouldReturnList() {
+        DocumentShape shape = DocumentShape.of(Arrays.asList(10, 20));
+        assertEquals(DocumentShape.Type.LIST, shape.getType());
+        assertEquals(Arrays.asList(10, 20), shape.getElements());
+        assertThrows(IllegalStateException.class, shape::getSubDocuments);
+    }
+
+    @Test
+    public void shouldReturnListWhenItMixesDocumentAndIterable() {
+        List<Object> values = asList(Document.of("name", "Ada"), asList(Document.of("name", "Otavio")));
+        DocumentShape shape = DocumentShape.of(values);
+        assertEquals(DocumentShape.Type.LIST, shape.getType());
+        assertEquals(values, shape.getElements());
+    }
+
+    @Test
+    public void shouldTraverseIterableOnce() {
+        List<Document> documents = asList(Document.of("mobile", "1231231"), Document.of("phone", "3213213"));
+        int[] traversals = new int[1];
+        Iterable<Document> iterable = () -> {
+            traversals[0]++;
+            return documents.iterator();
+        };
+        DocumentShape shape = DocumentShape.of(iterable);
+        assertEquals(DocumentShape.Type.SUBDOCUMENT, shape.getType());
+        assertEquals(documents, shape.getDocuments());
+        assertEquals(1, traversals[0]);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ValueCodecTest {
+
+    private final ValueCodec binary = ValueCodec.getInstance("binary");
+
+    @Test
+    public void shouldReturnJsonAsDefault() {
+        ValueCodec codec = ValueCodec.getInstance();
+        assertEquals("json", codec.getName());
+        assertTrue(codec.isText());
+    }
+
+    @Test
+    public void shouldFindByName() {
+        assertSame(JsonbValueCodec.INSTANCE, ValueCodec.getInstance("JSON"));
+        assertSame(BinaryValueCodec.INSTANCE, ValueCodec.getInstance("binary"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNameIsUnknown() {
+        assertThrows(NullPointerException.class, () -> ValueCodec.getInstance(null));
+        assertThrows(IllegalArgumentException.class, () -> ValueCodec.getInstance("xml"));
+    }
+
+    @Test
+    public void shouldKeepJsonText() {
+        ValueCodec codec = ValueCodec.getInstance("json");
+        User user = new User("Ada", 32);
+        byte[] bytes = codec.encode(user);
+        assertEquals(codec.encodeToText(user), new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(user, codec.decode(bytes).get(User.class));
+        assertEquals(user, codec.decodeText(codec.encodeToText(user)).get(User.class));
+    }
+
+    @Test
+    public void shouldConvertScalars() {
+        for (Object value : Arrays.asList(10, -10L, Long.MAX_VALUE, (short) 3, (byte) 1, 1.5F, 12.75D,
+                'a', "Ada Lovelace", true, false)) {
+            assertEquals(value, binary.decode(binary.encode(value)).get());
+        }
+    }
+
+    @Test
+    public void shouldConvertBytes() {
+        byte[] value = {1, 2, 3, 4};
+        assertArrayEquals(value, (byte[]) binary.decode(binary.encode(value)).get());
+    }
+
+    @Test
+    public void shouldConvertListAndMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "Ada");
+        map.put("scores", Arrays.asList(10, 20, 30));
+        Value value = binary.decode(binary.encode(map));
+        assertEquals(map, value.get());
+
+        List<Integer> list = binary.decode(binary.encode(Arrays.asList(1, 2, 3)))
+                .get(new TypeReference<List<Integer>>() {
+                });
+        assertThat(list, contains(1, 2, 3));
+    }
+
+    @Test
+    public void shouldConvertOtherTypesAsJson() {
+        User user = new User("Ada", 32);
+        Value value = binary.decode(binary.encode(user));
+        assertEquals(user, value.get(User.class));
+        assertEquals(user, binary.decodeText(binary.encodeToText(user)).get(User.class));
+        assertFalse(binary.isText());
+    }
+
+    @Test
+    public void shouldBeSmallerThanJson() {
+        List<Long> values = Arrays.asList(1L, 200L, 30_000L, 4_000_000L, 5_000_000_000L);
+        assertThat(binary.encode(values).length, lessThan(ValueCodec.getInstance("json").encode(values).length));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBinaryIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(new byte[]{10, 100}));
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(new byte[]{99}));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ValueCompressionTest {
+
+    private final ValueCompression compression = ValueCompression.of("deflate", 64);
+
+    @Test
+    public void shouldFindCompressor() {
+        assertSame(DeflateValueCompressor.INSTANCE, ValueCompressor.getInstance("DEFLATE"));
+        assertSame(DeflateValueCompressor.INSTANCE, ValueCompressor.getInstance((byte) 1));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCompressorIsUnknown() {
+        assertThrows(NullPointerException.class, () -> ValueCompressor.getInstance(null));
+        assertThrows(IllegalArgumentException.class, () -> ValueCompressor.getInstance("lz4"));
+        assertThrows(IllegalArgumentException.class, () -> ValueCompressor.getInstance((byte) 99));
+        assertThrows(IllegalArgumentException.class, () -> ValueCompression.of("deflate", -1));
+    }
+
+    @Test
+    public void shouldCompress() {
+        byte[] value = repeat("otavio santana ", 100);
+        byte[] compressed = compression.compress(value);
+        assertTrue(ValueCompression.isCompressed(compressed));
+        assertThat(compressed.length, lessThan(value.length));
+        assertArrayEquals(value, ValueCompression.decompress(compressed));
+    }
+
+    @Test
+    public void shouldNotCompressBelowThreshold() {
+        byte[] value = "otavio".getBytes(StandardCharsets.UTF_8);
+        assertSame(value, compression.compress(value));
+        assertFalse(ValueCompression.isCompressed(value));
+    }
+
+    @Test
+    public void shouldNotCompressWhenItIsNotSmaller() {
+        byte[] value = new byte[128];
+        new Random(42).nextBytes(value);
+        value[0] = 0;
+        assertSame(value, compression.compress(value));
+    }
+
+    @Test
+    public void shouldReadUncompressedValue() {
+        byte[] value = repeat("{\"name\":\"Ada\"}", 10);
+        assertSame(value, ValueCompression.decompress(value));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCompressedValueIsInvalid() {
+        byte[] value = {ValueCompression.HEADER, 1, 1, 2, 3};
+        assertThrows(IllegalArgumentException.class, () -> ValueCompression.decompress(value));
+    }
+
+    @Test
+    public void shouldWrapCodec() {
+        ValueCodec codec = compression.wrap(ValueCodec.getInstance("binary"));
+        assertEquals("binary+deflate", codec.getName());
+        String name = new String(repeat("Ada", 50), StandardCharsets.UTF_8);
+        User user = new User(name, 10);
+        byte[] bytes = codec.encode(user);
+        assertTrue(ValueCompression.isCompressed(bytes));
+        assertEquals(user, codec.decode(bytes).get(User.class));
+        assertEquals("otavio", codec.decode(codec.encode("otavio")).get());
+    }
+
+    @Test
+    public void shouldReadValuesWrittenWithoutCompression() {
+        ValueCodec json = ValueCodec.getInstance();
+        ValueCodec codec = compression.wrap(json);
+        User user = new User("Ada", 10);
+        Value value = codec.decode(json.encode(user));
+        assertEquals(user, value.get(User.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTextCodecWritesText() {
+        ValueCodec codec = compression.wrap(ValueCodec.getInstance());
+        User user = new User("Ada", 10);
+        assertThrows(UnsupportedOperationException.class, () -> codec.encodeToText(user));
+        assertThrows(UnsupportedOperationException.class, () -> codec.decodeText("{}"));
+
+        ValueCodec binary = compression.wrap(ValueCodec.getInstance("binary"));
+        assertEquals(user, binary.decodeText(binary.encodeToText(user)).get(User.class));
+    }
+
+    private static byte[] repeat(String text, int times) {
+        String[] values = new String[times];
+        Arrays.fill(values, text);
+        return String.join("", values).getBytes(StandardCharsets.UTF_8);
+    }
+}
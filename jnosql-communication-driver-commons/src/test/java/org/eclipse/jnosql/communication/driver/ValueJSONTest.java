@@ -18,6 +18,8 @@ import jakarta.nosql.TypeReference;
 import jakarta.nosql.Value;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -25,9 +27,14 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ValueJSONTest {
 
@@ -54,4 +61,52 @@ public class ValueJSONTest {
         assertThat(valueResult, containsInAnyOrder("1", "2", "3"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReturnErrorWhenBytesIsNull() {
+        assertThrows(NullPointerException.class, () -> ValueJSON.ofBytes((byte[]) null));
+        assertThrows(NullPointerException.class, () -> ValueJSON.ofBytes((ByteBuffer) null));
+    }
+
+    @Test
+    public void shouldConvertFromBytes() {
+        Value value = ValueJSON.ofBytes("[\"1\",\"2\",\"3\"]".getBytes(StandardCharsets.UTF_8));
+        List<String> result = value.get(new TypeReference<List<String>>(){});
+        assertThat(result, contains("1", "2", "3"));
+        assertEquals("[\"1\",\"2\",\"3\"]", value.get());
+        assertTrue(value.isInstanceOf(String.class));
+    }
+
+    @Test
+    public void shouldConvertFromByteBuffer() {
+        byte[] bytes = "__5000__".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, 4);
+        Value value = ValueJSON.ofBytes(buffer);
+        assertEquals(Integer.valueOf(5_000), value.get(Integer.class));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void shouldMemoizeTheLastDecodedImmutableType() {
+        Value value = ValueJSON.ofBytes("\"Ada\"".getBytes(StandardCharsets.UTF_8));
+        String first = value.get(String.class);
+        assertSame(first, value.get(String.class));
+        assertEquals("Ada", first);
+    }
+
+    @Test
+    public void shouldNotShareMutableInstances() {
+        Value value = ValueJSON.ofBytes("{\"name\":\"Ada\",\"age\":10}".getBytes(StandardCharsets.UTF_8));
+        Map<String, Object> first = value.get(new TypeReference<Map<String, Object>>(){});
+        first.put("name", "Grace");
+        Map<String, Object> second = value.get(new TypeReference<Map<String, Object>>(){});
+        assertNotSame(first, second);
+        assertEquals("Ada", second.get("name"));
+    }
+
+    @Test
+    public void shouldReturnBytes() {
+        byte[] bytes = "10".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(bytes, ValueJSON.ofBytes(bytes).toBytes());
+        assertArrayEquals(bytes, ((ValueJSON) ValueJSON.of(10)).toBytes());
+    }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -61,6 +62,24 @@ class ValueUtilTest {
         assertEquals(Arrays.asList(10, 20), ValueUtil.convertToList(value));
     }
 
+    @Test
+    public void shouldConvertIterable() {
+        Iterable<Value> iterable = () -> Arrays.asList(Value.of(10), Value.of(20)).iterator();
+        Value value = Value.of(iterable);
+        assertEquals(Arrays.asList(10, 20), ValueUtil.convert(value));
+        assertEquals(Arrays.asList(10, 20), ValueUtil.convertToList(value));
+    }
 
+    @Test
+    public void shouldKeepInnerIterable() {
+        List<Integer> numbers = Arrays.asList(10, 20);
+        Value value = Value.of(Arrays.asList(numbers, 30));
+        assertEquals(Arrays.asList(numbers, 30), ValueUtil.convert(value));
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldConvertMixedValues() {
+        Value value = Value.of(Arrays.asList(Value.of(10), 20, Value.of(Arrays.asList(30, 40))));
+        assertEquals(Arrays.asList(10, 20, Arrays.asList(30, 40)), ValueUtil.convertToList(value));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.CountingBucketManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncBucketManagerTest {
+
+    private final CountingBucketManager database = new CountingBucketManager();
+
+    @AfterEach
+    public void afterEach() {
+        database.release();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> AsyncBucketManager.of(null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncBucketManager.of(database, 0));
+    }
+
+    @Test
+    public void shouldRunOperations() throws Exception {
+        AsyncBucketManager manager = AsyncBucketManager.of(database);
+        manager.put("otavio", "Otavio").toCompletableFuture().get(5, TimeUnit.SECONDS);
+        Optional<Value> value = manager.get("otavio").toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals("Otavio", value.map(Value::get).orElse(null));
+        manager.delete("otavio").toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertFalse(manager.get("otavio").toCompletableFuture().get(5, TimeUnit.SECONDS).isPresent());
+    }
+
+    @Test
+    public void shouldNotBlockCaller() throws Exception {
+        AsyncBucketManager manager = AsyncBucketManager.of(database);
+        database.block();
+        CompletableFuture<Optional<Value>> value = manager.get("otavio").toCompletableFuture();
+        assertFalse(value.isDone());
+        database.release();
+        assertFalse(value.get(5, TimeUnit.SECONDS).isPresent());
+    }
+
+    @Test
+    public void shouldFailWhenTheExecutorRejects() {
+        LimitedExecutor executor = new LimitedExecutor(command -> {
+            throw new RejectedExecutionException("shutdown");
+        }, 2);
+        AsyncBucketManager manager = new BlockingAsyncBucketManager(database, executor);
+        CompletableFuture<Optional<Value>> value = manager.get("otavio").toCompletableFuture();
+        ExecutionException exception = assertThrows(ExecutionException.class, value::get);
+        assertTrue(exception.getCause() instanceof RejectedExecutionException);
+        assertEquals(0, database.getGets());
+        assertEquals(0, executor.getRunning());
+    }
+
+    @Test
+    public void shouldLimitConcurrency() throws Exception {
+        AsyncBucketManager manager = AsyncBucketManager.of(database, 2);
+        database.block();
+        List<CompletableFuture<Optional<Value>>> values = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            values.add(manager.get("key-" + index).toCompletableFuture());
+        }
+        database.awaitRunning(2);
+        Thread.sleep(50L);
+        assertEquals(2, database.getRunning());
+        database.release();
+        for (CompletableFuture<Optional<Value>> value : values) {
+            value.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(2, database.getMaxRunning());
+        assertEquals(10, database.getGets());
+    }
+
+    @Test
+    public void shouldCompleteExceptionally() {
+        AsyncBucketManager manager = AsyncBucketManager.of(database);
+        database.failReads(new IllegalStateException("database is down"));
+        CompletionStage<Optional<Value>> value = manager.get("otavio");
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> value.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertSame(IllegalStateException.class, exception.getCause().getClass());
+    }
+}
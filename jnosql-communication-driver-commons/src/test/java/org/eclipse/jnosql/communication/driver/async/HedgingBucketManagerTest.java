@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.CountingBucketManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgingBucketManagerTest {
+
+    private static final HedgingPolicy POLICY = HedgingPolicy.builder()
+            .withDelay(Duration.ofMillis(20), Duration.ofMillis(20))
+            .build();
+
+    private final CountingBucketManager database = new CountingBucketManager();
+
+    @BeforeEach
+    public void setUp() {
+        database.put("otavio", "Otavio");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> HedgingBucketManager.of(null));
+        assertThrows(NullPointerException.class, () -> HedgingBucketManager.of(database, null));
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().withPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().withBudget(2));
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder()
+                .withDelay(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void shouldNotHedgeFastRead() {
+        HedgingBucketManager manager = HedgingBucketManager.of(database, POLICY);
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals(1, database.getGets());
+        assertEquals(0, manager.getHedgeCount());
+    }
+
+    @Test
+    public void shouldHedgeSlowRead() throws InterruptedException {
+        HedgingBucketManager manager = HedgingBucketManager.of(database, POLICY);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        database.next(() -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return "slow";
+        });
+        long start = System.nanoTime();
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(2, database.getGets());
+        assertEquals(1, manager.getHedgeCount());
+        assertEquals(1, manager.getHedgeWinCount());
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertFalse(interrupted.get(), "the slow read was interrupted");
+    }
+
+    @Test
+    public void shouldLimitHedgesToBudget() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .withDelay(Duration.ofMillis(10), Duration.ofMillis(10))
+                .withBudget(0D)
+                .withBurst(1)
+                .build();
+        HedgingBucketManager manager = HedgingBucketManager.of(database, policy);
+        database.next(() -> sleep(200, "slow"));
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        database.next(() -> sleep(100, "slow"));
+        assertEquals("slow", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals(3, database.getGets());
+        assertEquals(1, manager.getHedgeCount());
+    }
+
+    @Test
+    public void shouldWaitOtherReadWhenOneFails() {
+        HedgingBucketManager manager = HedgingBucketManager.of(database, POLICY);
+        database.next(() -> sleep(50, null));
+        database.next(() -> sleep(100, "hedge"));
+        assertEquals("hedge", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals(1, manager.getHedgeWinCount());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenReadFails() {
+        HedgingBucketManager manager = HedgingBucketManager.of(database, POLICY);
+        database.next(() -> null);
+        assertThrows(IllegalStateException.class, () -> manager.get("otavio"));
+        assertEquals(0, manager.getHedgeCount());
+    }
+
+    @Test
+    public void shouldTrackLatencyAtPercentile() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .withDelay(Duration.ZERO, Duration.ofSeconds(1))
+                .withWindow(100)
+                .build();
+        LatencyTracker tracker = new LatencyTracker(policy);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), tracker.getDelay());
+        for (int index = 1; index <= 100; index++) {
+            tracker.record(index * 1_000L);
+        }
+        long delay = tracker.getDelay();
+        assertTrue(delay >= 95_000L && delay <= 98_000L, "unexpected delay " + delay);
+        for (int index = 0; index < 100; index++) {
+            tracker.record(10_000L);
+        }
+        assertTrue(tracker.getDelay() <= 10_400L, "the delay did not follow the recent latency");
+    }
+
+    private static String sleep(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.async;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
+import org.eclipse.jnosql.communication.driver.memory.InMemoryDocumentCollectionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HedgingDocumentCollectionManagerTest {
+
+    private final AtomicInteger closed = new AtomicInteger();
+
+    private final Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+
+    private HedgingDocumentCollectionManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        InMemoryDocumentCollectionManager database = InMemoryDocumentCollectionManager.of();
+        DocumentEntity entity = DocumentEntity.of("heroes");
+        entity.add(Document.of("_id", 1));
+        entity.add(Document.of("name", "Otavio"));
+        database.insert(entity);
+        manager = HedgingDocumentCollectionManager.of(closing(database));
+    }
+
+    @Test
+    public void shouldCloseTheStreamOfTheRead() {
+        List<DocumentEntity> entities = manager.select(DocumentQuery.select().from("heroes").build())
+                .collect(Collectors.toList());
+        assertEquals(1, entities.size());
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void shouldNotHedgeAStatefulQuery() {
+        DocumentQuery query = DocumentQuery.select().from("heroes").build();
+        DocumentQuery stateful = (DocumentQuery) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{DocumentQuery.class, StatefulQuery.class},
+                (proxy, method, args) -> method.invoke(query, args));
+
+        try (Stream<DocumentEntity> entities = manager.select(stateful)) {
+            assertSame(Thread.currentThread(), threads.poll());
+            assertEquals(1L, entities.count());
+        }
+        assertEquals(0, manager.getHedgeCount());
+    }
+
+    @Test
+    public void shouldHedgeAQueryOfAnotherType() {
+        DocumentQuery query = DocumentQuery.select().from("heroes").build();
+        DocumentQuery other = (DocumentQuery) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{DocumentQuery.class}, (proxy, method, args) -> method.invoke(query, args));
+
+        assertEquals(1L, manager.select(other).count());
+        assertNotSame(Thread.currentThread(), threads.poll());
+    }
+
+    private DocumentCollectionManager closing(DocumentCollectionManager database) {
+        return (DocumentCollectionManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{DocumentCollectionManager.class}, (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(database, args);
+                        if ("select".equals(method.getName())) {
+                            threads.add(Thread.currentThread());
+                            return ((Stream<?>) result).onClose(closed::incrementAndGet);
+                        }
+                        return result;
+                    } catch (InvocationTargetException exception) {
+                        throw exception.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.CountingBucketManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CoalescingBucketManagerTest {
+
+    private static final int CALLERS = 8;
+
+    private final CountingBucketManager database = new CountingBucketManager();
+
+    private final CoalescingBucketManager manager = CoalescingBucketManager.of(database);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    public void afterEach() {
+        database.release();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> CoalescingBucketManager.of(null));
+        assertThrows(IllegalArgumentException.class, () -> CoalescingBucketManager.of(database, 0));
+        assertThrows(NullPointerException.class, () -> manager.get(null));
+    }
+
+    @Test
+    public void shouldCoalesceConcurrentReads() throws Exception {
+        database.put("otavio", "Otavio");
+        database.block();
+        List<Future<Optional<Value>>> results = new ArrayList<>();
+        for (int index = 0; index < CALLERS; index++) {
+            results.add(executor.submit(() -> manager.get("otavio")));
+        }
+        awaitCoalesced(CALLERS - 1);
+        database.release();
+        for (Future<Optional<Value>> result : results) {
+            assertEquals("Otavio", result.get(5, TimeUnit.SECONDS).map(Value::get).orElse(null));
+        }
+        assertEquals(1, database.getGets());
+    }
+
+    @Test
+    public void shouldShareErrorAmongConcurrentReads() throws Exception {
+        database.block();
+        database.failReads(new IllegalStateException("database is down"));
+        List<Future<Optional<Value>>> results = new ArrayList<>();
+        for (int index = 0; index < CALLERS; index++) {
+            results.add(executor.submit(() -> manager.get("otavio")));
+        }
+        awaitCoalesced(CALLERS - 1);
+        database.release();
+        for (Future<Optional<Value>> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(IllegalStateException.class, exception.getCause().getClass());
+        }
+        assertEquals(1, database.getGets());
+    }
+
+    @Test
+    public void shouldReadAgainWhenNoReadIsInFlight() {
+        database.put("otavio", "Otavio");
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals(2, database.getGets());
+        assertEquals(0, manager.getCoalescedCount());
+    }
+
+    @Test
+    public void shouldNotCoalesceDifferentKeys() throws Exception {
+        database.block();
+        Future<Optional<Value>> otavio = executor.submit(() -> manager.get("otavio"));
+        Future<Optional<Value>> ada = executor.submit(() -> manager.get("ada"));
+        database.awaitGets(2);
+        database.release();
+        otavio.get(5, TimeUnit.SECONDS);
+        ada.get(5, TimeUnit.SECONDS);
+        assertEquals(2, database.getGets());
+        assertEquals(0, manager.getCoalescedCount());
+    }
+
+    @Test
+    public void shouldNotShareReadStartedBeforeWrite() throws Exception {
+        database.block();
+        Future<Optional<Value>> before = executor.submit(() -> manager.get("otavio"));
+        database.awaitGets(1);
+        manager.put("otavio", "Otavio");
+        Future<Optional<Value>> after = executor.submit(() -> manager.get("otavio"));
+        database.awaitGets(2);
+        database.release();
+        before.get(5, TimeUnit.SECONDS);
+        assertEquals("Otavio", after.get(5, TimeUnit.SECONDS).map(Value::get).orElse(null));
+        assertEquals(0, manager.getCoalescedCount());
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (manager.getCoalescedCount() < expected) {
+            assertTrue(System.nanoTime() < deadline, "the reads were not coalesced");
+            Thread.sleep(1L);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.CountingBucketManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NearCacheBucketManagerTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private CountingBucketManager delegate;
+
+    private NearCacheBucketManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new CountingBucketManager();
+        manager = NearCacheBucketManager.builder(delegate)
+                .withMaximumSize(100)
+                .withExpireAfterWrite(Duration.ofSeconds(10))
+                .withRefreshAfterWrite(Duration.ofSeconds(5))
+                .withExecutor(Runnable::run)
+                .withTicker(ticker::get)
+                .build();
+    }
+
+    @Test
+    public void shouldServeRepeatedReadsLocally() {
+        delegate.put("otavio", "Otavio");
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).get());
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).get());
+        assertEquals(1, delegate.getGets());
+        assertEquals(1L, manager.getHitCount());
+        assertEquals(1L, manager.getMissCount());
+    }
+
+    @Test
+    public void shouldNotCacheMissingKey() {
+        assertFalse(manager.get("ada").isPresent());
+        assertFalse(manager.get("ada").isPresent());
+        assertEquals(2, delegate.getGets());
+        assertEquals(0L, manager.getSize());
+    }
+
+    @Test
+    public void shouldInvalidateOnWrite() {
+        delegate.put("otavio", "Otavio");
+        manager.get("otavio");
+        manager.put("otavio", "Otavio Santana");
+        assertEquals("Otavio Santana", manager.get("otavio").map(Value::get).get());
+        manager.put(KeyValueEntity.of("otavio", "Poliana"));
+        assertEquals("Poliana", manager.get("otavio").map(Value::get).get());
+        manager.put(Arrays.asList(KeyValueEntity.of("otavio", "Ada")), Duration.ofSeconds(1));
+        assertEquals("Ada", manager.get("otavio").map(Value::get).get());
+    }
+
+    @Test
+    public void shouldInvalidateOnDelete() {
+        delegate.put("otavio", "Otavio");
+        delegate.put("ada", "Ada");
+        manager.get("otavio");
+        manager.get("ada");
+        manager.delete("otavio");
+        manager.delete(Arrays.asList("ada"));
+        assertFalse(manager.get("otavio").isPresent());
+        assertFalse(manager.get("ada").isPresent());
+    }
+
+    @Test
+    public void shouldForwardOnlyMisses() {
+        delegate.put("otavio", "Otavio");
+        delegate.put("ada", "Ada");
+        delegate.put("poliana", "Poliana");
+        manager.get("otavio");
+
+        List<Value> values = new ArrayList<>();
+        manager.get(Arrays.asList("otavio", "ada", "poliana")).forEach(values::add);
+        assertEquals(3, values.size());
+        assertEquals(0, delegate.getBatchGets());
+        assertEquals(3, delegate.getGets());
+    }
+
+    @Test
+    public void shouldKeepTheKeyOrder() {
+        delegate.put("otavio", "Otavio");
+        delegate.put("ada", "Ada");
+        delegate.put("poliana", "Poliana");
+        manager.get("ada");
+
+        List<Object> values = new ArrayList<>();
+        manager.get(Arrays.asList("otavio", "ada", "poliana")).forEach(v -> values.add(v.get()));
+        assertEquals(Arrays.asList("Otavio", "Ada", "Poliana"), values);
+    }
+
+    @Test
+    public void shouldCacheTheMissesOfBatch() {
+        delegate.put("otavio", "Otavio");
+        delegate.put("ada", "Ada");
+
+        List<Object> values = new ArrayList<>();
+        manager.get(Arrays.asList("otavio", "unknown", "ada")).forEach(v -> values.add(v.get()));
+        assertEquals(Arrays.asList("Otavio", "Ada"), values);
+        assertEquals(2L, manager.getSize());
+
+        manager.get(Arrays.asList("ada", "otavio")).forEach(v -> { });
+        assertEquals(0, delegate.getBatchGets());
+        assertEquals(3, delegate.getGets());
+    }
+
+    @Test
+    public void shouldCacheSingleMissOfBatch() {
+        delegate.put("otavio", "Otavio");
+        delegate.put("ada", "Ada");
+        manager.get("otavio");
+        manager.get(Arrays.asList("otavio", "ada")).forEach(v -> { });
+        assertEquals(0, delegate.getBatchGets());
+        assertEquals(2L, manager.getSize());
+    }
+
+    @Test
+    public void shouldExpire() {
+        delegate.put("otavio", "Otavio");
+        manager.get("otavio");
+        ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+        manager.get("otavio");
+        assertEquals(2, delegate.getGets());
+    }
+
+    @Test
+    public void shouldRefreshAfterWrite() {
+        delegate.put("otavio", "Otavio");
+        manager.get("otavio");
+        delegate.put("otavio", "Otavio Santana");
+        ticker.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).get());
+        assertEquals("Otavio Santana", manager.get("otavio").map(Value::get).get());
+        assertEquals(2, delegate.getGets());
+    }
+
+    @Test
+    public void shouldKeepTheLimit() {
+        for (int index = 0; index < 1_000; index++) {
+            delegate.put(index, index);
+            manager.get(index);
+        }
+        assertTrue(manager.getSize() <= 100);
+        assertTrue(manager.getEvictionCount() >= 900);
+    }
+
+    @Test
+    public void shouldKeepHotKeysOnScan() {
+        for (int index = 0; index < 2_000; index++) {
+            delegate.put(index, index);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                manager.get(hot);
+            }
+        }
+        for (int cold = 100; cold < 2_000; cold++) {
+            manager.get(cold);
+        }
+        int gets = delegate.getGets();
+        for (int hot = 0; hot < 50; hot++) {
+            manager.get(hot);
+        }
+        assertTrue(delegate.getGets() - gets < 5, "the scan evicted the hot keys");
+    }
+
+    @Test
+    public void shouldLimitByWeight() {
+        NearCacheBucketManager weighted = NearCacheBucketManager.builder(delegate)
+                .withMaximumWeight(100, value -> value.get(String.class).length())
+                .build();
+        delegate.put("small", "0123456789");
+        delegate.put("big", new String(new char[200]));
+        weighted.get("small");
+        weighted.get("big");
+        assertEquals(1L, weighted.getSize());
+        assertEquals(Optional.of("0123456789"), weighted.get("small").map(Value::get));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBuilderIsInvalid() {
+        assertThrows(NullPointerException.class, () -> NearCacheBucketManager.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> NearCacheBucketManager.builder(delegate)
+                .withMaximumSize(0));
+        assertThrows(IllegalStateException.class, () -> NearCacheBucketManager.builder(delegate).build());
+        assertThrows(IllegalStateException.class, () -> NearCacheBucketManager.builder(delegate)
+                .withMaximumSize(10)
+                .withExpireAfterWrite(Duration.ofSeconds(1))
+                .withRefreshAfterWrite(Duration.ofSeconds(2))
+                .build());
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
+import org.eclipse.jnosql.communication.driver.memory.InMemoryDocumentCollectionManager;
+import org.eclipse.jnosql.communication.driver.metrics.InMemoryMetricsSink;
+import org.eclipse.jnosql.communication.driver.metrics.Instrumentation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationSnapshot;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QueryCacheDocumentCollectionManagerTest {
+
+    private final InMemoryMetricsSink metrics = new InMemoryMetricsSink();
+
+    private volatile Runnable onSelect = () -> {
+    };
+
+    private final DocumentCollectionManager database = Instrumentation.of(InMemoryDocumentCollectionManager.of(),
+            (name, operation, latencyNanos, payloadSize, failed) -> {
+                metrics.record(name, operation, latencyNanos, payloadSize, failed);
+                if (Operations.SELECT.equals(operation)) {
+                    onSelect.run();
+                }
+            });
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final QueryCacheDocumentCollectionManager manager = QueryCacheDocumentCollectionManager.builder(database)
+            .withMaximumSize(100)
+            .withExpireAfterWrite(Duration.ofMinutes(1))
+            .withTicker(ticker::get)
+            .build();
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> QueryCacheDocumentCollectionManager.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> QueryCacheDocumentCollectionManager.builder(database)
+                .withMaximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> QueryCacheDocumentCollectionManager.builder(database)
+                .withExpireAfterWrite(Duration.ofSeconds(-1)));
+        assertThrows(IllegalStateException.class, () -> QueryCacheDocumentCollectionManager.builder(database)
+                .build());
+        assertThrows(NullPointerException.class, () -> manager.select(null));
+    }
+
+    @Test
+    public void shouldCacheEquivalentQueries() {
+        database.insert(hero("Ada", 10));
+        DocumentQuery query = DocumentQuery.select("name", "age").from("heroes")
+                .where("name").eq("Ada").and("age").eq(10).build();
+        DocumentQuery equivalent = DocumentQuery.select("age", "name").from("heroes")
+                .where("age").eq(10).and("name").eq("Ada").build();
+        assertEquals(1, manager.select(query).count());
+        assertEquals(1, manager.select(equivalent).count());
+        assertEquals(1L, getSelects());
+        assertEquals(1, manager.getHitCount());
+        assertEquals(1, manager.getMissCount());
+        assertEquals(1, manager.getSize());
+    }
+
+    @Test
+    public void shouldNotShareEntitiesAmongCallers() {
+        database.insert(hero("Ada", 10));
+        DocumentQuery query = DocumentQuery.select().from("heroes").build();
+        manager.select(query).forEach(entity -> entity.add(Document.of("name", "Otavio")));
+        List<DocumentEntity> entities = manager.select(query).collect(Collectors.toList());
+        assertEquals("Ada", entities.get(0).find("name").map(Document::get).orElse(null));
+        assertEquals(1L, getSelects());
+    }
+
+    @Test
+    public void shouldInvalidateCollectionOnWrite() {
+        database.insert(hero("Ada", 10));
+        database.insert(DocumentEntity.of("villains", Collections.singletonList(Document.of("name", "Joker"))));
+        DocumentQuery heroes = DocumentQuery.select().from("heroes").build();
+        DocumentQuery villains = DocumentQuery.select().from("villains").build();
+        manager.select(heroes).count();
+        manager.select(villains).count();
+
+        manager.insert(hero("Otavio", 20));
+        assertEquals(2, manager.select(heroes).count());
+        manager.select(villains).count();
+        assertEquals(3L, getSelects());
+
+        manager.delete(DocumentDeleteQuery.delete().from("heroes").build());
+        assertEquals(0, manager.select(heroes).count());
+        assertEquals(4L, getSelects());
+    }
+
+    @Test
+    public void shouldExpireAfterWrite() {
+        database.insert(hero("Ada", 10));
+        DocumentQuery query = DocumentQuery.select().from("heroes").build();
+        manager.select(query).count();
+        ticker.addAndGet(Duration.ofSeconds(59).toNanos());
+        manager.select(query).count();
+        assertEquals(1L, getSelects());
+        ticker.addAndGet(Duration.ofSeconds(1).toNanos());
+        manager.select(query).count();
+        assertEquals(2L, getSelects());
+    }
+
+    @Test
+    public void shouldKeepEachCollectionUnderItsBudget() {
+        QueryCacheDocumentCollectionManager manager = QueryCacheDocumentCollectionManager.builder(database)
+                .withMaximumSize(2)
+                .build();
+        database.insert(hero("Ada", 10));
+        database.insert(DocumentEntity.of("villains", Collections.singletonList(Document.of("name", "Joker"))));
+        DocumentQuery first = DocumentQuery.select().from("heroes").limit(1).build();
+        DocumentQuery second = DocumentQuery.select().from("heroes").limit(2).build();
+        DocumentQuery third = DocumentQuery.select().from("heroes").limit(3).build();
+        DocumentQuery villains = DocumentQuery.select().from("villains").build();
+        manager.select(villains).count();
+        manager.select(first).count();
+        manager.select(second).count();
+        manager.select(first).count();
+        manager.select(third).count();
+        assertEquals(1, manager.getEvictionCount());
+        assertEquals(3, manager.getSize());
+
+        manager.select(first).count();
+        manager.select(villains).count();
+        assertEquals(4L, getSelects());
+        manager.select(second).count();
+        assertEquals(5L, getSelects());
+    }
+
+    @Test
+    public void shouldNotCacheResultReadBeforeWrite() {
+        database.insert(hero("Ada", 10));
+        DocumentQuery query = DocumentQuery.select().from("heroes").build();
+        onSelect = () -> {
+            onSelect = () -> {
+            };
+            manager.insert(hero("Otavio", 20));
+        };
+        assertEquals(1, manager.select(query).count());
+        assertEquals(2, manager.select(query).count());
+        assertEquals(2L, getSelects());
+        assertEquals(1, manager.getSize());
+    }
+
+    @Test
+    public void shouldNotCachePagedQueries() {
+        database.insert(hero("Ada", 10));
+        DocumentQuery query = DocumentQuery.select().from("heroes").build();
+        assertEquals(1, manager.select(new PagedQuery(query, "1")).count());
+        assertEquals(1, manager.select(new PagedQuery(query, "2")).count());
+        assertEquals(1, manager.select(new PagedQuery(query, "2")).count());
+        assertEquals(3L, getSelects());
+        assertEquals(0, manager.getSize());
+    }
+
+    private long getSelects() {
+        return metrics.getSnapshots().stream()
+                .filter(snapshot -> Operations.SELECT.equals(snapshot.getOperation()))
+                .mapToLong(OperationSnapshot::getCount)
+                .sum();
+    }
+
+    private static DocumentEntity hero(String name, int age) {
+        List<Document> documents = new ArrayList<>();
+        documents.add(Document.of("name", name));
+        documents.add(Document.of("age", age));
+        return DocumentEntity.of("heroes", documents);
+    }
+
+    private static final class PagedQuery implements DocumentQuery, StatefulQuery {
+
+        private final DocumentQuery query;
+
+        private final String pagingState;
+
+        private PagedQuery(DocumentQuery query, String pagingState) {
+            this.query = query;
+            this.pagingState = pagingState;
+        }
+
+        @Override
+        public long getLimit() {
+            return query.getLimit();
+        }
+
+        @Override
+        public long getSkip() {
+            return query.getSkip();
+        }
+
+        @Override
+        public String getDocumentCollection() {
+            return query.getDocumentCollection();
+        }
+
+        @Override
+        public Optional<DocumentCondition> getCondition() {
+            return query.getCondition();
+        }
+
+        @Override
+        public List<Sort> getSorts() {
+            return query.getSorts();
+        }
+
+        @Override
+        public List<String> getDocuments() {
+            return query.getDocuments();
+        }
+
+        @Override
+        public String toString() {
+            return "PagedQuery{" +
+                    "query=" + query +
+                    ", pagingState='" + pagingState + '\'' +
+                    '}';
+        }
+    }
+}
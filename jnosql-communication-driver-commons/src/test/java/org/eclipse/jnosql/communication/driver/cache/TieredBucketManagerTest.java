@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.CountingBucketManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TieredBucketManagerTest {
+
+    private final CountingBucketManager first = new CountingBucketManager();
+
+    private final CountingBucketManager second = new CountingBucketManager();
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> TieredBucketManager.builder(null, second));
+        assertThrows(NullPointerException.class, () -> TieredBucketManager.builder(first, null));
+        assertThrows(IllegalArgumentException.class, () -> TieredBucketManager.builder(first, second)
+                .withExpireAfterWrite(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void shouldLoadMissFromSecondTier() {
+        TieredBucketManager manager = TieredBucketManager.builder(first, second)
+                .withExpireAfterWrite(Duration.ofMinutes(5))
+                .build();
+        second.put("otavio", "Otavio");
+
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+
+        assertEquals(1, second.getGets());
+        assertEquals(Duration.ofMinutes(5), first.getLastTtl());
+        assertEquals(1L, manager.getHitCount());
+        assertEquals(1L, manager.getMissCount());
+        assertFalse(manager.get("poliana").isPresent());
+    }
+
+    @Test
+    public void shouldWriteThrough() {
+        TieredBucketManager manager = TieredBucketManager.builder(first, second).build();
+        manager.put("otavio", "Otavio");
+        manager.put(KeyValueEntity.of("ada", "Ada"), Duration.ofSeconds(10));
+
+        assertEquals("Otavio", first.get("otavio").map(Value::get).orElse(null));
+        assertEquals("Ada", first.get("ada").map(Value::get).orElse(null));
+        assertEquals(Duration.ofSeconds(10), first.getLastTtl());
+        assertEquals(2, second.getPuts());
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals(0, second.getGets());
+    }
+
+    @Test
+    public void shouldWriteThroughEveryEntityOfBatch() {
+        TieredBucketManager manager = TieredBucketManager.builder(first, second).build();
+        List<KeyValueEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 1_000; index++) {
+            entities.add(KeyValueEntity.of(index, "value " + index));
+        }
+        manager.put(entities);
+
+        assertEquals(1_000, first.getPuts());
+        assertEquals(0, first.getDeletes());
+        assertEquals("value 999", first.get(999).map(Value::get).orElse(null));
+    }
+
+    @Test
+    public void shouldWriteAround() {
+        TieredBucketManager manager = TieredBucketManager.builder(first, second)
+                .withWritePolicy(TieredWritePolicy.WRITE_AROUND)
+                .build();
+        first.put("otavio", "old");
+        manager.put(Arrays.asList(KeyValueEntity.of("otavio", "Otavio"), KeyValueEntity.of("ada", "Ada")));
+
+        assertFalse(first.get("otavio").isPresent());
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertTrue(first.get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldNotFillAValueReadBeforeAWrite() {
+        AtomicReference<TieredBucketManager> tiered = new AtomicReference<>();
+        CountingBucketManager database = new CountingBucketManager() {
+            @Override
+            public <K> Optional<Value> get(K key) {
+                Optional<Value> value = super.get(key);
+                if (getPuts() == 1) {
+                    tiered.get().put("otavio", "Otavio Santana");
+                }
+                return value;
+            }
+        };
+        database.put("otavio", "Otavio");
+        TieredBucketManager manager = TieredBucketManager.builder(first, database)
+                .withWritePolicy(TieredWritePolicy.WRITE_AROUND)
+                .build();
+        tiered.set(manager);
+
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertFalse(first.get("otavio").isPresent());
+        assertEquals("Otavio Santana", manager.get("otavio").map(Value::get).orElse(null));
+    }
+
+    @Test
+    public void shouldInvalidateWhenWritesThroughRace() {
+        AtomicReference<TieredBucketManager> tiered = new AtomicReference<>();
+        CountingBucketManager database = new CountingBucketManager() {
+            @Override
+            public <K, V> void put(K key, V value) {
+                super.put(key, value);
+                if (getPuts() == 1) {
+                    tiered.get().put(key, "Otavio Santana");
+                }
+            }
+        };
+        TieredBucketManager manager = TieredBucketManager.builder(first, database).build();
+        tiered.set(manager);
+
+        manager.put("otavio", "Otavio");
+        assertFalse(first.get("otavio").isPresent());
+        assertEquals("Otavio Santana", manager.get("otavio").map(Value::get).orElse(null));
+    }
+
+    @Test
+    public void shouldDeleteFromBothTiers() {
+        TieredBucketManager manager = TieredBucketManager.builder(first, second).build();
+        manager.put("otavio", "Otavio");
+        manager.put("ada", "Ada");
+        manager.delete("otavio");
+        manager.delete(Arrays.asList("ada"));
+
+        assertFalse(first.get("otavio").isPresent());
+        assertFalse(second.get("otavio").isPresent());
+        assertFalse(first.get("ada").isPresent());
+        assertFalse(second.get("ada").isPresent());
+    }
+
+    @Test
+    public void shouldForwardOnlyMissesOfBatch() {
+        TieredBucketManager manager = TieredBucketManager.builder(first, second).build();
+        manager.put("otavio", "Otavio");
+        second.put("ada", "Ada");
+        second.put("poliana", "Poliana");
+
+        List<Value> values = new ArrayList<>();
+        manager.get(Arrays.asList("otavio", "ada", "poliana")).forEach(values::add);
+
+        assertEquals(3, values.size());
+        assertEquals(Arrays.asList("ada", "poliana"), second.getLastBatch());
+    }
+
+    @Test
+    public void shouldConvertValueToType() {
+        TieredBucketManager manager = TieredBucketManager.builder(first, second)
+                .withValueType(Integer.class)
+                .build();
+        second.put("age", 10);
+        manager.get("age");
+        assertEquals(10, first.get("age").map(Value::get).orElse(null));
+    }
+
+    @Test
+    public void shouldReadSecondTierWhenFirstFails() {
+        first.failReads(new IllegalStateException("The grid is down"));
+        TieredBucketManager manager = TieredBucketManager.builder(first, second).build();
+        second.put("otavio", "Otavio");
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+    }
+
+    @Test
+    public void shouldInvalidateFirstTierWhenSecondFails() {
+        CountingBucketManager failing = new CountingBucketManager();
+        failing.failWrites(new IllegalStateException("The database is down"));
+        TieredBucketManager manager = TieredBucketManager.builder(first, failing).build();
+        first.put("otavio", "old");
+        assertThrows(IllegalStateException.class, () -> manager.put("otavio", "Otavio"));
+        assertFalse(first.get("otavio").isPresent());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DriverOperationEventTest {
+
+    private static final String EVENT = "org.eclipse.jnosql.DriverOperation";
+
+    @Test
+    public void shouldCommitTheFields() throws IOException {
+        List<RecordedEvent> events = record(Duration.ZERO, () -> {
+            DriverOperationEvent event = DriverOperationEvent.start();
+            event.end("mongodb", DriverOperationEvent.SELECT, "heroes", 2L, () -> "{name: 'Ada'}");
+            DriverOperationEvent put = DriverOperationEvent.start();
+            put.end("redis", DriverOperationEvent.PUT, "bucket", 1L);
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent select = events.get(0);
+        assertEquals("mongodb", select.getString("driver"));
+        assertEquals(DriverOperationEvent.SELECT, select.getString("operation"));
+        assertEquals("heroes", select.getString("name"));
+        assertEquals(2L, select.getLong("entityCount"));
+        assertEquals("{name: 'Ada'}", select.getString("nativeQuery"));
+        assertNull(events.get(1).getString("nativeQuery"));
+    }
+
+    @Test
+    public void shouldNotCallTheNativeQueryWhenTheEventIsNotRecorded() {
+        AtomicInteger calls = new AtomicInteger();
+        DriverOperationEvent event = DriverOperationEvent.start();
+        event.end("mongodb", DriverOperationEvent.SELECT, "heroes", 0L, query(calls));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void shouldNotCommitBelowTheThreshold() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+        List<RecordedEvent> events = record(Duration.ofHours(1), () -> {
+            DriverOperationEvent event = DriverOperationEvent.start();
+            event.end("mongodb", DriverOperationEvent.SELECT, "heroes", 0L, query(calls));
+        });
+        assertEquals(0, events.size());
+        assertEquals(0, calls.get());
+    }
+
+    private static Supplier<String> query(AtomicInteger calls) {
+        return () -> {
+            calls.incrementAndGet();
+            return "{}";
+        };
+    }
+
+    private static List<RecordedEvent> record(Duration threshold, Runnable operations) throws IOException {
+        Path file = Files.createTempFile("driver-operation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT).withThreshold(threshold);
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> EVENT.equals(event.getEventType().getName()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
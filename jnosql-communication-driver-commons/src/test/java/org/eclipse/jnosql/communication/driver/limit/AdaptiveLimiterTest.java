@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.limit;
+
+import org.eclipse.jnosql.communication.driver.metrics.InMemoryMetricsSink;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveLimiterTest {
+
+    private final InMemoryMetricsSink sink = new InMemoryMetricsSink();
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> AdaptiveLimiter.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimiter.builder("redis").withLimit(1, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimiter.builder("redis").withLimit(20, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimiter.builder("redis").withTolerance(0.5));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimiter.builder("redis")
+                .withMaximumWait(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    public void shouldPublishInitialLimit() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.builder("redis").withSink(sink).build();
+        assertEquals(20, limiter.getLimit());
+        assertEquals(20L, sink.getGauge("redis", AdaptiveLimiter.LIMIT_GAUGE).orElse(0L));
+    }
+
+    @Test
+    public void shouldRejectCallBeyondLimit() throws Exception {
+        AdaptiveLimiter limiter = fixed(Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> limiter.run(() -> {
+            started.countDown();
+            await(release);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        LimitExceededException exception = assertThrows(LimitExceededException.class, () -> limiter.call(() -> 1));
+        assertEquals(1, exception.getLimit());
+        assertEquals(1L, limiter.getRejectedCount());
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(2, (int) limiter.call(() -> 2));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldWaitForCallInFlight() throws Exception {
+        AdaptiveLimiter limiter = fixed(Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> limiter.run(() -> {
+            started.countDown();
+            await(release);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> limiter.call(() -> 2));
+        Thread.sleep(50L);
+        assertFalse(second.isDone());
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(2, (int) second.get(5, TimeUnit.SECONDS));
+        assertEquals(0L, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void shouldAdaptLimitToLatency() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.builder("redis")
+                .withLimit(10, 2, 100)
+                .withWindow(100)
+                .withSink(sink)
+                .build();
+        for (int index = 0; index < 50; index++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(1), limiter.getLimit());
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 10, "the limit did not grow " + grown);
+        for (int index = 0; index < 50; index++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(20), limiter.getLimit());
+        }
+        int shrunk = limiter.getLimit();
+        assertTrue(shrunk < grown / 2, "the limit did not shrink " + shrunk);
+        assertEquals(shrunk, sink.getGauge("redis", AdaptiveLimiter.LIMIT_GAUGE).orElse(0L));
+    }
+
+    @Test
+    public void shouldNotChangeLimitWhenItIsNotUsed() {
+        AdaptiveLimiter limiter = AdaptiveLimiter.builder("redis").withSink(sink).build();
+        for (int index = 0; index < 50; index++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(index % 2 == 0 ? 1 : 50), 1);
+        }
+        assertEquals(20, limiter.getLimit());
+    }
+
+    private AdaptiveLimiter fixed(Duration maximumWait) {
+        return AdaptiveLimiter.builder("redis")
+                .withLimit(1, 1, 1)
+                .withMaximumWait(maximumWait)
+                .withSink(sink)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InMemoryBucketManagerTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final InMemoryBucketManager manager = InMemoryBucketManager.of(ticker::get);
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> manager.put(null, "value"));
+        assertThrows(NullPointerException.class, () -> manager.put("key", null));
+        assertThrows(IllegalArgumentException.class, () -> manager.put(KeyValueEntity.of("key", "value"),
+                Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void shouldPutGetAndDelete() {
+        manager.put(10, "Otavio");
+        manager.put(Arrays.asList(KeyValueEntity.of("ada", "Ada"), KeyValueEntity.of("alan", "Alan")));
+        assertEquals("Otavio", manager.get(10L).map(Value::get).orElse(null));
+
+        List<Object> values = new ArrayList<>();
+        manager.get(Arrays.asList("ada", "poliana", "alan")).forEach(value -> values.add(value.get()));
+        assertEquals(Arrays.asList("Ada", "Alan"), values);
+
+        manager.delete(Arrays.asList("ada", 10));
+        assertFalse(manager.get("ada").isPresent());
+        assertFalse(manager.get(10).isPresent());
+    }
+
+    @Test
+    public void shouldExpireEntries() {
+        manager.put(KeyValueEntity.of("otavio", "Otavio"), Duration.ofSeconds(10));
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertFalse(manager.get("otavio").isPresent());
+    }
+}
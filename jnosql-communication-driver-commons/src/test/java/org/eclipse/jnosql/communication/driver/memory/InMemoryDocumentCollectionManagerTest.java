@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.memory;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryDocumentCollectionManagerTest {
+
+    private static final String COLLECTION = "person";
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private InMemoryDocumentCollectionManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        manager = InMemoryDocumentCollectionManager.builder().withTicker(ticker::get).build();
+        manager.insert(person(1, "Otavio", 30, "Salvador", "java", "nosql"));
+        manager.insert(person(2, "Ada", 36, "London", "math"));
+        manager.insert(person(3, "Poliana", 25, "Salvador", "java"));
+        manager.insert(person(4, "Alan", 41, "London", "math", "java"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> manager.insert((DocumentEntity) null));
+        assertThrows(IllegalArgumentException.class, () -> manager.insert(person(5, "Joao", 10, "Recife"),
+                Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> manager.update(DocumentEntity.of(COLLECTION)));
+        assertThrows(IllegalArgumentException.class, () -> InMemoryDocumentCollectionManager.builder()
+                .withConcurrency(0));
+    }
+
+    @Test
+    public void shouldGenerateIdAndReplaceByIt() {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION);
+        entity.add(Document.of("name", "Joao"));
+        DocumentEntity inserted = manager.insert(entity);
+        assertTrue(inserted.find("_id").isPresent());
+        assertFalse(entity.find("_id").isPresent());
+        assertEquals(5L, manager.count(COLLECTION));
+
+        manager.insert(person(1L, "Otavio Santana", 31, "Salvador", "java"));
+        assertEquals(5L, manager.count(COLLECTION));
+        assertEquals(Arrays.asList("Otavio Santana", "Ada", "Poliana", "Alan", "Joao"), names(DocumentQuery.select()
+                .from(COLLECTION).build()));
+        assertEquals(0L, manager.count("animal"));
+    }
+
+    @Test
+    public void shouldSelectByEqualsAndIn() {
+        assertEquals(Arrays.asList("Ada"), names(DocumentQuery.select().from(COLLECTION)
+                .where("age").eq(36.0).build()));
+        assertEquals(Arrays.asList("Otavio", "Alan"), names(DocumentQuery.select().from(COLLECTION)
+                .where("_id").in(Arrays.asList(4L, 1, 9)).build()));
+        assertEquals(Arrays.asList("Otavio", "Poliana", "Alan"), names(DocumentQuery.select().from(COLLECTION)
+                .where("skills").eq("java").build()));
+        assertEquals(Arrays.asList("Ada", "Alan"), names(DocumentQuery.select().from(COLLECTION)
+                .where("city").in(Arrays.asList("London", "Paris")).build()));
+    }
+
+    @Test
+    public void shouldSelectByRangeWithSortSkipAndLimit() {
+        DocumentQuery query = DocumentQuery.select().from(COLLECTION)
+                .where("age").gte(30)
+                .orderBy("age").desc()
+                .skip(1)
+                .limit(2)
+                .build();
+        assertEquals(Arrays.asList("Ada", "Otavio"), names(query));
+        assertEquals(Arrays.asList("Otavio", "Poliana"), names(DocumentQuery.select().from(COLLECTION)
+                .where("age").between(25, 30).build()));
+        assertEquals(Arrays.asList("Poliana"), names(DocumentQuery.select().from(COLLECTION)
+                .where("age").lt(30).build()));
+        assertEquals(Arrays.asList("Alan", "Ada", "Otavio", "Poliana"), names(DocumentQuery.select()
+                .from(COLLECTION).where("age").gt(20)
+                .orderBy("city").asc()
+                .orderBy("age").desc()
+                .build()));
+    }
+
+    @Test
+    public void shouldSelectByLikeNotAndOr() {
+        assertEquals(Arrays.asList("Ada", "Alan"), names(DocumentQuery.select().from(COLLECTION)
+                .where("name").like("A%").build()));
+        assertEquals(Arrays.asList("Ada"), names(DocumentQuery.select().from(COLLECTION)
+                .where("name").like("A_a").build()));
+        assertEquals(Arrays.asList("Otavio", "Poliana"), names(DocumentQuery.select().from(COLLECTION)
+                .where("city").not().eq("London").build()));
+        assertEquals(Arrays.asList("Ada", "Poliana"), names(DocumentQuery.select().from(COLLECTION)
+                .where("age").lt(26)
+                .or("name").eq("Ada")
+                .build()));
+        assertEquals(Arrays.asList("Alan"), names(DocumentQuery.select().from(COLLECTION)
+                .where("city").eq("London")
+                .and("skills").eq("java")
+                .build()));
+    }
+
+    @Test
+    public void shouldSelectBySubDocument() {
+        assertEquals(Arrays.asList("Otavio", "Poliana"), names(DocumentQuery.select().from(COLLECTION)
+                .where("address.city").eq("Salvador").build()));
+    }
+
+    @Test
+    public void shouldProjectDocuments() {
+        List<DocumentEntity> entities = manager.select(DocumentQuery.select("name").from(COLLECTION)
+                .where("_id").eq(2).build()).collect(Collectors.toList());
+        assertEquals(1, entities.size());
+        assertEquals(1, entities.get(0).getDocuments().size());
+        assertEquals("Ada", entities.get(0).find("name").get().get());
+    }
+
+    @Test
+    public void shouldKeepIndexesOnUpdateAndDelete() {
+        assertEquals(2, names(DocumentQuery.select().from(COLLECTION).where("city").eq("London").build()).size());
+        manager.update(person(2, "Ada", 36, "Paris", "math"));
+        assertEquals(Arrays.asList("Alan"), names(DocumentQuery.select().from(COLLECTION)
+                .where("city").eq("London").build()));
+        assertEquals(Arrays.asList("Ada"), names(DocumentQuery.select().from(COLLECTION)
+                .where("city").eq("Paris").build()));
+
+        manager.delete(DocumentDeleteQuery.delete().from(COLLECTION).where("age").gt(35).build());
+        assertEquals(2L, manager.count(COLLECTION));
+        assertTrue(names(DocumentQuery.select().from(COLLECTION).where("city").eq("Paris").build()).isEmpty());
+    }
+
+    @Test
+    public void shouldUseExplicitIndexes() {
+        InMemoryDocumentCollectionManager manual = InMemoryDocumentCollectionManager.builder()
+                .withAutomaticIndexes(false)
+                .build();
+        manual.insert(person(1, "Otavio", 30, "Salvador"));
+        manual.createIndex(COLLECTION, "age", IndexType.SORTED);
+        manual.insert(person(2, "Ada", 36, "London"));
+        assertEquals(1L, manual.select(DocumentQuery.select().from(COLLECTION).where("age").gt(31).build())
+                .count());
+        assertEquals(1L, manual.select(DocumentQuery.select().from(COLLECTION).where("age").eq(30).build())
+                .count());
+        assertEquals(1L, manual.select(DocumentQuery.select().from(COLLECTION).where("city").eq("London").build())
+                .count());
+    }
+
+    @Test
+    public void shouldExpireEntities() {
+        manager.insert(person(5, "Joao", 10, "Recife"), Duration.ofSeconds(10));
+        assertEquals(5L, manager.count(COLLECTION));
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(4L, manager.count(COLLECTION));
+        assertTrue(names(DocumentQuery.select().from(COLLECTION).where("city").eq("Recife").build()).isEmpty());
+    }
+
+    @Test
+    public void shouldWriteConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread * 1_000;
+                futures.add(executor.submit(() -> {
+                    for (int index = 0; index < 1_000; index++) {
+                        int id = 100 + offset + index;
+                        manager.insert(person(id, "name" + id, id % 50, "city" + id % 10));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(4_004L, manager.count(COLLECTION));
+        assertEquals(400L, manager.select(DocumentQuery.select().from(COLLECTION).where("city").eq("city3").build())
+                .count());
+        assertEquals(80L, manager.select(DocumentQuery.select().from(COLLECTION).where("age").eq(49).build())
+                .count());
+    }
+
+    private List<String> names(DocumentQuery query) {
+        return manager.select(query)
+                .map(entity -> entity.find("name").get().get().toString())
+                .collect(Collectors.toList());
+    }
+
+    private static DocumentEntity person(Object id, String name, int age, String city, String... skills) {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION);
+        entity.add(Document.of("_id", id));
+        entity.add(Document.of("name", name));
+        entity.add(Document.of("age", age));
+        entity.add(Document.of("city", city));
+        entity.add(Document.of("skills", Arrays.asList(skills)));
+        entity.add(Document.of("address", Arrays.asList(Document.of("city", city), Document.of("zip", "40000"))));
+        return entity;
+    }
+}
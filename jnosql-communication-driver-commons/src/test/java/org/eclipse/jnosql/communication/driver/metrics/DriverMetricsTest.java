@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DriverMetricsTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        assertThrows(NullPointerException.class, () -> DriverMetrics.of((Settings) null));
+        assertThrows(NullPointerException.class, () -> DriverMetrics.of((MetricsSink) null));
+    }
+
+    @Test
+    public void shouldReturnDisabledWhenSettingsDoNotEnable() {
+        assertSame(DriverMetrics.disabled(), DriverMetrics.of(Settings.builder().build()));
+        assertFalse(DriverMetrics.disabled().isEnabled());
+        assertEquals(0L, DriverMetrics.disabled().start());
+        assertEquals(0L, DriverMetrics.disabled().sizeOf("otavio"));
+    }
+
+    @Test
+    public void shouldRecordTheOutcomeAndThePayloadSize() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        DriverMetrics metrics = DriverMetrics.of(sink);
+        assertTrue(metrics.isEnabled());
+
+        metrics.record(Operations.PUT, "heroes", metrics.start(), metrics.sizeOf("otavio"), false);
+        metrics.record(Operations.PUT, "heroes", metrics.start(), 0L, true);
+
+        OperationSnapshot put = sink.getSnapshot("heroes", Operations.PUT).get();
+        assertEquals(2L, put.getCount());
+        assertEquals(1L, put.getErrors());
+        assertEquals(6L, put.getPayloadSize());
+    }
+
+    @Test
+    public void shouldStopRecordingWhenClosed() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        DriverMetrics metrics = DriverMetrics.of(sink);
+        long start = metrics.start();
+        metrics.close();
+
+        metrics.record(Operations.GET, "heroes", start, 0L, false);
+        assertFalse(metrics.isEnabled());
+        assertFalse(sink.getSnapshot("heroes", Operations.GET).isPresent());
+    }
+
+    @Test
+    public void shouldUseTheUnknownNameWhenThereIsNoName() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        DriverMetrics metrics = DriverMetrics.of(sink);
+
+        metrics.record(Operations.SELECT, null, metrics.start(), 0L, false);
+        assertEquals(1L, sink.getSnapshot(OperationRecorder.UNKNOWN_NAME, Operations.SELECT).get().getCount());
+    }
+}
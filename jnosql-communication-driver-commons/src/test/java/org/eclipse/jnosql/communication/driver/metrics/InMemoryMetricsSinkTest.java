@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryMetricsSinkTest {
+
+    @Test
+    public void shouldAggregatePerNameAndOperation() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        sink.record("heroes", Operations.INSERT, 1_000L, 10L, false);
+        sink.record("heroes", Operations.INSERT, 3_000L, 20L, true);
+        sink.record("heroes", Operations.SELECT, 2_000L, 0L, false);
+        sink.record("villains", Operations.INSERT, 5_000L, 5L, false);
+
+        List<OperationSnapshot> snapshots = sink.getSnapshots();
+        assertEquals(3, snapshots.size());
+        assertEquals("heroes", snapshots.get(0).getName());
+        assertEquals(Operations.INSERT, snapshots.get(0).getOperation());
+
+        OperationSnapshot insert = sink.getSnapshot("heroes", Operations.INSERT).get();
+        assertEquals(2L, insert.getCount());
+        assertEquals(1L, insert.getErrors());
+        assertEquals(30L, insert.getPayloadSize());
+        assertEquals(3_000L, insert.getMax());
+        assertTrue(insert.getP99() >= insert.getP50());
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenOperationIsNotRecorded() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        Optional<OperationSnapshot> snapshot = sink.getSnapshot("heroes", Operations.DELETE);
+        assertFalse(snapshot.isPresent());
+    }
+
+    @Test
+    public void shouldClear() {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        sink.record("heroes", Operations.COUNT, 1_000L, 0L, false);
+        sink.clear();
+        assertTrue(sink.getSnapshots().isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import jakarta.nosql.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.driver.memory.InMemoryBucketManager;
+import org.eclipse.jnosql.communication.driver.memory.InMemoryDocumentCollectionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstrumentationTest {
+
+    private InMemoryMetricsSink sink;
+
+    private DocumentCollectionManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        sink = new InMemoryMetricsSink();
+        manager = Instrumentation.of(InMemoryDocumentCollectionManager.of(), sink);
+        manager.insert(Arrays.asList(hero(1, "Otavio"), hero(2, "Ada")));
+    }
+
+    @Test
+    public void shouldRecordWrites() {
+        OperationSnapshot insert = sink.getSnapshot("heroes", Operations.INSERT).get();
+        assertEquals(1L, insert.getCount());
+        assertEquals(0L, insert.getErrors());
+        assertTrue(insert.getPayloadSize() > 0L);
+    }
+
+    @Test
+    public void shouldRecordSelectWhenTheStreamIsExhausted() {
+        Stream<DocumentEntity> entities = manager.select(DocumentQuery.select().from("heroes").build());
+        assertFalse(sink.getSnapshot("heroes", Operations.SELECT).isPresent());
+
+        Iterator<DocumentEntity> iterator = entities.iterator();
+        iterator.next();
+        assertFalse(sink.getSnapshot("heroes", Operations.SELECT).isPresent());
+        iterator.next();
+        assertFalse(iterator.hasNext());
+        assertEquals(1L, sink.getSnapshot("heroes", Operations.SELECT).get().getCount());
+    }
+
+    @Test
+    public void shouldRecordSelectOnceWhenTheStreamIsClosed() {
+        try (Stream<DocumentEntity> entities = manager.select(DocumentQuery.select().from("heroes").build())) {
+            assertEquals(2L, entities.count());
+        }
+        assertEquals(1L, sink.getSnapshot("heroes", Operations.SELECT).get().getCount());
+
+        manager.select(DocumentQuery.select().from("heroes").build()).close();
+        assertEquals(2L, sink.getSnapshot("heroes", Operations.SELECT).get().getCount());
+    }
+
+    @Test
+    public void shouldRecordErrors() {
+        BucketManager bucket = Instrumentation.of(InMemoryBucketManager.of(), "heroes", sink);
+        assertThrows(NullPointerException.class, () -> bucket.put(null, "Otavio"));
+        bucket.put("otavio", "Otavio");
+        bucket.get("otavio");
+
+        OperationSnapshot put = sink.getSnapshot("heroes", Operations.PUT).get();
+        assertEquals(2L, put.getCount());
+        assertEquals(1L, put.getErrors());
+        assertEquals(1L, sink.getSnapshot("heroes", Operations.GET).get().getCount());
+    }
+
+    @Test
+    public void shouldReadTheEnabledSetting() {
+        assertFalse(Instrumentation.isEnabled(Settings.builder().build()));
+        assertTrue(Instrumentation.isEnabled(Settings.builder()
+                .put(MetricsConfigurations.ENABLED.get(), "true").build()));
+    }
+
+    private static DocumentEntity hero(int id, String name) {
+        DocumentEntity entity = DocumentEntity.of("heroes");
+        entity.add(Document.of("_id", id));
+        entity.add(Document.of("name", name));
+        return entity;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldReturnZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getValueAtPercentile(99D));
+        assertEquals(0D, histogram.getMean());
+    }
+
+    @Test
+    public void shouldKeepSmallValuesExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 50).forEach(histogram::record);
+        assertEquals(50L, histogram.getCount());
+        assertEquals(25L, histogram.getValueAtPercentile(50D));
+        assertEquals(50L, histogram.getValueAtPercentile(100D));
+        assertEquals(25.5D, histogram.getMean());
+    }
+
+    @Test
+    public void shouldReturnPercentileWithinTheBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1_000; value <= 1_000_000; value += 1_000) {
+            histogram.record(value);
+        }
+        assertEquals(1000L, histogram.getCount());
+        assertBetween(990_000L, histogram.getValueAtPercentile(99D));
+        assertBetween(999_000L, histogram.getValueAtPercentile(99.9D));
+        assertEquals(1_000_000L, histogram.getMax());
+    }
+
+    @Test
+    public void shouldMapEveryValueToItsBucket() {
+        long[] values = {0L, 63L, 64L, 65L, 1_000_000_007L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.highestValueOf(index), greaterThanOrEqualTo(value));
+        }
+    }
+
+    @Test
+    public void shouldReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10L);
+        histogram.reset();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMax());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPercentileIsInvalid() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101D));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1D));
+    }
+
+    private static void assertBetween(long expected, long value) {
+        assertThat(value, greaterThanOrEqualTo(expected));
+        assertThat(value, lessThanOrEqualTo(expected + expected / 32));
+    }
+}
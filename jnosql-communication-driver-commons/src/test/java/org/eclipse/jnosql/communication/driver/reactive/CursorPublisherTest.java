@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.reactive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CursorPublisherTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(NullPointerException.class, () -> CursorPublisher.of(null));
+        assertThrows(NullPointerException.class, () -> CursorPublisher.of(() -> pages(10), null));
+        assertThrows(NullPointerException.class, () -> CursorPublisher.of(() -> pages(10)).subscribe(null));
+    }
+
+    @Test
+    public void shouldFetchPagesOnDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        CursorPublisher.of(() -> pages(35)).subscribe(subscriber);
+        assertEquals(0, fetches.get());
+
+        subscriber.request(5);
+        assertEquals(5, subscriber.getValues().size());
+        assertEquals(1, fetches.get());
+
+        subscriber.request(10);
+        assertEquals(15, subscriber.getValues().size());
+        assertEquals(2, fetches.get());
+
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(IntStream.range(0, 35).boxed().collect(Collectors.toList()), subscriber.getValues());
+        assertEquals(4, fetches.get());
+        assertTrue(subscriber.isComplete());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldRequestFromOnNextWithoutRecursion() {
+        int size = 100_000;
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                request(1);
+            }
+        };
+        CursorPublisher.of(() -> pages(size)).subscribe(subscriber);
+        subscriber.request(1);
+        assertEquals(size, subscriber.getValues().size());
+        assertTrue(subscriber.isComplete());
+    }
+
+    @Test
+    public void shouldCloseCursorOnCancel() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        CursorPublisher.of(() -> pages(35)).subscribe(subscriber);
+        subscriber.request(3);
+        subscriber.cancel();
+        subscriber.request(3);
+        assertEquals(3, subscriber.getValues().size());
+        assertTrue(closed.get());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void shouldSignalError() {
+        IllegalStateException error = new IllegalStateException("database is down");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        CursorPublisher.<Integer>of(() -> Cursor.paged(() -> Page.of(List.of(1, 2), 2), state -> {
+            throw error;
+        })).subscribe(subscriber);
+        subscriber.request(5);
+        assertEquals(List.of(1, 2), subscriber.getValues());
+        assertSame(error, subscriber.getError());
+
+        RecordingSubscriber invalid = new RecordingSubscriber();
+        CursorPublisher.of(() -> pages(10)).subscribe(invalid);
+        invalid.request(0);
+        assertSame(IllegalArgumentException.class, invalid.getError().getClass());
+        assertEquals(0, fetches.get());
+    }
+
+    @Test
+    public void shouldReadOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            RecordingSubscriber subscriber = new RecordingSubscriber() {
+                @Override
+                public void onComplete() {
+                    super.onComplete();
+                    latch.countDown();
+                }
+            };
+            CursorPublisher.of(() -> pages(25), executor).subscribe(subscriber);
+            subscriber.request(Long.MAX_VALUE);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(25, subscriber.getValues().size());
+            assertNull(subscriber.getError());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Cursor<Integer> pages(int size) {
+        Cursor<Integer> cursor = Cursor.paged(() -> page(0, size), offset -> page(offset, size));
+        return new Cursor<>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                return cursor.next();
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+                cursor.close();
+            }
+        };
+    }
+
+    private Page<Integer, Integer> page(int offset, int size) {
+        fetches.incrementAndGet();
+        int end = Math.min(offset + PAGE_SIZE, size);
+        List<Integer> entities = IntStream.range(offset, end).boxed().collect(Collectors.toList());
+        return end < size ? Page.of(entities, end) : Page.last(entities);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+
+        private final List<Integer> values = new ArrayList<>();
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile Throwable error;
+
+        private volatile boolean complete;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.complete = true;
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        void cancel() {
+            subscription.cancel();
+        }
+
+        List<Integer> getValues() {
+            return values;
+        }
+
+        Throwable getError() {
+            return error;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.sharding;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.BucketManagerFactory;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.CountingBucketManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedBucketManagerFactoryTest {
+
+    private final CountingBucketManagerFactory first = new CountingBucketManagerFactory();
+
+    private final CountingBucketManagerFactory second = new CountingBucketManagerFactory();
+
+    private final CountingBucketManagerFactory third = new CountingBucketManagerFactory();
+
+    private final ShardedBucketManagerFactory factory = ShardedBucketManagerFactory.builder()
+            .withShard("first", first)
+            .withShard("second", second)
+            .withShard("third", third)
+            .build();
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreInvalid() {
+        assertThrows(IllegalStateException.class, () -> ShardedBucketManagerFactory.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> ShardedBucketManagerFactory.builder()
+                .withShard("first", first).withShard("first", second));
+        assertThrows(IllegalArgumentException.class, () -> ShardedBucketManagerFactory.builder().withVirtualNodes(0));
+        assertThrows(IllegalArgumentException.class, () -> factory.withShard("second", second));
+        assertThrows(NullPointerException.class, () -> factory.getShardName(null));
+    }
+
+    @Test
+    public void shouldRouteKeyToItsShard() {
+        BucketManager manager = factory.getBucketManager("heroes");
+        List<String> keys = IntStream.range(0, 100).mapToObj(index -> "hero-" + index).collect(Collectors.toList());
+        for (int index = 0; index < 100; index++) {
+            manager.put(keys.get(index), index);
+        }
+        for (int index = 0; index < 100; index++) {
+            String key = keys.get(index);
+            assertEquals(index, manager.get(key).map(Value::get).orElse(null));
+            assertTrue(shard(factory.getShardName(key)).bucket("heroes").get(key).isPresent());
+        }
+        assertEquals(100, first.count("heroes", keys) + second.count("heroes", keys) + third.count("heroes", keys));
+    }
+
+    @Test
+    public void shouldSplitBulkOperationsPerShard() {
+        BucketManager manager = factory.getBucketManager("heroes");
+        List<KeyValueEntity> entities = IntStream.range(0, 1000)
+                .mapToObj(index -> KeyValueEntity.of("hero-" + index, index))
+                .collect(Collectors.toList());
+        manager.put(entities);
+        assertEquals(1, first.getBulkCalls());
+        assertEquals(1, second.getBulkCalls());
+        assertEquals(1, third.getBulkCalls());
+        List<String> keys = entities.stream().map(entity -> (String) entity.getKey()).collect(Collectors.toList());
+        List<Value> values = new ArrayList<>();
+        manager.get(keys).forEach(values::add);
+        assertEquals(1000, values.size());
+        manager.delete(keys);
+        assertEquals(0, first.count("heroes", keys));
+        assertEquals(0, second.count("heroes", keys));
+        assertEquals(0, third.count("heroes", keys));
+        assertEquals(3, first.getBulkCalls());
+    }
+
+    @Test
+    public void shouldSpreadKeysEvenly() {
+        Map<String, Long> counts = IntStream.range(0, 30_000).mapToObj(index -> "key-" + index)
+                .collect(Collectors.groupingBy(factory::getShardName, Collectors.counting()));
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 7_500 && count < 12_500, "unbalanced " + counts));
+    }
+
+    @Test
+    public void shouldMoveAboutOneNthOfKeysWhenShardIsAdded() {
+        ShardedBucketManagerFactory bigger = factory.withShard("fourth", new CountingBucketManagerFactory());
+        int moved = 0;
+        for (int index = 0; index < 20_000; index++) {
+            String key = "key-" + index;
+            String previous = factory.getShardName(key);
+            String current = bigger.getShardName(key);
+            if (!previous.equals(current)) {
+                assertEquals("fourth", current);
+                moved++;
+            }
+        }
+        assertTrue(moved > 3_000 && moved < 7_000, "moved " + moved);
+    }
+
+    @Test
+    public void shouldMigrateKeysToNewShard() {
+        CountingBucketManagerFactory fourth = new CountingBucketManagerFactory();
+        BucketManager manager = factory.getBucketManager("heroes");
+        List<String> keys = IntStream.range(0, 500).mapToObj(index -> "hero-" + index).collect(Collectors.toList());
+        keys.forEach(key -> manager.put(key, key.toUpperCase()));
+
+        ShardedBucketManagerFactory bigger = factory.withShard("fourth", fourth);
+        long moved = bigger.migrate(factory, "heroes", keys, String.class);
+
+        assertEquals(fourth.count("heroes", keys), moved);
+        assertTrue(moved > 0);
+        BucketManager biggerManager = bigger.getBucketManager("heroes");
+        for (String key : keys) {
+            assertEquals(key.toUpperCase(), biggerManager.get(key).map(Value::get).orElse(null));
+        }
+        assertEquals(500, first.count("heroes", keys) + second.count("heroes", keys)
+                + third.count("heroes", keys) + fourth.count("heroes", keys));
+        assertFalse(keys.stream().anyMatch(key -> fourth.bucket("heroes").get(key).isPresent()
+                && first.bucket("heroes").get(key).isPresent()));
+        assertEquals(3, fourth.getBulkCalls(), "one batch write from each previous shard");
+    }
+
+    @Test
+    public void shouldMigrateKeysWithTheTtl() {
+        CountingBucketManagerFactory fourth = new CountingBucketManagerFactory();
+        BucketManager manager = factory.getBucketManager("heroes");
+        List<String> keys = IntStream.range(0, 100).mapToObj(index -> "hero-" + index).collect(Collectors.toList());
+        keys.forEach(key -> manager.put(key, key.toUpperCase()));
+
+        ShardedBucketManagerFactory bigger = factory.withShard("fourth", fourth);
+        assertThrows(NullPointerException.class, () -> bigger.migrate(factory, "heroes", keys, String.class, null));
+        long moved = bigger.migrate(factory, "heroes", keys, String.class, Duration.ofHours(1));
+        assertEquals(fourth.count("heroes", keys), moved);
+        assertEquals(moved, fourth.bucket("heroes").getExpiringPuts());
+    }
+
+    private CountingBucketManagerFactory shard(String name) {
+        switch (name) {
+            case "first":
+                return first;
+            case "second":
+                return second;
+            default:
+                return third;
+        }
+    }
+
+    /**
+     * A shard: a {@link CountingBucketManager} per bucket, returned on every call as the same bucket of a database
+     */
+    private static class CountingBucketManagerFactory implements BucketManagerFactory {
+
+        private final Map<String, CountingBucketManager> buckets = new ConcurrentHashMap<>();
+
+        CountingBucketManager bucket(String name) {
+            return buckets.computeIfAbsent(name, key -> new CountingBucketManager());
+        }
+
+        long count(String name, List<String> keys) {
+            return keys.stream().filter(key -> bucket(name).get(key).isPresent()).count();
+        }
+
+        int getBulkCalls() {
+            return buckets.values().stream()
+                    .mapToInt(bucket -> bucket.getBatchPuts() + bucket.getBatchGets() + bucket.getBatchDeletes())
+                    .sum();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends BucketManager> T getBucketManager(String bucketName) {
+            return (T) bucket(bucketName);
+        }
+
+        @Override
+        public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> List<T> getList(String bucketName, Class<T> clazz) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
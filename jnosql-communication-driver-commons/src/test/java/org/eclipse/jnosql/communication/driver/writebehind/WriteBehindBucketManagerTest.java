@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.CommunicationException;
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.CountingBucketManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteBehindBucketManagerTest {
+
+    private CountingBucketManager delegate;
+
+    private WriteBehindBucketManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new CountingBucketManager();
+        manager = WriteBehind.builder()
+                .withCapacity(100)
+                .withBatchSize(10)
+                .withFlushInterval(Duration.ofHours(1))
+                .build()
+                .wrap(delegate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    public void shouldCoalesceWritesToTheSameKey() {
+        for (int index = 0; index < 5; index++) {
+            manager.put("otavio", "Otavio " + index);
+        }
+        assertEquals(1, manager.getPendingCount());
+        manager.flush();
+        assertEquals(Arrays.asList(1), delegate.getBatches());
+        assertEquals("Otavio 4", delegate.get("otavio").map(Value::get).orElse(null));
+    }
+
+    @Test
+    public void shouldFlushWhenBatchIsFull() {
+        for (int index = 0; index < 10; index++) {
+            manager.put(index, index);
+        }
+        await(() -> delegate.getPuts() == 10);
+        assertEquals(Arrays.asList(10), delegate.getBatches());
+    }
+
+    @Test
+    public void shouldFlushOnInterval() {
+        WriteBehindBucketManager timed = WriteBehind.builder()
+                .withFlushInterval(Duration.ofMillis(20))
+                .build()
+                .wrap(delegate);
+        timed.put("otavio", "Otavio");
+        await(() -> delegate.get("otavio").isPresent());
+        timed.close();
+    }
+
+    @Test
+    public void shouldReadBufferedWrites() {
+        delegate.put("ada", "Ada");
+        manager.put("otavio", "Otavio");
+        manager.delete("ada");
+        assertEquals(Optional.of("Otavio"), manager.get("otavio").map(Value::get));
+        assertFalse(manager.get("ada").isPresent());
+
+        List<Object> values = new ArrayList<>();
+        manager.get(Arrays.asList("otavio", "ada")).forEach(v -> values.add(v.get()));
+        assertEquals(Arrays.asList("Otavio"), values);
+    }
+
+    @Test
+    public void shouldKeepTheKeyOrder() {
+        delegate.put("otavio", "Otavio");
+        delegate.put("poliana", "Poliana");
+        manager.put("ada", "Ada");
+
+        List<Object> values = new ArrayList<>();
+        manager.get(Arrays.asList("otavio", "ada", "unknown", "poliana")).forEach(v -> values.add(v.get()));
+        assertEquals(Arrays.asList("Otavio", "Ada", "Poliana"), values);
+    }
+
+    @Test
+    public void shouldWriteDeletesAndTtl() {
+        delegate.put("ada", "Ada");
+        manager.delete("ada");
+        manager.put(KeyValueEntity.of("otavio", "Otavio"), Duration.ofSeconds(10));
+        manager.flush();
+        assertFalse(delegate.get("ada").isPresent());
+        assertEquals("Otavio", delegate.get("otavio").map(Value::get).orElse(null));
+        assertEquals(Duration.ofSeconds(10), delegate.getLastTtl());
+    }
+
+    @Test
+    public void shouldThrowFailureOnFlush() {
+        delegate.failWrites(new IllegalStateException("The database is down"));
+        manager.put("otavio", "Otavio");
+        assertThrows(CommunicationException.class, manager::flush);
+        assertEquals(1L, manager.getFailedCount());
+        delegate.failWrites(null);
+        manager.flush();
+    }
+
+    @Test
+    public void shouldKeepAllWritesUnderBackpressure() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            int start = thread * 1_000;
+            futures.add(executor.submit(() -> {
+                for (int index = start; index < start + 1_000; index++) {
+                    manager.put(index, index);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        manager.flush();
+        assertEquals(4_000, delegate.getPuts());
+    }
+
+    @Test
+    public void shouldWriteEveryAcceptedWriteOnClose() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Object> accepted = new CopyOnWriteArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            int start = thread * 1_000;
+            futures.add(executor.submit(() -> {
+                for (int index = start; index < start + 1_000; index++) {
+                    try {
+                        manager.put(index, index);
+                        accepted.add(index);
+                    } catch (IllegalStateException exception) {
+                        return;
+                    }
+                }
+            }));
+        }
+        manager.close();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(accepted.size(), delegate.getPuts());
+        assertThrows(IllegalStateException.class, () -> manager.put("otavio", "Otavio"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSettingsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> WriteBehind.builder().withBatchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> WriteBehind.builder().withFlushInterval(Duration.ZERO));
+        assertThrows(IllegalStateException.class, () -> WriteBehind.builder().withCapacity(10)
+                .withBatchSize(20).build());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "the condition was not reached");
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnQuery;
+
+import java.util.Map;
+
+/**
+ * The {@link Target} of a {@link ColumnFamilyManager}, the key is the id column of the rows. The scan is a range
+ * on the id column, a database that only ranges the key by its token, e.g. Cassandra, reports it as errors.
+ */
+final class ColumnTarget implements Target {
+
+    private final ColumnFamilyManager manager;
+
+    private final AutoCloseable factory;
+
+    private final String columnFamily;
+
+    private final String idName;
+
+    ColumnTarget(ColumnFamilyManager manager, AutoCloseable factory, String columnFamily, String idName) {
+        this.manager = manager;
+        this.factory = factory;
+        this.columnFamily = columnFamily;
+        this.idName = idName;
+    }
+
+    @Override
+    public void insert(String key, Map<String, String> fields) {
+        manager.insert(entity(key, fields));
+    }
+
+    @Override
+    public boolean read(String key) {
+        ColumnQuery query = ColumnQuery.select().from(columnFamily).where(idName).eq(key).build();
+        return manager.select(query).findFirst().isPresent();
+    }
+
+    @Override
+    public void update(String key, Map<String, String> fields) {
+        manager.update(entity(key, fields));
+    }
+
+    @Override
+    public long scan(String key, int limit) {
+        ColumnQuery query = ColumnQuery.select().from(columnFamily)
+                .where(idName).gte(key)
+                .limit(limit)
+                .build();
+        return manager.select(query).count();
+    }
+
+    @Override
+    public boolean isScanSupported() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        Targets.close(manager, factory);
+    }
+
+    private ColumnEntity entity(String key, Map<String, String> fields) {
+        ColumnEntity entity = ColumnEntity.of(columnFamily);
+        entity.add(Column.of(idName, key));
+        fields.forEach((name, value) -> entity.add(Column.of(name, value)));
+        return entity;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnTarget{" +
+                "manager=" + manager +
+                ", columnFamily='" + columnFamily + '\'' +
+                '}';
+    }
+}
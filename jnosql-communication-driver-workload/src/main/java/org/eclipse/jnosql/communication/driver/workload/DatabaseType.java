@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+/**
+ * The kind of manager a workload drives
+ */
+public enum DatabaseType {
+
+    /**
+     * A {@link jakarta.nosql.document.DocumentCollectionManager} from a
+     * {@link jakarta.nosql.document.DocumentConfiguration}
+     */
+    DOCUMENT,
+
+    /**
+     * A {@link jakarta.nosql.column.ColumnFamilyManager} from a {@link jakarta.nosql.column.ColumnConfiguration}
+     */
+    COLUMN,
+
+    /**
+     * A {@link jakarta.nosql.keyvalue.BucketManager} from a {@link jakarta.nosql.keyvalue.KeyValueConfiguration}
+     */
+    KEY_VALUE
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.Map;
+
+/**
+ * The {@link Target} of a {@link DocumentCollectionManager}, the key is the id field of the entities; since an
+ * update replaces the entity, it writes all the fields.
+ */
+final class DocumentTarget implements Target {
+
+    private final DocumentCollectionManager manager;
+
+    private final AutoCloseable factory;
+
+    private final String collection;
+
+    private final String idName;
+
+    DocumentTarget(DocumentCollectionManager manager, AutoCloseable factory, String collection, String idName) {
+        this.manager = manager;
+        this.factory = factory;
+        this.collection = collection;
+        this.idName = idName;
+    }
+
+    @Override
+    public void insert(String key, Map<String, String> fields) {
+        manager.insert(entity(key, fields));
+    }
+
+    @Override
+    public boolean read(String key) {
+        DocumentQuery query = DocumentQuery.select().from(collection).where(idName).eq(key).build();
+        return manager.select(query).findFirst().isPresent();
+    }
+
+    @Override
+    public void update(String key, Map<String, String> fields) {
+        manager.update(entity(key, fields));
+    }
+
+    @Override
+    public long scan(String key, int limit) {
+        DocumentQuery query = DocumentQuery.select().from(collection)
+                .where(idName).gte(key)
+                .orderBy(idName).asc()
+                .limit(limit)
+                .build();
+        return manager.select(query).count();
+    }
+
+    @Override
+    public boolean isScanSupported() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        Targets.close(manager, factory);
+    }
+
+    private DocumentEntity entity(String key, Map<String, String> fields) {
+        DocumentEntity entity = DocumentEntity.of(collection);
+        entity.add(Document.of(idName, key));
+        fields.forEach((name, value) -> entity.add(Document.of(name, value)));
+        return entity;
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentTarget{" +
+                "manager=" + manager +
+                ", collection='" + collection + '\'' +
+                '}';
+    }
+}
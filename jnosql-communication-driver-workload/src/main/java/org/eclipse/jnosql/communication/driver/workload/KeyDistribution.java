@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How the keys of the read, update and scan operations are picked among the inserted records
+ */
+public enum KeyDistribution {
+
+    /**
+     * Every record is equally likely
+     */
+    UNIFORM {
+        @Override
+        KeyChooser chooser(long items) {
+            return (random, count) -> random.nextLong(count);
+        }
+    },
+
+    /**
+     * A few records are much more likely than the others, the popular ones are spread on the key space as the
+     * YCSB scrambled zipfian does
+     */
+    ZIPFIAN {
+        @Override
+        KeyChooser chooser(long items) {
+            return new ZipfianGenerator(items);
+        }
+    };
+
+    /**
+     * Creates a chooser to the initial number of records
+     */
+    abstract KeyChooser chooser(long items);
+
+    /**
+     * Picks the index of a record
+     */
+    interface KeyChooser {
+
+        /**
+         * @param random the random of the current thread
+         * @param count  the number of records that exist at this moment
+         * @return an index from 0 inclusive to count exclusive
+         */
+        long next(ThreadLocalRandom random, long count);
+    }
+}
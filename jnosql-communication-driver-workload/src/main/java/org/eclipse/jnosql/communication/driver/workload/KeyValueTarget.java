@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import jakarta.nosql.keyvalue.BucketManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link Target} of a {@link BucketManager}, the fields are the value as a map. A bucket has no key order,
+ * thus there is no scan.
+ */
+final class KeyValueTarget implements Target {
+
+    private final BucketManager manager;
+
+    private final AutoCloseable factory;
+
+    KeyValueTarget(BucketManager manager, AutoCloseable factory) {
+        this.manager = manager;
+        this.factory = factory;
+    }
+
+    @Override
+    public void insert(String key, Map<String, String> fields) {
+        manager.put(key, new HashMap<>(fields));
+    }
+
+    @Override
+    public boolean read(String key) {
+        return manager.get(key).isPresent();
+    }
+
+    @Override
+    public void update(String key, Map<String, String> fields) {
+        manager.put(key, new HashMap<>(fields));
+    }
+
+    @Override
+    public long scan(String key, int limit) {
+        throw new UnsupportedOperationException("The key-value databases do not support scan");
+    }
+
+    @Override
+    public boolean isScanSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        Targets.close(manager, factory);
+    }
+
+    @Override
+    public String toString() {
+        return "KeyValueTarget{" +
+                "manager=" + manager +
+                '}';
+    }
+}
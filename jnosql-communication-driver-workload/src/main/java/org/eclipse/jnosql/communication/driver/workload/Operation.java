@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+/**
+ * The operations of a workload, on records with a key and a set of string fields as YCSB does
+ */
+public enum Operation {
+
+    /**
+     * Reads a record by its key
+     */
+    READ,
+
+    /**
+     * Writes a record again with new field values
+     */
+    UPDATE,
+
+    /**
+     * Writes a new record
+     */
+    INSERT,
+
+    /**
+     * Reads the records from a key in the key order, up to the scan length
+     */
+    SCAN
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The proportion of each {@link Operation} in a workload, the proportions are relative to their sum
+ */
+public final class OperationMix {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final double[] thresholds;
+
+    private final Map<Operation, Double> proportions;
+
+    private OperationMix(Map<Operation, Double> proportions) {
+        this.proportions = proportions;
+        double total = proportions.values().stream().mapToDouble(Double::doubleValue).sum();
+        this.thresholds = new double[OPERATIONS.length];
+        double accumulated = 0D;
+        for (int index = 0; index < OPERATIONS.length; index++) {
+            accumulated += proportions.get(OPERATIONS[index]) / total;
+            thresholds[index] = accumulated;
+        }
+    }
+
+    /**
+     * Picks an operation
+     *
+     * @param random a random value from 0 inclusive to 1 exclusive
+     * @return the operation
+     */
+    public Operation next(double random) {
+        for (int index = 0; index < thresholds.length; index++) {
+            if (random < thresholds[index] && proportions.get(OPERATIONS[index]) > 0D) {
+                return OPERATIONS[index];
+            }
+        }
+        for (int index = OPERATIONS.length - 1; index >= 0; index--) {
+            if (proportions.get(OPERATIONS[index]) > 0D) {
+                return OPERATIONS[index];
+            }
+        }
+        throw new IllegalStateException("The mix has no operation");
+    }
+
+    /**
+     * @param operation the operation
+     * @return true when the mix runs the operation
+     */
+    public boolean contains(Operation operation) {
+        return proportions.get(operation) > 0D;
+    }
+
+    /**
+     * Creates a mix from the proportions
+     *
+     * @param read   the read proportion
+     * @param update the update proportion
+     * @param insert the insert proportion
+     * @param scan   the scan proportion
+     * @return a new {@link OperationMix} instance
+     * @throws IllegalArgumentException when a proportion is negative or all of them are zero
+     */
+    public static OperationMix of(double read, double update, double insert, double scan) {
+        Map<Operation, Double> proportions = new EnumMap<>(Operation.class);
+        proportions.put(Operation.READ, requireProportion(read));
+        proportions.put(Operation.UPDATE, requireProportion(update));
+        proportions.put(Operation.INSERT, requireProportion(insert));
+        proportions.put(Operation.SCAN, requireProportion(scan));
+        if (read + update + insert + scan <= 0D) {
+            throw new IllegalArgumentException("The mix requires at least one operation");
+        }
+        return new OperationMix(proportions);
+    }
+
+    private static double requireProportion(double proportion) {
+        if (proportion < 0D || Double.isNaN(proportion)) {
+            throw new IllegalArgumentException("The proportion cannot be negative: " + proportion);
+        }
+        return proportion;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMix" + proportions;
+    }
+}
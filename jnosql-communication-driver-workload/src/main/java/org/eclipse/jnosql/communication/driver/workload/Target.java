@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import java.util.Map;
+
+/**
+ * The database under load, an adapter of a manager to the workload operations
+ */
+public interface Target extends AutoCloseable {
+
+    /**
+     * Writes a new record
+     *
+     * @param key    the key
+     * @param fields the fields
+     */
+    void insert(String key, Map<String, String> fields);
+
+    /**
+     * Reads a record
+     *
+     * @param key the key
+     * @return true when the record was found
+     */
+    boolean read(String key);
+
+    /**
+     * Writes the record again
+     *
+     * @param key    the key
+     * @param fields the fields
+     */
+    void update(String key, Map<String, String> fields);
+
+    /**
+     * Reads the records from the key in the key order
+     *
+     * @param key   the first key
+     * @param limit the maximum number of records
+     * @return the number of records read
+     * @throws UnsupportedOperationException when the database has no scan
+     */
+    long scan(String key, int limit);
+
+    /**
+     * @return true when the database has the scan operation
+     */
+    boolean isScanSupported();
+
+    /**
+     * Closes the manager and its factory
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.column.ColumnConfiguration;
+import jakarta.nosql.column.ColumnFamilyManagerFactory;
+import jakarta.nosql.document.DocumentCollectionManagerFactory;
+import jakarta.nosql.document.DocumentConfiguration;
+import jakarta.nosql.keyvalue.BucketManagerFactory;
+import jakarta.nosql.keyvalue.KeyValueConfiguration;
+import org.eclipse.jnosql.communication.driver.memory.InMemoryBucketManager;
+import org.eclipse.jnosql.communication.driver.memory.InMemoryDocumentCollectionManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the {@link Target} from the configurations on the classpath, every
+ * {@link DocumentConfiguration}, {@link ColumnConfiguration} and {@link KeyValueConfiguration} that
+ * {@link ServiceLoader} finds. The configuration option selects one of them by its class name, or its simple name
+ * prefix, e.g. "hazelcast"; the "memory" name is the in-memory engine of the commons, the baseline without a
+ * database.
+ */
+final class Targets {
+
+    static final String MEMORY = "memory";
+
+    private static final Logger LOGGER = Logger.getLogger(Targets.class.getName());
+
+    private Targets() {
+    }
+
+    static Target of(WorkloadOptions options) {
+        String name = options.getConfiguration();
+        DatabaseType type = options.getType();
+        if (MEMORY.equalsIgnoreCase(name)) {
+            if (type == DatabaseType.COLUMN) {
+                throw new IllegalArgumentException("The in-memory engine has no column type");
+            }
+            if (type == DatabaseType.KEY_VALUE) {
+                return new KeyValueTarget(InMemoryBucketManager.of(), null);
+            }
+            InMemoryDocumentCollectionManager manager = InMemoryDocumentCollectionManager.builder()
+                    .withIdName(options.getIdName())
+                    .build();
+            return new DocumentTarget(manager, null, options.getCollection(), options.getIdName());
+        }
+        List<Candidate> candidates = candidates().stream()
+                .filter(candidate -> type == null || candidate.type == type)
+                .filter(candidate -> name == null || candidate.matches(name))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("There is no configuration to " + describe(name, type)
+                    + ", the available ones are: " + available());
+        }
+        if (candidates.size() > 1) {
+            throw new IllegalArgumentException("There is more than one configuration to " + describe(name, type)
+                    + ", define the configuration and the type options: " + candidates);
+        }
+        return candidates.get(0).create(options);
+    }
+
+    /**
+     * @return the configurations on the classpath with their type
+     */
+    static List<String> available() {
+        List<String> names = candidates().stream().map(Candidate::toString).collect(Collectors.toList());
+        names.add(MEMORY);
+        return names;
+    }
+
+    static void close(AutoCloseable manager, AutoCloseable factory) {
+        try {
+            manager.close();
+            if (factory != null) {
+                factory.close();
+            }
+        } catch (Exception exception) {
+            LOGGER.log(Level.WARNING, "Error to close the manager " + manager, exception);
+        }
+    }
+
+    private static String describe(String name, DatabaseType type) {
+        return (name == null ? "any name" : "the name " + name) + " and " + (type == null ? "any type" : type);
+    }
+
+    private static List<Candidate> candidates() {
+        List<Candidate> candidates = new ArrayList<>();
+        load(DocumentConfiguration.class, DatabaseType.DOCUMENT, candidates);
+        load(ColumnConfiguration.class, DatabaseType.COLUMN, candidates);
+        load(KeyValueConfiguration.class, DatabaseType.KEY_VALUE, candidates);
+        return candidates;
+    }
+
+    private static void load(Class<?> service, DatabaseType type, List<Candidate> candidates) {
+        Iterator<?> iterator = ServiceLoader.load(service).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                candidates.add(new Candidate(type, iterator.next()));
+            } catch (ServiceConfigurationError error) {
+                LOGGER.log(Level.WARNING, "Error to load a configuration of " + service.getName(), error);
+            }
+        }
+    }
+
+    private static final class Candidate {
+
+        private final DatabaseType type;
+
+        private final Object configuration;
+
+        private Candidate(DatabaseType type, Object configuration) {
+            this.type = type;
+            this.configuration = configuration;
+        }
+
+        private boolean matches(String name) {
+            Class<?> configurationType = configuration.getClass();
+            return configurationType.getName().equals(name)
+                    || configurationType.getSimpleName().toLowerCase(Locale.ENGLISH)
+                    .startsWith(name.toLowerCase(Locale.ENGLISH));
+        }
+
+        private Target create(WorkloadOptions options) {
+            Settings settings = options.getSettings();
+            switch (type) {
+                case DOCUMENT:
+                    DocumentCollectionManagerFactory documentFactory =
+                            ((DocumentConfiguration) configuration).get(settings);
+                    return new DocumentTarget(documentFactory.get(options.getDatabase()), documentFactory,
+                            options.getCollection(), options.getIdName());
+                case COLUMN:
+                    ColumnFamilyManagerFactory columnFactory = ((ColumnConfiguration) configuration).get(settings);
+                    return new ColumnTarget(columnFactory.get(options.getDatabase()), columnFactory,
+                            options.getCollection(), options.getIdName());
+                default:
+                    BucketManagerFactory bucketFactory = ((KeyValueConfiguration) configuration).get(settings);
+                    return new KeyValueTarget(bucketFactory.getBucketManager(options.getCollection()),
+                            bucketFactory);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return configuration.getClass().getName() + " (" + type + ')';
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+/**
+ * The predefined mixes of operations, after the YCSB core workloads
+ */
+public enum Workload {
+
+    /**
+     * 95% reads and 5% updates, the YCSB workload B
+     */
+    READ_HEAVY(0.95, 0.05, 0D, 0D),
+
+    /**
+     * 50% reads and 50% updates, the YCSB workload A
+     */
+    UPDATE_HEAVY(0.5, 0.5, 0D, 0D),
+
+    /**
+     * 95% short scans and 5% inserts, the YCSB workload E
+     */
+    SCAN(0D, 0D, 0.05, 0.95),
+
+    /**
+     * Only inserts of new records
+     */
+    INSERT_ONLY(0D, 0D, 1D, 0D);
+
+    private final double read;
+
+    private final double update;
+
+    private final double insert;
+
+    private final double scan;
+
+    Workload(double read, double update, double insert, double scan) {
+        this.read = read;
+        this.update = update;
+        this.insert = insert;
+        this.scan = scan;
+    }
+
+    /**
+     * @return the mix of operations of this workload
+     */
+    public OperationMix getMix() {
+        return OperationMix.of(read, update, insert, scan);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.Settings.SettingsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The options of a workload run, read from name=value arguments and, with the file option, from a properties
+ * file; the arguments win. Every other name is a setting of the configuration, e.g.
+ * hazelcast.instanceName=workload.
+ * <ul>
+ *     <li>configuration: the configuration class name or its simple name prefix, "memory" to the in-memory
+ *     engine; optional when there is only one on the classpath</li>
+ *     <li>type: document, column or key_value; optional when the configuration has only one</li>
+ *     <li>database: the database of the document and column managers, by default "workload"</li>
+ *     <li>collection: the collection, column family or bucket, by default "usertable"</li>
+ *     <li>id: the name of the id field, by default "_id"</li>
+ *     <li>workload: read_heavy, update_heavy, scan or insert_only, by default read_heavy</li>
+ *     <li>read, update, insert and scan: the proportions of a custom mix, instead of the workload</li>
+ *     <li>distribution: zipfian or uniform, by default zipfian</li>
+ *     <li>records: the records of the load phase, by default 10000</li>
+ *     <li>operations: the operations of the run phase, zero to run until the duration, by default 100000</li>
+ *     <li>duration: the maximum seconds of the run phase, by default no limit</li>
+ *     <li>fields and fieldLength: the fields of a record and the characters of each one, by default 10 and
+ *     100</li>
+ *     <li>scanLength: the maximum records of a scan, by default 100</li>
+ *     <li>threads: the concurrent clients, by default 8</li>
+ *     <li>virtualThreads: runs the clients on virtual threads, Java 21 or later, by default false</li>
+ *     <li>target: the operations per second of the run phase, by default no limit</li>
+ *     <li>interval: the seconds between the throughput reports, by default 1</li>
+ *     <li>load: runs the load phase, by default true</li>
+ * </ul>
+ */
+public final class WorkloadOptions {
+
+    private static final String FILE = "file";
+
+    private static final Set<String> NAMES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(FILE,
+            "configuration", "type", "database", "collection", "id", "workload", "read", "update", "insert", "scan",
+            "distribution", "records", "operations", "duration", "fields", "fieldLength", "scanLength", "threads",
+            "virtualThreads", "target", "interval", "load")));
+
+    private final Map<String, String> options;
+
+    private final Map<String, String> settings;
+
+    private final OperationMix mix;
+
+    private WorkloadOptions(Map<String, String> options, Map<String, String> settings) {
+        this.options = options;
+        this.settings = settings;
+        this.mix = createMix();
+        requirePositive("records", getRecords());
+        requirePositive("fields", getFields());
+        requirePositive("threads", getThreads());
+        requirePositive("interval", getInterval().getSeconds());
+        requirePositive("scanLength", getScanLength());
+        if (getOperations() < 0 || getTarget() < 0 || getDuration().isNegative() || getFieldLength() < 0) {
+            throw new IllegalArgumentException("The operations, target, duration and fieldLength cannot be "
+                    + "negative: " + options);
+        }
+        if (getOperations() == 0 && getDuration().isZero()) {
+            throw new IllegalArgumentException("The run phase requires either the operations or the duration");
+        }
+    }
+
+    /**
+     * @return the configuration name or null when it is the only one on the classpath
+     */
+    public String getConfiguration() {
+        return options.get("configuration");
+    }
+
+    /**
+     * @return the database type or null when it comes from the configuration
+     */
+    public DatabaseType getType() {
+        String type = options.get("type");
+        return type == null ? null : DatabaseType.valueOf(type.toUpperCase(Locale.ENGLISH).replace('-', '_'));
+    }
+
+    public String getDatabase() {
+        return options.getOrDefault("database", "workload");
+    }
+
+    public String getCollection() {
+        return options.getOrDefault("collection", "usertable");
+    }
+
+    public String getIdName() {
+        return options.getOrDefault("id", "_id");
+    }
+
+    public OperationMix getMix() {
+        return mix;
+    }
+
+    public KeyDistribution getDistribution() {
+        return KeyDistribution.valueOf(options.getOrDefault("distribution", "zipfian").toUpperCase(Locale.ENGLISH));
+    }
+
+    public long getRecords() {
+        return getLong("records", 10_000L);
+    }
+
+    public long getOperations() {
+        return getLong("operations", 100_000L);
+    }
+
+    /**
+     * @return the maximum duration of the run phase, zero when there is no limit
+     */
+    public Duration getDuration() {
+        return Duration.ofSeconds(getLong("duration", 0L));
+    }
+
+    public int getFields() {
+        return (int) getLong("fields", 10L);
+    }
+
+    public int getFieldLength() {
+        return (int) getLong("fieldLength", 100L);
+    }
+
+    public int getScanLength() {
+        return (int) getLong("scanLength", 100L);
+    }
+
+    public int getThreads() {
+        return (int) getLong("threads", 8L);
+    }
+
+    public boolean isVirtualThreads() {
+        return Boolean.parseBoolean(options.getOrDefault("virtualThreads", "false"));
+    }
+
+    /**
+     * @return the operations per second of the run phase, zero when there is no limit
+     */
+    public long getTarget() {
+        return getLong("target", 0L);
+    }
+
+    public Duration getInterval() {
+        return Duration.ofSeconds(getLong("interval", 1L));
+    }
+
+    public boolean isLoad() {
+        return Boolean.parseBoolean(options.getOrDefault("load", "true"));
+    }
+
+    /**
+     * @return the settings to the configuration, the names that are not options
+     */
+    public Settings getSettings() {
+        SettingsBuilder builder = Settings.builder();
+        settings.forEach(builder::put);
+        return builder.build();
+    }
+
+    private OperationMix createMix() {
+        if (options.containsKey("read") || options.containsKey("update") || options.containsKey("insert")
+                || options.containsKey("scan")) {
+            return OperationMix.of(getDouble("read"), getDouble("update"), getDouble("insert"), getDouble("scan"));
+        }
+        return Workload.valueOf(options.getOrDefault("workload", "read_heavy").toUpperCase(Locale.ENGLISH))
+                .getMix();
+    }
+
+    private long getLong(String name, long defaultValue) {
+        String value = options.get(name);
+        try {
+            return value == null ? defaultValue : Long.parseLong(value.trim().replace("_", ""));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("The option " + name + " must be a number: " + value, exception);
+        }
+    }
+
+    private double getDouble(String name) {
+        String value = options.get(name);
+        try {
+            return value == null ? 0D : Double.parseDouble(value.trim());
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("The option " + name + " must be a number: " + value, exception);
+        }
+    }
+
+    private static void requirePositive(String name, long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("The option " + name + " must be positive: " + value);
+        }
+    }
+
+    /**
+     * Creates the options from name=value arguments
+     *
+     * @param args the arguments
+     * @return a new {@link WorkloadOptions} instance
+     * @throws NullPointerException     when args is null
+     * @throws IllegalArgumentException when an argument is not name=value or an option is invalid
+     * @throws UncheckedIOException     when the file option cannot be read
+     */
+    public static WorkloadOptions parse(String... args) {
+        Objects.requireNonNull(args, "args is required");
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("The arguments must be name=value: " + arg);
+            }
+            values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+        return of(values);
+    }
+
+    /**
+     * Creates the options from a map
+     *
+     * @param values the options and the settings
+     * @return a new {@link WorkloadOptions} instance
+     * @throws NullPointerException     when values is null
+     * @throws IllegalArgumentException when an option is invalid
+     * @throws UncheckedIOException     when the file option cannot be read
+     */
+    public static WorkloadOptions of(Map<String, String> values) {
+        Objects.requireNonNull(values, "values is required");
+        Map<String, String> all = new HashMap<>();
+        String file = values.get(FILE);
+        if (file != null) {
+            Properties properties = new Properties();
+            try (InputStream stream = Files.newInputStream(Paths.get(file))) {
+                properties.load(stream);
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Error to read the workload file " + file, exception);
+            }
+            properties.stringPropertyNames().forEach(name -> all.put(name, properties.getProperty(name)));
+        }
+        all.putAll(values);
+        Map<String, String> options = new HashMap<>();
+        Map<String, String> settings = new HashMap<>();
+        all.forEach((name, value) -> (NAMES.contains(name) ? options : settings).put(name, value));
+        return new WorkloadOptions(options, settings);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadOptions{" +
+                "options=" + options +
+                ", settings=" + settings.keySet() +
+                '}';
+    }
+}
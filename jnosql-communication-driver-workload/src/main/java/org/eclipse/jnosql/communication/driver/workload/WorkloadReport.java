@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import org.eclipse.jnosql.communication.driver.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The measurements of a workload phase: a {@link LatencyHistogram} of each operation to the whole phase and another
+ * one to the current interval, thus the report has the latency percentiles and the throughput over time.
+ * The latencies are in nanoseconds and they are printed in microseconds.
+ */
+public final class WorkloadReport {
+
+    private final String phase;
+
+    private final Map<Operation, Measurement> measurements = new EnumMap<>(Operation.class);
+
+    private volatile long start;
+
+    private volatile long end;
+
+    private long lastInterval;
+
+    WorkloadReport(String phase) {
+        this.phase = phase;
+        for (Operation operation : Operation.values()) {
+            measurements.put(operation, new Measurement());
+        }
+    }
+
+    /**
+     * @return the phase name, e.g. LOAD or RUN
+     */
+    public String getPhase() {
+        return phase;
+    }
+
+    /**
+     * @param operation the operation
+     * @return the latencies of the successful operations in nanoseconds
+     */
+    public LatencyHistogram getHistogram(Operation operation) {
+        return measurements.get(operation).total;
+    }
+
+    /**
+     * @param operation the operation
+     * @return the number of successful operations
+     */
+    public long getCount(Operation operation) {
+        return measurements.get(operation).total.getCount();
+    }
+
+    /**
+     * @param operation the operation
+     * @return the number of operations that threw an exception
+     */
+    public long getErrors(Operation operation) {
+        return measurements.get(operation).errors.sum();
+    }
+
+    /**
+     * @return the number of reads that did not find the record
+     */
+    public long getNotFound() {
+        return measurements.get(Operation.READ).notFound.sum();
+    }
+
+    /**
+     * @return the number of successful operations of all kinds
+     */
+    public long getCount() {
+        long count = 0;
+        for (Operation operation : Operation.values()) {
+            count += getCount(operation);
+        }
+        return count;
+    }
+
+    /**
+     * @return the duration of the phase, up to now while it runs
+     */
+    public Duration getElapsed() {
+        long last = end == 0L ? System.nanoTime() : end;
+        return Duration.ofNanos(start == 0L ? 0L : last - start);
+    }
+
+    /**
+     * @return the successful operations per second of the phase
+     */
+    public double getThroughput() {
+        long nanos = getElapsed().toNanos();
+        return nanos == 0L ? 0D : getCount() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    void start() {
+        this.start = System.nanoTime();
+        this.lastInterval = start;
+    }
+
+    void stop() {
+        this.end = System.nanoTime();
+    }
+
+    void record(Operation operation, long nanos) {
+        Measurement measurement = measurements.get(operation);
+        measurement.total.record(nanos);
+        measurement.interval.get().record(nanos);
+    }
+
+    void error(Operation operation) {
+        measurements.get(operation).errors.increment();
+    }
+
+    void notFound() {
+        measurements.get(Operation.READ).notFound.increment();
+    }
+
+    /**
+     * Prints the throughput and the latencies since the last interval, e.g.
+     * [RUN] 10 sec: 120000 operations; 12001.3 current ops/sec; [READ count=11400 p50=210 p99=905 max=3120 us]
+     */
+    synchronized void printInterval(PrintStream out) {
+        long now = System.nanoTime();
+        double seconds = (now - lastInterval) / (double) TimeUnit.SECONDS.toNanos(1);
+        lastInterval = now;
+        StringBuilder line = new StringBuilder();
+        long count = 0;
+        for (Map.Entry<Operation, Measurement> entry : measurements.entrySet()) {
+            LatencyHistogram interval = entry.getValue().interval.getAndSet(new LatencyHistogram());
+            long operations = interval.getCount();
+            if (operations == 0L) {
+                continue;
+            }
+            count += operations;
+            line.append(String.format(Locale.ENGLISH, " [%s count=%d p50=%d p99=%d max=%d us]", entry.getKey(),
+                    operations, micros(interval.getValueAtPercentile(50D)),
+                    micros(interval.getValueAtPercentile(99D)), micros(interval.getMax())));
+        }
+        out.println(String.format(Locale.ENGLISH, "[%s] %d sec: %d operations; %.1f current ops/sec;%s", phase,
+                getElapsed().getSeconds(), getCount(), seconds == 0D ? 0D : count / seconds, line));
+    }
+
+    /**
+     * Prints the summary of the phase, the throughput and the latency percentiles of each operation
+     *
+     * @param out the output
+     */
+    public void print(PrintStream out) {
+        out.println(String.format(Locale.ENGLISH, "[%s] Runtime(ms)=%d, Operations=%d, Throughput(ops/sec)=%.1f",
+                phase, getElapsed().toMillis(), getCount(), getThroughput()));
+        for (Map.Entry<Operation, Measurement> entry : measurements.entrySet()) {
+            Measurement measurement = entry.getValue();
+            LatencyHistogram histogram = measurement.total;
+            long errors = measurement.errors.sum();
+            if (histogram.getCount() == 0L && errors == 0L) {
+                continue;
+            }
+            out.println(String.format(Locale.ENGLISH, "[%s %s] Operations=%d, Errors=%d, NotFound=%d, "
+                            + "Average(us)=%.1f, p50(us)=%d, p95(us)=%d, p99(us)=%d, p99.9(us)=%d, Max(us)=%d",
+                    phase, entry.getKey(), histogram.getCount(), errors, measurement.notFound.sum(),
+                    histogram.getMean() / 1000D, micros(histogram.getValueAtPercentile(50D)),
+                    micros(histogram.getValueAtPercentile(95D)), micros(histogram.getValueAtPercentile(99D)),
+                    micros(histogram.getValueAtPercentile(99.9D)), micros(histogram.getMax())));
+        }
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadReport{" +
+                "phase='" + phase + '\'' +
+                ", count=" + getCount() +
+                ", elapsed=" + getElapsed() +
+                '}';
+    }
+
+    private static final class Measurement {
+
+        private final LatencyHistogram total = new LatencyHistogram();
+
+        private final AtomicReference<LatencyHistogram> interval = new AtomicReference<>(new LatencyHistogram());
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder notFound = new LongAdder();
+    }
+}
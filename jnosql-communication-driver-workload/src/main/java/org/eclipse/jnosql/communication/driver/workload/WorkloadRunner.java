@@ -0,0 +1,304 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The entry point of the workload jar, a YCSB-style load generator to any driver on the classpath. The load phase
+ * inserts the records, then the run phase executes the mix of operations on keys picked by the distribution, with
+ * the throughput and the latencies reported at every interval and a summary at the end of each phase.
+ * With a target rate the operations are scheduled at fixed times and their latency is measured from the scheduled
+ * time, thus a slow response also accounts for the operations it delayed.
+ * <p>java -jar target/workload.jar configuration=hazelcast workload=update_heavy threads=16 operations=1000000</p>
+ *
+ * @see WorkloadOptions
+ */
+public final class WorkloadRunner {
+
+    private static final Logger LOGGER = Logger.getLogger(WorkloadRunner.class.getName());
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private static final String KEY_PREFIX = "user";
+
+    private static final int KEY_DIGITS = 12;
+
+    private final WorkloadOptions options;
+
+    private final Target target;
+
+    private final PrintStream out;
+
+    private final OperationMix mix;
+
+    private final KeyDistribution.KeyChooser chooser;
+
+    private final AtomicLong nextKey = new AtomicLong();
+
+    private final AtomicLong inserted = new AtomicLong();
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    /**
+     * Creates a runner
+     *
+     * @param options the options
+     * @param target  the target
+     * @param out     the output of the reports
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when the mix has scans and the target does not support them
+     */
+    public WorkloadRunner(WorkloadOptions options, Target target, PrintStream out) {
+        this.options = Objects.requireNonNull(options, "options is required");
+        this.target = Objects.requireNonNull(target, "target is required");
+        this.out = Objects.requireNonNull(out, "out is required");
+        this.mix = options.getMix();
+        if (mix.contains(Operation.SCAN) && !target.isScanSupported()) {
+            throw new IllegalArgumentException("The target does not support scan: " + target);
+        }
+        this.chooser = options.getDistribution().chooser(options.getRecords());
+    }
+
+    /**
+     * Inserts the records, when the load option is false it only assumes they were inserted by a previous run
+     *
+     * @return the report of the phase
+     */
+    public WorkloadReport load() {
+        long records = options.getRecords();
+        WorkloadReport report = new WorkloadReport("LOAD");
+        if (!options.isLoad()) {
+            nextKey.set(records);
+            inserted.set(records);
+            return report;
+        }
+        out.println("Loading " + records + " records into " + target);
+        execute(report, worker -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long index;
+            while ((index = nextKey.getAndIncrement()) < records && !Thread.currentThread().isInterrupted()) {
+                String key = key(index);
+                long begin = System.nanoTime();
+                if (execute(report, Operation.INSERT, () -> target.insert(key, fields(random)))) {
+                    report.record(Operation.INSERT, System.nanoTime() - begin);
+                }
+                inserted.incrementAndGet();
+            }
+        });
+        nextKey.set(records);
+        return report;
+    }
+
+    /**
+     * Executes the mix of operations until the operations or the duration
+     *
+     * @return the report of the phase
+     */
+    public WorkloadReport run() {
+        if (inserted.get() == 0L) {
+            nextKey.set(options.getRecords());
+            inserted.set(options.getRecords());
+        }
+        WorkloadReport report = new WorkloadReport("RUN");
+        long operations = options.getOperations() == 0L ? Long.MAX_VALUE : options.getOperations();
+        AtomicLong remaining = new AtomicLong(operations);
+        int threads = options.getThreads();
+        long interval = options.getTarget() == 0L ? 0L : TimeUnit.SECONDS.toNanos(threads) / options.getTarget();
+        out.println("Running " + mix + " with " + options.getDistribution() + " keys on " + target);
+        execute(report, worker -> {
+            long start = System.nanoTime();
+            boolean bounded = !options.getDuration().isZero();
+            long deadline = start + options.getDuration().toNanos();
+            long intended = start + interval * worker / threads;
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (remaining.getAndDecrement() > 0 && (!bounded || System.nanoTime() - deadline < 0)
+                    && !Thread.currentThread().isInterrupted()) {
+                long begin;
+                if (interval > 0L) {
+                    waitUntil(intended);
+                    begin = intended;
+                    intended += interval;
+                } else {
+                    begin = System.nanoTime();
+                }
+                Operation operation = mix.next(random.nextDouble());
+                if (execute(report, operation, () -> operate(operation, random, report))) {
+                    report.record(operation, System.nanoTime() - begin);
+                }
+            }
+        });
+        return report;
+    }
+
+    private void operate(Operation operation, ThreadLocalRandom random, WorkloadReport report) {
+        switch (operation) {
+            case READ:
+                if (!target.read(key(chooser.next(random, inserted.get())))) {
+                    report.notFound();
+                }
+                return;
+            case UPDATE:
+                target.update(key(chooser.next(random, inserted.get())), fields(random));
+                return;
+            case INSERT:
+                target.insert(key(nextKey.getAndIncrement()), fields(random));
+                inserted.incrementAndGet();
+                return;
+            default:
+                target.scan(key(chooser.next(random, inserted.get())), 1 + random.nextInt(options.getScanLength()));
+        }
+    }
+
+    private boolean execute(WorkloadReport report, Operation operation, Runnable call) {
+        try {
+            call.run();
+            return true;
+        } catch (RuntimeException exception) {
+            report.error(operation);
+            if (failed.compareAndSet(false, true)) {
+                LOGGER.log(Level.WARNING, "Error to execute " + operation + ", the next errors are only counted",
+                        exception);
+            } else {
+                LOGGER.log(Level.FINEST, "Error to execute " + operation, exception);
+            }
+            return false;
+        }
+    }
+
+    private void execute(WorkloadReport report, Worker worker) {
+        int threads = options.getThreads();
+        ExecutorService executor = createExecutor(threads);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-workload-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = options.getInterval().toMillis();
+        report.start();
+        reporter.scheduleAtFixedRate(() -> report.printInterval(out), interval, interval, TimeUnit.MILLISECONDS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int index = 0; index < threads; index++) {
+                int current = index;
+                futures.add(executor.submit(() -> worker.run(current)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the " + report.getPhase() + " phase",
+                    exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Error to run the " + report.getPhase() + " phase",
+                    exception.getCause());
+        } finally {
+            report.stop();
+            reporter.shutdownNow();
+            executor.shutdownNow();
+        }
+        report.print(out);
+    }
+
+    private Map<String, String> fields(ThreadLocalRandom random) {
+        int length = options.getFieldLength();
+        Map<String, String> fields = new HashMap<>();
+        for (int field = 0; field < options.getFields(); field++) {
+            char[] value = new char[length];
+            for (int index = 0; index < length; index++) {
+                value[index] = (char) ('a' + random.nextInt(26));
+            }
+            fields.put("field" + field, new String(value));
+        }
+        return fields;
+    }
+
+    private ExecutorService createExecutor(int threads) {
+        if (options.isVirtualThreads()) {
+            try {
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) method.invoke(null);
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException("The virtual threads require Java 21 or later", exception);
+            }
+        }
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-workload-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The keys are zero padded, thus their text order is their numeric order to the scans
+     */
+    static String key(long index) {
+        String number = Long.toString(index);
+        StringBuilder key = new StringBuilder(KEY_PREFIX.length() + KEY_DIGITS).append(KEY_PREFIX);
+        for (int padding = number.length(); padding < KEY_DIGITS; padding++) {
+            key.append('0');
+        }
+        return key.append(number).toString();
+    }
+
+    private static void waitUntil(long time) {
+        long remaining;
+        while ((remaining = time - System.nanoTime()) > 0L && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    public static void main(String[] args) {
+        WorkloadOptions options = WorkloadOptions.parse(args);
+        try (Target target = Targets.of(options)) {
+            WorkloadRunner runner = new WorkloadRunner(options, target, System.out);
+            runner.load();
+            runner.run();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadRunner{" +
+                "options=" + options +
+                ", target=" + target +
+                '}';
+    }
+
+    private interface Worker {
+
+        void run(int worker);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The zipfian generator of "Quickly Generating Billion-Record Synthetic Databases", Gray et al., as YCSB uses it.
+ * The zeta constant is computed once to the initial items, then the rank is hashed on the records that exist, thus
+ * the popular keys are not the first inserted ones and the inserts of the run phase are picked as well.
+ */
+final class ZipfianGenerator implements KeyDistribution.KeyChooser {
+
+    static final double THETA = 0.99;
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final long items;
+
+    private final double zetan;
+
+    private final double alpha;
+
+    private final double eta;
+
+    ZipfianGenerator(long items) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("The zipfian requires at least one item: " + items);
+        }
+        this.items = items;
+        this.zetan = zeta(items);
+        this.alpha = 1D / (1D - THETA);
+        double zeta2 = zeta(2);
+        this.eta = (1D - Math.pow(2D / items, 1D - THETA)) / (1D - zeta2 / zetan);
+    }
+
+    /**
+     * @return the rank of an item, zero is the most popular one
+     */
+    long rank(double random) {
+        double uz = random * zetan;
+        if (uz < 1D) {
+            return 0L;
+        }
+        if (uz < 1D + Math.pow(0.5, THETA)) {
+            return 1L;
+        }
+        long rank = (long) (items * Math.pow(eta * random - eta + 1D, alpha));
+        return Math.min(rank, items - 1);
+    }
+
+    @Override
+    public long next(ThreadLocalRandom random, long count) {
+        return Math.floorMod(fnv(rank(random.nextDouble())), count);
+    }
+
+    static long fnv(long value) {
+        long hash = FNV_OFFSET;
+        for (int index = 0; index < Long.BYTES; index++) {
+            hash ^= (value >>> (index * Byte.SIZE)) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static double zeta(long items) {
+        double sum = 0D;
+        for (long index = 1; index <= items; index++) {
+            sum += 1D / Math.pow(index, THETA);
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "ZipfianGenerator{" +
+                "items=" + items +
+                '}';
+    }
+}
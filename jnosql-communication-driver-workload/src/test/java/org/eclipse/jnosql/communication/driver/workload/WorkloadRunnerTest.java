@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.workload;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkloadRunnerTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private final PrintStream out = new PrintStream(output, true);
+
+    @Test
+    public void shouldParseOptions() {
+        WorkloadOptions options = WorkloadOptions.parse("configuration=memory", "records=1_000", "type=key-value",
+                "hazelcast.instanceName=workload");
+        assertEquals("memory", options.getConfiguration());
+        assertEquals(DatabaseType.KEY_VALUE, options.getType());
+        assertEquals(1_000L, options.getRecords());
+        assertEquals(KeyDistribution.ZIPFIAN, options.getDistribution());
+        assertEquals("workload", options.getSettings().get("hazelcast.instanceName").orElse(null));
+        assertNull(WorkloadOptions.parse().getType());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenOptionsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadOptions.parse("records"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadOptions.parse("records=0"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadOptions.parse("threads=two"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadOptions.parse("workload=write_heavy"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadOptions.parse("operations=0"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadOptions.parse("read=-1"));
+    }
+
+    @Test
+    public void shouldPickOperationsByProportion() {
+        OperationMix mix = WorkloadOptions.parse("read=1", "update=1").getMix();
+        assertEquals(Operation.READ, mix.next(0.1));
+        assertEquals(Operation.UPDATE, mix.next(0.9));
+        assertEquals(Operation.UPDATE, mix.next(0.9999999999));
+        assertEquals(Operation.INSERT, Workload.INSERT_ONLY.getMix().next(0.5));
+        assertEquals(Operation.SCAN, Workload.SCAN.getMix().next(0.5));
+    }
+
+    @Test
+    public void shouldSkewZipfianKeys() {
+        KeyDistribution.KeyChooser chooser = KeyDistribution.ZIPFIAN.chooser(1_000L);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] hits = new long[1_000];
+        for (int index = 0; index < 100_000; index++) {
+            long key = chooser.next(random, 1_000L);
+            assertTrue(key >= 0 && key < 1_000L);
+            hits[(int) key]++;
+        }
+        long top = Arrays.stream(hits).boxed()
+                .sorted((first, second) -> Long.compare(second, first))
+                .limit(100)
+                .mapToLong(Long::longValue)
+                .sum();
+        assertTrue(top > 50_000L, "the top 10% keys got " + top);
+        long key = chooser.next(random, 10L);
+        assertTrue(key >= 0 && key < 10L);
+    }
+
+    @Test
+    public void shouldPadKeys() {
+        assertEquals("user000000000042", WorkloadRunner.key(42L));
+        assertTrue(WorkloadRunner.key(9L).compareTo(WorkloadRunner.key(10L)) < 0);
+    }
+
+    @Test
+    public void shouldRunOnInMemoryEngine() {
+        WorkloadOptions options = WorkloadOptions.parse("configuration=memory", "records=200", "operations=2000",
+                "threads=4", "fields=2", "fieldLength=10", "read=0.5", "update=0.2", "insert=0.1", "scan=0.2",
+                "scanLength=10");
+        try (Target target = Targets.of(options)) {
+            WorkloadRunner runner = new WorkloadRunner(options, target, out);
+            WorkloadReport load = runner.load();
+            assertEquals(200L, load.getCount(Operation.INSERT));
+            WorkloadReport run = runner.run();
+            assertEquals(2_000L, run.getCount());
+            for (Operation operation : Operation.values()) {
+                assertEquals(0L, run.getErrors(operation));
+                assertTrue(run.getCount(operation) > 0L, operation + " was not executed");
+            }
+            assertTrue(run.getHistogram(Operation.READ).getValueAtPercentile(99D) > 0L);
+        }
+        String report = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(report.contains("[RUN READ] Operations="), report);
+    }
+
+    @Test
+    public void shouldRunWithTargetRate() {
+        WorkloadOptions options = WorkloadOptions.parse("configuration=memory", "type=key_value", "records=10",
+                "operations=100", "threads=2", "target=1000", "workload=update_heavy");
+        try (Target target = Targets.of(options)) {
+            WorkloadRunner runner = new WorkloadRunner(options, target, out);
+            runner.load();
+            WorkloadReport run = runner.run();
+            assertEquals(100L, run.getCount());
+            assertEquals(0L, run.getNotFound());
+            assertTrue(run.getElapsed().toMillis() >= 90L, "elapsed " + run.getElapsed());
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTargetHasNoScan() {
+        WorkloadOptions options = WorkloadOptions.parse("configuration=memory", "type=key_value", "workload=scan");
+        try (Target target = Targets.of(options)) {
+            assertThrows(IllegalArgumentException.class, () -> new WorkloadRunner(options, target, out));
+        }
+    }
+}
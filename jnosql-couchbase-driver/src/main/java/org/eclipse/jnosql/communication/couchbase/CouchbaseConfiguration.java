@@ -19,6 +19,7 @@ import jakarta.nosql.Configurations;
 import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +42,8 @@ public abstract class CouchbaseConfiguration {
 
     protected String password;
 
+    protected ValueCodec codec;
+
     public CouchbaseConfiguration() {
         Map<String, String> configuration = ConfigurationReader.from(FILE_CONFIGURATION);
         SettingsBuilder builder = Settings.builder();
@@ -54,6 +57,7 @@ public abstract class CouchbaseConfiguration {
         getHosts(settings).forEach(this::add);
         this.user = getUser(settings);
         this.password = getPassword(settings);
+        this.codec = getValueCodec(settings);
     }
 
     protected String getUser(Settings settings) {
@@ -71,6 +75,12 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    protected ValueCodec getValueCodec(Settings settings) {
+        return settings.get(CouchbaseConfigurations.VALUE_CODEC.get())
+                .map(Object::toString).map(ValueCodec::getInstance)
+                .orElseGet(ValueCodec::getInstance);
+    }
+
     protected List<String> getHosts(Settings settings) {
         return settings.prefix(asList(CouchbaseConfigurations.HOST.get(),
                 OldCouchbaseConfigurations.HOST.get(), Configurations.HOST.get()))
@@ -104,4 +114,14 @@ public abstract class CouchbaseConfiguration {
     public void setPassword(String password) {
         this.password = password;
     }
+
+    /**
+     * set the codec to the key-value values
+     *
+     * @param codec the codec
+     * @throws NullPointerException when codec is null
+     */
+    public void setValueCodec(ValueCodec codec) throws NullPointerException {
+        this.codec = Objects.requireNonNull(codec, "codec is required");
+    }
 }
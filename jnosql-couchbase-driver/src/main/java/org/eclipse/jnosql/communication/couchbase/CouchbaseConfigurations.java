@@ -20,7 +20,8 @@ public enum CouchbaseConfigurations implements Supplier<String> {
 
     HOST("couchbase.host"),
     USER("couchbase.user"),
-    PASSWORD("couchbase.password");
+    PASSWORD("couchbase.password"),
+    VALUE_CODEC("couchbase.value.codec");
 
     private final String configuration;
 
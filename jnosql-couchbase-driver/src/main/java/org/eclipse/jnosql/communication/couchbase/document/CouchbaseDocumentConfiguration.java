@@ -20,6 +20,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.couchbase.CouchbaseConfiguration;
 import org.eclipse.jnosql.communication.couchbase.CouchbaseConfigurations;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.HashMap;
 import java.util.List;
@@ -41,7 +42,8 @@ public class CouchbaseDocumentConfiguration extends CouchbaseConfiguration
 
     @Override
     public CouhbaseDocumentCollectionManagerFactory get() throws UnsupportedOperationException {
-        return new CouhbaseDocumentCollectionManagerFactory(CouchbaseCluster.create(nodes), user, password);
+        return new CouhbaseDocumentCollectionManagerFactory(CouchbaseCluster.create(nodes), user, password,
+                DriverMetrics.disabled());
     }
 
     @Override
@@ -55,7 +57,8 @@ public class CouchbaseDocumentConfiguration extends CouchbaseConfiguration
         String password = Optional.ofNullable(getPassword(settings)).orElse(this.password);
         List<String> hosts = getHosts(settings);
 
-        return new CouhbaseDocumentCollectionManagerFactory(CouchbaseCluster.create(hosts), user, password);
+        return new CouhbaseDocumentCollectionManagerFactory(CouchbaseCluster.create(hosts), user, password,
+                DriverMetrics.of(settings));
     }
 
 }
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.couchbase.document;
 import com.couchbase.client.java.CouchbaseCluster;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import org.eclipse.jnosql.communication.couchbase.util.CouchbaseClusterUtil;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 public class CouhbaseDocumentCollectionManagerFactory implements DocumentCollectionManagerFactory{
 
@@ -25,17 +26,20 @@ public class CouhbaseDocumentCollectionManagerFactory implements DocumentCollect
     private final CouchbaseCluster couchbaseCluster;
     private final String user;
     private final String password;
+    private final DriverMetrics metrics;
 
-    CouhbaseDocumentCollectionManagerFactory(CouchbaseCluster couchbaseCluster, String user, String password) {
+    CouhbaseDocumentCollectionManagerFactory(CouchbaseCluster couchbaseCluster, String user, String password,
+                                             DriverMetrics metrics) {
         this.couchbaseCluster = couchbaseCluster;
         this.user = user;
         this.password = password;
+        this.metrics = metrics;
     }
 
     @Override
     public CouchbaseDocumentCollectionManager get(String database) throws UnsupportedOperationException, NullPointerException {
         CouchbaseCluster authenticate = getCouchbaseCluster(database);
-        return new DefaultCouchbaseDocumentCollectionManager(authenticate.openBucket(database), database);
+        return new DefaultCouchbaseDocumentCollectionManager(authenticate.openBucket(database), database, metrics);
     }
 
     private CouchbaseCluster getCouchbaseCluster(String database) {
@@ -44,6 +48,7 @@ public class CouhbaseDocumentCollectionManagerFactory implements DocumentCollect
 
     @Override
     public void close() {
+        metrics.close();
         couchbaseCluster.disconnect();
     }
 }
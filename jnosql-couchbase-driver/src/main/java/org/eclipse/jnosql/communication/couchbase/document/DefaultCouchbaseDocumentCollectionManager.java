@@ -29,6 +29,9 @@ import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -47,12 +50,15 @@ import static org.eclipse.jnosql.communication.couchbase.document.EntityConverte
  * The default implementation of {@link CouchbaseDocumentCollectionManager}
  */
 class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentCollectionManager {
+    static final String DRIVER = "couchbase";
     private final Bucket bucket;
     private final String database;
+    private final DriverMetrics metrics;
 
-    DefaultCouchbaseDocumentCollectionManager(Bucket bucket, String database) {
+    DefaultCouchbaseDocumentCollectionManager(Bucket bucket, String database, DriverMetrics metrics) {
         this.bucket = bucket;
         this.database = database;
+        this.metrics = metrics;
     }
 
     @Override
@@ -64,7 +70,7 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
 
         String prefix = getPrefix(id, entity.getName());
         jsonObject.put(KEY_FIELD, prefix);
-        bucket.upsert(JsonDocument.create(prefix, jsonObject));
+        upsert(entity, JsonDocument.create(prefix, jsonObject));
         entity.add(Document.of(ID_FIELD, prefix));
         return entity;
     }
@@ -79,7 +85,7 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
 
         String prefix = getPrefix(id, entity.getName());
         jsonObject.put(KEY_FIELD, prefix);
-        bucket.upsert(JsonDocument.create(prefix, (int) ttl.getSeconds(), jsonObject));
+        upsert(entity, JsonDocument.create(prefix, (int) ttl.getSeconds(), jsonObject));
         return entity;
     }
 
@@ -115,13 +121,22 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
         QueryConverter.QueryConverterResult delete = QueryConverter.delete(query, database);
         if (nonNull(delete.getStatement())) {
             ParameterizedN1qlQuery n1qlQuery = N1qlQuery.parameterized(delete.getStatement(), delete.getParams());
-            bucket.query(n1qlQuery);
+            query(DriverOperationEvent.DELETE, query.getDocumentCollection(), n1qlQuery);
         }
         if (!delete.getKeys().isEmpty()) {
-            delete.getKeys()
-                    .stream()
-                    .map(s -> getPrefix(query.getDocumentCollection(), s))
-                    .forEach(bucket::remove);
+            DriverOperationEvent event = DriverOperationEvent.start();
+            long start = metrics.start();
+            boolean failed = true;
+            try {
+                delete.getKeys()
+                        .stream()
+                        .map(s -> getPrefix(query.getDocumentCollection(), s))
+                        .forEach(bucket::remove);
+                failed = false;
+            } finally {
+                event.end(DRIVER, DriverOperationEvent.DELETE, query.getDocumentCollection(), delete.getKeys().size());
+                metrics.record(Operations.DELETE, query.getDocumentCollection(), start, 0L, failed);
+            }
         }
 
     }
@@ -134,7 +149,7 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
         Stream<DocumentEntity> n1qlQueryStream = Stream.empty();
         if (nonNull(select.getStatement())) {
             ParameterizedN1qlQuery n1qlQuery = N1qlQuery.parameterized(select.getStatement(), select.getParams());
-            N1qlQueryResult result = bucket.query(n1qlQuery);
+            N1qlQueryResult result = query(DriverOperationEvent.SELECT, query.getDocumentCollection(), n1qlQuery);
             idsQuery = convert(result, database);
         }
         if (!select.getKeys().isEmpty()) {
@@ -154,7 +169,7 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
     public Stream<DocumentEntity> n1qlQuery(String n1qlQuery, JsonObject params) throws NullPointerException {
         requireNonNull(n1qlQuery, "n1qlQuery is required");
         requireNonNull(params, "params is required");
-        N1qlQueryResult result = bucket.query(N1qlQuery.parameterized(n1qlQuery, params));
+        N1qlQueryResult result = query(DriverOperationEvent.QUERY, null, N1qlQuery.parameterized(n1qlQuery, params));
         return convert(result, database);
     }
 
@@ -162,21 +177,21 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
     public Stream<DocumentEntity> n1qlQuery(Statement n1qlQuery, JsonObject params) throws NullPointerException {
         requireNonNull(n1qlQuery, "n1qlQuery is required");
         requireNonNull(params, "params is required");
-        N1qlQueryResult result = bucket.query(N1qlQuery.parameterized(n1qlQuery, params));
+        N1qlQueryResult result = query(DriverOperationEvent.QUERY, null, N1qlQuery.parameterized(n1qlQuery, params));
         return convert(result, database);
     }
 
     @Override
     public Stream<DocumentEntity> n1qlQuery(String n1qlQuery) throws NullPointerException {
         requireNonNull(n1qlQuery, "n1qlQuery is required");
-        N1qlQueryResult result = bucket.query(N1qlQuery.simple(n1qlQuery));
+        N1qlQueryResult result = query(DriverOperationEvent.QUERY, null, N1qlQuery.simple(n1qlQuery));
         return convert(result, database);
     }
 
     @Override
     public Stream<DocumentEntity> n1qlQuery(Statement n1qlQuery) throws NullPointerException {
         requireNonNull(n1qlQuery, "n1qlQuery is required");
-        N1qlQueryResult result = bucket.query(N1qlQuery.simple(n1qlQuery));
+        N1qlQueryResult result = query(DriverOperationEvent.QUERY, null, N1qlQuery.simple(n1qlQuery));
         return convert(result, database);
     }
 
@@ -193,4 +208,32 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
     public void close() {
         bucket.close();
     }
+
+    private void upsert(DocumentEntity entity, JsonDocument document) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            bucket.upsert(document);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, entity.getName(), 1);
+            metrics.record(Operations.INSERT, entity.getName(), start, metrics.sizeOf(entity), failed);
+        }
+    }
+
+    private N1qlQueryResult query(String operation, String collection, N1qlQuery n1qlQuery) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        N1qlQueryResult result = null;
+        try {
+            result = bucket.query(n1qlQuery);
+            return result;
+        } finally {
+            long count = result == null ? 0L : result.info().resultCount();
+            event.end(DRIVER, operation, collection, count, () -> n1qlQuery.statement().toString());
+            metrics.record(operation, collection, start, result == null ? 0L : result.info().resultSize(),
+                    result == null);
+        }
+    }
 }
@@ -22,6 +22,7 @@ import com.couchbase.client.java.query.N1qlQueryResult;
 import com.couchbase.client.java.query.N1qlQueryRow;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.DocumentShape;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
@@ -124,39 +125,41 @@ final class EntityConverter {
     private static Consumer<Document> toJsonObject(JsonObject jsonObject) {
         return d -> {
             Object value = ValueUtil.convert(d.getValue());
-            if (Document.class.isInstance(value)) {
-                convertDocument(jsonObject, d, value);
-            } else if (Iterable.class.isInstance(value)) {
-                convertIterable(jsonObject, d, value);
-            } else {
-                jsonObject.put(d.getName(), value);
+            DocumentShape shape = DocumentShape.of(value);
+            switch (shape.getType()) {
+                case DOCUMENT:
+                    convertDocument(jsonObject, d, shape.getDocument());
+                    break;
+                case SCALAR:
+                    jsonObject.put(d.getName(), value);
+                    break;
+                default:
+                    convertIterable(jsonObject, d, shape.getElements());
             }
         };
     }
 
 
-    private static void convertDocument(JsonObject jsonObject, Document d, Object value) {
-        Document document = Document.class.cast(value);
+    private static void convertDocument(JsonObject jsonObject, Document d, Document document) {
         jsonObject.put(d.getName(), Collections.singletonMap(document.getName(), document.get()));
     }
 
-    private static void convertIterable(JsonObject jsonObject, Document document, Object value) {
+    private static void convertIterable(JsonObject jsonObject, Document document, List<Object> elements) {
         JsonObject map = JsonObject.create();
         JsonArray array = JsonArray.create();
-        Iterable.class.cast(value).forEach(element -> {
-            if (Document.class.isInstance(element)) {
-                Document subdocument = Document.class.cast(element);
+        for (Object element : elements) {
+            DocumentShape shape = DocumentShape.of(element);
+            if (DocumentShape.Type.DOCUMENT.equals(shape.getType())) {
+                Document subdocument = shape.getDocument();
                 map.put(subdocument.getName(), subdocument.get());
-            } else if (isSudDocument(element)) {
+            } else if (DocumentShape.Type.SUBDOCUMENT.equals(shape.getType())) {
                 JsonObject subJson = JsonObject.create();
-
-                stream(Iterable.class.cast(element).spliterator(), false)
-                        .forEach(getSubdocument(subJson));
+                shape.getDocuments().forEach(toJsonObject(subJson));
                 array.add(subJson);
             } else {
                 array.add(element);
             }
-        });
+        }
         if (array.isEmpty()) {
             jsonObject.put(document.getName(), map);
         } else {
@@ -164,15 +167,4 @@ final class EntityConverter {
         }
     }
 
-    private static Consumer getSubdocument(JsonObject subJson) {
-        return e -> toJsonObject(subJson).accept((Document) e);
-    }
-
-
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-
 }
@@ -16,6 +16,8 @@ package org.eclipse.jnosql.communication.couchbase.keyvalue;
 
 
 import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.document.ByteArrayDocument;
+import com.couchbase.client.java.document.Document;
 import com.couchbase.client.java.document.JsonDocument;
 import com.couchbase.client.java.document.RawJsonDocument;
 import com.couchbase.client.java.document.json.JsonObject;
@@ -25,7 +27,10 @@ import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 
 import javax.json.bind.Jsonb;
 import java.time.Duration;
@@ -39,7 +44,8 @@ import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.jnosql.communication.driver.ValueUtil.convert;
 
 /**
- * The couchbase implementation to {@link BucketManager}
+ * The couchbase implementation to {@link BucketManager}.
+ * When the {@link ValueCodec} writes text, the values are JSON documents, otherwise they are binary documents.
  */
 public class CouchbaseBucketManager implements BucketManager {
 
@@ -47,13 +53,21 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
+    static final String DRIVER = "couchbase";
+
     private final Bucket bucket;
 
     private final String bucketName;
 
-    CouchbaseBucketManager(Bucket bucket, String bucketName) {
+    private final ValueCodec codec;
+
+    private final DriverMetrics metrics;
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, ValueCodec codec, DriverMetrics metrics) {
         this.bucket = bucket;
         this.bucketName = bucketName;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
     @Override
@@ -61,10 +75,12 @@ public class CouchbaseBucketManager implements BucketManager {
         requireNonNull(key, "key is required");
         requireNonNull(value, "value is required");
 
-        if (JsonValue.checkType(value)) {
-            bucket.upsert(RawJsonDocument.create(key.toString(), JSONB.toJson(value.toString())));
+        if (!codec.isText()) {
+            upsert(ByteArrayDocument.create(key.toString(), codec.encode(value)));
+        } else if (JsonValue.checkType(value)) {
+            upsert(RawJsonDocument.create(key.toString(), JSONB.toJson(value.toString())));
         } else {
-            bucket.upsert(JsonDocument.create(key.toString(), JsonObjectCouchbaseUtil.toJson(JSONB, value)));
+            upsert(JsonDocument.create(key.toString(), JsonObjectCouchbaseUtil.toJson(JSONB, value)));
         }
 
     }
@@ -81,15 +97,18 @@ public class CouchbaseBucketManager implements BucketManager {
         requireNonNull(ttl, "ttl is required");
 
 
-        if (JsonValue.checkType(entity.getValue())) {
+        if (!codec.isText()) {
+            upsert(ByteArrayDocument.create(entity.getKey().toString(), (int) ttl.getSeconds(),
+                    codec.encode(convert(Value.of(entity.getValue())))));
+        } else if (JsonValue.checkType(entity.getValue())) {
             RawJsonDocument jsonDocument = RawJsonDocument.create(entity.getKey().toString(), (int) ttl.getSeconds(),
                     JSONB.toJson(entity.getValue().toString()));
 
-            bucket.upsert(jsonDocument);
+            upsert(jsonDocument);
         } else {
             JsonObject jsonObject = JsonObjectCouchbaseUtil.toJson(JSONB, entity.getValue());
             JsonDocument jsonDocument = JsonDocument.create(entity.getKey().toString(), (int) ttl.getSeconds(), jsonObject);
-            bucket.upsert(jsonDocument);
+            upsert(jsonDocument);
         }
 
     }
@@ -110,12 +129,31 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        RawJsonDocument jsonDocument = bucket.get(key.toString(), RawJsonDocument.class);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        Optional<Value> value = Optional.empty();
+        try {
+            value = find(key.toString());
+            failed = false;
+            return value;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, bucketName, value.isPresent() ? 1 : 0);
+            metrics.record(Operations.GET, bucketName, start, metrics.sizeOf(value.orElse(null)), failed);
+        }
+    }
+
+    private Optional<Value> find(String key) {
+        if (!codec.isText()) {
+            ByteArrayDocument document = bucket.get(key, ByteArrayDocument.class);
+            return Optional.ofNullable(document).map(ByteArrayDocument::content).map(codec::decode);
+        }
+        RawJsonDocument jsonDocument = bucket.get(key, RawJsonDocument.class);
         if (Objects.isNull(jsonDocument)) {
             return Optional.empty();
         }
         Object value = jsonDocument.content();
-        return Optional.of(ValueJSON.of(value.toString()));
+        return Optional.of(codec.decodeText(value.toString()));
     }
 
     @Override
@@ -131,10 +169,18 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             bucket.remove(key.toString());
+            failed = false;
         } catch (DocumentDoesNotExistException e) {
             LOGGER.info("Not found any document with the key " + key);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, bucketName, 1);
+            metrics.record(Operations.DELETE, bucketName, start, 0L, failed);
         }
     }
 
@@ -149,11 +195,25 @@ public class CouchbaseBucketManager implements BucketManager {
         bucket.close();
     }
 
+    private void upsert(Document<?> document) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            bucket.upsert(document);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, bucketName, 1);
+            metrics.record(Operations.PUT, bucketName, start, metrics.sizeOf(document.content()), failed);
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("CouchbaseBucketManager{");
         sb.append("bucket=").append(bucket);
         sb.append(", bucketName='").append(bucketName).append('\'');
+        sb.append(", codec=").append(codec.getName());
         sb.append('}');
         return sb.toString();
     }
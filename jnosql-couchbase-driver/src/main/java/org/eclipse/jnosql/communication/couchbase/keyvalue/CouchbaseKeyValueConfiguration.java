@@ -21,6 +21,8 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.couchbase.CouchbaseConfiguration;
 import org.eclipse.jnosql.communication.couchbase.CouchbaseConfigurations;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.List;
 import java.util.Objects;
@@ -51,12 +53,14 @@ public class CouchbaseKeyValueConfiguration extends CouchbaseConfiguration
     public CouchbaseBucketManagerFactory getManagerFactory(CouchbaseEnvironment environment) throws NullPointerException {
         Objects.requireNonNull(environment, "environment is required");
         CouchbaseCluster couchbaseCluster = CouchbaseCluster.create(environment, nodes);
-        return new DefaultCouchbaseBucketManagerFactory(couchbaseCluster, user, password);
+        return new DefaultCouchbaseBucketManagerFactory(couchbaseCluster, user, password, codec,
+                DriverMetrics.disabled());
     }
 
     @Override
     public CouchbaseBucketManagerFactory get() {
-        return new DefaultCouchbaseBucketManagerFactory(CouchbaseCluster.create(nodes), user, password);
+        return new DefaultCouchbaseBucketManagerFactory(CouchbaseCluster.create(nodes), user, password, codec,
+                DriverMetrics.disabled());
     }
 
     @Override
@@ -65,6 +69,9 @@ public class CouchbaseKeyValueConfiguration extends CouchbaseConfiguration
         String user = Optional.ofNullable(getUser(settings)).orElse(this.user);
         String password = Optional.ofNullable(getPassword(settings)).orElse(this.password);
         List<String> hosts = getHosts(settings);
-        return new DefaultCouchbaseBucketManagerFactory(CouchbaseCluster.create(hosts), user, password);
+        ValueCodec codec = settings.get(CouchbaseConfigurations.VALUE_CODEC.get()).isPresent()
+                ? getValueCodec(settings) : this.codec;
+        return new DefaultCouchbaseBucketManagerFactory(CouchbaseCluster.create(hosts), user, password, codec,
+                DriverMetrics.of(settings));
     }
 }
@@ -20,6 +20,8 @@ import com.couchbase.client.java.datastructures.collections.CouchbaseArrayList;
 import com.couchbase.client.java.datastructures.collections.CouchbaseArraySet;
 import com.couchbase.client.java.document.json.JsonValue;
 import org.eclipse.jnosql.communication.couchbase.util.CouchbaseClusterUtil;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.List;
 import java.util.Map;
@@ -49,17 +51,24 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
 
     private final String password;
 
-    DefaultCouchbaseBucketManagerFactory(CouchbaseCluster couchbaseCluster, String user, String password) {
+    private final ValueCodec codec;
+
+    private final DriverMetrics metrics;
+
+    DefaultCouchbaseBucketManagerFactory(CouchbaseCluster couchbaseCluster, String user, String password,
+                                         ValueCodec codec, DriverMetrics metrics) {
         this.couchbaseCluster = couchbaseCluster;
         this.user = user;
         this.password = password;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
 
     @Override
     public CouchbaseBucketManager getBucketManager(String bucketName) {
         requireNonNull(bucketName, "bucket is required");
-        return new CouchbaseBucketManager(getBucket(bucketName), bucketName);
+        return new CouchbaseBucketManager(getBucket(bucketName), bucketName, codec, metrics);
     }
 
     @Override
@@ -187,6 +196,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
 
     @Override
     public void close() {
+        metrics.close();
         couchbaseCluster.clusterManager();
     }
 }
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.couchdb.document;
 final class CouchDBConstant {
 
 
+    static final String DRIVER = "couchdb";
     static final String ID = "_id";
     static final String REV = "_rev";
     static final String REV_RESPONSE = "rev";
@@ -49,6 +50,8 @@ final class CouchDBConstant {
     static final String LIMIT_QUERY = "limit";
     static final String FIELDS_QUERY = "fields";
 
+    static final int PAGE_SIZE = 1000;
+
     private CouchDBConstant() {
     }
 }
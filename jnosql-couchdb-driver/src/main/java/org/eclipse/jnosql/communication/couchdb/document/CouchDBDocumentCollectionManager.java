@@ -17,8 +17,9 @@
 package org.eclipse.jnosql.communication.couchdb.document;
 
 import jakarta.nosql.document.DocumentCollectionManager;
+import org.eclipse.jnosql.communication.driver.reactive.DocumentPublisher;
 
-public interface CouchDBDocumentCollectionManager extends DocumentCollectionManager {
+public interface CouchDBDocumentCollectionManager extends DocumentCollectionManager, DocumentPublisher {
 
     /**
      * Returns the number of elements of database
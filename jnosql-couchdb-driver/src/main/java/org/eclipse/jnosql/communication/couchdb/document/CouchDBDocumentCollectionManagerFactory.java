@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication.couchdb.document;
 
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Objects;
 
@@ -25,21 +26,25 @@ public class CouchDBDocumentCollectionManagerFactory implements DocumentCollecti
 
     private final CouchDBHttpConfiguration configuration;
 
-    CouchDBDocumentCollectionManagerFactory(CouchDBHttpConfiguration configuration) {
+    private final DriverMetrics metrics;
+
+    CouchDBDocumentCollectionManagerFactory(CouchDBHttpConfiguration configuration, DriverMetrics metrics) {
         this.configuration = configuration;
+        this.metrics = metrics;
     }
 
     @Override
     public CouchDBDocumentCollectionManager get(String database) {
         Objects.requireNonNull(database, "database is required");
 
-        CouchDBHttpClient client = configuration.getClient(database);
+        CouchDBHttpClient client = configuration.getClient(database, metrics);
         client.createDatabase();
-        return new DefaultCouchDBDocumentCollectionManager(client);
+        return new DefaultCouchDBDocumentCollectionManager(client, metrics);
     }
 
 
     @Override
     public void close() {
+        metrics.close();
     }
 }
@@ -21,6 +21,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -78,6 +79,6 @@ public class CouchDBDocumentConfiguration implements DocumentConfiguration {
         settings.computeIfPresent(CouchDBConfigurations.MAX_CACHE_ENTRIES.get(), (k, v) -> configuration.withMaxCacheEntries(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.ENABLE_SSL.get(), (k, v) -> configuration.withEnableSSL(Boolean.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.COMPRESSION.get(), (k, v) -> configuration.withCompression(Boolean.valueOf(v.toString())));
-        return new CouchDBDocumentCollectionManagerFactory(configuration.build());
+        return new CouchDBDocumentCollectionManagerFactory(configuration.build(), DriverMetrics.of(settings));
     }
 }
\ No newline at end of file
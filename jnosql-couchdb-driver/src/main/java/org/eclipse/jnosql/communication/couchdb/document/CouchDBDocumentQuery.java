@@ -19,6 +19,7 @@ package org.eclipse.jnosql.communication.couchdb.document;
 import jakarta.nosql.Sort;
 import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
 
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,7 @@ import java.util.Optional;
  * @see CouchDBDocumentQuery#of(DocumentQuery)
  * @see CouchDBDocumentQuery#of(DocumentQuery, String)
  */
-public final class CouchDBDocumentQuery implements DocumentQuery {
+public final class CouchDBDocumentQuery implements DocumentQuery, StatefulQuery {
 
 
     private final DocumentQuery query;
@@ -19,6 +19,8 @@ import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.reactive.Cursor;
 
 import java.io.IOException;
 import java.util.List;
@@ -32,10 +34,11 @@ final class CouchDBHttpClient {
 
     private final HttpExecute httpExecute;
 
-    CouchDBHttpClient(CouchDBHttpConfiguration configuration, CloseableHttpClient client, String database) {
+    CouchDBHttpClient(CouchDBHttpConfiguration configuration, CloseableHttpClient client, String database,
+                      DriverMetrics metrics) {
         this.client = client;
         this.database = database;
-        this.httpExecute = new HttpExecute(configuration, client);
+        this.httpExecute = new HttpExecute(configuration, client, metrics);
     }
 
     void createDatabase() {
@@ -58,6 +61,10 @@ final class CouchDBHttpClient {
         return this.httpExecute.select(database, query);
     }
 
+    public Cursor<DocumentEntity> cursor(DocumentQuery query) {
+        return this.httpExecute.cursor(database, query);
+    }
+
     public void delete(DocumentDeleteQuery query) {
         this.httpExecute.delete(database, query);
     }
@@ -20,6 +20,7 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.cache.CacheConfig;
 import org.apache.http.impl.client.cache.CachingHttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Base64;
 import java.util.Optional;
@@ -74,8 +75,8 @@ class CouchDBHttpConfiguration {
         return url.toString();
     }
 
-    public CouchDBHttpClient getClient(String database) {
-        return new CouchDBHttpClient(this, getHttpClient(), database);
+    public CouchDBHttpClient getClient(String database, DriverMetrics metrics) {
+        return new CouchDBHttpClient(this, getHttpClient(), database, metrics);
     }
 
     public String getUrl() {
@@ -19,9 +19,14 @@ package org.eclipse.jnosql.communication.couchdb.document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+import org.eclipse.jnosql.communication.driver.reactive.CursorPublisher;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Flow;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -31,14 +36,27 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
 
     private final CouchDBHttpClient connector;
 
-    DefaultCouchDBDocumentCollectionManager(CouchDBHttpClient connector) {
+    private final DriverMetrics metrics;
+
+    DefaultCouchDBDocumentCollectionManager(CouchDBHttpClient connector, DriverMetrics metrics) {
         this.connector = connector;
+        this.metrics = metrics;
     }
 
     @Override
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return connector.insert(entity);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            DocumentEntity inserted = connector.insert(entity);
+            failed = false;
+            return inserted;
+        } finally {
+            event.end(CouchDBConstant.DRIVER, DriverOperationEvent.INSERT, entity.getName(), 1);
+            metrics.record(Operations.INSERT, entity.getName(), start, metrics.sizeOf(entity), failed);
+        }
     }
 
     @Override
@@ -64,7 +82,17 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public DocumentEntity update(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return connector.update(entity);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            DocumentEntity updated = connector.update(entity);
+            failed = false;
+            return updated;
+        } finally {
+            event.end(CouchDBConstant.DRIVER, DriverOperationEvent.UPDATE, entity.getName(), 1);
+            metrics.record(Operations.UPDATE, entity.getName(), start, metrics.sizeOf(entity), failed);
+        }
     }
 
     @Override
@@ -77,7 +105,16 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
-        connector.delete(query);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            connector.delete(query);
+            failed = false;
+        } finally {
+            event.end(CouchDBConstant.DRIVER, DriverOperationEvent.DELETE, query.getDocumentCollection(), 0);
+            metrics.record(Operations.DELETE, query.getDocumentCollection(), start, 0L, failed);
+        }
     }
 
     @Override
@@ -86,9 +123,29 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
         return connector.select(query);
     }
 
+    /**
+     * Publishes the entities of the query, a page of the Mango query is requested only when the subscriber
+     * requests more entities than the previous pages had
+     */
+    @Override
+    public Flow.Publisher<DocumentEntity> publish(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CursorPublisher.of(() -> connector.cursor(query));
+    }
+
     @Override
     public long count() {
-        return connector.count();
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            long count = connector.count();
+            failed = false;
+            return count;
+        } finally {
+            event.end(CouchDBConstant.DRIVER, DriverOperationEvent.COUNT, null, 0);
+            metrics.record(Operations.COUNT, null, start, 0L, failed);
+        }
     }
 
     @Override
@@ -32,6 +32,11 @@ import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.eclipse.jnosql.communication.document.Documents;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+import org.eclipse.jnosql.communication.driver.reactive.Cursor;
+import org.eclipse.jnosql.communication.driver.reactive.Page;
 
 import javax.json.JsonObject;
 import javax.json.bind.Jsonb;
@@ -42,6 +47,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -68,10 +76,13 @@ class HttpExecute {
 
     private final MangoQueryConverter converter;
 
-    HttpExecute(CouchDBHttpConfiguration configuration, CloseableHttpClient client) {
+    private final DriverMetrics metrics;
+
+    HttpExecute(CouchDBHttpConfiguration configuration, CloseableHttpClient client, DriverMetrics metrics) {
         this.configuration = configuration;
         this.client = client;
         this.converter = new MangoQueryConverter();
+        this.metrics = metrics;
     }
 
     public List<String> getDatabases() {
@@ -126,6 +137,16 @@ class HttpExecute {
         return entities.stream().map(this::toEntity);
     }
 
+    /**
+     * Reads the query page by page with the bookmark of the Mango queries, a page is requested only when the
+     * previous one was read
+     */
+    public Cursor<DocumentEntity> cursor(String database, DocumentQuery query) {
+        AtomicLong remaining = new AtomicLong(query.getLimit() > 0 ? query.getLimit() : Long.MAX_VALUE);
+        return Cursor.paged(() -> page(database, query, query.getSkip(), null, remaining),
+                bookmark -> page(database, query, 0, bookmark, remaining));
+    }
+
     public void delete(String database, DocumentDeleteQuery query) {
         CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(new DeleteQuery(query));
         List<Map<String, Object>> entities = executeQuery(database, documentQuery);
@@ -154,15 +175,46 @@ class HttpExecute {
         HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.FIND));
         setHeader(request);
         JsonObject mangoQuery = converter.apply(query);
-        request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
-        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
-        if (query instanceof CouchDBDocumentQuery) {
-            CouchDBDocumentQuery.class.cast(query).setBookmark(json);
+        String mango = mangoQuery.toString();
+        request.setEntity(new StringEntity(mango, APPLICATION_JSON));
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        List<Map<String, Object>> documents = emptyList();
+        try {
+            Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+            if (query instanceof CouchDBDocumentQuery) {
+                CouchDBDocumentQuery.class.cast(query).setBookmark(json);
+            }
+            documents = (List<Map<String, Object>>) json.getOrDefault(CouchDBConstant.DOCS_RESPONSE, emptyList());
+            failed = false;
+            return documents;
+        } finally {
+            event.end(CouchDBConstant.DRIVER, DriverOperationEvent.SELECT, query.getDocumentCollection(),
+                    documents.size(), () -> mango);
+            metrics.record(Operations.SELECT, query.getDocumentCollection(), start, metrics.sizeOf(documents),
+                    failed);
         }
-        return (List<Map<String, Object>>) json.getOrDefault(CouchDBConstant.DOCS_RESPONSE, emptyList());
     }
 
 
+    private Page<DocumentEntity, String> page(String database, DocumentQuery query, long skip, String bookmark,
+                                              AtomicLong remaining) {
+        long limit = Math.min(CouchDBConstant.PAGE_SIZE, remaining.get());
+        PageQuery pageQuery = new PageQuery(query, skip, limit);
+        CouchDBDocumentQuery documentQuery = bookmark == null ? CouchDBDocumentQuery.of(pageQuery)
+                : CouchDBDocumentQuery.of(pageQuery, bookmark);
+        List<DocumentEntity> entities = executeQuery(database, documentQuery).stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+        long left = remaining.addAndGet(-entities.size());
+        Optional<String> next = documentQuery.getBookmark();
+        if (left <= 0 || entities.size() < limit || !next.isPresent()) {
+            return Page.last(entities);
+        }
+        return Page.of(entities, next.get());
+    }
+
     private DocumentEntity toEntity(Map<String, Object> jsonEntity) {
         DocumentEntity entity = DocumentEntity.of(jsonEntity.get(CouchDBConstant.ENTITY).toString());
         entity.addAll(Documents.of(jsonEntity));
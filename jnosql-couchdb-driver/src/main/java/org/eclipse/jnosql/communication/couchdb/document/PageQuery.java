@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.couchdb.document;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of a {@link DocumentQuery}: the query with the skip and the limit of the page
+ */
+final class PageQuery implements DocumentQuery {
+
+    private final DocumentQuery query;
+
+    private final long skip;
+
+    private final long limit;
+
+    PageQuery(DocumentQuery query, long skip, long limit) {
+        this.query = query;
+        this.skip = skip;
+        this.limit = limit;
+    }
+
+    @Override
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public long getSkip() {
+        return skip;
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return query.getDocuments();
+    }
+}
@@ -33,7 +33,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
@@ -47,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -181,6 +184,28 @@ class DefaultCouchDBDocumentCollectionManagerTest {
 
     }
 
+    @Test
+    public void shouldPublishPaginated() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 1010; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entity.add("index", index);
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("index").gte(0).build();
+        List<Object> indexes = toList(entityManager.publish(query)).stream()
+                .map(e -> e.find("index").get().get()).distinct().collect(Collectors.toList());
+        assertEquals(1010, indexes.size());
+
+        query = select().from(COLLECTION_NAME).where("index").gte(0).skip(5).limit(1003).build();
+        indexes = toList(entityManager.publish(query)).stream()
+                .map(e -> e.find("index").get().get()).distinct().collect(Collectors.toList());
+        assertEquals(1003, indexes.size());
+    }
+
     @Test
     public void shouldConvertFromListSubdocumentList() {
         DocumentEntity entity = createDocumentList();
@@ -269,6 +294,33 @@ class DefaultCouchDBDocumentCollectionManagerTest {
         return entity;
     }
 
+    private static <T> List<T> toList(Flow.Publisher<T> publisher) {
+        List<T> entities = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T entity) {
+                entities.add(entity);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertNull(error.get());
+        return entities;
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
@@ -22,7 +22,10 @@ public enum  DynamoDBConfigurations implements Supplier<String> {
     REGION("dynamodb.region"),
     PROFILE("dynamodb.profile"),
     AWS_ACCESSKEY("dynamodb.awsaccesskey"),
-    AWS_SECRET_ACCESS("dynamodb.secretaccess");
+    AWS_SECRET_ACCESS("dynamodb.secretaccess"),
+    VALUE_CODEC("dynamodb.value.codec"),
+    VALUE_COMPRESSION("dynamodb.value.compression"),
+    VALUE_COMPRESSION_THRESHOLD("dynamodb.value.compression.threshold");
 
     private final String configuration;
 
@@ -15,8 +15,10 @@
  */
 package org.eclipse.jnosql.communication.dynamodb;
 
+import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
@@ -24,7 +26,6 @@ import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
-import javax.json.bind.Jsonb;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,21 +41,50 @@ import static org.eclipse.jnosql.communication.dynamodb.ConfigurationAmazonEntit
 public class DynamoDBUtils {
 
     private static final AttributeValue.Builder attributeValueBuilder = AttributeValue.builder();
-    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
     private DynamoDBUtils() {
     }
 
     public static <K, V> Map<String, AttributeValue> createAttributeValues(K key, V value) {
+        return createAttributeValues(key, value, ValueCodec.getInstance());
+    }
 
-        Map<String, AttributeValue> createAttributeValues = createKeyAttributeValues(key);
-        String valueAsJson = JSONB.toJson(value);
+    public static <K, V> Map<String, AttributeValue> createAttributeValues(K key, V value, ValueCodec codec) {
 
-        AttributeValue valueAttributeValue = attributeValueBuilder.s(valueAsJson).build();
-        createAttributeValues.put(VALUE, valueAttributeValue);
+        Map<String, AttributeValue> createAttributeValues = createKeyAttributeValues(key);
+        createAttributeValues.put(VALUE, createValueAttribute(value, codec));
         return createAttributeValues;
     }
 
+    /**
+     * Writes the value with the codec, as a string attribute when the codec writes text otherwise,
+     * as a binary attribute.
+     *
+     * @param value the value
+     * @param codec the codec
+     * @return the value attribute
+     */
+    public static AttributeValue createValueAttribute(Object value, ValueCodec codec) {
+        if (codec.isText()) {
+            return AttributeValue.builder().s(codec.encodeToText(value)).build();
+        }
+        return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(codec.encode(value))).build();
+    }
+
+    /**
+     * Reads the value attribute written by {@link DynamoDBUtils#createValueAttribute(Object, ValueCodec)}
+     *
+     * @param attributeValue the value attribute
+     * @param codec          the codec
+     * @return the {@link Value} instance
+     */
+    public static Value toValue(AttributeValue attributeValue, ValueCodec codec) {
+        if (attributeValue.b() != null) {
+            return codec.decode(attributeValue.b().asByteArrayUnsafe());
+        }
+        return codec.decodeText(attributeValue.s());
+    }
+
     public static <K, V> Map<String, AttributeValue> createKeyAttributeValues(K key) {
         Map<String, AttributeValue> map = new HashMap<>();
         AttributeValue keyAttributeValue = attributeValueBuilder.s(key.toString()).build();
@@ -70,13 +100,22 @@ public class DynamoDBUtils {
     }
 
     public static <K, V> Map<String, AttributeValue> createAttributeValues(KeyValueEntity entity) {
-        return createAttributeValues(entity.getKey(), entity.getValue());
+        return createAttributeValues(entity, ValueCodec.getInstance());
+    }
+
+    public static <K, V> Map<String, AttributeValue> createAttributeValues(KeyValueEntity entity, ValueCodec codec) {
+        return createAttributeValues(entity.getKey(), entity.getValue(), codec);
     }
 
     public static <K> Collection<Map<String, AttributeValue>> createAttributeValues(Iterable<KeyValueEntity> entities) {
+        return createAttributeValues(entities, ValueCodec.getInstance());
+    }
+
+    public static <K> Collection<Map<String, AttributeValue>> createAttributeValues(Iterable<KeyValueEntity> entities,
+                                                                                     ValueCodec codec) {
 
         return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> createAttributeValues(e))
+                .map(e -> createAttributeValues(e, codec))
                 .collect(Collectors.toList());
     }
 
@@ -95,8 +134,12 @@ public class DynamoDBUtils {
     }
 
     public static <K> Map<String, List<WriteRequest>> createMapWriteRequest(Iterable<KeyValueEntity> entities, String tableName) {
-        Collection<Map<String, AttributeValue>> attributeValues = createAttributeValues(entities);
-        createMapWriteRequest(attributeValues, tableName);
+        return createMapWriteRequest(entities, tableName, ValueCodec.getInstance());
+    }
+
+    public static <K> Map<String, List<WriteRequest>> createMapWriteRequest(Iterable<KeyValueEntity> entities,
+                                                                            String tableName, ValueCodec codec) {
+        Collection<Map<String, AttributeValue>> attributeValues = createAttributeValues(entities, codec);
         return createMapWriteRequest(attributeValues, tableName);
     }
 
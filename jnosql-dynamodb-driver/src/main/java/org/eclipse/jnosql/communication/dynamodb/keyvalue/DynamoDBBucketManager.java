@@ -18,7 +18,10 @@ package org.eclipse.jnosql.communication.dynamodb.keyvalue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 import org.eclipse.jnosql.communication.dynamodb.ConfigurationAmazonEntity;
 import org.eclipse.jnosql.communication.dynamodb.DynamoDBUtils;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -27,29 +30,53 @@ import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class DynamoDBBucketManager implements BucketManager {
 
+    static final String DRIVER = "dynamodb";
 
     private DynamoDbClient client;
     private String tableName;
-    private static final Function<AttributeValue, String> TO_JSON = e -> e.s();
+    private final ValueCodec codec;
+    private final DriverMetrics metrics;
 
     public DynamoDBBucketManager(DynamoDbClient client, String tableName) {
+        this(client, tableName, ValueCodec.getInstance());
+    }
+
+    public DynamoDBBucketManager(DynamoDbClient client, String tableName, ValueCodec codec) {
+        this(client, tableName, codec, DriverMetrics.disabled());
+    }
+
+    DynamoDBBucketManager(DynamoDbClient client, String tableName, ValueCodec codec, DriverMetrics metrics) {
         this.client = client;
         this.tableName = tableName;
+        this.codec = Objects.requireNonNull(codec, "codec is required");
+        this.metrics = metrics;
     }
 
     @Override
     public <K, V> void put(K key, V value) throws NullPointerException {
-        client.putItem(PutItemRequest.builder().tableName(tableName).item(DynamoDBUtils.createAttributeValues(key, value)).build());
+        PutItemRequest request = PutItemRequest.builder().tableName(tableName)
+                .item(DynamoDBUtils.createAttributeValues(key, value, codec)).build();
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            client.putItem(request);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, tableName, 1);
+            metrics.record(Operations.PUT, tableName, start, metrics.sizeOf(value), failed);
+        }
     }
 
     @Override
@@ -65,7 +92,17 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(DynamoDBUtils.createMapWriteRequest(entities, tableName)).build());
+        Map<String, List<WriteRequest>> items = DynamoDBUtils.createMapWriteRequest(entities, tableName, codec);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(items).build());
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, tableName, items.values().stream().mapToInt(List::size).sum());
+            metrics.record(Operations.PUT, tableName, start, metrics.sizeOf(entities), failed);
+        }
     }
 
     @Override
@@ -82,32 +119,58 @@ public class DynamoDBBucketManager implements BucketManager {
             throw new IllegalArgumentException("The Key is irregular");
         }
 
-        GetItemResponse getItemResponse = client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName));
-        Map<String, AttributeValue> item = getItemResponse.item();
-        AttributeValue attributeValue = item.get(ConfigurationAmazonEntity.VALUE);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        AttributeValue attributeValue = null;
+        try {
+            GetItemResponse getItemResponse = client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName));
+            Map<String, AttributeValue> item = getItemResponse.item();
+            attributeValue = item.get(ConfigurationAmazonEntity.VALUE);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, tableName, attributeValue == null ? 0 : 1);
+            metrics.record(Operations.GET, tableName, start, sizeOf(attributeValue), failed);
+        }
 
         return Optional.ofNullable(attributeValue)
-                .map(TO_JSON)
-                .map(ValueJSON::of);
+                .map(v -> DynamoDBUtils.toValue(v, codec));
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        
-        return client.batchGetItem(DynamoDBUtils.createBatchGetItemRequest(keys, tableName))
-                .responses()
-                .values()
-                .stream()
-                .flatMap(l -> l.stream())
-                .map(v -> v.get(ConfigurationAmazonEntity.VALUE))
-                .map(TO_JSON)
-                .map(ValueJSON::of)
-                .collect(Collectors.toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        List<Value> values = null;
+        try {
+            values = client.batchGetItem(DynamoDBUtils.createBatchGetItemRequest(keys, tableName))
+                    .responses()
+                    .values()
+                    .stream()
+                    .flatMap(l -> l.stream())
+                    .map(v -> v.get(ConfigurationAmazonEntity.VALUE))
+                    .map(v -> DynamoDBUtils.toValue(v, codec))
+                    .collect(Collectors.toList());
+            return values;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, tableName, values == null ? 0 : values.size());
+            metrics.record(Operations.GET, tableName, start, metrics.sizeOf(values), values == null);
+        }
     }
 
     @Override
     public <K> void delete(K key) throws NullPointerException {
-        client.deleteItem(DeleteItemRequest.builder().tableName(tableName).key(DynamoDBUtils.createKeyAttributeValues(key)).build());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            client.deleteItem(DeleteItemRequest.builder().tableName(tableName)
+                    .key(DynamoDBUtils.createKeyAttributeValues(key)).build());
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, tableName, 1);
+            metrics.record(Operations.DELETE, tableName, start, 0L, failed);
+        }
     }
 
     @Override
@@ -119,4 +182,11 @@ public class DynamoDBBucketManager implements BucketManager {
     public void close() {
         client.close();
     }
+
+    private long sizeOf(AttributeValue value) {
+        if (value != null && value.b() != null) {
+            return value.b().asByteArrayUnsafe().length;
+        }
+        return metrics.sizeOf(value == null ? null : value.s());
+    }
 }
\ No newline at end of file
@@ -15,6 +15,8 @@
 package org.eclipse.jnosql.communication.dynamodb.keyvalue;
 
 import jakarta.nosql.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import org.eclipse.jnosql.communication.dynamodb.DynamoTableUtils;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
@@ -27,8 +29,14 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
     private DynamoDbClient client;
 
-    DynamoDBBucketManagerFactory(DynamoDbClient client) {
+    private final ValueCodec codec;
+
+    private final DriverMetrics metrics;
+
+    DynamoDBBucketManagerFactory(DynamoDbClient client, ValueCodec codec, DriverMetrics metrics) {
         this.client = client;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
     @Override
@@ -40,7 +48,7 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
     public DynamoDBBucketManager getBucketManager(String bucketName, Long readCapacityUnits, Long writeCapacityUnit) {
 
         DynamoTableUtils.manageTables(bucketName, client, readCapacityUnits, writeCapacityUnit);
-        return new DynamoDBBucketManager(client, bucketName);
+        return new DynamoDBBucketManager(client, bucketName, codec, metrics);
     }
 
     @Override
@@ -65,6 +73,7 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
     @Override
     public void close() {
+        metrics.close();
         client.close();
     }
 }
@@ -16,7 +16,11 @@ package org.eclipse.jnosql.communication.dynamodb.keyvalue;
 
 import jakarta.nosql.Settings;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.ValueCompression;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import org.eclipse.jnosql.communication.dynamodb.DynamoDBConfiguration;
+import org.eclipse.jnosql.communication.dynamodb.DynamoDBConfigurations;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 public class DynamoDBKeyValueConfiguration extends DynamoDBConfiguration
@@ -24,13 +28,23 @@ public class DynamoDBKeyValueConfiguration extends DynamoDBConfiguration
 
     @Override
     public DynamoDBBucketManagerFactory get() {
-        return new DynamoDBBucketManagerFactory(builder.build());
+        return new DynamoDBBucketManagerFactory(builder.build(), ValueCodec.getInstance(), DriverMetrics.disabled());
     }
 
     @Override
     public DynamoDBBucketManagerFactory get(Settings settings) {
         DynamoDbClient dynamoDB = getDynamoDB(settings);
-        return new DynamoDBBucketManagerFactory(dynamoDB);
+        ValueCodec codec = settings.get(DynamoDBConfigurations.VALUE_CODEC.get())
+                .map(Object::toString).map(ValueCodec::getInstance)
+                .orElseGet(ValueCodec::getInstance);
+        int threshold = settings.get(DynamoDBConfigurations.VALUE_COMPRESSION_THRESHOLD.get())
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(ValueCompression.DEFAULT_THRESHOLD);
+        ValueCodec valueCodec = settings.get(DynamoDBConfigurations.VALUE_COMPRESSION.get())
+                .map(Object::toString)
+                .map(name -> ValueCompression.of(name, threshold).wrap(codec))
+                .orElse(codec);
+        return new DynamoDBBucketManagerFactory(dynamoDB, valueCodec, DriverMetrics.of(settings));
     }
 
 }
@@ -20,6 +20,9 @@ import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
@@ -52,9 +55,12 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
 
     private final String index;
 
-    DefaultElasticsearchDocumentCollectionManager(RestHighLevelClient client, String index) {
+    private final DriverMetrics metrics;
+
+    DefaultElasticsearchDocumentCollectionManager(RestHighLevelClient client, String index, DriverMetrics metrics) {
         this.client = client;
         this.index = index;
+        this.metrics = metrics;
     }
 
     @Override
@@ -64,10 +70,17 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
                 .orElseThrow(() -> new ElasticsearchKeyFoundException(entity.toString()));
         Map<String, Object> jsonObject = EntityConverter.getMap(entity);
         IndexRequest request = new IndexRequest(index).id(id.get(String.class)).source(jsonObject);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             client.index(request, RequestOptions.DEFAULT);
+            failed = false;
         } catch (IOException e) {
             throw new ElasticsearchException("An error to insert in Elastic search", e);
+        } finally {
+            event.end(EntityConverter.DRIVER, DriverOperationEvent.INSERT, entity.getName(), 1);
+            metrics.record(Operations.INSERT, entity.getName(), start, metrics.sizeOf(jsonObject), failed);
         }
 
         return entity;
@@ -125,10 +138,18 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
                 .map(id -> new DeleteRequest(index, id))
                 .forEach(bulk::add);
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             client.bulk(bulk, RequestOptions.DEFAULT);
+            failed = false;
         } catch (IOException e) {
             throw new ElasticsearchException("An error to delete entities on elasticsearch", e);
+        } finally {
+            event.end(EntityConverter.DRIVER, DriverOperationEvent.DELETE, query.getDocumentCollection(),
+                    entities.size());
+            metrics.record(Operations.DELETE, query.getDocumentCollection(), start, 0L, failed);
         }
     }
 
@@ -136,7 +157,7 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-        return EntityConverter.query(query, client, index);
+        return EntityConverter.query(query, client, index, metrics);
     }
 
     @Override
@@ -145,11 +166,19 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
         SearchRequest searchRequest = new SearchRequest(index);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.size(0);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             SearchResponse search = client.search(searchRequest, RequestOptions.DEFAULT);
-            return search.getHits().getTotalHits().value;
+            long count = search.getHits().getTotalHits().value;
+            failed = false;
+            return count;
         } catch (IOException e) {
             throw new CommunicationException("Error on ES when try to execute count to document collection:" + documentCollection, e);
+        } finally {
+            event.end(EntityConverter.DRIVER, DriverOperationEvent.COUNT, documentCollection, 0);
+            metrics.record(Operations.COUNT, documentCollection, start, 0L, failed);
         }
     }
 
@@ -162,7 +191,17 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
             SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
             searchSourceBuilder.query(query);
             searchRequest.source(searchSourceBuilder);
-            SearchResponse search = client.search(searchRequest, RequestOptions.DEFAULT);
+            SearchResponse search = null;
+            DriverOperationEvent event = DriverOperationEvent.start();
+            long start = metrics.start();
+            try {
+                search = client.search(searchRequest, RequestOptions.DEFAULT);
+            } finally {
+                event.end(EntityConverter.DRIVER, DriverOperationEvent.QUERY, index,
+                        search == null ? 0 : search.getHits().getHits().length, query::toString);
+                metrics.record(Operations.QUERY, index, start, EntityConverter.sizeOf(search, metrics),
+                        search == null);
+            }
 
             return stream(search.getHits().spliterator(), false)
                     .map(ElasticsearchEntry::of)
@@ -19,6 +19,7 @@ import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.admin.indices.create.CreateIndexRequest;
 import org.elasticsearch.action.admin.indices.open.OpenIndexRequest;
@@ -52,8 +53,11 @@ public class ElasticsearchDocumentCollectionManagerFactory implements DocumentCo
 
     private final RestHighLevelClient client;
 
-    ElasticsearchDocumentCollectionManagerFactory(RestHighLevelClient client) {
+    private final DriverMetrics metrics;
+
+    ElasticsearchDocumentCollectionManagerFactory(RestHighLevelClient client, DriverMetrics metrics) {
         this.client = client;
+        this.metrics = metrics;
     }
 
 
@@ -63,7 +67,7 @@ public class ElasticsearchDocumentCollectionManagerFactory implements DocumentCo
         Objects.requireNonNull(database, "database is required");
 
         initDatabase(database);
-        return new DefaultElasticsearchDocumentCollectionManager(client, database);
+        return new DefaultElasticsearchDocumentCollectionManager(client, database, metrics);
     }
 
     private byte[] getBytes(URL url) {
@@ -132,6 +136,7 @@ public class ElasticsearchDocumentCollectionManagerFactory implements DocumentCo
 
     @Override
     public void close() {
+        metrics.close();
         try {
             client.close();
         } catch (IOException e) {
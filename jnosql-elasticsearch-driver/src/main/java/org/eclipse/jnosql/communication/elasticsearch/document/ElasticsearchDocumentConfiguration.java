@@ -27,6 +27,7 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.RestHighLevelClient;
@@ -135,7 +136,7 @@ public class ElasticsearchDocumentConfiguration implements DocumentConfiguration
         }
 
         RestHighLevelClient client = new RestHighLevelClient(builder);
-        return new ElasticsearchDocumentCollectionManagerFactory(client);
+        return new ElasticsearchDocumentCollectionManagerFactory(client, DriverMetrics.of(settings));
     }
 
     /**
@@ -148,7 +149,7 @@ public class ElasticsearchDocumentConfiguration implements DocumentConfiguration
     public ElasticsearchDocumentCollectionManagerFactory get(RestClientBuilder builder) {
         Objects.requireNonNull(builder, "builder is required");
         RestHighLevelClient client = new RestHighLevelClient(builder);
-        return new ElasticsearchDocumentCollectionManagerFactory(client);
+        return new ElasticsearchDocumentCollectionManagerFactory(client, DriverMetrics.disabled());
     }
 
     /**
@@ -160,7 +161,7 @@ public class ElasticsearchDocumentConfiguration implements DocumentConfiguration
      */
     public ElasticsearchDocumentCollectionManagerFactory get(RestHighLevelClient client) {
         Objects.requireNonNull(client, "client is required");
-        return new ElasticsearchDocumentCollectionManagerFactory(client);
+        return new ElasticsearchDocumentCollectionManagerFactory(client, DriverMetrics.disabled());
     }
 
 
@@ -18,7 +18,11 @@ package org.eclipse.jnosql.communication.elasticsearch.document;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.DocumentShape;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 import org.elasticsearch.action.get.MultiGetItemResponse;
 import org.elasticsearch.action.get.MultiGetRequest;
 import org.elasticsearch.action.get.MultiGetResponse;
@@ -26,15 +30,16 @@ import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortOrder;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static jakarta.nosql.SortType.ASC;
 import static java.util.Collections.singletonMap;
@@ -42,6 +47,8 @@ import static java.util.stream.Collectors.toList;
 
 final class EntityConverter {
 
+    static final String DRIVER = "elasticsearch";
+
     static final String ID_FIELD = "_id";
 
     static final String ENTITY = "@entity";
@@ -60,17 +67,18 @@ final class EntityConverter {
         return jsonObject;
     }
 
-    static Stream<DocumentEntity> query(DocumentQuery query, RestHighLevelClient client, String index) {
+    static Stream<DocumentEntity> query(DocumentQuery query, RestHighLevelClient client, String index,
+                                        DriverMetrics metrics) {
         QueryConverterResult select = QueryConverter.select(query);
 
         try {
             Stream<DocumentEntity> idQueryStream = Stream.empty();
             Stream<DocumentEntity> statementQueryStream = Stream.empty();
             if (select.hasId()) {
-                idQueryStream = executeId(client, index, select);
+                idQueryStream = executeId(client, index, select, metrics);
             }
             if (select.hasStatement()) {
-                statementQueryStream = executeStatement(query, client, index, select);
+                statementQueryStream = executeStatement(query, client, index, select, metrics);
             }
             return Stream.concat(idQueryStream, statementQueryStream);
         } catch (IOException e) {
@@ -79,11 +87,22 @@ final class EntityConverter {
     }
 
     private static Stream<DocumentEntity> executeStatement(DocumentQuery query, RestHighLevelClient client, String index,
-                                                           QueryConverterResult select) throws IOException {
+                                                           QueryConverterResult select, DriverMetrics metrics)
+            throws IOException {
         SearchRequest searchRequest = new SearchRequest(index);
 
         setQueryBuilder(query, select, searchRequest);
-        SearchResponse response = client.search(searchRequest, RequestOptions.DEFAULT);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        SearchResponse response = null;
+        try {
+            response = client.search(searchRequest, RequestOptions.DEFAULT);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.SELECT, query.getDocumentCollection(),
+                    response == null ? 0 : response.getHits().getHits().length, () -> searchRequest.source().toString());
+            metrics.record(Operations.SELECT, query.getDocumentCollection(), start,
+                    sizeOf(response, metrics), response == null);
+        }
         return Stream.of(response.getHits())
                 .flatMap(h -> Stream.of(h.getHits()))
                 .map(ElasticsearchEntry::of)
@@ -96,40 +115,34 @@ final class EntityConverter {
     private static Consumer<Document> feedJSON(Map<String, Object> jsonObject) {
         return d -> {
             Object value = ValueUtil.convert(d.getValue());
-            if (value instanceof Document) {
-                Document subDocument = Document.class.cast(value);
-                jsonObject.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
-            } else if (isSudDocument(value)) {
-                Map<String, Object> subDocument = getMap(value);
-                jsonObject.put(d.getName(), subDocument);
-            } else if (isSudDocumentList(value)) {
-                jsonObject.put(d.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
-                        .map(EntityConverter::getMap).collect(toList()));
-            } else {
-                jsonObject.put(d.getName(), value);
+            DocumentShape shape = DocumentShape.of(value);
+            switch (shape.getType()) {
+                case DOCUMENT:
+                    Document subDocument = shape.getDocument();
+                    jsonObject.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
+                    break;
+                case SUBDOCUMENT:
+                    jsonObject.put(d.getName(), getMap(shape.getDocuments()));
+                    break;
+                case SUBDOCUMENT_LIST:
+                    jsonObject.put(d.getName(), shape.getSubDocuments().stream()
+                            .map(EntityConverter::getMap).collect(toList()));
+                    break;
+                default:
+                    jsonObject.put(d.getName(), value);
             }
         };
     }
 
-    private static Map<String, Object> getMap(Object value) {
+    private static Map<String, Object> getMap(List<Document> documents) {
         Map<String, Object> subDocument = new HashMap<>();
-        StreamSupport.stream(Iterable.class.cast(value).spliterator(),
-                false).forEach(feedJSON(subDocument));
+        documents.forEach(feedJSON(subDocument));
         return subDocument;
     }
 
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
-
     private static Stream<DocumentEntity> executeId(RestHighLevelClient client, String index,
-                                                    QueryConverterResult select) throws IOException {
+                                                    QueryConverterResult select, DriverMetrics metrics)
+            throws IOException {
 
         MultiGetRequest multiGetRequest = new MultiGetRequest();
 
@@ -137,7 +150,16 @@ final class EntityConverter {
                 .map(id -> new MultiGetRequest.Item(index, id))
                 .forEach(multiGetRequest::add);
 
-        MultiGetResponse responses = client.mget(multiGetRequest, RequestOptions.DEFAULT);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        MultiGetResponse responses = null;
+        try {
+            responses = client.mget(multiGetRequest, RequestOptions.DEFAULT);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.SELECT, index,
+                    responses == null ? 0 : responses.getResponses().length);
+            metrics.record(Operations.SELECT, index, start, sizeOf(responses, metrics), responses == null);
+        }
         return Stream.of(responses.getResponses())
                 .map(MultiGetItemResponse::getResponse)
                 .map(ElasticsearchEntry::of)
@@ -146,6 +168,30 @@ final class EntityConverter {
 
     }
 
+    static long sizeOf(SearchResponse response, DriverMetrics metrics) {
+        if (response == null || !metrics.isEnabled()) {
+            return 0L;
+        }
+        long size = 0L;
+        for (SearchHit hit : response.getHits().getHits()) {
+            size += hit.getSourceRef() == null ? 0 : hit.getSourceRef().length();
+        }
+        return size;
+    }
+
+    private static long sizeOf(MultiGetResponse responses, DriverMetrics metrics) {
+        if (responses == null || !metrics.isEnabled()) {
+            return 0L;
+        }
+        long size = 0L;
+        for (MultiGetItemResponse item : responses.getResponses()) {
+            if (item.getResponse() != null && item.getResponse().getSourceAsBytesRef() != null) {
+                size += item.getResponse().getSourceAsBytesRef().length();
+            }
+        }
+        return size;
+    }
+
     private static void setQueryBuilder(DocumentQuery query, QueryConverterResult select, SearchRequest searchRequest) {
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
 
@@ -19,9 +19,13 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.predicates.SqlPredicate;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,25 +42,48 @@ import static java.util.stream.Collectors.toList;
  */
 class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
+    static final String DRIVER = "hazelcast";
+
     private final IMap map;
 
-    DefaultHazelcastBucketManager(IMap map) {
+    private final DriverMetrics metrics;
+
+    DefaultHazelcastBucketManager(IMap map, DriverMetrics metrics) {
         this.map = map;
+        this.metrics = metrics;
     }
 
     @Override
     public <K, V> void put(K key, V value) {
-        map.put(key, value);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            map.put(key, value);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, map.getName(), 1);
+            metrics.record(Operations.PUT, map.getName(), start, metrics.sizeOf(value), failed);
+        }
     }
 
     @Override
     public void put(KeyValueEntity entity) throws NullPointerException {
-        map.put(entity.getKey(), entity.getValue());
+        put(entity.getKey(), entity.getValue());
     }
 
     @Override
     public void put(KeyValueEntity entity, Duration ttl) {
-        map.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            map.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, map.getName(), 1);
+            metrics.record(Operations.PUT, map.getName(), start, metrics.sizeOf(entity.getValue()), failed);
+        }
     }
 
     @Override
@@ -71,7 +98,17 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
-        Object value = map.get(key);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        Object value = null;
+        try {
+            value = map.get(key);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, map.getName(), value == null ? 0 : 1);
+            metrics.record(Operations.GET, map.getName(), start, metrics.sizeOf(value), failed);
+        }
         if (value == null) {
             return Optional.empty();
         }
@@ -80,13 +117,31 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) map::get).filter(Objects::nonNull)
-                .map(Value::of).collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        List<Value> values = null;
+        try {
+            values = StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) map::get)
+                    .filter(Objects::nonNull).map(Value::of).collect(toList());
+            return values;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, map.getName(), values == null ? 0 : values.size());
+            metrics.record(Operations.GET, map.getName(), start, metrics.sizeOf(values), values == null);
+        }
     }
 
     @Override
     public <K> void delete(K key) {
-        map.remove(key);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            map.remove(key);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, map.getName(), 1);
+            metrics.record(Operations.DELETE, map.getName(), start, 0L, failed);
+        }
     }
 
     @Override
@@ -121,7 +176,16 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
     @Override
     public <K, V> Collection<Value> sql(Predicate<K, V> predicate) throws NullPointerException {
         requireNonNull(predicate, "predicate is required");
-        Collection<V> values = map.values(predicate);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        Collection<V> values = null;
+        try {
+            values = map.values(predicate);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.QUERY, map.getName(), values == null ? 0 : values.size(),
+                    predicate::toString);
+            metrics.record(Operations.QUERY, map.getName(), start, metrics.sizeOf(values), values == null);
+        }
         return values.stream().map(Value::of).collect(toList());
     }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.communication.hazelcast.keyvalue;
 
 import com.hazelcast.core.HazelcastInstance;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.List;
 import java.util.Map;
@@ -27,14 +28,17 @@ class DefaultHazelcastBucketManagerFactory implements HazelcastBucketManagerFact
 
     private final HazelcastInstance hazelcastInstance;
 
-    DefaultHazelcastBucketManagerFactory(HazelcastInstance hazelcastInstance) {
+    private final DriverMetrics metrics;
+
+    DefaultHazelcastBucketManagerFactory(HazelcastInstance hazelcastInstance, DriverMetrics metrics) {
         this.hazelcastInstance = hazelcastInstance;
+        this.metrics = metrics;
     }
 
     @Override
     public HazelcastBucketManager getBucketManager(String bucketName) {
         requireNonNull(bucketName, "bucketName is required");
-        return new DefaultHazelcastBucketManager(hazelcastInstance.getMap(bucketName));
+        return new DefaultHazelcastBucketManager(hazelcastInstance.getMap(bucketName), metrics);
     }
 
     @Override
@@ -68,7 +72,7 @@ class DefaultHazelcastBucketManagerFactory implements HazelcastBucketManagerFact
 
     @Override
     public void close() {
-
+        metrics.close();
     }
 
     @Override
@@ -25,6 +25,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Arrays;
 import java.util.List;
@@ -70,7 +71,7 @@ public class HazelcastKeyValueConfiguration implements KeyValueConfiguration {
     public HazelcastBucketManagerFactory get(Config config)throws NullPointerException {
         requireNonNull(config, "config is required");
         HazelcastInstance hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(config);
-        return new DefaultHazelcastBucketManagerFactory(hazelcastInstance);
+        return new DefaultHazelcastBucketManagerFactory(hazelcastInstance, DriverMetrics.disabled());
     }
 
     @Override
@@ -128,6 +129,6 @@ public class HazelcastKeyValueConfiguration implements KeyValueConfiguration {
                 .ifPresent(join.getTcpIpConfig()::setEnabled);
 
         HazelcastInstance hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(config);
-        return new DefaultHazelcastBucketManagerFactory(hazelcastInstance);
+        return new DefaultHazelcastBucketManagerFactory(hazelcastInstance, DriverMetrics.of(settings));
     }
 }
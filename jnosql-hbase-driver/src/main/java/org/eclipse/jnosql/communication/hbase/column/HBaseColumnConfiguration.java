@@ -19,6 +19,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.column.ColumnConfiguration;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -79,7 +80,7 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
 
     @Override
     public HBaseColumnFamilyManagerFactory get() {
-        return new HBaseColumnFamilyManagerFactory(configuration, families);
+        return new HBaseColumnFamilyManagerFactory(configuration, families, DriverMetrics.disabled());
     }
 
     @Override
@@ -88,7 +89,7 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
 
         List<String> families = settings.prefix(HbaseConfigurations.FAMILY.get())
                 .stream().map(Object::toString).collect(Collectors.toList());
-        return new HBaseColumnFamilyManagerFactory(configuration, families);
+        return new HBaseColumnFamilyManagerFactory(configuration, families, DriverMetrics.of(settings));
     }
 
     @Override
@@ -25,6 +25,7 @@ import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManager;
 import jakarta.nosql.column.ColumnQuery;
+import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Get;
@@ -32,6 +33,9 @@ import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 import org.eclipse.jnosql.communication.writer.ValueWriterDecorator;
 
 import java.io.IOException;
@@ -56,16 +60,20 @@ import static java.util.stream.Collectors.toList;
  */
 public class HBaseColumnFamilyManager implements ColumnFamilyManager {
 
+    static final String DRIVER = "hbase";
+
     private static final String KEY_REQUIRED_ERROR = "\"To save an entity is necessary to have an row, a Column that has a blank name. Documents.of(\\\"\\\", keyValue);\"";
 
     private final Connection connection;
     private final Table table;
     private final ValueWriter writerField = ValueWriterDecorator.getInstance();
+    private final DriverMetrics metrics;
 
 
-    HBaseColumnFamilyManager(Connection connection, Table table) {
+    HBaseColumnFamilyManager(Connection connection, Table table, DriverMetrics metrics) {
         this.connection = connection;
         this.table = table;
+        this.metrics = metrics;
     }
 
     @Override
@@ -83,10 +91,17 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
                 put.addColumn(Bytes.toBytes(family),
                         Bytes.toBytes(column.getName()),
                         Bytes.toBytes(valueToString(column.getValue()))));
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             table.put(put);
+            failed = false;
         } catch (IOException e) {
             throw new HBaseException("An error happened when try to save an entity", e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, family, 1);
+            metrics.record(Operations.INSERT, family, start, metrics.sizeOf(entity), failed);
         }
         return entity;
     }
@@ -141,10 +156,17 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
                 .map(String::getBytes)
                 .map(Delete::new)
                 .collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             table.delete(deletes);
+            failed = false;
         } catch (IOException e) {
             throw new HBaseException("An error when try to delete columns", e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, query.getColumnFamily(), values.size());
+            metrics.record(Operations.DELETE, query.getColumnFamily(), start, 0L, failed);
         }
 
     }
@@ -156,7 +178,7 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
         ColumnCondition condition = query.getCondition()
                 .orElseThrow(() -> new IllegalArgumentException("Condition is required"));
         checkedCondition(condition);
-        return Stream.of(findById(condition))
+        return Stream.of(findById(query.getColumnFamily(), condition))
                 .map(EntityUnit::new).filter(EntityUnit::isNotEmpty)
                 .map(EntityUnit::toEntity);
     }
@@ -186,18 +208,38 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
         }
     }
 
-    private Result[] findById(ColumnCondition condition) {
+    private Result[] findById(String columnFamily, ColumnCondition condition) {
         List<String> values = new ArrayList<>();
         convert(condition, values);
 
         List<Get> gets = values.stream()
                 .map(String::getBytes)
                 .map(Get::new).collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        Result[] results = null;
         try {
-            return table.get(gets);
+            results = table.get(gets);
+            return results;
         } catch (IOException e) {
             throw new HBaseException("An error when try to find by id", e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.SELECT, columnFamily, gets.size());
+            metrics.record(Operations.SELECT, columnFamily, start, sizeOf(results), results == null);
+        }
+    }
+
+    private long sizeOf(Result[] results) {
+        if (results == null || !metrics.isEnabled()) {
+            return 0L;
+        }
+        long size = 0L;
+        for (Result result : results) {
+            for (Cell cell : result.rawCells()) {
+                size += cell.getValueLength();
+            }
         }
+        return size;
     }
 
 
@@ -26,6 +26,7 @@ import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.client.TableDescriptor;
 import org.apache.hadoop.hbase.client.TableDescriptorBuilder;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -38,9 +39,12 @@ public class HBaseColumnFamilyManagerFactory implements ColumnFamilyManagerFacto
 
     private final List<String> families;
 
-    HBaseColumnFamilyManagerFactory(Configuration configuration, List<String> families) {
+    private final DriverMetrics metrics;
+
+    HBaseColumnFamilyManagerFactory(Configuration configuration, List<String> families, DriverMetrics metrics) {
         this.configuration = configuration;
         this.families = families;
+        this.metrics = metrics;
     }
 
     @Override
@@ -55,7 +59,7 @@ public class HBaseColumnFamilyManagerFactory implements ColumnFamilyManagerFacto
                 createTable(admin, tableName);
             }
             Table table = connection.getTable(tableName);
-            return new HBaseColumnFamilyManager(connection, table);
+            return new HBaseColumnFamilyManager(connection, table, metrics);
         } catch (IOException e) {
             throw new HBaseException("A error happened when try to create ColumnFamilyManager", e);
         }
@@ -87,7 +91,7 @@ public class HBaseColumnFamilyManagerFactory implements ColumnFamilyManagerFacto
 
     @Override
     public void close() {
-
+        metrics.close();
     }
 
 
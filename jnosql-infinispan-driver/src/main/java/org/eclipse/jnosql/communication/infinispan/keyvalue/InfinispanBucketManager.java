@@ -18,9 +18,13 @@ package org.eclipse.jnosql.communication.infinispan.keyvalue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 import org.infinispan.commons.api.BasicCache;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -33,25 +37,48 @@ import java.util.stream.StreamSupport;
  */
 public class InfinispanBucketManager implements BucketManager {
 
+    static final String DRIVER = "infinispan";
+
     private final BasicCache cache;
 
-    InfinispanBucketManager(BasicCache cache) {
+    private final DriverMetrics metrics;
+
+    InfinispanBucketManager(BasicCache cache, DriverMetrics metrics) {
         this.cache = cache;
+        this.metrics = metrics;
     }
 
     @Override
     public <K, V> void put(K key, V value) {
-        cache.put(key, value);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            cache.put(key, value);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, cache.getName(), 1);
+            metrics.record(Operations.PUT, cache.getName(), start, metrics.sizeOf(value), failed);
+        }
     }
 
     @Override
     public void put(KeyValueEntity entity) throws NullPointerException {
-        cache.put(entity.getKey(), entity.getValue());
+        put(entity.getKey(), entity.getValue());
     }
 
     @Override
     public void put(KeyValueEntity entity, Duration ttl) {
-        cache.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            cache.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, cache.getName(), 1);
+            metrics.record(Operations.PUT, cache.getName(), start, metrics.sizeOf(entity.getValue()), failed);
+        }
     }
 
     @Override
@@ -66,7 +93,17 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
-        Object value = cache.get(key);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        Object value = null;
+        try {
+            value = cache.get(key);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, cache.getName(), value == null ? 0 : 1);
+            metrics.record(Operations.GET, cache.getName(), start, metrics.sizeOf(value), failed);
+        }
         if (value == null) {
             return Optional.empty();
         }
@@ -75,13 +112,31 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) cache::get).filter(Objects::nonNull)
-                .map(Value::of).collect(Collectors.toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        List<Value> values = null;
+        try {
+            values = StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) cache::get)
+                    .filter(Objects::nonNull).map(Value::of).collect(Collectors.toList());
+            return values;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, cache.getName(), values == null ? 0 : values.size());
+            metrics.record(Operations.GET, cache.getName(), start, metrics.sizeOf(values), values == null);
+        }
     }
 
     @Override
     public <K> void delete(K key) {
-        cache.remove(key);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            cache.remove(key);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, cache.getName(), 1);
+            metrics.record(Operations.DELETE, cache.getName(), start, 0L, failed);
+        }
     }
 
     @Override
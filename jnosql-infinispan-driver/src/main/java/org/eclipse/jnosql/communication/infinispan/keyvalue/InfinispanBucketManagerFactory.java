@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.communication.infinispan.keyvalue;
 
 import jakarta.nosql.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import org.infinispan.commons.api.BasicCacheContainer;
 
 import java.util.List;
@@ -30,13 +31,16 @@ public class InfinispanBucketManagerFactory implements BucketManagerFactory {
 
     private final BasicCacheContainer cacheContainer;
 
-    InfinispanBucketManagerFactory(BasicCacheContainer cacheContainer) {
+    private final DriverMetrics metrics;
+
+    InfinispanBucketManagerFactory(BasicCacheContainer cacheContainer, DriverMetrics metrics) {
         this.cacheContainer = cacheContainer;
+        this.metrics = metrics;
     }
 
     @Override
     public InfinispanBucketManager getBucketManager(String bucketName) {
-        return new InfinispanBucketManager(cacheContainer.getCache(bucketName));
+        return new InfinispanBucketManager(cacheContainer.getCache(bucketName), metrics);
     }
 
     @Override
@@ -61,6 +65,6 @@ public class InfinispanBucketManagerFactory implements BucketManagerFactory {
 
     @Override
     public void close() {
-
+        metrics.close();
     }
 }
@@ -20,6 +20,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.configuration.global.GlobalConfigurationBuilder;
 import org.infinispan.manager.DefaultCacheManager;
@@ -67,7 +68,7 @@ public class InfinispanKeyValueConfiguration implements KeyValueConfiguration {
     public InfinispanBucketManagerFactory get(org.infinispan.configuration.cache.Configuration config)throws NullPointerException {
         requireNonNull(config, "config is required");
 
-        return new InfinispanBucketManagerFactory(new DefaultCacheManager(config));
+        return new InfinispanBucketManagerFactory(new DefaultCacheManager(config), DriverMetrics.disabled());
     }
 
     @Override
@@ -79,6 +80,7 @@ public class InfinispanKeyValueConfiguration implements KeyValueConfiguration {
     @Override
     public InfinispanBucketManagerFactory get(Settings settings) {
         requireNonNull(settings, "settings is required");
+        DriverMetrics metrics = DriverMetrics.of(settings);
 
         List<String> servers = settings.prefix(Arrays.asList(OldInfinispanConfigurations.HOST.get(),
                 InfinispanConfigurations.HOST.get(), Configurations.HOST.get()))
@@ -92,17 +94,17 @@ public class InfinispanKeyValueConfiguration implements KeyValueConfiguration {
             for(String server : servers) {
                 builder.addServer().host(server);
             }
-            return  new InfinispanBucketManagerFactory(new RemoteCacheManager(builder.build()));
+            return  new InfinispanBucketManagerFactory(new RemoteCacheManager(builder.build()), metrics);
         } else if (config.isPresent()) {
             try {
-                return new InfinispanBucketManagerFactory(new DefaultCacheManager(config.get()));
+                return new InfinispanBucketManagerFactory(new DefaultCacheManager(config.get()), metrics);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         } else {
             GlobalConfigurationBuilder builder = new GlobalConfigurationBuilder();
             builder.jmx().enable();
-            return new InfinispanBucketManagerFactory(new DefaultCacheManager(builder.build()));
+            return new InfinispanBucketManagerFactory(new DefaultCacheManager(builder.build()), metrics);
         }
     }
 }
@@ -18,7 +18,17 @@ import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
 import net.spy.memcached.MemcachedClient;
-
+import org.eclipse.jnosql.communication.driver.ValueCompression;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -30,12 +40,22 @@ import static java.util.stream.StreamSupport.stream;
 final class MemcachedBucketManager implements BucketManager {
 
     private static final int NO_EXP = 0;
+    static final String DRIVER = "memcached";
     private final MemcachedClient client;
     private final String bucketName;
+    private final ValueCompression compression;
+    private final DriverMetrics metrics;
 
     MemcachedBucketManager(MemcachedClient client, String bucketName) {
+        this(client, bucketName, null, DriverMetrics.disabled());
+    }
+
+    MemcachedBucketManager(MemcachedClient client, String bucketName, ValueCompression compression,
+                           DriverMetrics metrics) {
         this.client = client;
         this.bucketName = bucketName;
+        this.compression = compression;
+        this.metrics = metrics;
     }
 
 
@@ -77,7 +97,18 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public <K> Optional<Value> get(K key) {
         requireNonNull(key, "key is required");
-        return ofNullable(client.get(getKey(key))).map(Value::of);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        Object value = null;
+        try {
+            value = client.get(getKey(key));
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, bucketName, value == null ? 0 : 1);
+            metrics.record(Operations.GET, bucketName, start, sizeOf(value), failed);
+        }
+        return ofNullable(value).map(MemcachedBucketManager::toValue);
     }
 
     @Override
@@ -94,7 +125,16 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        client.delete(getKey(key));
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            client.delete(getKey(key));
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, bucketName, 1);
+            metrics.record(Operations.DELETE, bucketName, start, 0L, failed);
+        }
     }
 
     @Override
@@ -112,6 +152,76 @@ final class MemcachedBucketManager implements BucketManager {
     }
 
     private void set(Object key, Object value, int exp) {
-        client.set(getKey(key), exp, value);
+        Object stored = compress(value);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            client.set(getKey(key), exp, stored);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, bucketName, 1);
+            metrics.record(Operations.PUT, bucketName, start, sizeOf(stored), failed);
+        }
+    }
+
+    private long sizeOf(Object stored) {
+        if (stored instanceof CompressedValue) {
+            return ((CompressedValue) stored).bytes.length;
+        }
+        return metrics.sizeOf(stored);
+    }
+
+    /**
+     * Compresses the Java serialization of the value, the same one Memcached would store, and wraps it in a
+     * {@link CompressedValue}, so a read never guesses the compression from the bytes. When the compression does
+     * not apply, the value goes as it is to the Memcached transcoder.
+     */
+    private Object compress(Object value) {
+        if (compression == null || !(value instanceof Serializable)) {
+            return value;
+        }
+        byte[] serialized = serialize(value);
+        byte[] compressed = compression.compress(serialized);
+        return compressed == serialized ? value : new CompressedValue(compressed);
+    }
+
+    private static Value toValue(Object value) {
+        if (value instanceof CompressedValue) {
+            return Value.of(deserialize(ValueCompression.decompress(((CompressedValue) value).bytes)));
+        }
+        return Value.of(value);
+    }
+
+    private static byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+        } catch (IOException exception) {
+            throw new MemcachedException("Error to serialize the value", exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] value) {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return input.readObject();
+        } catch (IOException | ClassNotFoundException exception) {
+            throw new MemcachedException("Error to deserialize the value", exception);
+        }
+    }
+
+    /**
+     * The marker of a compressed value, the transcoder stores it with the Java serialization
+     */
+    private static final class CompressedValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] bytes;
+
+        private CompressedValue(byte[] bytes) {
+            this.bytes = bytes;
+        }
     }
 }
@@ -16,6 +16,8 @@ package org.eclipse.jnosql.communication.memcached.keyvalue;
 
 import jakarta.nosql.keyvalue.BucketManagerFactory;
 import net.spy.memcached.MemcachedClient;
+import org.eclipse.jnosql.communication.driver.ValueCompression;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.List;
 import java.util.Map;
@@ -27,18 +29,29 @@ final class MemcachedBucketManagerFactory implements BucketManagerFactory {
 
     private final MemcachedClient client;
 
+    private final ValueCompression compression;
+
+    private final DriverMetrics metrics;
+
     MemcachedBucketManagerFactory(MemcachedClient client) {
+        this(client, null, DriverMetrics.disabled());
+    }
+
+    MemcachedBucketManagerFactory(MemcachedClient client, ValueCompression compression, DriverMetrics metrics) {
         this.client = client;
+        this.compression = compression;
+        this.metrics = metrics;
     }
 
     @Override
     public MemcachedBucketManager getBucketManager(String bucketName) {
         Objects.requireNonNull(bucketName, "bucketName is required");
-        return new MemcachedBucketManager(client, bucketName);
+        return new MemcachedBucketManager(client, bucketName, compression, metrics);
     }
 
     @Override
     public void close() {
+        metrics.close();
     }
 
     @Override
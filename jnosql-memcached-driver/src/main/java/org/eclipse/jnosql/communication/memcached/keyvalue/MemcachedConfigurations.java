@@ -31,7 +31,9 @@ public enum MemcachedConfigurations implements Supplier<String> {
     USE_NAGLE_ALGORITHM("memcached.nagle.algorithm"),
     USER("memcached.user"),
     PASSWORD("memcached.password"),
-    HOST("memcached.host");
+    HOST("memcached.host"),
+    VALUE_COMPRESSION("memcached.value.compression"),
+    VALUE_COMPRESSION_THRESHOLD("memcached.value.compression.threshold");
 
     private final String configuration;
 
@@ -26,6 +26,8 @@ import net.spy.memcached.ConnectionFactoryBuilder.Protocol;
 import net.spy.memcached.MemcachedClient;
 import net.spy.memcached.auth.AuthDescriptor;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCompression;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -58,6 +60,9 @@ import static java.util.Optional.ofNullable;
  * <p>memcached.user: the user</p>
  * <p>memcached.password: the password</p>
  * <p>memcached.host.: define the host to connect defined to n hots, e.g.: memcached.host.1: localhost:11211</p>
+ * <p>memcached.value.compression: the compressor name, e.g. deflate, the values are not compressed by default</p>
+ * <p>memcached.value.compression.threshold: the minimum size in bytes of the Java serialization of a value to be
+ * compressed, the default value 1024</p>
  *
  * @see MemcachedConfigurations
  */
@@ -127,8 +132,17 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
         List<InetSocketAddress> addresses = hots.isEmpty() ? Collections.emptyList() : AddrUtil.getAddresses(hots);
         ConnectionFactory connectionFactory = factoryBuilder.build();
 
+        int threshold = settings.get(MemcachedConfigurations.VALUE_COMPRESSION_THRESHOLD.get())
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(ValueCompression.DEFAULT_THRESHOLD);
+        ValueCompression compression = settings.get(MemcachedConfigurations.VALUE_COMPRESSION.get())
+                .map(Object::toString)
+                .map(name -> ValueCompression.of(name, threshold))
+                .orElse(null);
+
         try {
-            return new MemcachedBucketManagerFactory(new MemcachedClient(connectionFactory, addresses));
+            MemcachedClient client = new MemcachedClient(connectionFactory, addresses);
+            return new MemcachedBucketManagerFactory(client, compression, DriverMetrics.of(settings));
         } catch (IOException e) {
             throw new MemcachedException("There is an error when try to create da BucketManager", e);
         }
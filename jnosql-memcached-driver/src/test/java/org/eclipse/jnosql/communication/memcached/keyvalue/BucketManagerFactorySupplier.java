@@ -41,4 +41,14 @@ public enum BucketManagerFactorySupplier implements Supplier<BucketManagerFactor
         MemcachedKeyValueConfiguration configuration = new MemcachedKeyValueConfiguration();
         return configuration.get(settings);
     }
+
+    public BucketManagerFactory getWithCompression(int threshold) {
+        String host  = memcached.getContainerIpAddress() +':' + memcached.getFirstMappedPort();
+        Settings settings = Settings.builder().put("memcached.host.1", host)
+                .put(MemcachedConfigurations.VALUE_COMPRESSION.get(), "deflate")
+                .put(MemcachedConfigurations.VALUE_COMPRESSION_THRESHOLD.get(), threshold)
+                .build();
+        MemcachedKeyValueConfiguration configuration = new MemcachedKeyValueConfiguration();
+        return configuration.get(settings);
+    }
 }
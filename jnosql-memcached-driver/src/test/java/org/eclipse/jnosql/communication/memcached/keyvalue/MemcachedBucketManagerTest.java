@@ -25,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +35,7 @@ import java.util.stream.StreamSupport;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -129,5 +131,26 @@ public class MemcachedBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldReadCompressedValueAsTheUncompressedOne() {
+        BucketManager manager = BucketManagerFactorySupplier.INSTANCE.getWithCompression(0)
+                .getBucketManager("users-entity");
+        String text = String.join("", Collections.nCopies(200, "otavio santana "));
+        manager.put("text", text);
+        manager.put("otavio", otavio);
+        assertEquals(text, manager.get("text").get().get());
+        assertEquals(otavio, manager.get("otavio").get().get());
+        assertEquals(text, keyValueEntityManager.get("text").get().get(String.class));
+    }
+
+    @Test
+    public void shouldKeepBytesThatStartWithTheCompressionHeader() {
+        BucketManager manager = BucketManagerFactorySupplier.INSTANCE.getWithCompression(0)
+                .getBucketManager("users-entity");
+        byte[] bytes = {(byte) 0xC1, 1, 2, 3};
+        manager.put("bytes", bytes);
+        assertArrayEquals(bytes, (byte[]) manager.get("bytes").get().get());
+    }
+
 
 }
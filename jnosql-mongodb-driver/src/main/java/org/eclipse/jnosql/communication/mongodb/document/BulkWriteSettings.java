@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.Settings;
+
+/**
+ * How {@link MongoDBDocumentCollectionManager} writes an {@link Iterable} of entities: in batches of at most the
+ * batch size, one insertMany or bulkWrite round trip each, either ordered, stopping on the first error, or
+ * unordered, where the server writes the other documents of the batch and may apply them in parallel.
+ * <p>mongodb.batch.size: the maximum documents of a batch, by default 1000</p>
+ * <p>mongodb.batch.ordered: true to ordered batches, by default true</p>
+ */
+final class BulkWriteSettings {
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
+    static final BulkWriteSettings DEFAULT = new BulkWriteSettings(DEFAULT_BATCH_SIZE, true);
+
+    private final int batchSize;
+
+    private final boolean ordered;
+
+    private BulkWriteSettings(int batchSize, boolean ordered) {
+        this.batchSize = batchSize;
+        this.ordered = ordered;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    boolean isOrdered() {
+        return ordered;
+    }
+
+    static BulkWriteSettings of(Settings settings) {
+        int batchSize = settings.get(MongoDBDocumentConfigurations.BATCH_SIZE.get())
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(DEFAULT_BATCH_SIZE);
+        boolean ordered = settings.get(MongoDBDocumentConfigurations.BATCH_ORDERED.get())
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .orElse(true);
+        return of(batchSize, ordered);
+    }
+
+    static BulkWriteSettings of(int batchSize, boolean ordered) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        return new BulkWriteSettings(batchSize, ordered);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteSettings{" +
+                "batchSize=" + batchSize +
+                ", ordered=" + ordered +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.Settings;
+
+/**
+ * How {@link MongoDBDocumentCollectionManager} opens the cursors of the select and aggregate methods. The batch size
+ * is the number of documents of each round trip to the server, thus the documents a stream keeps in memory
+ * at once. The no cursor timeout keeps an idle cursor open on the server, so the stream must be closed.
+ * <p>mongodb.cursor.batch.size: the documents of each batch, by default 0 that is the server default</p>
+ * <p>mongodb.cursor.no.timeout: true to cursors without the server idle timeout, by default false</p>
+ */
+final class CursorSettings {
+
+    static final CursorSettings DEFAULT = new CursorSettings(0, false);
+
+    private final int batchSize;
+
+    private final boolean noCursorTimeout;
+
+    private CursorSettings(int batchSize, boolean noCursorTimeout) {
+        this.batchSize = batchSize;
+        this.noCursorTimeout = noCursorTimeout;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    boolean isNoCursorTimeout() {
+        return noCursorTimeout;
+    }
+
+    static CursorSettings of(Settings settings) {
+        int batchSize = settings.get(MongoDBDocumentConfigurations.CURSOR_BATCH_SIZE.get())
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(0);
+        boolean noCursorTimeout = settings.get(MongoDBDocumentConfigurations.CURSOR_NO_TIMEOUT.get())
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+        return of(batchSize, noCursorTimeout);
+    }
+
+    static CursorSettings of(int batchSize, boolean noCursorTimeout) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("The cursor batch size cannot be negative: " + batchSize);
+        }
+        return new CursorSettings(batchSize, noCursorTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return "CursorSettings{" +
+                "batchSize=" + batchSize +
+                ", noCursorTimeout=" + noCursorTimeout +
+                '}';
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.BsonTypeCodecMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.driver.DocumentShape;
+import org.eclipse.jnosql.communication.driver.ValueUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
+
+/**
+ * The {@link Codec} that writes a {@link DocumentEntity} straight to a {@link BsonWriter} and reads it straight
+ * from a {@link BsonReader}, without an intermediate {@link org.bson.Document}.
+ * <p>On write, a {@link Document} value is an embedded document, an Iterable of Document is an embedded document
+ * with those fields and an Iterable of Iterable of Document is an array of embedded documents. On read,
+ * an embedded document is a list of Document, the binary is a byte array and a null field is skipped.</p>
+ * The codec reads the entities of a single collection, see {@link DocumentEntityCodec#registry(String, CodecRegistry)}.
+ */
+final class DocumentEntityCodec implements CollectibleCodec<DocumentEntity> {
+
+    private final String collectionName;
+
+    private final CodecRegistry registry;
+
+    private final BsonTypeCodecMap codecs;
+
+    DocumentEntityCodec(String collectionName, CodecRegistry registry) {
+        this.collectionName = collectionName;
+        this.registry = registry;
+        this.codecs = new BsonTypeCodecMap(new BsonTypeClassMap(), registry);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, DocumentEntity entity, EncoderContext context) {
+        writer.writeStartDocument();
+        Optional<Document> id = entity.find(ID_FIELD);
+        id.ifPresent(document -> writeField(writer, document, context));
+        for (Document document : entity.getDocuments()) {
+            if (!ID_FIELD.equals(document.getName())) {
+                writeField(writer, document, context);
+            }
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public DocumentEntity decode(BsonReader reader, DecoderContext context) {
+        return DocumentEntity.of(collectionName, readDocument(reader, context));
+    }
+
+    @Override
+    public Class<DocumentEntity> getEncoderClass() {
+        return DocumentEntity.class;
+    }
+
+    @Override
+    public DocumentEntity generateIdIfAbsentFromDocument(DocumentEntity entity) {
+        if (!documentHasId(entity)) {
+            entity.add(Document.of(ID_FIELD, new ObjectId()));
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean documentHasId(DocumentEntity entity) {
+        return entity.find(ID_FIELD).isPresent();
+    }
+
+    @Override
+    public BsonValue getDocumentId(DocumentEntity entity) {
+        Document id = entity.find(ID_FIELD)
+                .orElseThrow(() -> new IllegalStateException("The entity does not contain the " + ID_FIELD));
+        return toBsonDocument(Collections.singletonList(id)).get(ID_FIELD);
+    }
+
+    /**
+     * Writes the fields as a {@link BsonDocument}, with the same BSON values the entity has on the server
+     *
+     * @param documents the fields
+     * @return the {@link BsonDocument}
+     */
+    BsonDocument toBsonDocument(List<Document> documents) {
+        BsonDocument document = new BsonDocument();
+        writeFields(new BsonDocumentWriter(document), documents, EncoderContext.builder().build());
+        return document;
+    }
+
+    private void writeField(BsonWriter writer, Document document, EncoderContext context) {
+        writer.writeName(document.getName());
+        writeValue(writer, ValueUtil.convert(document.getValue()), context);
+    }
+
+    private void writeFields(BsonWriter writer, List<Document> documents, EncoderContext context) {
+        writer.writeStartDocument();
+        for (Document document : documents) {
+            writeField(writer, document, context);
+        }
+        writer.writeEndDocument();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(BsonWriter writer, Object value, EncoderContext context) {
+        DocumentShape shape = DocumentShape.of(value);
+        switch (shape.getType()) {
+            case DOCUMENT:
+                writer.writeStartDocument();
+                writeField(writer, shape.getDocument(), context);
+                writer.writeEndDocument();
+                return;
+            case SUBDOCUMENT:
+                writeFields(writer, shape.getDocuments(), context);
+                return;
+            case SUBDOCUMENT_LIST:
+                writer.writeStartArray();
+                for (List<Document> documents : shape.getSubDocuments()) {
+                    writeFields(writer, documents, context);
+                }
+                writer.writeEndArray();
+                return;
+            case LIST:
+                writer.writeStartArray();
+                for (Object element : shape.getElements()) {
+                    writeValue(writer, element, context);
+                }
+                writer.writeEndArray();
+                return;
+            default:
+                if (value == null) {
+                    writer.writeNull();
+                } else {
+                    Codec<Object> codec = (Codec<Object>) registry.get(value.getClass());
+                    context.encodeWithChildContext(codec, writer, value);
+                }
+        }
+    }
+
+    private List<Document> readDocument(BsonReader reader, DecoderContext context) {
+        List<Document> documents = new ArrayList<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            } else {
+                documents.add(Document.of(name, readValue(reader, context)));
+            }
+        }
+        reader.readEndDocument();
+        return documents;
+    }
+
+    private List<Object> readArray(BsonReader reader, DecoderContext context) {
+        List<Object> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            values.add(readValue(reader, context));
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    private Object readValue(BsonReader reader, DecoderContext context) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader, context);
+            case ARRAY:
+                return readArray(reader, context);
+            case NULL:
+                reader.readNull();
+                return null;
+            case BINARY:
+                return reader.readBinaryData().getData();
+            default:
+                return context.decodeWithChildContext(codecs.get(reader.getCurrentBsonType()), reader);
+        }
+    }
+
+    /**
+     * Creates the {@link CodecRegistry} to the collection, the {@link DocumentEntity} and its implementations
+     * go to the {@link DocumentEntityCodec} and any other type to the registry.
+     *
+     * @param collectionName the collection name of the entities read
+     * @param registry       the registry to the values of the entities
+     * @return the registry with the {@link DocumentEntityCodec}
+     */
+    static CodecRegistry registry(String collectionName, CodecRegistry registry) {
+        DocumentEntityCodec codec = new DocumentEntityCodec(collectionName, registry);
+        return CodecRegistries.fromRegistries(CodecRegistries.fromProviders(new Provider(codec)), registry);
+    }
+
+    private static final class Provider implements CodecProvider {
+
+        private final DocumentEntityCodec codec;
+
+        private Provider(DocumentEntityCodec codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Codec<T> get(Class<T> type, CodecRegistry registry) {
+            if (DocumentEntity.class.isAssignableFrom(type)) {
+                return (Codec<T>) codec;
+            }
+            return null;
+        }
+    }
+}
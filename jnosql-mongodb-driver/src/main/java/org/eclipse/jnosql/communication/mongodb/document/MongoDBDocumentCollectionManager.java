@@ -15,13 +15,22 @@
 
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.MongoClientSettings;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.MongoIterable;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.Sorts;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
 import jakarta.nosql.Sort;
 import jakarta.nosql.SortType;
 import jakarta.nosql.document.DocumentCollectionManager;
@@ -32,33 +41,64 @@ import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
-import org.eclipse.jnosql.communication.document.Documents;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+import org.eclipse.jnosql.communication.driver.reactive.Cursor;
+import org.eclipse.jnosql.communication.driver.reactive.CursorPublisher;
+import org.eclipse.jnosql.communication.driver.reactive.DocumentPublisher;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
-import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.getDocument;
 
 /**
  * The mongodb implementation to {@link DocumentCollectionManager} that does not support TTL methods
  * <p>{@link MongoDBDocumentCollectionManager#insert(DocumentEntity, Duration)}</p>
+ * The {@link Iterable} writes go in batches, one insertMany or bulkWrite round trip to each batch of consecutive
+ * entities of the same collection, see {@link MongoDBDocumentConfigurations#BATCH_SIZE}.
+ * The select and aggregate streams read a server cursor, a batch of documents at each round trip, see
+ * {@link MongoDBDocumentConfigurations#CURSOR_BATCH_SIZE}, closing the stream closes the cursor.
+ * The {@link MongoDBDocumentQuery} paginates with the keyset of its sorts instead of skip.
  */
-public class MongoDBDocumentCollectionManager implements DocumentCollectionManager {
+public class MongoDBDocumentCollectionManager implements DocumentCollectionManager, DocumentPublisher {
 
     private static final BsonDocument EMPTY = new BsonDocument();
 
+    static final String DRIVER = "mongodb";
+
     private final MongoDatabase mongoDatabase;
 
+    private final BulkWriteSettings bulkWrite;
+
+    private final CursorSettings cursorSettings;
+
+    private final DriverMetrics metrics;
 
-    MongoDBDocumentCollectionManager(MongoDatabase mongoDatabase) {
+    private final Map<String, MongoCollection<DocumentEntity>> collections = new ConcurrentHashMap<>();
+
+    MongoDBDocumentCollectionManager(MongoDatabase mongoDatabase, BulkWriteSettings bulkWrite,
+                                     CursorSettings cursorSettings, DriverMetrics metrics) {
         this.mongoDatabase = mongoDatabase;
+        this.bulkWrite = bulkWrite;
+        this.cursorSettings = cursorSettings;
+        this.metrics = metrics;
     }
 
 
@@ -66,13 +106,16 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
         String collectionName = entity.getName();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document document = getDocument(entity);
-        collection.insertOne(document);
-        boolean hasNotId = entity.getDocuments().stream()
-                .map(jakarta.nosql.document.Document::getName).noneMatch(k -> k.equals(ID_FIELD));
-        if (hasNotId) {
-            entity.add(Documents.of(ID_FIELD, document.get(ID_FIELD)));
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            collection.insertOne(entity);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, collectionName, 1);
+            metrics.record(Operations.INSERT, collectionName, start, metrics.sizeOf(entity), failed);
         }
         return entity;
     }
@@ -83,12 +126,24 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
         throw new UnsupportedOperationException("MongoDB does not support save with TTL");
     }
 
+    /**
+     * Inserts the entities with insertMany, in batches of consecutive entities of the same collection. As
+     * {@link #insert(DocumentEntity)} does, an entity without the id field receives the generated one.
+     *
+     * @param entities the entities
+     * @return the entities
+     * @throws NullPointerException                when entities or an entity is null
+     * @throws com.mongodb.MongoBulkWriteException when a document of a batch fails
+     */
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(toList());
+        List<DocumentEntity> result = new ArrayList<>();
+        inBatches(entities, batch -> {
+            insertMany(batch);
+            result.addAll(batch);
+        });
+        return result;
     }
 
     @Override
@@ -105,24 +160,40 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     public DocumentEntity update(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
-        DocumentEntity copy = entity.copy();
         String collectionName = entity.getName();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document id = copy.find(ID_FIELD)
-                .map(d -> new Document(d.getName(), d.getValue().get()))
-                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
-                        "the field `id` is required"));
-        copy.remove(ID_FIELD);
-        collection.findOneAndReplace(id, getDocument(entity));
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        Document id = getId(entity);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            collection.findOneAndReplace(id, entity);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.UPDATE, collectionName, 1, () -> toJson(id));
+            metrics.record(Operations.UPDATE, collectionName, start, metrics.sizeOf(entity), failed);
+        }
         return entity;
     }
 
+    /**
+     * Replaces the entities by their id with bulkWrite, in batches of consecutive entities of the same collection
+     *
+     * @param entities the entities
+     * @return the entities
+     * @throws NullPointerException                when entities or an entity is null
+     * @throws UnsupportedOperationException       when an entity has no id field, the previous batches are written
+     * @throws com.mongodb.MongoBulkWriteException when a document of a batch fails
+     */
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(toList());
+        List<DocumentEntity> result = new ArrayList<>();
+        inBatches(entities, batch -> {
+            replaceMany(batch);
+            result.addAll(batch);
+        });
+        return result;
     }
 
 
@@ -133,7 +204,7 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
         String collectionName = query.getDocumentCollection();
         MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
         Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
-        collection.deleteMany(mongoDBQuery);
+        delete(collection, mongoDBQuery);
     }
 
 
@@ -141,10 +212,13 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     public Stream<DocumentEntity> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
         String collectionName = query.getDocumentCollection();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
         Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        if (query instanceof MongoDBDocumentQuery) {
+            return select(collection, (MongoDBDocumentQuery) query, mongoDBQuery);
+        }
 
-        FindIterable<Document> documents = collection.find(mongoDBQuery);
+        FindIterable<DocumentEntity> documents = withCursor(collection.find(mongoDBQuery));
         documents.projection(Projections.include(query.getDocuments()));
         if (query.getSkip() > 0) {
             documents.skip((int) query.getSkip());
@@ -156,9 +230,52 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
 
         query.getSorts().stream().map(this::getSort).forEach(documents::sort);
 
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
+        return find(DriverOperationEvent.SELECT, collectionName, documents, () -> toJson(mongoDBQuery));
+
+    }
+
+    /**
+     * Selects a page of the {@link MongoDBDocumentQuery}, with the range filter after its paging state instead of
+     * skip, and updates the paging state on each entity read.
+     */
+    private Stream<DocumentEntity> select(MongoCollection<DocumentEntity> collection, MongoDBDocumentQuery query,
+                                          Bson condition) {
+        String collectionName = query.getDocumentCollection();
+        Optional<Bson> range = query.toPaginate();
+        Bson mongoDBQuery = range.map(r -> condition == EMPTY ? r : Filters.and(condition, r)).orElse(condition);
+
+        FindIterable<DocumentEntity> documents = withCursor(collection.find(mongoDBQuery));
+        if (!query.getDocuments().isEmpty()) {
+            List<String> fields = new ArrayList<>(query.getDocuments());
+            query.getKeys().stream().map(Sort::getName).filter(k -> !fields.contains(k)).forEach(fields::add);
+            documents.projection(Projections.include(fields));
+        }
+        if (query.getSkip() > 0 && !range.isPresent()) {
+            documents.skip((int) query.getSkip());
+        }
+
+        if (query.getLimit() > 0) {
+            documents.limit((int) query.getLimit());
+        }
 
+        documents.sort(Sorts.orderBy(query.getKeys().stream().map(this::getSort).collect(toList())));
+        DocumentEntityCodec codec = (DocumentEntityCodec) collection.getCodecRegistry().get(DocumentEntity.class);
+        return find(DriverOperationEvent.SELECT, collectionName, documents, () -> toJson(mongoDBQuery))
+                .peek(entity -> query.setPagingState(entity, codec));
+    }
+
+    /**
+     * Publishes the entities of the query from a MongoDB cursor, that fetches the next batch of documents from the
+     * server only when the subscriber requests more entities than the current batch has.
+     *
+     * @param query the query
+     * @return the publisher of the entities
+     * @throws NullPointerException when query is null
+     */
+    @Override
+    public Flow.Publisher<DocumentEntity> publish(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CursorPublisher.of(() -> Cursor.of(select(query)));
     }
 
     /**
@@ -175,8 +292,7 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
         Objects.requireNonNull(collectionName, "collectionName is required");
 
         MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        DeleteResult result = collection.deleteMany(filter);
-        return result.getDeletedCount();
+        return delete(collection, filter);
     }
 
     /**
@@ -184,7 +300,7 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
      *
      * @param collectionName the collection name
      * @param pipeline the aggregation pipeline
-     * @return the number of documents deleted.
+     * @return the stream result, closing it closes the cursor
      * @throws NullPointerException when filter or collectionName is null
      */
     public Stream<Map<String, BsonValue>> aggregate(String collectionName, List<Bson> pipeline) {
@@ -192,7 +308,12 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
         Objects.requireNonNull(collectionName, "collectionName is required");
         MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
         AggregateIterable<Document> aggregate = collection.aggregate(pipeline);
-        return stream(aggregate.spliterator(), false)
+        if (cursorSettings.getBatchSize() > 0) {
+            aggregate.batchSize(cursorSettings.getBatchSize());
+        }
+        return find(DriverOperationEvent.QUERY, collectionName, aggregate,
+                () -> pipeline.stream().map(MongoDBDocumentCollectionManager::toJson)
+                        .collect(Collectors.joining(",", "[", "]")))
                 .map(Document::toBsonDocument);
     }
 
@@ -201,16 +322,15 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
      *
      * @param collectionName the collection name
      * @param filter         the query filter
-     * @return the stream result
+     * @return the stream result, closing it closes the cursor
      * @throws NullPointerException when filter or collectionName is null
      */
     public Stream<DocumentEntity> select(String collectionName, Bson filter) {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        FindIterable<Document> documents = collection.find(filter);
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        FindIterable<DocumentEntity> documents = withCursor(collection.find(filter));
+        return find(DriverOperationEvent.QUERY, collectionName, documents, () -> toJson(filter));
     }
 
 
@@ -218,7 +338,134 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
         MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
-        return collection.countDocuments();
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            long count = collection.countDocuments();
+            failed = false;
+            return count;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.COUNT, documentCollection, 0);
+            metrics.record(Operations.COUNT, documentCollection, start, 0L, failed);
+        }
+    }
+
+    /**
+     * Splits the entities in batches up to the batch size, a batch ends as well when the collection changes, thus
+     * the entities are written in their order.
+     */
+    private void inBatches(Iterable<DocumentEntity> entities, Consumer<List<DocumentEntity>> writer) {
+        List<DocumentEntity> batch = new ArrayList<>();
+        for (DocumentEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            if (!batch.isEmpty() && (batch.size() == bulkWrite.getBatchSize()
+                    || !batch.get(0).getName().equals(entity.getName()))) {
+                writer.accept(batch);
+                batch = new ArrayList<>();
+            }
+            batch.add(entity);
+        }
+        if (!batch.isEmpty()) {
+            writer.accept(batch);
+        }
+    }
+
+    private void insertMany(List<DocumentEntity> entities) {
+        String collectionName = entities.get(0).getName();
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        InsertManyResult result = null;
+        try {
+            result = collection.insertMany(entities, new InsertManyOptions().ordered(bulkWrite.isOrdered()));
+        } finally {
+            long inserted = result == null || !result.wasAcknowledged() ? 0 : result.getInsertedIds().size();
+            event.end(DRIVER, DriverOperationEvent.INSERT, collectionName, inserted);
+            metrics.record(Operations.INSERT, collectionName, start, metrics.sizeOf(entities), result == null);
+        }
+    }
+
+    private void replaceMany(List<DocumentEntity> entities) {
+        String collectionName = entities.get(0).getName();
+        MongoCollection<DocumentEntity> collection = getCollection(collectionName);
+        List<ReplaceOneModel<DocumentEntity>> replaces = entities.stream()
+                .map(entity -> new ReplaceOneModel<>(getId(entity), entity))
+                .collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        BulkWriteResult result = null;
+        try {
+            result = collection.bulkWrite(replaces, new BulkWriteOptions().ordered(bulkWrite.isOrdered()));
+        } finally {
+            long updated = result == null || !result.wasAcknowledged() ? 0 : result.getModifiedCount();
+            event.end(DRIVER, DriverOperationEvent.UPDATE, collectionName, updated);
+            metrics.record(Operations.UPDATE, collectionName, start, metrics.sizeOf(entities), result == null);
+        }
+    }
+
+    private static Document getId(DocumentEntity entity) {
+        return entity.find(ID_FIELD)
+                .map(d -> new Document(d.getName(), d.getValue().get()))
+                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
+                        "the field `id` is required"));
+    }
+
+    /**
+     * The collection of entities, they are written and read by the {@link DocumentEntityCodec}. An entity inserted
+     * without the id field receives the generated one from the codec.
+     */
+    private MongoCollection<DocumentEntity> getCollection(String collectionName) {
+        return collections.computeIfAbsent(collectionName, name -> {
+            MongoCollection<DocumentEntity> collection = mongoDatabase.getCollection(name, DocumentEntity.class);
+            return collection.withCodecRegistry(DocumentEntityCodec.registry(name, collection.getCodecRegistry()));
+        });
+    }
+
+    private long delete(MongoCollection<Document> collection, Bson filter) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        DeleteResult result = null;
+        try {
+            result = collection.deleteMany(filter);
+            return result.getDeletedCount();
+        } finally {
+            long deleted = result == null || !result.wasAcknowledged() ? 0 : result.getDeletedCount();
+            event.end(DRIVER, DriverOperationEvent.DELETE, collection.getNamespace().getCollectionName(),
+                    deleted, () -> toJson(filter));
+            metrics.record(Operations.DELETE, collection.getNamespace().getCollectionName(), start, 0L,
+                    result == null);
+        }
+    }
+
+    /**
+     * Opens the cursor, that is the first round trip to the server, and records it as the operation.
+     * The stream closes the cursor when it is closed.
+     */
+    private <T> Stream<T> find(String operation, String collectionName, MongoIterable<T> iterable,
+                               Supplier<String> nativeQuery) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        MongoCursor<T> cursor = null;
+        try {
+            cursor = iterable.cursor();
+        } finally {
+            event.end(DRIVER, operation, collectionName, cursor == null ? 0 : cursor.available(), nativeQuery);
+            metrics.record(operation, collectionName, start, 0L, cursor == null);
+        }
+        return stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
+    private <T> FindIterable<T> withCursor(FindIterable<T> documents) {
+        if (cursorSettings.getBatchSize() > 0) {
+            documents.batchSize(cursorSettings.getBatchSize());
+        }
+        return documents.noCursorTimeout(cursorSettings.isNoCursorTimeout());
+    }
+
+    private static String toJson(Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()).toJson();
     }
 
     private Bson getSort(Sort sort) {
@@ -17,6 +17,7 @@ package org.eclipse.jnosql.communication.mongodb.document;
 
 import com.mongodb.client.MongoClient;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 /**
  * The mongodb implementation to {@link DocumentCollectionManagerFactory}
@@ -25,24 +26,41 @@ public class MongoDBDocumentCollectionManagerFactory implements DocumentCollecti
 
     private final MongoClient mongoClient;
 
+    private final BulkWriteSettings bulkWrite;
+
+    private final CursorSettings cursor;
+
+    private final DriverMetrics metrics;
+
     MongoDBDocumentCollectionManagerFactory(MongoClient mongoClient) {
+        this(mongoClient, BulkWriteSettings.DEFAULT, CursorSettings.DEFAULT, DriverMetrics.disabled());
+    }
+
+    MongoDBDocumentCollectionManagerFactory(MongoClient mongoClient, BulkWriteSettings bulkWrite,
+                                            CursorSettings cursor, DriverMetrics metrics) {
         this.mongoClient = mongoClient;
+        this.bulkWrite = bulkWrite;
+        this.cursor = cursor;
+        this.metrics = metrics;
     }
 
     @Override
     public MongoDBDocumentCollectionManager get(String database) {
-        return new MongoDBDocumentCollectionManager(mongoClient.getDatabase(database));
+        return new MongoDBDocumentCollectionManager(mongoClient.getDatabase(database), bulkWrite, cursor, metrics);
     }
 
 
     @Override
     public void close() {
+        metrics.close();
         mongoClient.close();
     }
 
     @Override
     public String toString() {
        return "MongoDBDocumentCollectionManagerFactory{" + "mongoClient=" + mongoClient +
+                ", bulkWrite=" + bulkWrite +
+                ", cursor=" + cursor +
                 '}';
     }
 }
@@ -25,6 +25,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Arrays;
 import java.util.List;
@@ -40,6 +41,10 @@ import static java.util.Objects.requireNonNull;
  * that returns  {@link MongoDBDocumentCollectionManagerFactory}
  * It tries to read the diana-mongodb.properties file whose has the following properties
  * <p>mongodb.server.host.: as prefix to add host client, eg: mongodb.server.host.1=host1, mongodb.server.host.2= host2</p>
+ * <p>mongodb.batch.size: the maximum documents of each insertMany or bulkWrite of the Iterable methods</p>
+ * <p>mongodb.batch.ordered: false to unordered batches, that go on after a document fails</p>
+ * <p>mongodb.cursor.batch.size: the documents of each round trip of the select and aggregate cursors</p>
+ * <p>mongodb.cursor.no.timeout: true to cursors that the server does not close when they are idle</p>
  */
 public class MongoDBDocumentConfiguration implements DocumentConfiguration {
 
@@ -84,6 +89,9 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
     @Override
     public MongoDBDocumentCollectionManagerFactory get(Settings settings) throws NullPointerException {
         requireNonNull(settings, "settings is required");
+        BulkWriteSettings bulkWrite = BulkWriteSettings.of(settings);
+        CursorSettings cursor = CursorSettings.of(settings);
+        DriverMetrics metrics = DriverMetrics.of(settings);
 
         List<ServerAddress> servers = settings
                 .prefix(Arrays.asList(OldMongoDBDocumentConfigurations.HOST.get(), MongoDBDocumentConfigurations.HOST.get(),
@@ -103,8 +111,9 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
                     .applyConnectionString(c)
                     .build())
                     .map(MongoClients::create)
-                    .map(MongoDBDocumentCollectionManagerFactory::new)
-                    .orElseGet(() -> new MongoDBDocumentCollectionManagerFactory(MongoClients.create()));
+                    .map(client -> new MongoDBDocumentCollectionManagerFactory(client, bulkWrite, cursor, metrics))
+                    .orElseGet(() -> new MongoDBDocumentCollectionManagerFactory(MongoClients.create(), bulkWrite,
+                            cursor, metrics));
         }
 
         Optional<MongoCredential> credential = MongoAuthentication.of(settings);
@@ -115,7 +124,8 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
                 MongoClientSettings.builder()
                         .applyToClusterSettings(builder -> builder.hosts(servers))).build();
 
-        return new MongoDBDocumentCollectionManagerFactory(MongoClients.create(mongoClientSettings));
+        return new MongoDBDocumentCollectionManagerFactory(MongoClients.create(mongoClientSettings), bulkWrite, cursor,
+                metrics);
     }
 
     public MongoDBDocumentCollectionManagerFactory get(String pathFileConfig) throws NullPointerException {
@@ -23,7 +23,11 @@ public enum MongoDBDocumentConfigurations implements Supplier<String> {
     URL("mongodb.url"),
     PASSWORD("mongodb.password"),
     AUTHENTICATION_SOURCE("mongodb.authentication.source"),
-    AUTHENTICATION_MECHANISM("mongodb.authentication.mechanism");
+    AUTHENTICATION_MECHANISM("mongodb.authentication.mechanism"),
+    BATCH_SIZE("mongodb.batch.size"),
+    BATCH_ORDERED("mongodb.batch.ordered"),
+    CURSOR_BATCH_SIZE("mongodb.cursor.batch.size"),
+    CURSOR_NO_TIMEOUT("mongodb.cursor.no.timeout");
 
     private final String configuration;
 
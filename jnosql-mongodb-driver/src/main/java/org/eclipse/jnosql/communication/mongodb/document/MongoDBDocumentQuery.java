@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.client.model.Filters;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.jnosql.communication.driver.StatefulQuery;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
+
+/**
+ * A MongoDB specialization of {@link DocumentQuery} that paginates with the keyset, also known as seek,
+ * instead of skip. The query sorts by its sorts and then by the _id, thus each entity has a single position,
+ * and the paging state keeps the sort values of the last entity read. The next page is a range filter after
+ * these values, so the server starts from the index instead of walking every skipped document.
+ * <p>The limit is the page size and the skip is applied only to the first page. Every sort field should be
+ * a top-level field that all documents have, the projection always includes them.</p>
+ * <p>A select keeps only a reference to the last entity read, its sort values are encoded when the paging state
+ * or the next page is asked for. The paging state moves while a select is read, thus it is not part of
+ * {@link #equals(Object)} and {@link #hashCode()}.</p>
+ *
+ * @see MongoDBDocumentQuery#of(DocumentQuery)
+ * @see MongoDBDocumentQuery#of(DocumentQuery, String)
+ */
+public final class MongoDBDocumentQuery implements DocumentQuery, StatefulQuery {
+
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+    private final DocumentQuery query;
+
+    private final List<Sort> keys;
+
+    private BsonDocument lastKey;
+
+    private DocumentEntity lastEntity;
+
+    private DocumentEntityCodec codec;
+
+    private MongoDBDocumentQuery(DocumentQuery query) {
+        this.query = query;
+        this.keys = getKeys(query.getSorts());
+    }
+
+    /**
+     * The paging state, an opaque string with the sort values of the last entity read by
+     * {@link MongoDBDocumentCollectionManager#select(DocumentQuery)}. It can be saved and used later on
+     * {@link MongoDBDocumentQuery#of(DocumentQuery, String)} with the same query to fetch the next page.
+     *
+     * @return the paging state, empty when no entity was read
+     */
+    public Optional<String> getPagingState() {
+        return Optional.ofNullable(getLastKey()).map(MongoDBDocumentQuery::encode);
+    }
+
+    /**
+     * The sorts of the query followed by the _id, when the query does not sort by it
+     */
+    List<Sort> getKeys() {
+        return keys;
+    }
+
+    /**
+     * The range filter after the last entity read, empty on the first page
+     */
+    Optional<Bson> toPaginate() {
+        return Optional.ofNullable(getLastKey()).map(this::after);
+    }
+
+    void setPagingState(DocumentEntity entity, DocumentEntityCodec codec) {
+        this.codec = codec;
+        this.lastEntity = entity;
+    }
+
+    /**
+     * The sort values of the last entity read, encoded on the first call after a select moved the paging state
+     */
+    private BsonDocument getLastKey() {
+        DocumentEntity entity = lastEntity;
+        if (entity != null) {
+            List<Document> values = new ArrayList<>(keys.size());
+            for (Sort key : keys) {
+                entity.find(key.getName()).ifPresent(values::add);
+            }
+            lastKey = codec.toBsonDocument(values);
+            lastEntity = null;
+        }
+        return lastKey;
+    }
+
+    private Bson after(BsonDocument values) {
+        List<Bson> filters = new ArrayList<>(keys.size());
+        List<Bson> equals = new ArrayList<>(keys.size());
+        for (Sort key : keys) {
+            BsonValue value = values.get(key.getName(), BsonNull.VALUE);
+            Bson range = SortType.ASC.equals(key.getType()) ? Filters.gt(key.getName(), value)
+                    : Filters.lt(key.getName(), value);
+            if (equals.isEmpty()) {
+                filters.add(range);
+            } else {
+                List<Bson> and = new ArrayList<>(equals);
+                and.add(range);
+                filters.add(Filters.and(and));
+            }
+            equals.add(Filters.eq(key.getName(), value));
+        }
+        return filters.size() == 1 ? filters.get(0) : Filters.or(filters);
+    }
+
+    @Override
+    public long getLimit() {
+        return query.getLimit();
+    }
+
+    @Override
+    public long getSkip() {
+        return query.getSkip();
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return query.getDocuments();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MongoDBDocumentQuery that = (MongoDBDocumentQuery) o;
+        return Objects.equals(query, that.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(query);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("MongoDBDocumentQuery{");
+        sb.append("query=").append(query);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static List<Sort> getKeys(List<Sort> sorts) {
+        boolean hasId = sorts.stream().map(Sort::getName).anyMatch(ID_FIELD::equals);
+        if (hasId) {
+            return Collections.unmodifiableList(new ArrayList<>(sorts));
+        }
+        List<Sort> keys = new ArrayList<>(sorts);
+        keys.add(Sort.of(ID_FIELD, SortType.ASC));
+        return Collections.unmodifiableList(keys);
+    }
+
+    private static String encode(BsonDocument document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        CODEC.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.toByteArray());
+    }
+
+    private static BsonDocument decode(String pagingState) {
+        try {
+            return new RawBsonDocument(Base64.getUrlDecoder().decode(pagingState)).clone();
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("The paging state is not valid: " + pagingState, exception);
+        }
+    }
+
+    /**
+     * returns a new instance of {@link MongoDBDocumentQuery} to the first page
+     *
+     * @param query the {@link DocumentQuery}
+     * @return a new instance
+     * @throws NullPointerException when query is null
+     */
+    public static MongoDBDocumentQuery of(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return new MongoDBDocumentQuery(query);
+    }
+
+    /**
+     * returns a new instance of {@link MongoDBDocumentQuery} to the page after the paging state
+     *
+     * @param query       the {@link DocumentQuery}
+     * @param pagingState {@link MongoDBDocumentQuery#getPagingState()}
+     * @return a new instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the paging state is not valid
+     */
+    public static MongoDBDocumentQuery of(DocumentQuery query, String pagingState) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pagingState, "pagingState is required");
+        MongoDBDocumentQuery mongoDBQuery = new MongoDBDocumentQuery(query);
+        mongoDBQuery.lastKey = decode(pagingState);
+        return mongoDBQuery;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentEntityCodecTest {
+
+    private static final CodecRegistry REGISTRY = MongoClientSettings.getDefaultCodecRegistry();
+
+    private final DocumentEntityCodec codec = new DocumentEntityCodec("person", REGISTRY);
+
+    @Test
+    public void shouldEncode() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("name", "Ada"));
+        entity.add(Document.of("age", 10));
+        entity.add(Document.of("_id", 1));
+
+        BsonDocument document = encode(entity);
+        assertEquals(asList("_id", "name", "age"), new ArrayList<>(document.keySet()));
+        assertEquals(new BsonInt32(1), document.get("_id"));
+        assertEquals(new BsonString("Ada"), document.get("name"));
+        assertEquals(new BsonInt32(10), document.get("age"));
+    }
+
+    @Test
+    public void shouldEncodeSubDocument() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("phones", asList(Document.of("mobile", "1231"), Document.of("home", "4561"))));
+        entity.add(Document.of("address", Document.of("city", "Salvador")));
+
+        BsonDocument document = encode(entity);
+        BsonDocument phones = document.getDocument("phones");
+        assertEquals(new BsonString("1231"), phones.get("mobile"));
+        assertEquals(new BsonString("4561"), phones.get("home"));
+        assertEquals(new BsonString("Salvador"), document.getDocument("address").get("city"));
+    }
+
+    @Test
+    public void shouldEncodeSubDocumentList() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        List<List<Document>> contacts = asList(asList(Document.of("name", "Ada"), Document.of("type", "email")),
+                asList(Document.of("name", "Ada"), Document.of("type", "phone")));
+        entity.add(Document.of("contacts", contacts));
+        entity.add(Document.of("tags", asList("java", "nosql")));
+
+        BsonDocument document = encode(entity);
+        BsonArray array = document.getArray("contacts");
+        assertEquals(2, array.size());
+        assertEquals(new BsonString("phone"), array.get(1).asDocument().get("type"));
+        assertEquals(new BsonArray(asList(new BsonString("java"), new BsonString("nosql"))),
+                document.getArray("tags"));
+    }
+
+    @Test
+    public void shouldDecode() {
+        BsonDocument document = new BsonDocument("_id", new BsonInt32(1))
+                .append("name", new BsonString("Ada"))
+                .append("nickname", BsonNull.VALUE)
+                .append("data", new BsonBinary(new byte[]{1, 2, 3}))
+                .append("address", new BsonDocument("city", new BsonString("Salvador")))
+                .append("contacts", new BsonArray(asList(new BsonDocument("type", new BsonString("email")),
+                        new BsonDocument("type", new BsonString("phone")))))
+                .append("tags", new BsonArray(asList(new BsonString("java"), new BsonString("nosql"))));
+
+        DocumentEntity entity = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertEquals("person", entity.getName());
+        assertEquals(6, entity.size());
+        assertEquals(1, entity.find("_id").get().get());
+        assertEquals("Ada", entity.find("name").get().get());
+        assertFalse(entity.find("nickname").isPresent());
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) entity.find("data").get().get());
+
+        List<Document> address = entity.find("address").get().get(new TypeReference<List<Document>>() {
+        });
+        assertEquals(Document.of("city", "Salvador"), address.get(0));
+
+        List<List<Document>> contacts = (List<List<Document>>) entity.find("contacts").get().get();
+        assertEquals(2, contacts.size());
+        assertEquals(Document.of("type", "phone"), contacts.get(1).get(0));
+        assertEquals(asList("java", "nosql"), entity.find("tags").get().get());
+    }
+
+    @Test
+    public void shouldRoundTrip() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("_id", 1));
+        entity.add(Document.of("name", "Ada"));
+        entity.add(Document.of("phones", asList(Document.of("mobile", "1231"), Document.of("home", "4561"))));
+
+        DocumentEntity result = codec.decode(new BsonDocumentReader(encode(entity)),
+                DecoderContext.builder().build());
+        assertEquals(entity.find("name"), result.find("name"));
+        List<Document> phones = result.find("phones").get().get(new TypeReference<List<Document>>() {
+        });
+        assertEquals(asList(Document.of("mobile", "1231"), Document.of("home", "4561")), phones);
+    }
+
+    @Test
+    public void shouldGenerateId() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("name", "Ada"));
+        assertFalse(codec.documentHasId(entity));
+        assertThrows(IllegalStateException.class, () -> codec.getDocumentId(entity));
+
+        codec.generateIdIfAbsentFromDocument(entity);
+        assertTrue(codec.documentHasId(entity));
+        ObjectId id = (ObjectId) entity.find("_id").get().get();
+        assertEquals(new BsonObjectId(id), codec.getDocumentId(entity));
+
+        codec.generateIdIfAbsentFromDocument(entity);
+        assertEquals(id, entity.find("_id").get().get());
+    }
+
+    @Test
+    public void shouldRegisterToEntityImplementations() {
+        CodecRegistry registry = DocumentEntityCodec.registry("person", REGISTRY);
+        DocumentEntity entity = DocumentEntity.of("person");
+        assertSame(registry.get(DocumentEntity.class), registry.get(entity.getClass()));
+        assertTrue(registry.get(DocumentEntity.class) instanceof DocumentEntityCodec);
+        assertEquals(REGISTRY.get(String.class).getClass(), registry.get(String.class).getClass());
+    }
+
+    private BsonDocument encode(DocumentEntity entity) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        return document;
+    }
+}
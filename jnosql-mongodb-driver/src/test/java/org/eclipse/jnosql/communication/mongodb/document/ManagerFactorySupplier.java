@@ -38,15 +38,31 @@ public enum ManagerFactorySupplier  {
     }
 
     public MongoDBDocumentCollectionManager get(String database) {
-        Settings settings = getSettings();
+        return get(database, new HashMap<>());
+    }
+
+    public MongoDBDocumentCollectionManager get(String database, int batchSize, boolean ordered) {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(MongoDBDocumentConfigurations.BATCH_SIZE.get(), batchSize);
+        settings.put(MongoDBDocumentConfigurations.BATCH_ORDERED.get(), ordered);
+        return get(database, settings);
+    }
+
+    public MongoDBDocumentCollectionManager getWithCursor(String database, int batchSize, boolean noCursorTimeout) {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(MongoDBDocumentConfigurations.CURSOR_BATCH_SIZE.get(), batchSize);
+        settings.put(MongoDBDocumentConfigurations.CURSOR_NO_TIMEOUT.get(), noCursorTimeout);
+        return get(database, settings);
+    }
+
+    private MongoDBDocumentCollectionManager get(String database, Map<String, Object> settings) {
         MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
-        MongoDBDocumentCollectionManagerFactory factory = configuration.get(settings);
+        MongoDBDocumentCollectionManagerFactory factory = configuration.get(getSettings(settings));
         return factory.get(database);
     }
 
 
-    private Settings getSettings() {
-        Map<String,Object> settings = new HashMap<>();
+    private Settings getSettings(Map<String, Object> settings) {
         String host = mongodb.getContainerIpAddress() + ":" + mongodb.getFirstMappedPort();
         settings.put("mongodb.host.1", host);
         return Settings.of(settings);
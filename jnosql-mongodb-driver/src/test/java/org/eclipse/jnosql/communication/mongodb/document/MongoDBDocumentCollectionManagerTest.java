@@ -15,12 +15,14 @@
 
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.MongoBulkWriteException;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.bson.BsonDocument;
 import org.eclipse.jnosql.communication.document.Documents;
 import org.eclipse.jnosql.communication.mongodb.document.type.Money;
 import org.junit.jupiter.api.Assertions;
@@ -33,8 +35,11 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
@@ -47,6 +52,7 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -87,6 +93,102 @@ public class MongoDBDocumentCollectionManagerTest {
         assertEquals(newField, updated.find("newField").get());
     }
 
+    @Test
+    public void shouldInsertIterableInBatches() {
+        MongoDBDocumentCollectionManager manager = ManagerFactorySupplier.INSTANCE.get("database", 2, true);
+        List<DocumentEntity> entities = Stream.generate(this::getEntity).limit(5).collect(Collectors.toList());
+        Iterable<DocumentEntity> inserted = manager.insert(entities);
+        assertThat(inserted, contains(entities.toArray()));
+        assertTrue(entities.stream().allMatch(e -> e.find("_id").isPresent()));
+        assertEquals(5L, manager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldUpdateIterableInBatches() {
+        MongoDBDocumentCollectionManager manager = ManagerFactorySupplier.INSTANCE.get("database", 2, true);
+        List<DocumentEntity> entities = Stream.generate(this::getEntity).limit(3).collect(Collectors.toList());
+        manager.insert(entities);
+        entities.forEach(e -> e.add(Document.of("newField", "10")));
+        manager.update(entities);
+        DocumentQuery query = select().from(COLLECTION_NAME).where("newField").eq("10").build();
+        assertEquals(3L, manager.select(query).count());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateIterableHasNoId() {
+        assertThrows(UnsupportedOperationException.class, () -> entityManager.update(asList(getEntity())));
+    }
+
+    @Test
+    public void shouldInsertIterableUnordered() {
+        MongoDBDocumentCollectionManager manager = ManagerFactorySupplier.INSTANCE.get("database", 10, false);
+        DocumentEntity duplicated = manager.insert(getEntity());
+        List<DocumentEntity> entities = asList(getEntity(), duplicated, getEntity());
+        assertThrows(MongoBulkWriteException.class, () -> manager.insert(entities));
+        assertEquals(3L, manager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldSelectInCursorBatches() {
+        MongoDBDocumentCollectionManager manager = ManagerFactorySupplier.INSTANCE.getWithCursor("database", 2, true);
+        manager.insert(Stream.generate(this::getEntity).limit(5).collect(Collectors.toList()));
+        try (Stream<DocumentEntity> entities = manager.select(select().from(COLLECTION_NAME).build())) {
+            assertEquals(5L, entities.count());
+        }
+        try (Stream<DocumentEntity> entities = manager.select(COLLECTION_NAME, new BsonDocument())) {
+            assertTrue(entities.findFirst().isPresent());
+        }
+    }
+
+    @Test
+    public void shouldPaginateWithPagingState() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            DocumentEntity entity = getEntity();
+            entity.add(Document.of("_id", index));
+            entity.add(Document.of("age", index % 3));
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).orderBy("age").asc().limit(4).build();
+        MongoDBDocumentQuery page = MongoDBDocumentQuery.of(query);
+        List<Object> ids = new ArrayList<>();
+        List<DocumentEntity> result = entityManager.select(page).collect(Collectors.toList());
+        while (!result.isEmpty()) {
+            assertTrue(result.size() <= 4);
+            result.stream().map(e -> e.find("_id").get().get()).forEach(ids::add);
+            page = MongoDBDocumentQuery.of(query, page.getPagingState().get());
+            result = entityManager.select(page).collect(Collectors.toList());
+        }
+        assertEquals(asList(0, 3, 6, 9, 1, 4, 7, 2, 5, 8), ids);
+    }
+
+    @Test
+    public void shouldPublishPaginated() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            DocumentEntity entity = getEntity();
+            entity.add(Document.of("_id", index));
+            entity.add(Document.of("age", index % 3));
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+        MongoDBDocumentCollectionManager manager = MongoDBDocumentCollectionManager.class.cast(entityManager);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).orderBy("age").asc().orderBy("_id").asc()
+                .skip(2).limit(5).build();
+        List<Object> ids = toList(manager.publish(query)).stream()
+                .map(e -> e.find("_id").get().get()).collect(Collectors.toList());
+        assertEquals(asList(6, 9, 1, 4, 7), ids);
+
+        MongoDBDocumentQuery page = MongoDBDocumentQuery.of(select().from(COLLECTION_NAME).orderBy("age").asc()
+                .limit(4).build());
+        ids = toList(manager.publish(page)).stream()
+                .map(e -> e.find("_id").get().get()).collect(Collectors.toList());
+        assertEquals(asList(0, 3, 6, 9), ids);
+    }
+
     @Test
     public void shouldRemoveEntity() {
         DocumentEntity documentEntity = entityManager.insert(getEntity());
@@ -537,6 +639,33 @@ public class MongoDBDocumentCollectionManagerTest {
         return entity;
     }
 
+    private static <T> List<T> toList(Flow.Publisher<T> publisher) {
+        List<T> entities = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T entity) {
+                entities.add(entity);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertNull(error.get());
+        return entities;
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
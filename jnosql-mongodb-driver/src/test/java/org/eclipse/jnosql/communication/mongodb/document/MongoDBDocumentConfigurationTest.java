@@ -44,6 +44,22 @@ public class MongoDBDocumentConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        Map<String, String> map = new HashMap<>();
+        map.put("mongodb.batch.size", "0");
+        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(map));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCursorBatchSizeIsInvalid() {
+        Map<String, String> map = new HashMap<>();
+        map.put("mongodb.cursor.batch.size", "-1");
+        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(map));
+    }
+
     @Test
     public void shouldReturnErrorWhendSettingsIsNull() {
         DocumentConfiguration configuration = new MongoDBDocumentConfiguration();
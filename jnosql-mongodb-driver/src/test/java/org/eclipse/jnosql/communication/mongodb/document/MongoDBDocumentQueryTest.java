@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.bson.BsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static jakarta.nosql.document.DocumentQuery.select;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MongoDBDocumentQueryTest {
+
+    private static final CodecRegistry REGISTRY = MongoClientSettings.getDefaultCodecRegistry();
+
+    private final DocumentEntityCodec codec = new DocumentEntityCodec("person", REGISTRY);
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        DocumentQuery query = select().from("person").build();
+        assertThrows(NullPointerException.class, () -> MongoDBDocumentQuery.of(null));
+        assertThrows(NullPointerException.class, () -> MongoDBDocumentQuery.of(query, null));
+        assertThrows(NullPointerException.class, () -> MongoDBDocumentQuery.of(null, "state"));
+    }
+
+    @Test
+    public void shouldSortById() {
+        MongoDBDocumentQuery query = MongoDBDocumentQuery.of(select().from("person").orderBy("age").desc().build());
+        List<String> keys = query.getKeys().stream().map(Sort::getName).collect(Collectors.toList());
+        assertEquals(asList("age", "_id"), keys);
+        assertEquals(SortType.ASC, query.getKeys().get(1).getType());
+
+        MongoDBDocumentQuery byId = MongoDBDocumentQuery.of(select().from("person").orderBy("_id").desc().build());
+        assertEquals(1, byId.getKeys().size());
+    }
+
+    @Test
+    public void shouldStartWithoutPagingState() {
+        MongoDBDocumentQuery query = MongoDBDocumentQuery.of(select().from("person").build());
+        assertFalse(query.getPagingState().isPresent());
+        assertFalse(query.toPaginate().isPresent());
+    }
+
+    @Test
+    public void shouldCreateRangeAfterLastEntity() {
+        MongoDBDocumentQuery query = MongoDBDocumentQuery.of(select().from("person").orderBy("age").desc().build());
+        query.setPagingState(getEntity(), codec);
+        assertTrue(query.getPagingState().isPresent());
+        BsonDocument expected = BsonDocument.parse("{\"$or\": [{\"age\": {\"$lt\": 22}}, "
+                + "{\"$and\": [{\"age\": 22}, {\"_id\": {\"$gt\": 10}}]}]}");
+        assertEquals(expected, toBsonDocument(query.toPaginate().get()));
+    }
+
+    @Test
+    public void shouldReadPagingState() {
+        DocumentQuery documentQuery = select().from("person").orderBy("age").asc().build();
+        MongoDBDocumentQuery query = MongoDBDocumentQuery.of(documentQuery);
+        query.setPagingState(getEntity(), codec);
+        String pagingState = query.getPagingState().get();
+
+        MongoDBDocumentQuery next = MongoDBDocumentQuery.of(documentQuery, pagingState);
+        assertEquals(pagingState, next.getPagingState().get());
+        assertEquals(toBsonDocument(query.toPaginate().get()), toBsonDocument(next.toPaginate().get()));
+        assertEquals(query, next);
+    }
+
+    @Test
+    public void shouldKeepTheHashCodeWhilePaging() {
+        MongoDBDocumentQuery query = MongoDBDocumentQuery.of(select().from("person").orderBy("age").asc().build());
+        int hashCode = query.hashCode();
+        DocumentEntity first = DocumentEntity.of("person");
+        first.add(Document.of("age", 20));
+        first.add(Document.of("_id", 5));
+        query.setPagingState(first, codec);
+        query.setPagingState(getEntity(), codec);
+        assertEquals(hashCode, query.hashCode());
+
+        MongoDBDocumentQuery expected = MongoDBDocumentQuery.of(select().from("person").orderBy("age").asc().build());
+        expected.setPagingState(getEntity(), codec);
+        assertEquals(expected.getPagingState(), query.getPagingState());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPagingStateIsInvalid() {
+        DocumentQuery query = select().from("person").build();
+        assertThrows(IllegalArgumentException.class, () -> MongoDBDocumentQuery.of(query, "#invalid"));
+        assertThrows(IllegalArgumentException.class, () -> MongoDBDocumentQuery.of(query, "AAAA"));
+    }
+
+    private DocumentEntity getEntity() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("name", "Lucas"));
+        entity.add(Document.of("age", 22));
+        entity.add(Document.of("_id", 10));
+        return entity;
+    }
+
+    private static BsonDocument toBsonDocument(Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, REGISTRY);
+    }
+}
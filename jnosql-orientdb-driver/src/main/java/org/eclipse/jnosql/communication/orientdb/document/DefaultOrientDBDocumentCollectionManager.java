@@ -27,12 +27,17 @@ import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+import org.eclipse.jnosql.communication.driver.reactive.CursorPublisher;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -44,15 +49,23 @@ import static org.eclipse.jnosql.communication.orientdb.document.OrientDBConvert
 
 class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollectionManager {
 
+    static final String DRIVER = "orientdb";
+
     private final ODatabasePool pool;
 
-    DefaultOrientDBDocumentCollectionManager(ODatabasePool pool) {
+    private final DriverMetrics metrics;
+
+    DefaultOrientDBDocumentCollectionManager(ODatabasePool pool, DriverMetrics metrics) {
         this.pool = pool;
+        this.metrics = metrics;
     }
 
     @Override
     public DocumentEntity insert(DocumentEntity entity) {
         requireNonNull(entity, "Entity is required");
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try (ODatabaseSession tx = pool.acquire()) {
             ODocument document = new ODocument(entity.getName());
             toMap(entity).forEach(document::field);
@@ -66,7 +79,11 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
                 tx.save(document);
             }
             updateEntity(entity, document);
+            failed = false;
             return entity;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, entity.getName(), 1);
+            metrics.record(Operations.INSERT, entity.getName(), start, metrics.sizeOf(entity), failed);
         }
     }
 
@@ -112,12 +129,22 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
         DocumentQuery selectQuery = new OrientDBDocumentQuery(query);
         QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.to(selectQuery);
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        long deleted = 0;
         try (ODatabaseSession tx = pool.acquire();
              OResultSet resultSet = tx.command(orientQuery.getQuery(), orientQuery.getParams())) {
             while (resultSet.hasNext()) {
                 OResult next = resultSet.next();
                 tx.delete(next.toElement().getIdentity());
+                deleted++;
             }
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, query.getDocumentCollection(), deleted,
+                    orientQuery::getQuery);
+            metrics.record(Operations.DELETE, query.getDocumentCollection(), start, 0L, failed);
         }
 
     }
@@ -128,8 +155,11 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
         requireNonNull(query, "query is required");
         QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.to(query);
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        List<DocumentEntity> entities = new ArrayList<>();
         try (ODatabaseSession tx = pool.acquire()) {
-            List<DocumentEntity> entities = new ArrayList<>();
             if (orientQuery.isRunQuery()) {
                 try (OResultSet resultSet = tx.command(orientQuery.getQuery(), orientQuery.getParams())) {
                     entities.addAll(OrientDBConverter.convert(resultSet));
@@ -140,29 +170,58 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
                         .map(o -> OrientDBConverter.convert((ODocument) o))
                         .forEach(entities::add);
             }
+            failed = false;
             return entities.stream();
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.SELECT, query.getDocumentCollection(), entities.size(),
+                    orientQuery::getQuery);
+            metrics.record(Operations.SELECT, query.getDocumentCollection(), start, metrics.sizeOf(entities),
+                    failed);
         }
     }
 
+    @Override
+    public Flow.Publisher<DocumentEntity> publish(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.to(query);
+        return CursorPublisher.of(() -> OrientDBCursor.of(pool.acquire(), orientQuery));
+    }
+
     @Override
     public long count(String documentCollection) {
         requireNonNull(documentCollection, "query is required");
+        String query = "select count(*) from ".concat(documentCollection);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try (ODatabaseSession tx = pool.acquire()) {
-            String query = "select count(*) from ".concat(documentCollection);
             OResultSet command = tx.command(query);
             OResult next = command.next();
             Object count = next.getProperty("count(*)");
+            failed = false;
             return Number.class.cast(count).longValue();
 
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.COUNT, documentCollection, 0, () -> query);
+            metrics.record(Operations.COUNT, documentCollection, start, 0L, failed);
         }
     }
 
     @Override
     public Stream<DocumentEntity> sql(String query, Object... params) {
         requireNonNull(query, "query is required");
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        List<DocumentEntity> entities = new ArrayList<>();
         try (ODatabaseSession tx = pool.acquire();
              OResultSet resultSet = tx.command(query, params)) {
-            return OrientDBConverter.convert(resultSet).stream();
+            entities = OrientDBConverter.convert(resultSet);
+            failed = false;
+            return entities.stream();
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.QUERY, null, entities.size(), () -> query);
+            metrics.record(Operations.QUERY, null, start, metrics.sizeOf(entities), failed);
         }
 
     }
@@ -172,9 +231,18 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
         requireNonNull(query, "query is required");
         requireNonNull(params, "params is required");
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        List<DocumentEntity> entities = new ArrayList<>();
         try (ODatabaseSession tx = pool.acquire();
              OResultSet resultSet = tx.command(query, params)) {
-            return OrientDBConverter.convert(resultSet).stream();
+            entities = OrientDBConverter.convert(resultSet);
+            failed = false;
+            return entities.stream();
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.QUERY, null, entities.size(), () -> query);
+            metrics.record(Operations.QUERY, null, start, metrics.sizeOf(entities), failed);
         }
     }
 
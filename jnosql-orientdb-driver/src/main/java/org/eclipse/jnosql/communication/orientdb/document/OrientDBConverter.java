@@ -23,6 +23,7 @@ import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.DocumentShape;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
@@ -34,7 +35,6 @@ import java.util.stream.StreamSupport;
 
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 final class OrientDBConverter {
 
@@ -110,34 +110,27 @@ final class OrientDBConverter {
 
     private static void toDocument(Map<String, Object> entityValues, Document document) {
         Object value = ValueUtil.convert(document.getValue());
-        if (Document.class.isInstance(value)) {
-            Document subDocument = Document.class.cast(value);
-            entityValues.put(document.getName(), singletonMap(subDocument.getName(), subDocument.get()));
-        } else if (isDocumentIterable(value)) {
-            entityValues.put(document.getName(), getMap(value));
-        } else if (isSudDocumentList(value)) {
-            entityValues.put(document.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
-                    .map(OrientDBConverter::getMap).collect(toList()));
-        } else {
-            entityValues.put(document.getName(), value);
+        DocumentShape shape = DocumentShape.of(value);
+        switch (shape.getType()) {
+            case DOCUMENT:
+                Document subDocument = shape.getDocument();
+                entityValues.put(document.getName(), singletonMap(subDocument.getName(), subDocument.get()));
+                break;
+            case SUBDOCUMENT:
+                entityValues.put(document.getName(), getMap(shape.getDocuments()));
+                break;
+            case SUBDOCUMENT_LIST:
+                entityValues.put(document.getName(), shape.getSubDocuments().stream()
+                        .map(OrientDBConverter::getMap).collect(toList()));
+                break;
+            default:
+                entityValues.put(document.getName(), value);
         }
     }
 
-    private static Map<String, Object> getMap(Object valueAsObject) {
-        Map<String, Object> map = new java.util.HashMap<>();
-        stream(Iterable.class.cast(valueAsObject).spliterator(), false)
-                .forEach(d -> toDocument(map, Document.class.cast(d)));
+    private static Map<String, Object> getMap(List<Document> documents) {
+        Map<String, Object> map = new HashMap<>();
+        documents.forEach(d -> toDocument(map, d));
         return map;
     }
-
-    private static boolean isDocumentIterable(Object value) {
-        return Iterable.class.isInstance(value) &&
-                stream(Iterable.class.cast(value).spliterator(), false)
-                        .allMatch(Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isDocumentIterable(d));
-    }
 }
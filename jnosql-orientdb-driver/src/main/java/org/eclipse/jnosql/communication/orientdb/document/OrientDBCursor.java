@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.orientdb.document;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.reactive.Cursor;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Cursor} over the {@link OResultSet} of a query, then over the records loaded by id.
+ * The session is kept open until the cursor is closed, and since an OrientDB session is bound to a thread,
+ * it is activated on the current thread before each read.
+ */
+final class OrientDBCursor implements Cursor<DocumentEntity> {
+
+    private final ODatabaseSession session;
+
+    private final OResultSet resultSet;
+
+    private final Iterator<ORecordId> ids;
+
+    private OrientDBCursor(ODatabaseSession session, OResultSet resultSet, Iterator<ORecordId> ids) {
+        this.session = session;
+        this.resultSet = resultSet;
+        this.ids = ids;
+    }
+
+    @Override
+    public boolean hasNext() {
+        session.activateOnCurrentThread();
+        return (resultSet != null && resultSet.hasNext()) || ids.hasNext();
+    }
+
+    @Override
+    public DocumentEntity next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no other entity");
+        }
+        if (resultSet != null && resultSet.hasNext()) {
+            return OrientDBConverter.convert(resultSet.next());
+        }
+        return OrientDBConverter.convert((ODocument) session.load(ids.next()));
+    }
+
+    @Override
+    public void close() {
+        session.activateOnCurrentThread();
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+        } finally {
+            session.close();
+        }
+    }
+
+    static Cursor<DocumentEntity> of(ODatabaseSession session, QueryOSQLFactory.QueryResult orientQuery) {
+        try {
+            OResultSet resultSet = orientQuery.isRunQuery() ?
+                    session.command(orientQuery.getQuery(), orientQuery.getParams()) : null;
+            Iterator<ORecordId> ids = orientQuery.isLoad() ?
+                    orientQuery.getIds().iterator() : Collections.emptyIterator();
+            return new OrientDBCursor(session, resultSet, ids);
+        } catch (RuntimeException exception) {
+            session.close();
+            throw exception;
+        }
+    }
+}
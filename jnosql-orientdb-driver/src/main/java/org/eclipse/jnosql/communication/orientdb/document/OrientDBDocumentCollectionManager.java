@@ -18,6 +18,7 @@ package org.eclipse.jnosql.communication.orientdb.document;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.reactive.DocumentPublisher;
 
 import java.util.Map;
 import java.util.stream.Stream;
@@ -28,8 +29,10 @@ import java.util.stream.Stream;
  * <p>{@link OrientDBDocumentCollectionManager#insert(DocumentEntity, java.time.Duration)}</p>
  * Also this implementation has support SQL query and also live query.
  * <p>{@link OrientDBDocumentCollectionManager#sql(String, Object...)}</p>
+ * The query result might be also published on demand.
+ * <p>{@link OrientDBDocumentCollectionManager#publish(DocumentQuery)}</p>
  */
-public interface OrientDBDocumentCollectionManager extends DocumentCollectionManager {
+public interface OrientDBDocumentCollectionManager extends DocumentCollectionManager, DocumentPublisher {
     /**
      * Find using query
      *
@@ -20,6 +20,7 @@ import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
@@ -34,8 +35,10 @@ public class OrientDBDocumentCollectionManagerFactory implements DocumentCollect
     private final String password;
     private final ODatabaseType storageType;
     private final OrientDB orient;
+    private final DriverMetrics metrics;
 
-    OrientDBDocumentCollectionManagerFactory(String host, String user, String password, String storageType) {
+    OrientDBDocumentCollectionManagerFactory(String host, String user, String password, String storageType,
+                                             DriverMetrics metrics) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -46,6 +49,7 @@ public class OrientDBDocumentCollectionManagerFactory implements DocumentCollect
 
         String prefix = this.storageType == ODatabaseType.MEMORY ? "embedded:" : "remote:";
         this.orient = new OrientDB(prefix + host, user, password, OrientDBConfig.defaultConfig());
+        this.metrics = metrics;
 
     }
 
@@ -55,12 +59,13 @@ public class OrientDBDocumentCollectionManagerFactory implements DocumentCollect
 
         orient.createIfNotExists(database, storageType);
         ODatabasePool pool = new ODatabasePool(orient, database, user, password);
-        return new DefaultOrientDBDocumentCollectionManager(pool);
+        return new DefaultOrientDBDocumentCollectionManager(pool, metrics);
 
     }
 
     @Override
     public void close() {
+        metrics.close();
         orient.close();
     }
 }
@@ -20,6 +20,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Map;
 import java.util.function.Supplier;
@@ -78,7 +79,8 @@ public class OrientDBDocumentConfiguration implements DocumentConfiguration {
 
     @Override
     public OrientDBDocumentCollectionManagerFactory get() {
-        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType);
+        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType,
+                DriverMetrics.disabled());
     }
 
     @Override
@@ -93,7 +95,8 @@ public class OrientDBDocumentConfiguration implements DocumentConfiguration {
         String user = getUser(settings);
         String password = getPassword(settings);
         String storageType = getStorageType(settings);
-        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType);
+        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType,
+                DriverMetrics.of(settings));
     }
 
     private String getHost(Settings settings) {
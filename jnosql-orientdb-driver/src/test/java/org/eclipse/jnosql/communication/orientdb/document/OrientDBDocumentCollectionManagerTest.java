@@ -34,7 +34,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -49,6 +51,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -367,6 +370,25 @@ public class OrientDBDocumentCollectionManagerTest {
         assertThat(entitiesDesc, contains(entitiesSaved.get(0), entitiesSaved.get(1), entitiesSaved.get(2)));
     }
 
+    @Test
+    public void shouldPublishPaginated() {
+        List<DocumentEntity> entitiesSaved = StreamSupport.stream(entityManager.insert(getEntities()).spliterator(),
+                false).collect(Collectors.toList());
+
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .orderBy("name").asc()
+                .build();
+        assertThat(toList(entityManager.publish(query)),
+                contains(entitiesSaved.get(2), entitiesSaved.get(1), entitiesSaved.get(0)));
+
+        query = select().from(COLLECTION_NAME)
+                .orderBy("name").asc()
+                .skip(1)
+                .limit(1)
+                .build();
+        assertThat(toList(entityManager.publish(query)), contains(entitiesSaved.get(1)));
+    }
+
     @Test
     public void shouldQueryMultiOrderBy() {
         List<DocumentEntity> entities = new ArrayList<>(getEntities());
@@ -507,6 +529,33 @@ public class OrientDBDocumentCollectionManagerTest {
         return entity;
     }
 
+    private static <T> List<T> toList(Flow.Publisher<T> publisher) {
+        List<T> entities = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T entity) {
+                entities.add(entity);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertNull(error.get());
+        return entities;
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
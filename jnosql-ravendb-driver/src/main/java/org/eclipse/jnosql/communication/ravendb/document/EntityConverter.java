@@ -17,12 +17,13 @@ package org.eclipse.jnosql.communication.ravendb.document;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
 import net.ravendb.client.Constants;
+import org.eclipse.jnosql.communication.driver.DocumentShape;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.stream.StreamSupport;
 
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
@@ -66,37 +67,30 @@ final class EntityConverter {
     private static Consumer<Document> feedJSON(Map<String, Object> map) {
         return d -> {
             Object value = ValueUtil.convert(d.getValue());
-            if (value instanceof Document) {
-                Document subDocument = Document.class.cast(value);
-                map.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
-            } else if (isSudDocument(value)) {
-                Map<String, Object> subDocument = getMap(value);
-                map.put(d.getName(), subDocument);
-            } else if (isSudDocumentList(value)) {
-                map.put(d.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
-                        .map(EntityConverter::getMap).collect(toList()));
-            } else {
-                map.put(d.getName(), value);
+            DocumentShape shape = DocumentShape.of(value);
+            switch (shape.getType()) {
+                case DOCUMENT:
+                    Document subDocument = shape.getDocument();
+                    map.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
+                    break;
+                case SUBDOCUMENT:
+                    map.put(d.getName(), getMap(shape.getDocuments()));
+                    break;
+                case SUBDOCUMENT_LIST:
+                    map.put(d.getName(), shape.getSubDocuments().stream()
+                            .map(EntityConverter::getMap).collect(toList()));
+                    break;
+                default:
+                    map.put(d.getName(), value);
             }
         };
     }
 
-    private static Map<String, Object> getMap(Object value) {
+    private static Map<String, Object> getMap(List<Document> documents) {
         Map<String, Object> subDocument = new HashMap<>();
-        StreamSupport.stream(Iterable.class.cast(value).spliterator(),
-                false).forEach(feedJSON(subDocument));
+        documents.forEach(feedJSON(subDocument));
         return subDocument;
     }
 
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
-
 
 }
@@ -24,9 +24,11 @@ import net.ravendb.client.documents.DocumentStore;
 import net.ravendb.client.documents.queries.Query;
 import net.ravendb.client.documents.session.IDocumentQuery;
 import net.ravendb.client.documents.session.IDocumentSession;
-import net.ravendb.client.documents.session.IEnumerableQuery;
 import net.ravendb.client.documents.session.IMetadataDictionary;
 import net.ravendb.client.exceptions.RavenException;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 
 import java.time.Clock;
 import java.time.Duration;
@@ -49,12 +51,16 @@ import static net.ravendb.client.Constants.Documents.Metadata.EXPIRES;
  */
 public class RavenDBDocumentCollectionManager implements DocumentCollectionManager {
 
+    static final String DRIVER = "ravendb";
 
     private final DocumentStore store;
 
+    private final DriverMetrics metrics;
 
-    RavenDBDocumentCollectionManager(DocumentStore store) {
+
+    RavenDBDocumentCollectionManager(DocumentStore store, DriverMetrics metrics) {
         this.store = store;
+        this.metrics = metrics;
         this.store.initialize();
 
     }
@@ -103,6 +109,9 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
     public DocumentEntity update(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try (IDocumentSession session = store.openSession()) {
             Document id = entity.find(EntityConverter.ID_FIELD)
                     .orElseThrow(() -> new RavenException("Id is required to Raven Update operation"));
@@ -110,6 +119,10 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
             HashMap<String, Object> map = session.load(HashMap.class, id.get(String.class));
             map.putAll(EntityConverter.getMap(entity));
             session.saveChanges();
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.UPDATE, entity.getName(), 1);
+            metrics.record(Operations.UPDATE, entity.getName(), start, metrics.sizeOf(entity), failed);
         }
         return entity;
     }
@@ -128,8 +141,18 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
 
         try (IDocumentSession session = store.openSession()) {
             Stream<Map> entities = getQueryMaps(new RavenDeleteQuery(query), session);
-            entities.map(EntityConverter::getId).forEach(session::delete);
-            session.saveChanges();
+            List<String> ids = entities.map(EntityConverter::getId).collect(Collectors.toList());
+            DriverOperationEvent event = DriverOperationEvent.start();
+            long start = metrics.start();
+            boolean failed = true;
+            try {
+                ids.forEach(session::delete);
+                session.saveChanges();
+                failed = false;
+            } finally {
+                event.end(DRIVER, DriverOperationEvent.DELETE, query.getDocumentCollection(), ids.size());
+                metrics.record(Operations.DELETE, query.getDocumentCollection(), start, 0L, failed);
+            }
         }
 
     }
@@ -149,9 +172,17 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try (IDocumentSession session = store.openSession()) {
             IDocumentQuery<HashMap> ravenQuery = session.query(HashMap.class, Query.collection(documentCollection));
-            return ravenQuery.count();
+            int count = ravenQuery.count();
+            failed = false;
+            return count;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.COUNT, documentCollection, 0);
+            metrics.record(Operations.COUNT, documentCollection, start, 0L, failed);
         }
     }
 
@@ -163,6 +194,20 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
 
     private void insert(DocumentEntity entity, LocalDateTime time, IDocumentSession session) {
         String collection = entity.getName();
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            store(entity, time, session);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, collection, 1);
+            metrics.record(Operations.INSERT, collection, start, metrics.sizeOf(entity), failed);
+        }
+    }
+
+    private void store(DocumentEntity entity, LocalDateTime time, IDocumentSession session) {
+        String collection = entity.getName();
 
         Map<String, Object> entityMap = EntityConverter.getMap(entity);
         String id = entity.find(EntityConverter.ID_FIELD)
@@ -186,12 +231,26 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
         Stream<Map> idQueryStream = queryResult.getIds().stream()
                 .map(i -> session.load(HashMap.class, i));
 
-        final List<HashMap> hashMaps = queryResult.getRavenQuery().map(IEnumerableQuery::toList)
+        final List<HashMap> hashMaps = queryResult.getRavenQuery().map(q -> toList(query, q))
                 .orElse(Collections.emptyList());
-        final Stream<HashMap> queryStream = queryResult.getRavenQuery()
-                .map(IEnumerableQuery::toList)
-                .map(List::stream).orElseGet(() -> Stream.empty());
-        return Stream.concat(idQueryStream, queryStream);
+        return Stream.concat(idQueryStream, hashMaps.stream());
+    }
+
+    private List<HashMap> toList(DocumentQuery query, IDocumentQuery<HashMap> ravenQuery) {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        List<HashMap> hashMaps = Collections.emptyList();
+        try {
+            hashMaps = ravenQuery.toList();
+            failed = false;
+            return hashMaps;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.SELECT, query.getDocumentCollection(), hashMaps.size(),
+                    ravenQuery::toString);
+            metrics.record(Operations.SELECT, query.getDocumentCollection(), start, metrics.sizeOf(hashMaps),
+                    failed);
+        }
     }
 
 }
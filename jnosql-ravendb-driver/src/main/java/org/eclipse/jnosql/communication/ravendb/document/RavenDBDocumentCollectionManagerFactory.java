@@ -17,6 +17,7 @@ package org.eclipse.jnosql.communication.ravendb.document;
 
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import net.ravendb.client.documents.DocumentStore;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -28,23 +29,25 @@ public class RavenDBDocumentCollectionManagerFactory implements DocumentCollecti
 
     private final String[] hosts;
 
+    private final DriverMetrics metrics;
 
 
-    RavenDBDocumentCollectionManagerFactory(String[] hosts) {
+    RavenDBDocumentCollectionManagerFactory(String[] hosts, DriverMetrics metrics) {
         this.hosts = hosts;
+        this.metrics = metrics;
     }
 
     @Override
     public RavenDBDocumentCollectionManager get(String database) {
         Objects.requireNonNull(database, "database is required");
         DocumentStore documentStore = new DocumentStore(hosts, database);
-        return new RavenDBDocumentCollectionManager(documentStore);
+        return new RavenDBDocumentCollectionManager(documentStore, metrics);
     }
 
 
     @Override
     public void close() {
-
+        metrics.close();
     }
 
     @Override
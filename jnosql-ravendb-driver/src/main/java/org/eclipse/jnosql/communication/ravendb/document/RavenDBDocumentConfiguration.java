@@ -20,6 +20,7 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -50,7 +51,7 @@ public class RavenDBDocumentConfiguration implements DocumentConfiguration {
         String[] servers = settings.prefix(Arrays.asList("ravendb.host", Configurations.HOST.get()))
                 .stream().map(Object::toString)
                 .toArray(String[]::new);
-        return new RavenDBDocumentCollectionManagerFactory(servers);
+        return new RavenDBDocumentCollectionManagerFactory(servers, DriverMetrics.of(settings));
     }
 
     private RavenDBDocumentCollectionManagerFactory get(Map<String, String> configurations) throws NullPointerException {
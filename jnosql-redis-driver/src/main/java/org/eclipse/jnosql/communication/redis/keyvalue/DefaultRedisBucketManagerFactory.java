@@ -14,10 +14,10 @@
  */
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import redis.clients.jedis.JedisPool;
 
-import javax.json.bind.Jsonb;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -27,12 +27,16 @@ import static java.util.Objects.requireNonNull;
 
 class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
 
-    private static final Jsonb JSON = JsonbSupplier.getInstance().get();
-
     private final JedisPool jedisPool;
 
-    DefaultRedisBucketManagerFactory(JedisPool jedisPool) {
+    private final ValueCodec codec;
+
+    private final DriverMetrics metrics;
+
+    DefaultRedisBucketManagerFactory(JedisPool jedisPool, ValueCodec codec, DriverMetrics metrics) {
         this.jedisPool = jedisPool;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
 
@@ -40,35 +44,35 @@ class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
     public RedisBucketManager getBucketManager(String bucketName) {
         requireNonNull(bucketName, "bucket name is required");
 
-        return new RedisBucketManager(bucketName, JSON, jedisPool.getResource());
+        return new RedisBucketManager(bucketName, codec, jedisPool.getResource(), metrics);
     }
 
     @Override
     public <T> List<T> getList(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisList<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisList<>(jedisPool.getResource(), clazz, bucketName, codec);
     }
 
     @Override
     public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisSet<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisSet<>(jedisPool.getResource(), clazz, bucketName, codec);
     }
 
     @Override
     public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisQueue<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisQueue<>(jedisPool.getResource(), clazz, bucketName, codec);
     }
 
     @Override
     public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(valueValue, "Class type is required");
-        return new RedisMap<>(jedisPool.getResource(), keyValue, valueValue, bucketName);
+        return new RedisMap<>(jedisPool.getResource(), keyValue, valueValue, bucketName, codec);
     }
 
     @Override
@@ -86,6 +90,7 @@ class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
 
     @Override
     public void close() {
+        metrics.close();
         jedisPool.close();
     }
 
@@ -93,6 +98,7 @@ class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
     public String toString() {
         final StringBuilder sb = new StringBuilder("RedisBucketManagerFactory{");
         sb.append("jedisPool=").append(jedisPool);
+        sb.append(", codec=").append(codec.getName());
         sb.append('}');
         return sb.toString();
     }
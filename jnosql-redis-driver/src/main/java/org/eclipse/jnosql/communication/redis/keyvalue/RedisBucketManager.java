@@ -19,11 +19,15 @@ package org.eclipse.jnosql.communication.redis.keyvalue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 import redis.clients.jedis.Jedis;
 
-import javax.json.bind.Jsonb;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -35,23 +39,37 @@ import static java.util.stream.Collectors.toList;
  */
 public class RedisBucketManager implements BucketManager {
 
+    static final String DRIVER = "redis";
+
     private final String nameSpace;
-    private final Jsonb jsonB;
+    private final ValueCodec codec;
 
     private final Jedis jedis;
 
-    RedisBucketManager(String nameSpace, Jsonb provider, Jedis jedis) {
+    private final DriverMetrics metrics;
+
+    RedisBucketManager(String nameSpace, ValueCodec codec, Jedis jedis, DriverMetrics metrics) {
         this.nameSpace = nameSpace;
-        this.jsonB = provider;
+        this.codec = codec;
         this.jedis = jedis;
+        this.metrics = metrics;
     }
 
     @Override
     public <K, V> void put(K key, V value) throws NullPointerException {
         Objects.requireNonNull(value, "Value is required");
         Objects.requireNonNull(key, "key is required");
-        String valideKey = RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace);
-        jedis.set(valideKey, jsonB.toJson(value));
+        byte[] bytes = codec.encode(value);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            jedis.set(getBinaryKey(key), bytes);
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, nameSpace, 1);
+            metrics.record(Operations.PUT, nameSpace, start, bytes.length, failed);
+        }
     }
 
     @Override
@@ -81,24 +99,52 @@ public class RedisBucketManager implements BucketManager {
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
-        String value = jedis.get(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace));
-        if (value != null && !value.isEmpty()) {
-            return Optional.of(ValueJSON.of(value));
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        byte[] value = null;
+        try {
+            value = jedis.get(getBinaryKey(key));
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, nameSpace, value == null ? 0 : 1);
+            metrics.record(Operations.GET, nameSpace, start, value == null ? 0 : value.length, failed);
+        }
+        if (value != null && value.length > 0) {
+            return Optional.of(codec.decode(value));
         }
         return Optional.empty();
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> jedis.get(RedisUtils.createKeyWithNameSpace(k.toString(), nameSpace)))
-                .filter(value -> value != null && !value.isEmpty())
-                .map(ValueJSON::of).collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        List<byte[]> values = null;
+        try {
+            values = StreamSupport.stream(keys.spliterator(), false)
+                    .map(k -> jedis.get(getBinaryKey(k)))
+                    .filter(value -> value != null && value.length > 0)
+                    .collect(toList());
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, nameSpace, values == null ? 0 : values.size());
+            metrics.record(Operations.GET, nameSpace, start, metrics.sizeOf(values), values == null);
+        }
+        return values.stream().map(codec::decode).collect(toList());
     }
 
     @Override
     public <K> void delete(K key) {
-        jedis.del(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace));
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        try {
+            jedis.del(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace));
+            failed = false;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, nameSpace, 1);
+            metrics.record(Operations.DELETE, nameSpace, start, 0L, failed);
+        }
     }
 
     @Override
@@ -110,4 +156,8 @@ public class RedisBucketManager implements BucketManager {
     public void close() {
         jedis.close();
     }
+
+    private <K> byte[] getBinaryKey(K key) {
+        return RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace).getBytes(StandardCharsets.UTF_8);
+    }
 }
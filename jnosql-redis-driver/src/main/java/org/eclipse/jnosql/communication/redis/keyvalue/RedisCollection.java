@@ -15,11 +15,12 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 import redis.clients.jedis.Jedis;
 
-import javax.json.bind.Jsonb;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -27,22 +28,26 @@ import java.util.Objects;
 
 abstract class RedisCollection<T> implements Collection<T> {
 
-    protected static final  Jsonb JSONB = JsonbSupplier.getInstance().get();
-
     protected final Class<T> clazz;
 
     protected final String keyWithNameSpace;
 
+    protected final byte[] key;
+
     protected final Jedis jedis;
 
+    protected final ValueCodec codec;
+
     protected final boolean isString;
 
 
 
-    RedisCollection(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
+    RedisCollection(Jedis jedis, Class<T> clazz, String keyWithNameSpace, ValueCodec codec) {
         this.clazz = clazz;
         this.keyWithNameSpace = keyWithNameSpace;
+        this.key = keyWithNameSpace.getBytes(StandardCharsets.UTF_8);
         this.jedis = jedis;
+        this.codec = codec;
         this.isString = String.class.equals(clazz);
     }
 
@@ -59,7 +64,7 @@ abstract class RedisCollection<T> implements Collection<T> {
 
     @Override
     public int size() {
-        return (int) jedis.llen(keyWithNameSpace);
+        return (int) jedis.llen(key);
     }
 
     @Override
@@ -135,10 +140,10 @@ abstract class RedisCollection<T> implements Collection<T> {
     }
 
     protected T remove(int index) {
-        String value = jedis.lindex(keyWithNameSpace, (long) index);
-        if (value != null && !value.isEmpty()) {
-            jedis.lrem(keyWithNameSpace, 1, value);
-            return serialize(value);
+        byte[] value = jedis.lindex(key, index);
+        if (value != null && value.length > 0) {
+            jedis.lrem(key, 1, value);
+            return decode(value);
         }
         return null;
     }
@@ -149,10 +154,10 @@ abstract class RedisCollection<T> implements Collection<T> {
             return -1;
         }
 
-        String value = serialize(o);
+        byte[] value = encode(o);
         for (int index = 0; index < size(); index++) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
+            byte[] findedValue = jedis.lindex(key, index);
+            if (Arrays.equals(value, findedValue)) {
                 return index;
             }
         }
@@ -172,26 +177,27 @@ abstract class RedisCollection<T> implements Collection<T> {
     }
 
     protected T get(int index) {
-        String value = jedis.lindex(keyWithNameSpace, index);
-        if (value == null || value.isEmpty()) {
+        byte[] value = jedis.lindex(key, index);
+        if (value == null || value.length == 0) {
             return null;
         }
-        return serialize(value);
+        return decode(value);
     }
 
 
-    protected T serialize(String value) {
-        if(isString) {
-            return (T) value;
+    @SuppressWarnings("unchecked")
+    protected T decode(byte[] value) {
+        if (isString) {
+            return (T) new String(value, StandardCharsets.UTF_8);
         }
-        return JSONB.fromJson(value,clazz);
+        return codec.decode(value).get(clazz);
     }
 
-    protected String serialize(Object value) {
-        if(value instanceof String) {
-            return value.toString();
+    protected byte[] encode(Object value) {
+        if (value instanceof String) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
         }
-        return JSONB.toJson(value);
+        return codec.encode(value);
     }
 
 
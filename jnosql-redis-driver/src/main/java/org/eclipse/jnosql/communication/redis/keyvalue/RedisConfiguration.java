@@ -21,6 +21,9 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.ValueCompression;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
@@ -42,6 +45,11 @@ import static java.util.Arrays.asList;
  * <p>redis.max.idle: The max idle {@link JedisPoolConfig}, the default value 10 </p>
  * <p>redis.min.idle: The min idle {@link JedisPoolConfig}, the default value 1 </p>
  * <p>redis.max.wait.millis: The max wait on millis on {@link JedisPoolConfig}, the default value 3000 </p>
+ * <p>redis.value.codec: The {@link ValueCodec} name to the values, the default value is json </p>
+ * <p>redis.value.compression: The {@link org.eclipse.jnosql.communication.driver.ValueCompressor} name,
+ * e.g. deflate, the values are not compressed by default </p>
+ * <p>redis.value.compression.threshold: The minimum size in bytes of a value to be compressed,
+ * the default value 1024 </p>
  */
 public final class RedisConfiguration implements KeyValueConfiguration {
 
@@ -75,7 +83,7 @@ public final class RedisConfiguration implements KeyValueConfiguration {
      */
     public RedisBucketManagerFactory get(JedisPool jedisPool) {
         Objects.requireNonNull(jedisPool, "jedisPool is required");
-        return new DefaultRedisBucketManagerFactory(jedisPool);
+        return new DefaultRedisBucketManagerFactory(jedisPool, ValueCodec.getInstance(), DriverMetrics.disabled());
     }
 
     @Override
@@ -90,7 +98,20 @@ public final class RedisConfiguration implements KeyValueConfiguration {
 
         JedisPoolConfig poolConfig = getJedisPoolConfig(settings);
         JedisPool jedisPool = getJedisPool(settings, poolConfig);
-        return new DefaultRedisBucketManagerFactory(jedisPool);
+        return new DefaultRedisBucketManagerFactory(jedisPool, getValueCodec(settings), DriverMetrics.of(settings));
+    }
+
+    private ValueCodec getValueCodec(Settings settings) {
+        ValueCodec codec = settings.get(RedisConfigurations.VALUE_CODEC.get())
+                .map(Object::toString).map(ValueCodec::getInstance)
+                .orElseGet(ValueCodec::getInstance);
+        int threshold = settings.get(RedisConfigurations.VALUE_COMPRESSION_THRESHOLD.get())
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(ValueCompression.DEFAULT_THRESHOLD);
+        return settings.get(RedisConfigurations.VALUE_COMPRESSION.get())
+                .map(Object::toString)
+                .map(name -> ValueCompression.of(name, threshold).wrap(codec))
+                .orElse(codec);
     }
 
 
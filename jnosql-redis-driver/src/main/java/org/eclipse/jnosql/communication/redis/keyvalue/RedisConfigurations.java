@@ -27,7 +27,10 @@ public enum RedisConfigurations implements Supplier<String> {
     MAX_TOTAL("redis.max.total"),
     MAX_IDLE("redis.max.idle"),
     MIN_IDLE("redis.min.idle"),
-    MAX_WAIT_MILLIS("redis.max.wait.millis");
+    MAX_WAIT_MILLIS("redis.max.wait.millis"),
+    VALUE_CODEC("redis.value.codec"),
+    VALUE_COMPRESSION("redis.value.compression"),
+    VALUE_COMPRESSION_THRESHOLD("redis.value.compression.threshold");
 
     private final String configuration;
 
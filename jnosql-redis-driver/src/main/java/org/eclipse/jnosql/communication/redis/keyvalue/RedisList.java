@@ -15,10 +15,12 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.args.ListPosition;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -28,13 +30,13 @@ import java.util.Objects;
 class RedisList<T> extends RedisCollection<T> implements List<T> {
 
 
-    RedisList(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisList(Jedis jedis, Class<T> clazz, String keyWithNameSpace, ValueCodec codec) {
+        super(jedis, clazz, keyWithNameSpace, codec);
     }
 
     @Override
     public int size() {
-        return (int) jedis.llen(keyWithNameSpace);
+        return (int) jedis.llen(key);
     }
 
     @Override
@@ -63,19 +65,10 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
         Objects.requireNonNull(e);
         int index = size();
         if (index == 0) {
-            if(isString) {
-                jedis.lpush(keyWithNameSpace, e.toString());
-            } else {
-                jedis.lpush(keyWithNameSpace, JSONB.toJson(e));
-            }
+            jedis.lpush(key, encode(e));
         } else {
-            String previewValue = jedis.lindex(keyWithNameSpace, index - 1);
-            if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue, e.toString());
-            }else {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue,
-                        JSONB.toJson(e));
-            }
+            byte[] previewValue = jedis.lindex(key, index - 1);
+            jedis.linsert(key, ListPosition.AFTER, previewValue, encode(e));
         }
         return true;
     }
@@ -91,7 +84,7 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        jedis.del(key);
     }
 
     @Override
@@ -102,26 +95,16 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     @Override
     public T set(int index, T element) {
         Objects.requireNonNull(element);
-        if(isString) {
-            jedis.lset(keyWithNameSpace, index, element.toString());
-        } else {
-            jedis.lset(keyWithNameSpace, index, JSONB.toJson(element));
-        }
-
+        jedis.lset(key, index, encode(element));
         return element;
     }
 
     @Override
     public void add(int index, T element) {
         Objects.requireNonNull(element);
-        String previewValue = jedis.lindex(keyWithNameSpace, index);
-        if (previewValue != null && !previewValue.isEmpty()) {
-            if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, element.toString());
-            } else {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, JSONB.toJson(element));
-            }
-
+        byte[] previewValue = jedis.lindex(key, index);
+        if (previewValue != null && previewValue.length > 0) {
+            jedis.linsert(key, ListPosition.BEFORE, previewValue, encode(element));
         } else {
             add(element);
         }
@@ -142,10 +125,10 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     public int lastIndexOf(Object o) {
         Objects.requireNonNull(o);
 
-        String value = serialize(o);
+        byte[] value = encode(o);
         for (int index = size(); index > 0; --index) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
+            byte[] findedValue = jedis.lindex(key, index);
+            if (Arrays.equals(value, findedValue)) {
                 return index;
             }
         }
@@ -155,13 +138,9 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
         List<T> subList = new ArrayList<>();
-        List<String> elements = jedis.lrange(keyWithNameSpace, fromIndex, toIndex);
-        for (String element : elements) {
-            if(isString) {
-                subList.add((T) element);
-            } else {
-                subList.add(JSONB.fromJson(element, clazz));
-            }
+        List<byte[]> elements = jedis.lrange(key, fromIndex, toIndex);
+        for (byte[] element : elements) {
+            subList.add(decode(element));
         }
         return subList;
     }
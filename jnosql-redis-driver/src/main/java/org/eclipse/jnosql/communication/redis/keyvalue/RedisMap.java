@@ -15,50 +15,53 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 import redis.clients.jedis.Jedis;
 
-import javax.json.bind.Jsonb;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
 class RedisMap<K, V> implements Map<K, V> {
 
 
-    protected static final Jsonb JSONB = JsonbSupplier.getInstance().get();
-
     private final Class<K> keyClass;
 
     private final Class<V> valueClass;
 
     private final String nameSpace;
 
+    private final byte[] key;
+
     private final Jedis jedis;
 
+    private final ValueCodec codec;
+
     private final boolean isKeyString;
 
     private final boolean isValueString;
 
 
-    RedisMap(Jedis jedis, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace) {
+    RedisMap(Jedis jedis, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace, ValueCodec codec) {
         this.keyClass = keyValue;
         this.valueClass = valueClass;
         this.nameSpace = keyWithNameSpace;
+        this.key = keyWithNameSpace.getBytes(StandardCharsets.UTF_8);
         this.jedis = jedis;
+        this.codec = codec;
         this.isKeyString = String.class.equals(keyClass);
         this.isValueString = String.class.equals(valueClass);
     }
 
     @Override
     public int size() {
-        return jedis.hgetAll(nameSpace).size();
+        return (int) jedis.hlen(key);
     }
 
     @Override
@@ -69,44 +72,22 @@ class RedisMap<K, V> implements Map<K, V> {
     @Override
     public boolean containsKey(Object key) {
         requireNonNull(key, "key is required");
-        if (isKeyString) {
-            return jedis.hexists(nameSpace, key.toString());
-        } else {
-            return jedis.hexists(nameSpace, JSONB.toJson(key));
-        }
+        return jedis.hexists(this.key, encode(key, isKeyString));
     }
 
     @Override
     public boolean containsValue(Object value) {
         requireNonNull(value);
-        String valueString;
-        if (isValueString) {
-            valueString = value.toString();
-        } else {
-            valueString = JSONB.toJson(value);
-        }
-
-        Map<String, String> map = createRedisMap();
-        return map.containsValue(valueString);
+        byte[] redisValue = encode(value, isValueString);
+        return jedis.hgetAll(key).values().stream().anyMatch(v -> Arrays.equals(v, redisValue));
     }
 
     @Override
     public V get(Object key) {
         requireNonNull(key, "Key is required");
-
-        String value = jedis.hget(nameSpace, JSONB.toJson(key));
-        if (isKeyString) {
-            value = jedis.hget(nameSpace, key.toString());
-        } else {
-            value = jedis.hget(nameSpace, JSONB.toJson(key));
-        }
-        if (value != null && !value.isEmpty()) {
-            if (isValueString) {
-                return (V) value;
-            } else {
-                return JSONB.fromJson(value, valueClass);
-            }
-
+        byte[] value = jedis.hget(this.key, encode(key, isKeyString));
+        if (value != null && value.length > 0) {
+            return decode(value, valueClass, isValueString);
         }
         return null;
     }
@@ -114,22 +95,8 @@ class RedisMap<K, V> implements Map<K, V> {
     @Override
     public V put(K key, V value) {
         requireNonNull(value, "Value is required");
-        requireNonNull(value, "Key is required");
-
-        String keyJson;
-        if(isKeyString) {
-            keyJson = key.toString();
-        } else {
-             keyJson = JSONB.toJson(key);
-        }
-        String valueJSON;
-
-        if(isValueString) {
-            valueJSON = value.toString();
-        } else {
-            valueJSON = JSONB.toJson(value);
-        }
-        jedis.hset(nameSpace, keyJson, valueJSON);
+        requireNonNull(key, "Key is required");
+        jedis.hset(this.key, encode(key, isKeyString), encode(value, isValueString));
         return value;
     }
 
@@ -138,12 +105,7 @@ class RedisMap<K, V> implements Map<K, V> {
         requireNonNull(key, "Key is required");
         V value = get(key);
         if (value != null) {
-            if (isKeyString) {
-                jedis.hdel(nameSpace, key.toString());
-            } else {
-                jedis.hdel(nameSpace, JSONB.toJson(key));
-            }
-
+            jedis.hdel(this.key, encode(key, isKeyString));
             return value;
         }
         return null;
@@ -163,7 +125,7 @@ class RedisMap<K, V> implements Map<K, V> {
 
     @Override
     public void clear() {
-        jedis.del(nameSpace);
+        jedis.del(key);
     }
 
     @Override
@@ -181,30 +143,28 @@ class RedisMap<K, V> implements Map<K, V> {
         return createHashMap().entrySet();
     }
 
-    private Map<String, String> createRedisMap() {
-        Map<String, String> map = jedis.hgetAll(nameSpace);
-        return map;
-    }
-
     private Map<K, V> createHashMap() {
         Map<K, V> values = new HashMap<>();
-        Map<String, String> redisMap = createRedisMap();
-        final Function<String, K> keyFunction = k -> {
-            if(isKeyString) {
-                return (K) k;
-            } else {
-                return JSONB.fromJson(k, keyClass);
-            }
-        };
-        final Function<String, V> valueFunction = k -> {
-            if(isValueString) {
-                return (V) redisMap.get(k);
-            } else {
-                return JSONB.fromJson(redisMap.get(k), valueClass);
-            }
-        };
-        return redisMap.keySet().stream().collect(Collectors
-                .toMap(keyFunction, valueFunction));
+        for (Entry<byte[], byte[]> entry : jedis.hgetAll(key).entrySet()) {
+            values.put(decode(entry.getKey(), keyClass, isKeyString),
+                    decode(entry.getValue(), valueClass, isValueString));
+        }
+        return values;
+    }
+
+    private byte[] encode(Object value, boolean isString) {
+        if (isString) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return codec.encode(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T decode(byte[] value, Class<T> type, boolean isString) {
+        if (isString) {
+            return (T) new String(value, StandardCharsets.UTF_8);
+        }
+        return codec.decode(value).get(type);
     }
 
 
@@ -215,7 +175,7 @@ class RedisMap<K, V> implements Map<K, V> {
         sb.append(", valueClass=").append(valueClass);
         sb.append(", nameSpace='").append(nameSpace).append('\'');
         sb.append(", jedis=").append(jedis);
-        sb.append(", JsonB=").append(JSONB);
+        sb.append(", codec=").append(codec.getName());
         sb.append('}');
         return sb.toString();
     }
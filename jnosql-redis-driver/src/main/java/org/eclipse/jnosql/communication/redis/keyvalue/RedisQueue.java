@@ -15,6 +15,7 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 import redis.clients.jedis.Jedis;
 
 import java.util.NoSuchElementException;
@@ -23,23 +24,19 @@ import java.util.Queue;
 
 class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
-    RedisQueue(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisQueue(Jedis jedis, Class<T> clazz, String keyWithNameSpace, ValueCodec codec) {
+        super(jedis, clazz, keyWithNameSpace, codec);
     }
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        jedis.del(key);
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        if(isString){
-            jedis.rpush(keyWithNameSpace, e.toString());
-        } else {
-            jedis.rpush(keyWithNameSpace, JSONB.toJson(e));
-        }
+        jedis.rpush(key, encode(e));
         return true;
     }
 
@@ -59,14 +56,9 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
     @Override
     public T poll() {
-        String value = jedis.lpop(keyWithNameSpace);
-        if (value != null && !value.isEmpty()) {
-            if(isString){
-                return (T) value;
-            } else {
-                return JSONB.fromJson(value, clazz);
-            }
-
+        byte[] value = jedis.lpop(key);
+        if (value != null && value.length > 0) {
+            return decode(value);
         }
         return null;
     }
@@ -86,13 +78,7 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
         if (index == 0) {
             return null;
         }
-        if(isString) {
-            return (T) jedis.lindex(keyWithNameSpace, (long) index - 1);
-        } else {
-            return JSONB.fromJson(jedis.lindex(keyWithNameSpace, (long) index - 1), clazz);
-        }
-
-
+        return decode(jedis.lindex(key, (long) index - 1));
     }
 
 }
@@ -15,49 +15,47 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 import redis.clients.jedis.Jedis;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 class RedisSet<T> extends RedisCollection<T> implements Set<T> {
 
-    RedisSet(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisSet(Jedis jedis, Class<T> clazz, String keyWithNameSpace, ValueCodec codec) {
+        super(jedis, clazz, keyWithNameSpace, codec);
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
-        if (isString) {
-            jedis.sadd(keyWithNameSpace, e.toString());
-        } else {
-            jedis.sadd(keyWithNameSpace, JSONB.toJson(e));
-        }
+        jedis.sadd(key, encode(e));
         return true;
     }
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        jedis.del(key);
     }
 
     @Override
     public int size() {
-        return (int) jedis.scard(keyWithNameSpace);
+        return (int) jedis.scard(key);
     }
 
     @Override
     protected int indexOf(Object o) {
         Objects.requireNonNull(o);
 
-        String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
+        byte[] find = encode(o);
+        Set<byte[]> values = jedis.smembers(key);
         int index = 0;
-        for (String value : values) {
-            if (value.contains(find)) {
+        for (byte[] value : values) {
+            if (Arrays.equals(value, find)) {
                 return index;
             }
             index++;
@@ -75,11 +73,11 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
         if (!clazz.isInstance(o)) {
             throw new ClassCastException("The object required is " + clazz.getName());
         }
-        String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
-        for (String value : values) {
-            if (value.contains(find)) {
-                jedis.srem(keyWithNameSpace, value);
+        byte[] find = encode(o);
+        Set<byte[]> values = jedis.smembers(key);
+        for (byte[] value : values) {
+            if (Arrays.equals(value, find)) {
+                jedis.srem(key, value);
                 return true;
             }
         }
@@ -88,15 +86,10 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
 
     @Override
     protected List<T> toArrayList() {
-        Set<String> redisValues = jedis.smembers(keyWithNameSpace);
+        Set<byte[]> redisValues = jedis.smembers(key);
         List<T> list = new ArrayList<>();
-        for (String redisValue : redisValues) {
-            if (isString) {
-                list.add((T) redisValue);
-            } else {
-                list.add(JSONB.fromJson(redisValue, clazz));
-            }
-
+        for (byte[] redisValue : redisValues) {
+            list.add(decode(redisValue));
         }
         return list;
     }
@@ -22,12 +22,17 @@ import com.basho.riak.client.api.commands.kv.FetchValue;
 import com.basho.riak.client.api.commands.kv.FetchValue.Response;
 import com.basho.riak.client.api.commands.kv.StoreValue;
 import com.basho.riak.client.core.query.Namespace;
+import com.basho.riak.client.core.query.RiakObject;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
@@ -40,13 +45,21 @@ import static org.eclipse.jnosql.communication.riak.keyvalue.RiakUtils.createSto
 
 public class RiakBucketManager implements BucketManager {
 
+    static final String DRIVER = "riak";
+
     private final RiakClient client;
 
     private final Namespace nameSpace;
 
-    RiakBucketManager(RiakClient client, Namespace nameSpace) {
+    private final ValueCodec codec;
+
+    private final DriverMetrics metrics;
+
+    RiakBucketManager(RiakClient client, Namespace nameSpace, ValueCodec codec, DriverMetrics metrics) {
         this.client = client;
         this.nameSpace = nameSpace;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
     @Override
@@ -66,12 +79,19 @@ public class RiakBucketManager implements BucketManager {
         Object key = entity.getKey();
         Object value = entity.getValue();
 
-        StoreValue storeValue = createStoreValue(key, value, nameSpace, ttl);
+        StoreValue storeValue = createStoreValue(key, value, nameSpace, ttl, codec);
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             client.execute(storeValue);
+            failed = false;
         } catch (ExecutionException | InterruptedException e) {
             throw new DianaRiakException(e.getMessage(), e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.PUT, nameSpace.getBucketNameAsString(), 1);
+            metrics.record(Operations.PUT, nameSpace.getBucketNameAsString(), start, metrics.sizeOf(value), failed);
         }
     }
 
@@ -95,47 +115,58 @@ public class RiakBucketManager implements BucketManager {
         }
 
         FetchValue fetchValue = createFetchValue(nameSpace, key);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
+        byte[] valueFetch = null;
         try {
 
             FetchValue.Response response = client.execute(fetchValue);
 
-            String valueFetch = response.getValue(String.class);
-            if (Objects.nonNull(valueFetch) && !valueFetch.isEmpty()) {
-                return Optional.of(ValueJSON.of(valueFetch));
-            }
-
+            valueFetch = getBytes(response);
+            failed = false;
         } catch (ExecutionException | InterruptedException e) {
             throw new DianaRiakException(e.getMessage(), e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, nameSpace.getBucketNameAsString(),
+                    valueFetch == null ? 0 : 1);
+            metrics.record(Operations.GET, nameSpace.getBucketNameAsString(), start,
+                    metrics.sizeOf(valueFetch), failed);
+        }
+        if (Objects.nonNull(valueFetch) && valueFetch.length > 0) {
+            return Optional.of(codec.decode(valueFetch));
         }
         return Optional.empty();
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> RiakUtils.createLocation(nameSpace, k))
-                .map(l -> new FetchValue.Builder(l).build())
-                .map(f -> {
-                            try {
-                                return client.execute(f);
-                            } catch (ExecutionException | InterruptedException e) {
-                                throw new DianaRiakException(e.getMessage(), e);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        List<Value> values = null;
+        try {
+            values = StreamSupport.stream(keys.spliterator(), false)
+                    .map(k -> RiakUtils.createLocation(nameSpace, k))
+                    .map(l -> new FetchValue.Builder(l).build())
+                    .map(f -> {
+                                try {
+                                    return client.execute(f);
+                                } catch (ExecutionException | InterruptedException e) {
+                                    throw new DianaRiakException(e.getMessage(), e);
+                                }
                             }
-                        }
-                )
-                .filter(Response::hasValues)
-                .map(r -> {
-
-                    try {
-                        return r.getValue(String.class);
-                    } catch (UnresolvedConflictException e) {
-                        throw new DianaRiakException(e.getMessage(), e);
-                    }
-
-                })
-                .filter(s -> Objects.nonNull(s) && !s.isEmpty()).map(ValueJSON::of)
-                .collect(toList());
+                    )
+                    .filter(Response::hasValues)
+                    .map(RiakBucketManager::getBytes)
+                    .filter(s -> Objects.nonNull(s) && s.length > 0).map(codec::decode)
+                    .collect(toList());
+            return values;
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.GET, nameSpace.getBucketNameAsString(),
+                    values == null ? 0 : values.size());
+            metrics.record(Operations.GET, nameSpace.getBucketNameAsString(), start,
+                    metrics.sizeOf(values), values == null);
+        }
     }
 
 
@@ -144,10 +175,17 @@ public class RiakBucketManager implements BucketManager {
 
         DeleteValue deleteValue = createDeleteValue(nameSpace, key);
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             client.execute(deleteValue);
+            failed = false;
         } catch (ExecutionException | InterruptedException e) {
             throw new DianaRiakException(e.getMessage(), e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, nameSpace.getBucketNameAsString(), 1);
+            metrics.record(Operations.DELETE, nameSpace.getBucketNameAsString(), start, 0L, failed);
         }
     }
 
@@ -160,4 +198,16 @@ public class RiakBucketManager implements BucketManager {
     public void close() {
         client.shutdown();
     }
+
+    private static byte[] getBytes(FetchValue.Response response) {
+        try {
+            RiakObject riakObject = response.getValue(RiakObject.class);
+            if (Objects.isNull(riakObject) || Objects.isNull(riakObject.getValue())) {
+                return null;
+            }
+            return riakObject.getValue().unsafeGetValue();
+        } catch (UnresolvedConflictException e) {
+            throw new DianaRiakException(e.getMessage(), e);
+        }
+    }
 }
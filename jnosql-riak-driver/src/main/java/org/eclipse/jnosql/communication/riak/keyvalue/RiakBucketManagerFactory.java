@@ -18,6 +18,8 @@ import com.basho.riak.client.api.RiakClient;
 import com.basho.riak.client.core.RiakCluster;
 import com.basho.riak.client.core.query.Namespace;
 import jakarta.nosql.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.List;
 import java.util.Map;
@@ -37,8 +39,14 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
 
     private final RiakCluster cluster;
 
-    RiakBucketManagerFactory(RiakCluster cluster) {
+    private final ValueCodec codec;
+
+    private final DriverMetrics metrics;
+
+    RiakBucketManagerFactory(RiakCluster cluster, ValueCodec codec, DriverMetrics metrics) {
         this.cluster = cluster;
+        this.codec = codec;
+        this.metrics = metrics;
     }
 
     @Override
@@ -48,7 +56,7 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
         RiakClient riakClient = new RiakClient(cluster);
         Namespace quotesBucket = new Namespace(bucketName);
 
-        return new RiakBucketManager(riakClient, quotesBucket);
+        return new RiakBucketManager(riakClient, quotesBucket, codec, metrics);
     }
 
     @Override
@@ -74,6 +82,7 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
 
     @Override
     public void close() {
+        metrics.close();
         cluster.shutdown();
     }
 
@@ -22,6 +22,9 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.ValueCompression;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +38,10 @@ import static java.util.Objects.requireNonNull;
  * The riak implementation to {@link KeyValueConfiguration} that returns {@link RiakBucketManagerFactory}.
  * It tries to read diana-riak.properties file.
  * <p>riak.host-: The prefix to host. eg: riak.server.host.1= host1</p>
+ * <p>riak.value.codec: The {@link ValueCodec} name to the values, the default value is json</p>
+ * <p>riak.value.compression: The compressor name, e.g. deflate, the values are not compressed by default</p>
+ * <p>riak.value.compression.threshold: The minimum size in bytes of a value to be compressed,
+ * the default value 1024</p>
  */
 public class RiakKeyValueConfiguration implements KeyValueConfiguration {
 
@@ -43,6 +50,12 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
     private static final String OLD_SERVER_PREFIX = "riak-server-host-";
     private static final String SERVER_PREFIX = "riak.host";
 
+    private static final String VALUE_CODEC = "riak.value.codec";
+
+    private static final String VALUE_COMPRESSION = "riak.value.compression";
+
+    private static final String VALUE_COMPRESSION_THRESHOLD = "riak.value.compression.threshold";
+
     private static final String FILE_CONFIGURATION = "diana-riak.properties";
 
     private static final RiakNode DEFAULT_NODE = new RiakNode.Builder()
@@ -50,6 +63,8 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
 
     private final List<RiakNode> nodes = new ArrayList<>();
 
+    private final ValueCodec codec;
+
 
     public RiakKeyValueConfiguration() {
         Map<String, String> properties = ConfigurationReader.from(FILE_CONFIGURATION);
@@ -62,6 +77,7 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         settings.prefix(asList(SERVER_PREFIX, OLD_SERVER_PREFIX, Configurations.HOST.get()))
                 .stream().map(Object::toString)
                 .forEach(this::add);
+        this.codec = getValueCodec(settings);
     }
 
 
@@ -96,7 +112,7 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         RiakCluster cluster = new RiakCluster.Builder(nodes)
                 .build();
 
-        return new RiakBucketManagerFactory(cluster);
+        return new RiakBucketManagerFactory(cluster, codec, DriverMetrics.disabled());
     }
 
     @Override
@@ -116,7 +132,20 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         RiakCluster cluster = new RiakCluster.Builder(nodes)
                 .build();
 
-        return new RiakBucketManagerFactory(cluster);
+        return new RiakBucketManagerFactory(cluster, getValueCodec(settings), DriverMetrics.of(settings));
+    }
+
+    private ValueCodec getValueCodec(Settings settings) {
+        ValueCodec codec = settings.get(VALUE_CODEC)
+                .map(Object::toString).map(ValueCodec::getInstance)
+                .orElseGet(ValueCodec::getInstance);
+        int threshold = settings.get(VALUE_COMPRESSION_THRESHOLD)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(ValueCompression.DEFAULT_THRESHOLD);
+        return settings.get(VALUE_COMPRESSION)
+                .map(Object::toString)
+                .map(name -> ValueCompression.of(name, threshold).wrap(codec))
+                .orElse(codec);
     }
 
     private Function<String, RiakNode> toNode() {
@@ -20,12 +20,19 @@ import com.basho.riak.client.api.commands.kv.StoreValue;
 import com.basho.riak.client.api.commands.kv.StoreValue.Builder;
 import com.basho.riak.client.core.query.Location;
 import com.basho.riak.client.core.query.Namespace;
+import com.basho.riak.client.core.query.RiakObject;
+import com.basho.riak.client.core.util.BinaryValue;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 
 import java.time.Duration;
 import java.util.Objects;
 
 public final class RiakUtils {
 
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private static final String BINARY_CONTENT_TYPE = "application/octet-stream";
+
     private RiakUtils() {
     }
 
@@ -45,6 +52,18 @@ public final class RiakUtils {
         return builder.build();
     }
 
+    public static <K, V> StoreValue createStoreValue(K key, V value, Namespace namespace, Duration ttl,
+                                                     ValueCodec codec) {
+
+        Objects.requireNonNull(value, "Value is required");
+        Objects.requireNonNull(codec, "codec is required");
+
+        RiakObject riakObject = new RiakObject()
+                .setContentType(codec.isText() ? JSON_CONTENT_TYPE : BINARY_CONTENT_TYPE)
+                .setValue(BinaryValue.unsafeCreate(codec.encode(value)));
+        return createStoreValue(key, riakObject, namespace, ttl);
+    }
+
     public static <K> Location createLocation(Namespace namespace, K key) {
 
         Objects.requireNonNull(namespace, "Namespace is required");
@@ -23,17 +23,28 @@ import org.apache.solr.client.solrj.SolrQuery.SortClause;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
 import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.eclipse.jnosql.communication.SettingsPriority;
+import org.eclipse.jnosql.communication.driver.jfr.DriverOperationEvent;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.Operations;
+import org.eclipse.jnosql.communication.driver.reactive.Cursor;
+import org.eclipse.jnosql.communication.driver.reactive.CursorPublisher;
+import org.eclipse.jnosql.communication.driver.reactive.Page;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -44,10 +55,17 @@ import static java.util.stream.Collectors.toList;
  */
 class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionManager {
 
+    static final String DRIVER = "solr";
+
+    private static final int PAGE_SIZE = 1000;
+
     private final HttpSolrClient solrClient;
 
-    DefaultSolrDocumentCollectionManager(HttpSolrClient solrClient) {
+    private final DriverMetrics metrics;
+
+    DefaultSolrDocumentCollectionManager(HttpSolrClient solrClient, DriverMetrics metrics) {
         this.solrClient = solrClient;
+        this.metrics = metrics;
     }
 
 
@@ -55,11 +73,18 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             solrClient.add(SolrUtils.getDocument(entity));
             commit();
+            failed = false;
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to insert/update a information", e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, entity.getName(), 1);
+            metrics.record(Operations.INSERT, entity.getName(), start, metrics.sizeOf(entity), failed);
         }
         return entity;
     }
@@ -74,11 +99,18 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
         Objects.requireNonNull(entities, "entities is required");
         final List<SolrInputDocument> documents = StreamSupport.stream(entities.spliterator(), false)
                 .map(SolrUtils::getDocument).collect(toList());
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
             solrClient.add(documents);
             commit();
+            failed = false;
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to insert/update a information", e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.INSERT, null, documents.size());
+            metrics.record(Operations.INSERT, null, start, metrics.sizeOf(entities), failed);
         }
         return entities;
     }
@@ -110,11 +142,19 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     @Override
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
+        String queryExpression = DocumentQueryConversor.convert(query);
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        boolean failed = true;
         try {
-            solrClient.deleteByQuery(DocumentQueryConversor.convert(query));
+            solrClient.deleteByQuery(queryExpression);
             commit();
+            failed = false;
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to delete at Solr", e);
+        } finally {
+            event.end(DRIVER, DriverOperationEvent.DELETE, query.getDocumentCollection(), 0, () -> queryExpression);
+            metrics.record(Operations.DELETE, query.getDocumentCollection(), start, 0L, failed);
         }
     }
 
@@ -131,11 +171,8 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
             if (query.getLimit() > 0) {
                 solrQuery.setRows((int) query.getLimit());
             }
-            final List<SortClause> sorts = query.getSorts().stream()
-                    .map(s -> new SortClause(s.getName(), s.getType().name().toLowerCase(Locale.US)))
-                    .collect(toList());
-            solrQuery.setSorts(sorts);
-            final QueryResponse response = solrClient.query(solrQuery);
+            solrQuery.setSorts(sorts(query));
+            final QueryResponse response = query(DriverOperationEvent.SELECT, query.getDocumentCollection(), solrQuery);
             final SolrDocumentList documents = response.getResults();
             return SolrUtils.of(documents).stream();
         } catch (SolrServerException | IOException e) {
@@ -143,6 +180,23 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
         }
     }
 
+    /**
+     * Publishes the entities of the query page by page with the Solr cursor mark, thus a page is requested only
+     * when the subscriber requests more entities than the previous one has. The cursor mark requires a sort on the
+     * unique key, so the sorts of the query end with the id. The skip is applied on the entities read, since the
+     * cursor mark does not support a start.
+     */
+    @Override
+    public Flow.Publisher<DocumentEntity> publish(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CursorPublisher.of(() -> {
+            AtomicLong skip = new AtomicLong(query.getSkip());
+            AtomicLong remaining = new AtomicLong(query.getLimit() > 0 ? query.getLimit() : Long.MAX_VALUE);
+            return Cursor.paged(() -> page(query, CursorMarkParams.CURSOR_MARK_START, skip, remaining),
+                    mark -> page(query, mark, skip, remaining));
+        });
+    }
+
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
@@ -151,7 +205,7 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
             SolrQuery solrQuery = new SolrQuery();
             solrQuery.set("q", "_entity:" + documentCollection);
             solrQuery.setRows(0);
-            final QueryResponse response = solrClient.query(solrQuery);
+            final QueryResponse response = query(DriverOperationEvent.COUNT, documentCollection, solrQuery);
             return response.getResults().getNumFound();
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to execute count at Solr", e);
@@ -173,6 +227,71 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
         }
     }
 
+    private QueryResponse query(String operation, String documentCollection, SolrQuery solrQuery)
+            throws SolrServerException, IOException {
+        DriverOperationEvent event = DriverOperationEvent.start();
+        long start = metrics.start();
+        QueryResponse response = null;
+        try {
+            response = solrClient.query(solrQuery);
+            return response;
+        } finally {
+            long found = response == null || response.getResults() == null ? 0 : response.getResults().size();
+            event.end(DRIVER, operation, documentCollection, found, solrQuery::toString);
+            metrics.record(operation, documentCollection, start, sizeOf(response), response == null);
+        }
+    }
+
+    private long sizeOf(QueryResponse response) {
+        if (response == null || response.getResults() == null || !metrics.isEnabled()) {
+            return 0L;
+        }
+        long size = 0L;
+        for (SolrDocument document : response.getResults()) {
+            for (Entry<String, Object> field : document) {
+                size += metrics.sizeOf(field.getKey()) + metrics.sizeOf(field.getValue());
+            }
+        }
+        return size;
+    }
+
+    private Page<DocumentEntity, String> page(DocumentQuery query, String mark, AtomicLong skip,
+                                              AtomicLong remaining) {
+        try {
+            SolrQuery solrQuery = new SolrQuery();
+            solrQuery.set("q", DocumentQueryConversor.convert(query));
+            List<SortClause> sorts = new ArrayList<>(sorts(query));
+            if (sorts.stream().noneMatch(s -> SolrUtils.ID.equals(s.getItem()))) {
+                sorts.add(SortClause.asc(SolrUtils.ID));
+            }
+            solrQuery.setSorts(sorts);
+            long wanted = remaining.get() == Long.MAX_VALUE ? Long.MAX_VALUE : skip.get() + remaining.get();
+            int rows = (int) Math.min(PAGE_SIZE, wanted);
+            solrQuery.setRows(rows);
+            solrQuery.set(CursorMarkParams.CURSOR_MARK_PARAM, mark);
+            QueryResponse response = query(DriverOperationEvent.SELECT, query.getDocumentCollection(), solrQuery);
+            SolrDocumentList documents = response.getResults();
+            List<DocumentEntity> entities = SolrUtils.of(documents);
+            int skipped = (int) Math.min(skip.get(), entities.size());
+            skip.addAndGet(-skipped);
+            entities = entities.subList(skipped, (int) Math.min(entities.size(), skipped + remaining.get()));
+            long left = remaining.addAndGet(-entities.size());
+            String next = response.getNextCursorMark();
+            if (left <= 0 || documents.size() < rows || next == null || next.equals(mark)) {
+                return Page.last(entities);
+            }
+            return Page.of(entities, next);
+        } catch (SolrServerException | IOException e) {
+            throw new SolrException("Error to query at Solr", e);
+        }
+    }
+
+    private static List<SortClause> sorts(DocumentQuery query) {
+        return query.getSorts().stream()
+                .map(s -> new SortClause(s.getName(), s.getType().name().toLowerCase(Locale.US)))
+                .collect(toList());
+    }
+
     private Boolean isAutomaticCommit() {
         return SettingsPriority.get("jakarta.nosql.transaction")
                 .map(Object::toString)
@@ -187,7 +306,7 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
         try {
             SolrQuery solrQuery = new SolrQuery();
             solrQuery.set("q", query);
-            final QueryResponse response = solrClient.query(solrQuery);
+            final QueryResponse response = query(DriverOperationEvent.QUERY, null, solrQuery);
             final SolrDocumentList documents = response.getResults();
             return SolrUtils.of(documents);
         } catch (SolrServerException | IOException e) {
@@ -16,6 +16,7 @@ package org.eclipse.jnosql.communication.solr.document;
 
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.reactive.DocumentPublisher;
 
 import java.time.Duration;
 import java.util.List;
@@ -25,7 +26,7 @@ import java.util.Map;
  * The solr implementation to {@link DocumentCollectionManager} that does not support TTL methods
  * <p>{@link DefaultSolrDocumentCollectionManager#insert(DocumentEntity, Duration)}</p>
  */
-public interface SolrDocumentCollectionManager extends DocumentCollectionManager {
+public interface SolrDocumentCollectionManager extends DocumentCollectionManager, DocumentPublisher {
 
     /**
      * Executes a Solr native query
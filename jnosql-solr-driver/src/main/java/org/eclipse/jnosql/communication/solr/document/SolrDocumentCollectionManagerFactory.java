@@ -17,6 +17,7 @@ package org.eclipse.jnosql.communication.solr.document;
 
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Objects;
 
@@ -27,19 +28,23 @@ public class SolrDocumentCollectionManagerFactory implements DocumentCollectionM
 
     private final HttpSolrClient solrClient;
 
-    SolrDocumentCollectionManagerFactory(HttpSolrClient solrClient) {
+    private final DriverMetrics metrics;
+
+    SolrDocumentCollectionManagerFactory(HttpSolrClient solrClient, DriverMetrics metrics) {
         this.solrClient = solrClient;
+        this.metrics = metrics;
     }
 
     @Override
     public SolrDocumentCollectionManager get(String database) {
         Objects.requireNonNull(database, "database is required");
         final String baseURL = solrClient.getBaseURL() + '/' + database;
-        return new DefaultSolrDocumentCollectionManager(new HttpSolrClient.Builder(baseURL).build());
+        return new DefaultSolrDocumentCollectionManager(new HttpSolrClient.Builder(baseURL).build(), metrics);
     }
 
 
     @Override
     public void close() {
+        metrics.close();
     }
 }
@@ -20,6 +20,7 @@ import jakarta.nosql.document.DocumentConfiguration;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
 import org.apache.solr.client.solrj.impl.XMLResponseParser;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.metrics.DriverMetrics;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -50,7 +51,7 @@ public class SolrDocumentConfiguration implements DocumentConfiguration {
      */
     public SolrDocumentCollectionManagerFactory get(HttpSolrClient solrClient) throws NullPointerException {
         requireNonNull(solrClient, "solrClient is required");
-        return new SolrDocumentCollectionManagerFactory(solrClient);
+        return new SolrDocumentCollectionManagerFactory(solrClient, DriverMetrics.disabled());
     }
 
     @Override
@@ -70,7 +71,7 @@ public class SolrDocumentConfiguration implements DocumentConfiguration {
 
         final HttpSolrClient solrClient = new HttpSolrClient.Builder(host).build();
         solrClient.setParser(new XMLResponseParser());
-        return new SolrDocumentCollectionManagerFactory(solrClient);
+        return new SolrDocumentCollectionManagerFactory(solrClient, DriverMetrics.of(settings));
 
     }
 
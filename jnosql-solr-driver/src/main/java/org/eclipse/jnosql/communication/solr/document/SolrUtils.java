@@ -21,17 +21,19 @@ import jakarta.nosql.document.Documents;
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
+import org.eclipse.jnosql.communication.driver.DocumentShape;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 final class SolrUtils {
 
     static final String ENTITY = "_entity";
 
+    static final String ID = "id";
+
     private SolrUtils() {
     }
 
@@ -44,7 +46,8 @@ final class SolrUtils {
 
     private static Object convert(Value value) {
         Object val = ValueUtil.convert(value);
-        if (val instanceof Document || isSudDocument(val) || isSudDocumentList(val)) {
+        DocumentShape.Type type = DocumentShape.of(val).getType();
+        if (type != DocumentShape.Type.SCALAR && type != DocumentShape.Type.LIST) {
             throw new SolrException("Apache Solr does not support to embedded field");
         }
         return val;
@@ -70,14 +73,4 @@ final class SolrUtils {
     private static Map<String, Object> solrToMap(Map<String, Object> map) {
         return map.keySet().stream().collect(Collectors.toMap(k -> k, k -> map.get(k)));
     }
-
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
 }
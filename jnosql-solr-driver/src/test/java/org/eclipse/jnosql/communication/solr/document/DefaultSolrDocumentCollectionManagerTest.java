@@ -33,7 +33,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -45,6 +47,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -346,6 +349,36 @@ public class DefaultSolrDocumentCollectionManagerTest {
 
     }
 
+    @Test
+    public void shouldPublishPaginated() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where("type").eq("P").build();
+        entityManager.delete(deleteQuery);
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 1010; index++) {
+            DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
+            entity.add(Document.of(ID, "publish-" + index));
+            entity.add(Document.of("age", index));
+            entity.add(Document.of("type", "P"));
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .where("type").eq("P")
+                .orderBy("age").asc()
+                .skip(995L)
+                .limit(10L)
+                .build();
+        List<Integer> ages = toList(entityManager.publish(query)).stream()
+                .map(e -> e.find("age").get().get(Integer.class))
+                .collect(Collectors.toList());
+        assertThat(ages, contains(995, 996, 997, 998, 999, 1000, 1001, 1002, 1003, 1004));
+
+        query = select().from(COLLECTION_NAME).where("type").eq("P").build();
+        assertEquals(1010, toList(entityManager.publish(query)).size());
+        entityManager.delete(deleteQuery);
+    }
+
     @Test
     public void shouldExecuteNativeQuery() {
         DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
@@ -464,6 +497,33 @@ public class DefaultSolrDocumentCollectionManagerTest {
     }
 
 
+    private static <T> List<T> toList(Flow.Publisher<T> publisher) {
+        List<T> entities = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T entity) {
+                entities.add(entity);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertNull(error.get());
+        return entities;
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();